@@ -62,9 +62,7 @@ import org.zaproxy.addon.authhelper.internal.AuthenticationStep.ValidationResult
 import org.zaproxy.addon.authhelper.internal.ClientSideHandler;
 import org.zaproxy.addon.authhelper.internal.StepsPanel;
 import org.zaproxy.addon.commonlib.internal.TotpSupport;
-import org.zaproxy.addon.network.ExtensionNetwork;
 import org.zaproxy.addon.network.internal.client.apachev5.HttpSenderContextApache;
-import org.zaproxy.addon.network.server.HttpServerConfig;
 import org.zaproxy.addon.network.server.Server;
 import org.zaproxy.zap.authentication.AbstractAuthenticationMethodOptionsPanel;
 import org.zaproxy.zap.authentication.AbstractCredentialsOptionsPanel;
@@ -81,8 +79,10 @@ import org.zaproxy.zap.extension.api.ApiResponseSet;
 import org.zaproxy.zap.extension.authentication.AuthenticationAPI;
 import org.zaproxy.zap.extension.selenium.Browser;
 import org.zaproxy.zap.extension.selenium.BrowserUI;
+import org.zaproxy.zap.extension.selenium.BrowserPool;
 import org.zaproxy.zap.extension.selenium.BrowsersComboBoxModel;
 import org.zaproxy.zap.extension.selenium.ClientAuthenticator;
+import org.zaproxy.zap.extension.selenium.DriverConfiguration;
 import org.zaproxy.zap.extension.selenium.ExtensionSelenium;
 import org.zaproxy.zap.model.Context;
 import org.zaproxy.zap.model.SessionStructure;
@@ -128,10 +128,6 @@ public class BrowserBasedAuthenticationMethodType extends AuthenticationMethodTy
     private static final Logger LOGGER =
             LogManager.getLogger(BrowserBasedAuthenticationMethodType.class);
 
-    private String proxyHost = "localhost";
-    private int proxyPort;
-    private Server proxy;
-
     private ClientSideHandler handler;
 
     private static List<Server> proxies = new ArrayList<>();
@@ -144,19 +140,11 @@ public class BrowserBasedAuthenticationMethodType extends AuthenticationMethodTy
         this.httpSender = httpSender;
     }
 
-    private Server getProxy(User user) {
-        if (proxy == null) {
-            ExtensionNetwork extNet = AuthUtils.getExtension(ExtensionNetwork.class);
+    private ClientSideHandler getHandler(User user) {
+        if (handler == null) {
             handler = new ClientSideHandler(user);
-            proxy =
-                    extNet.createHttpServer(
-                            HttpServerConfig.builder()
-                                    .setHttpMessageHandler(handler)
-                                    .setHttpSender(getHttpSender())
-                                    .setServeZapApi(true)
-                                    .build());
-        }
-        return proxy;
+        }
+        return handler;
     }
 
     public Object getCookieStore() {
@@ -352,17 +340,21 @@ public class BrowserBasedAuthenticationMethodType extends AuthenticationMethodTy
                             .getExtension(ExtensionSelenium.class);
 
             try {
-                proxyPort = getProxy(user).start(proxyHost, 0);
-
-                WebDriver wd = null;
-                try {
-                    wd =
-                            extSel.getWebDriver(
-                                    HttpSender.AUTHENTICATION_INITIATOR,
-                                    this.browserId,
-                                    proxyHost,
-                                    proxyPort);
-
+                try (BrowserPool.Lease lease =
+                        extSel.getBrowserPool()
+                                .lease(
+                                        this.browserId,
+                                        DriverConfiguration.builder()
+                                                .requester(HttpSender.AUTHENTICATION_INITIATOR)
+                                                .enableExtensions(true)
+                                                .build(),
+                                        getHttpSender(),
+                                        getHandler(user),
+                                        null,
+                                        // Not all the state of the browser is reset, keep
+                                        // the browsers of different users apart.
+                                        user.getContext().getId() + ":" + user.getId())) {
+                    WebDriver wd = lease.getWebDriver();
                     if (AuthUtils.authenticateAsUserWithErrorStep(
                             diags,
                             wd,
@@ -379,10 +371,6 @@ public class BrowserBasedAuthenticationMethodType extends AuthenticationMethodTy
                             AuthUtils.sleep(AuthUtils.TIME_TO_SLEEP_IN_MSECS);
                         }
                     }
-                } finally {
-                    if (wd != null) {
-                        wd.quit();
-                    }
                 }
 
                 HttpMessage authMsg = handler.getAuthMsg();
@@ -470,6 +470,17 @@ public class AutomationEnvironment {
         return this.getData().getParameters().getMaxDuration();
     }
 
+    /**
+     * Gets the maximum number of jobs that can run at the same time.
+     *
+     * @return the maximum number of jobs, {@code 1} if the jobs are run one after the other.
+     * @since 0.61.0
+     * @see AutomationJob#getDependsOn()
+     */
+    public int getParallelJobs() {
+        return this.getData().getParameters().getParallelJobs();
+    }
+
     public void showDialog() {
         new EnvironmentDialog(this).setVisible(true);
     }
@@ -549,6 +560,7 @@ public class AutomationEnvironment {
         private boolean progressToStdout = true;
         private boolean continueOnFailure = false;
         private int maxDuration;
+        private int parallelJobs = 1;
 
         public Parameters() {}
 
@@ -584,6 +596,10 @@ public class AutomationEnvironment {
             return maxDuration;
         }
 
+        public int getParallelJobs() {
+            return parallelJobs;
+        }
+
         public void setFailOnError(boolean failOnError) {
             this.failOnError = failOnError;
         }
@@ -603,6 +619,10 @@ public class AutomationEnvironment {
         public void setMaxDuration(int maxDuration) {
             this.maxDuration = Math.max(0, maxDuration);
         }
+
+        public void setParallelJobs(int parallelJobs) {
+            this.parallelJobs = Math.max(1, parallelJobs);
+        }
     }
 
     public static class Proxy extends AutomationData {
@@ -65,6 +65,7 @@ public abstract class AutomationJob implements Comparable<AutomationJob> {
     private long timeFinished;
     private boolean enabled = true;
     private boolean alwaysRun = false;
+    private List<String> dependsOn = List.of();
 
     public enum Order {
         RUN_FIRST,
@@ -142,6 +143,30 @@ public abstract class AutomationJob implements Comparable<AutomationJob> {
         this.alwaysRun = alwaysRun;
     }
 
+    /**
+     * Gets the names of the jobs this job depends on, only used when the plan runs jobs in
+     * parallel.
+     *
+     * @return the names of the jobs, never {@code null}. If empty the job depends on all the jobs
+     *     before it.
+     * @since 0.61.0
+     * @see AutomationEnvironment#getParallelJobs()
+     */
+    public List<String> getDependsOn() {
+        return dependsOn;
+    }
+
+    /**
+     * Sets the names of the jobs this job depends on.
+     *
+     * @param dependsOn the names of the jobs, {@code null} or empty if the job depends on all the
+     *     jobs before it.
+     * @since 0.61.0
+     */
+    public void setDependsOn(List<String> dependsOn) {
+        this.dependsOn = dependsOn == null ? List.of() : List.copyOf(dependsOn);
+    }
+
     public int addDefaultTests(AutomationProgress progress) {
         return ZERO_TESTS;
     }
@@ -172,6 +172,20 @@ public class AutomationPlan {
                         }
                     }
 
+                    Object dependsOn = jobData.remove("dependsOn");
+                    if (dependsOn != null) {
+                        if (dependsOn instanceof String jobName) {
+                            job.setDependsOn(List.of(jobName));
+                        } else if (dependsOn instanceof List<?> jobNames
+                                && jobNames.stream().allMatch(String.class::isInstance)) {
+                            job.setDependsOn(jobNames.stream().map(String.class::cast).toList());
+                        } else {
+                            progress.warn(
+                                    Constant.messages.getString(
+                                            "automation.error.job.dependson", dependsOn));
+                        }
+                    }
+
                     job.setEnv(env);
                     job.setJobData(jobData);
                     job.verifyParameters(progress);
@@ -40,10 +40,33 @@ public class AutomationProgress {
     private int warningMark;
     private int infoMark;
     private boolean quietMode;
+    private final AutomationProgress parent;
 
-    public AutomationProgress() {}
+    public AutomationProgress() {
+        this(null);
+    }
+
+    private AutomationProgress(AutomationProgress parent) {
+        this.parent = parent;
+        if (parent != null) {
+            this.outputToStdout = parent.outputToStdout;
+            this.quietMode = parent.quietMode;
+        }
+    }
+
+    /**
+     * Creates the progress of a job that runs in parallel with other jobs, so that its messages
+     * are kept apart from the ones of the other jobs. The messages are still published and output
+     * as they are reported, and are added to this progress when the job is {@link
+     * #addRunJob(AutomationJob, AutomationProgress) added as run}.
+     *
+     * @return the progress for the job.
+     */
+    AutomationProgress createJobProgress() {
+        return new AutomationProgress(this);
+    }
 
-    public void error(String error) {
+    public synchronized void error(String error) {
         this.errors.add(error);
         this.allMessages.add(error);
         if (outputToStdout) {
@@ -53,7 +76,7 @@ public class AutomationProgress {
                 AutomationEventPublisher.PLAN_ERROR_MESSAGE, error);
     }
 
-    public void warn(String warning) {
+    public synchronized void warn(String warning) {
         this.warnings.add(warning);
         this.allMessages.add(warning);
         if (outputToStdout) {
@@ -67,7 +90,7 @@ public class AutomationProgress {
         infoImpl(info, true);
     }
 
-    private void infoImpl(String info, boolean toStdout) {
+    private synchronized void infoImpl(String info, boolean toStdout) {
         this.infos.add(info);
         this.allMessages.add(info);
         if (toStdout && outputToStdout && !quietMode) {
@@ -98,11 +121,21 @@ public class AutomationProgress {
     }
 
     public boolean hasErrors() {
-        return !errors.isEmpty();
+        synchronized (this) {
+            if (!errors.isEmpty()) {
+                return true;
+            }
+        }
+        return parent != null && parent.hasErrors();
     }
 
     public boolean hasWarnings() {
-        return !warnings.isEmpty();
+        synchronized (this) {
+            if (!warnings.isEmpty()) {
+                return true;
+            }
+        }
+        return parent != null && parent.hasWarnings();
     }
 
     public boolean isOutputToStdout() {
@@ -118,25 +151,42 @@ public class AutomationProgress {
         this.quietMode = quietMode;
     }
 
-    public void addJobResultData(JobResultData data) {
+    public synchronized void addJobResultData(JobResultData data) {
         this.jobResultDataMap.put(data.getKey(), data);
     }
 
-    public void addJobResultData(List<JobResultData> list) {
+    public synchronized void addJobResultData(List<JobResultData> list) {
         for (JobResultData data : list) {
             this.jobResultDataMap.put(data.getKey(), data);
         }
     }
 
     public JobResultData getJobResultData(String key) {
-        return this.jobResultDataMap.get(key);
+        JobResultData data;
+        synchronized (this) {
+            data = this.jobResultDataMap.get(key);
+        }
+        if (data == null && parent != null) {
+            return parent.getJobResultData(key);
+        }
+        return data;
     }
 
     public Collection<JobResultData> getAllJobResultData() {
-        return this.jobResultDataMap.values();
+        if (parent == null) {
+            return this.jobResultDataMap.values();
+        }
+        Map<String, JobResultData> allData = new HashMap<>();
+        synchronized (parent) {
+            parent.getAllJobResultData().forEach(data -> allData.put(data.getKey(), data));
+        }
+        synchronized (this) {
+            allData.putAll(jobResultDataMap);
+        }
+        return allData.values();
     }
 
-    void addRunJob(AutomationJob job) {
+    synchronized void addRunJob(AutomationJob job) {
         this.runJobs.add(job);
 
         // Record any new errors, warnings or infos which will have been generated by this job
@@ -145,7 +195,38 @@ public class AutomationProgress {
                 new JobResults(
                         new ArrayList<>(errors.subList(errorMark, errors.size())),
                         new ArrayList<>(warnings.subList(warningMark, warnings.size())),
-                        new ArrayList<>(infos.subList(infoMark, infos.size()))));
+                        new ArrayList<>(infos.subList(infoMark, infos.size())),
+                        job.getTimeTaken()));
+
+        errorMark = errors.size();
+        warningMark = warnings.size();
+        infoMark = infos.size();
+    }
+
+    /**
+     * Adds the given job as run, along with the messages and result data of its own progress.
+     *
+     * @param job the job that was run.
+     * @param jobProgress the progress of the job.
+     * @see #createJobProgress()
+     */
+    synchronized void addRunJob(AutomationJob job, AutomationProgress jobProgress) {
+        synchronized (jobProgress) {
+            errors.addAll(jobProgress.errors);
+            warnings.addAll(jobProgress.warnings);
+            infos.addAll(jobProgress.infos);
+            allMessages.addAll(jobProgress.allMessages);
+            jobResultDataMap.putAll(jobProgress.jobResultDataMap);
+
+            this.runJobs.add(job);
+            this.jobResults.put(
+                    job,
+                    new JobResults(
+                            new ArrayList<>(jobProgress.errors),
+                            new ArrayList<>(jobProgress.warnings),
+                            new ArrayList<>(jobProgress.infos),
+                            job.getTimeTaken()));
+        }
 
         errorMark = errors.size();
         warningMark = warnings.size();
@@ -201,11 +282,18 @@ public class AutomationProgress {
         private List<String> errors;
         private List<String> warnings;
         private List<String> infos;
+        private long timeTaken;
 
         JobResults(List<String> errors, List<String> warnings, List<String> infos) {
+            this(errors, warnings, infos, 0);
+        }
+
+        JobResults(
+                List<String> errors, List<String> warnings, List<String> infos, long timeTaken) {
             this.errors = errors;
             this.warnings = warnings;
             this.infos = infos;
+            this.timeTaken = timeTaken;
         }
 
         public List<String> getErrors() {
@@ -220,6 +308,16 @@ public class AutomationProgress {
             return infos;
         }
 
+        /**
+         * Gets the time the job took to run.
+         *
+         * @return the time taken, in milliseconds.
+         * @since 0.61.0
+         */
+        public long getTimeTaken() {
+            return timeTaken;
+        }
+
         public Map<String, String> toMap() {
             Map<String, String> map = new HashMap<>();
             map.put("errors.count", Integer.toString(this.errors.size()));
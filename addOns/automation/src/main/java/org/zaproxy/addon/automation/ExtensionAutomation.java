@@ -32,18 +32,27 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.swing.Timer;
@@ -624,53 +633,17 @@ public class ExtensionAutomation extends ExtensionAdaptor implements CommandLine
             AutomationEnvironment env,
             AutomationProgress progress,
             List<AutomationJob> jobsToRun) {
-        for (AutomationJob job : jobsToRun) {
-
-            if ((plan.isStopping() || env.isTimeToQuit())
-                    && (plan.isHardStopping() || !job.isAlwaysRun())) {
-                continue;
-            }
-
-            if (job.isAlwaysRun()) {
-                Thread.interrupted();
-            }
+        if (env.getParallelJobs() > 1 && jobsToRun.size() > 1) {
+            runJobsInParallel(plan, env, progress, jobsToRun);
+            return;
+        }
 
-            if (!job.isEnabled()) {
-                progress.info(
-                        Constant.messages.getString("automation.info.jobdisabled", job.getType()));
-                job.setStatus(AutomationJob.Status.NOT_ENABLED);
+        for (AutomationJob job : jobsToRun) {
+            if (!isJobToRun(plan, env, progress, job)) {
                 continue;
             }
 
-            job.applyParameters(progress);
-            progress.info(Constant.messages.getString("automation.info.jobstart", job.getType()));
-            job.setStatus(AutomationJob.Status.RUNNING);
-            AutomationEventPublisher.publishEvent(AutomationEventPublisher.JOB_STARTED, job, null);
-            job.setTimeStarted();
-            Timer timer = null;
-            if (View.isInitialised()) {
-                timer = new Timer(1000, e -> getAutomationPanel().updateJob(job));
-                timer.start();
-            }
-            try {
-                if (job.isLongRunningJob()) {
-                    registerLongRunningJob(job);
-                }
-                job.runJob(env, progress);
-            } catch (Exception e) {
-                LOGGER.error(e.getMessage(), e);
-                progress.error(
-                        Constant.messages.getString(
-                                "automation.error.unexpected.internal", e.getMessage()));
-            }
-            job.setTimeFinished();
-            if (timer != null) {
-                timer.stop();
-            }
-            Stats.incCounter(TOTAL_JOBS_RUN_STATS);
-            Stats.incCounter(JOBS_RUN_STATS_PREFIX + job.getType() + JOBS_RUN_STATS_POSTFIX);
-            job.logTestsToProgress(progress);
-            job.setStatus(AutomationJob.Status.COMPLETED);
+            runJob(job, env, progress);
             AutomationEventPublisher.publishEvent(
                     AutomationEventPublisher.JOB_FINISHED,
                     job,
@@ -682,6 +655,206 @@ public class ExtensionAutomation extends ExtensionAdaptor implements CommandLine
         }
     }
 
+    /**
+     * Runs the jobs using up to {@link AutomationEnvironment#getParallelJobs()} threads. A job is
+     * started only once all the jobs it depends on have finished, by default all the jobs defined
+     * before it, which keeps the plans without dependencies running in the same order.
+     */
+    private void runJobsInParallel(
+            AutomationPlan plan,
+            AutomationEnvironment env,
+            AutomationProgress progress,
+            List<AutomationJob> jobsToRun) {
+        Map<AutomationJob, Set<AutomationJob>> pendingJobs = new LinkedHashMap<>();
+        for (int i = 0; i < jobsToRun.size(); i++) {
+            AutomationJob job = jobsToRun.get(i);
+            List<AutomationJob> previousJobs = jobsToRun.subList(0, i);
+            Set<AutomationJob> dependencies;
+            if (job.getDependsOn().isEmpty()) {
+                dependencies = new HashSet<>(previousJobs);
+            } else {
+                dependencies = new HashSet<>();
+                for (String name : job.getDependsOn()) {
+                    List<AutomationJob> namedJobs =
+                            previousJobs.stream().filter(e -> name.equals(e.getName())).toList();
+                    if (namedJobs.isEmpty()) {
+                        progress.warn(
+                                Constant.messages.getString(
+                                        "automation.warn.job.dependson.unknown",
+                                        job.getName(),
+                                        name));
+                    }
+                    dependencies.addAll(namedJobs);
+                }
+            }
+            pendingJobs.put(job, dependencies);
+        }
+
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        Math.min(env.getParallelJobs(), jobsToRun.size()), new JobThreadFactory());
+        CompletionService<AutomationJob> completionService =
+                new ExecutorCompletionService<>(executor);
+        Map<AutomationJob, AutomationProgress> jobsProgress = new HashMap<>();
+        Map<AutomationJob, Thread> jobsThread = new ConcurrentHashMap<>();
+        int runningJobs = 0;
+        try {
+            while (true) {
+                runningJobs +=
+                        startReadyJobs(
+                                plan,
+                                env,
+                                progress,
+                                pendingJobs,
+                                completionService,
+                                jobsProgress,
+                                jobsThread);
+                if (runningJobs == 0) {
+                    break;
+                }
+
+                AutomationJob job;
+                try {
+                    job = completionService.take().get();
+                } catch (InterruptedException e) {
+                    // The plan was stopped, stop the jobs as it would be done if run sequentially.
+                    jobsThread.forEach(
+                            (runningJob, thread) -> {
+                                if (plan.isHardStopping() || !runningJob.isAlwaysRun()) {
+                                    thread.interrupt();
+                                }
+                            });
+                    continue;
+                } catch (ExecutionException e) {
+                    // Not expected, the exceptions are already handled when running the job.
+                    LOGGER.error(e.getMessage(), e);
+                    progress.error(
+                            Constant.messages.getString(
+                                    "automation.error.unexpected.internal", e.getMessage()));
+                    runningJobs--;
+                    continue;
+                }
+                runningJobs--;
+
+                progress.addRunJob(job, jobsProgress.remove(job));
+                AutomationEventPublisher.publishEvent(
+                        AutomationEventPublisher.JOB_FINISHED,
+                        job,
+                        progress.getJobResults(job).toMap());
+                pendingJobs.values().forEach(dependencies -> dependencies.remove(job));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int startReadyJobs(
+            AutomationPlan plan,
+            AutomationEnvironment env,
+            AutomationProgress progress,
+            Map<AutomationJob, Set<AutomationJob>> pendingJobs,
+            CompletionService<AutomationJob> completionService,
+            Map<AutomationJob, AutomationProgress> jobsProgress,
+            Map<AutomationJob, Thread> jobsThread) {
+        int startedJobs = 0;
+        boolean skippedJobs;
+        do {
+            skippedJobs = false;
+            Iterator<Entry<AutomationJob, Set<AutomationJob>>> it =
+                    pendingJobs.entrySet().iterator();
+            while (it.hasNext()) {
+                Entry<AutomationJob, Set<AutomationJob>> entry = it.next();
+                if (!entry.getValue().isEmpty()) {
+                    continue;
+                }
+                it.remove();
+
+                AutomationJob job = entry.getKey();
+                if (!isJobToRun(plan, env, progress, job)) {
+                    pendingJobs.values().forEach(dependencies -> dependencies.remove(job));
+                    skippedJobs = true;
+                    continue;
+                }
+
+                AutomationProgress jobProgress = progress.createJobProgress();
+                jobsProgress.put(job, jobProgress);
+                completionService.submit(
+                        () -> {
+                            jobsThread.put(job, Thread.currentThread());
+                            try {
+                                runJob(job, env, jobProgress);
+                                jobProgress.info(
+                                        Constant.messages.getString(
+                                                "automation.info.jobend",
+                                                job.getType(),
+                                                job.getFormattedTimeTaken()));
+                            } finally {
+                                jobsThread.remove(job);
+                                Thread.interrupted();
+                            }
+                            return job;
+                        });
+                startedJobs++;
+            }
+        } while (skippedJobs);
+        return startedJobs;
+    }
+
+    private static boolean isJobToRun(
+            AutomationPlan plan,
+            AutomationEnvironment env,
+            AutomationProgress progress,
+            AutomationJob job) {
+        if ((plan.isStopping() || env.isTimeToQuit())
+                && (plan.isHardStopping() || !job.isAlwaysRun())) {
+            return false;
+        }
+
+        if (job.isAlwaysRun()) {
+            Thread.interrupted();
+        }
+
+        if (!job.isEnabled()) {
+            progress.info(
+                    Constant.messages.getString("automation.info.jobdisabled", job.getType()));
+            job.setStatus(AutomationJob.Status.NOT_ENABLED);
+            return false;
+        }
+        return true;
+    }
+
+    private void runJob(AutomationJob job, AutomationEnvironment env, AutomationProgress progress) {
+        job.applyParameters(progress);
+        progress.info(Constant.messages.getString("automation.info.jobstart", job.getType()));
+        job.setStatus(AutomationJob.Status.RUNNING);
+        AutomationEventPublisher.publishEvent(AutomationEventPublisher.JOB_STARTED, job, null);
+        job.setTimeStarted();
+        Timer timer = null;
+        if (View.isInitialised()) {
+            timer = new Timer(1000, e -> getAutomationPanel().updateJob(job));
+            timer.start();
+        }
+        try {
+            if (job.isLongRunningJob()) {
+                registerLongRunningJob(job);
+            }
+            job.runJob(env, progress);
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            progress.error(
+                    Constant.messages.getString(
+                            "automation.error.unexpected.internal", e.getMessage()));
+        }
+        job.setTimeFinished();
+        if (timer != null) {
+            timer.stop();
+        }
+        Stats.incCounter(TOTAL_JOBS_RUN_STATS);
+        Stats.incCounter(JOBS_RUN_STATS_PREFIX + job.getType() + JOBS_RUN_STATS_POSTFIX);
+        job.logTestsToProgress(progress);
+        job.setStatus(AutomationJob.Status.COMPLETED);
+    }
+
     public void runPlanAsync(AutomationPlan plan) {
         new Thread(() -> this.runPlan(plan, true), "ZAP-Automation").start();
     }
@@ -1040,4 +1213,17 @@ public class ExtensionAutomation extends ExtensionAdaptor implements CommandLine
         }
         return outputSource;
     }
+
+    private static class JobThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String namePrefix = "ZAP-Automation-Job-thread-";
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, namePrefix + threadNumber.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        }
+    }
 }
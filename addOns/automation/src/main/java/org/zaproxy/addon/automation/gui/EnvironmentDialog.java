@@ -55,6 +55,7 @@ public class EnvironmentDialog extends StandardFieldsDialog {
     private static final String CONTINUE_ON_FAILURE_PARAM = "automation.dialog.env.continueonfail";
     private static final String PROGRESS_TO_STDOUT_PARAM = "automation.dialog.env.progresstostdout";
     private static final String MAX_DURATION_PARAM = "automation.dialog.env.maxduration";
+    private static final String PARALLEL_JOBS_PARAM = "automation.dialog.env.paralleljobs";
 
     private static final String PROXY_HOSTNAME = "automation.dialog.env.proxyhost";
     private static final String PROXY_PORT = "automation.dialog.env.proxyport";
@@ -114,6 +115,12 @@ public class EnvironmentDialog extends StandardFieldsDialog {
                 0,
                 Integer.MAX_VALUE,
                 env.getData().getParameters().getMaxDuration());
+        this.addNumberField(
+                1,
+                PARALLEL_JOBS_PARAM,
+                1,
+                Integer.MAX_VALUE,
+                env.getData().getParameters().getParallelJobs());
         this.addPadding(1);
 
         Proxy proxy = this.env.getData().getProxy(true);
@@ -154,6 +161,7 @@ public class EnvironmentDialog extends StandardFieldsDialog {
                 .getParameters()
                 .setProgressToStdout(this.getBoolValue(PROGRESS_TO_STDOUT_PARAM));
         env.getData().getParameters().setMaxDuration(getIntValue(MAX_DURATION_PARAM));
+        env.getData().getParameters().setParallelJobs(getIntValue(PARALLEL_JOBS_PARAM));
 
         this.env.setContexts(this.getContextsModel().getContexts());
         this.env.getData().setVars(this.getEnvVarsModel().getEnvVarMap());
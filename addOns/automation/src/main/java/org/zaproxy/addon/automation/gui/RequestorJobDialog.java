@@ -28,6 +28,7 @@ import javax.swing.JOptionPane;
 import javax.swing.JTable;
 import org.parosproxy.paros.Constant;
 import org.parosproxy.paros.view.View;
+import org.zaproxy.addon.automation.jobs.JobUtils;
 import org.zaproxy.addon.automation.jobs.RequestorJob;
 import org.zaproxy.zap.utils.DisplayUtils;
 import org.zaproxy.zap.view.StandardFieldsDialog;
@@ -44,6 +45,9 @@ public class RequestorJobDialog extends StandardFieldsDialog {
     private static final String TITLE = "automation.dialog.requestor.title";
     private static final String NAME_PARAM = "automation.dialog.all.name";
     private static final String USER_PARAM = "automation.dialog.all.user";
+    private static final String THREAD_COUNT_PARAM = "automation.dialog.requestor.threadcount";
+    private static final String MAX_REQUESTS_PER_HOST_PARAM =
+            "automation.dialog.requestor.maxperhost";
 
     private RequestorJob job;
 
@@ -73,6 +77,18 @@ public class RequestorJobDialog extends StandardFieldsDialog {
         // Add blank option
         users.add(0, "");
         this.addComboField(0, USER_PARAM, users, this.job.getData().getParameters().getUser());
+        this.addNumberField(
+                0,
+                THREAD_COUNT_PARAM,
+                1,
+                Integer.MAX_VALUE,
+                JobUtils.unBox(this.job.getData().getParameters().getThreadCount()));
+        this.addNumberField(
+                0,
+                MAX_REQUESTS_PER_HOST_PARAM,
+                0,
+                Integer.MAX_VALUE,
+                JobUtils.unBox(this.job.getData().getParameters().getMaxRequestsPerHost()));
 
         this.addPadding(0);
 
@@ -83,6 +99,11 @@ public class RequestorJobDialog extends StandardFieldsDialog {
     public void save() {
         this.job.getData().setName(this.getStringValue(NAME_PARAM));
         this.job.getData().getParameters().setUser(this.getStringValue(USER_PARAM));
+        this.job.getData().getParameters().setThreadCount(this.getIntValue(THREAD_COUNT_PARAM));
+        this.job
+                .getData()
+                .getParameters()
+                .setMaxRequestsPerHost(this.getIntValue(MAX_REQUESTS_PER_HOST_PARAM));
         job.getData().setRequests(this.getRulesModel().getRules());
         this.job.resetAndSetChanged();
     }
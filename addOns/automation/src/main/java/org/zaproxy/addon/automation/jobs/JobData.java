@@ -71,6 +71,15 @@ public abstract class JobData extends AutomationData {
         return this.job.isAlwaysRun();
     }
 
+    public List<String> getDependsOn() {
+        List<String> dependsOn = this.job.getDependsOn();
+        if (dependsOn.isEmpty()) {
+            // So that no dependsOn element included in the YAML
+            return null;
+        }
+        return dependsOn;
+    }
+
     public List<AutomationData> getTests() {
         List<AbstractAutomationTest> tests = this.job.getTests();
         if (tests.isEmpty()) {
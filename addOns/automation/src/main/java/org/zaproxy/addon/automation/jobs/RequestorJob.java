@@ -43,12 +43,14 @@ import org.parosproxy.paros.model.HistoryReference;
 import org.parosproxy.paros.model.Model;
 import org.parosproxy.paros.network.HttpHeader;
 import org.parosproxy.paros.network.HttpMessage;
+import org.parosproxy.paros.network.HttpRequestHeader;
 import org.parosproxy.paros.network.HttpSender;
 import org.zaproxy.addon.automation.AutomationData;
 import org.zaproxy.addon.automation.AutomationEnvironment;
 import org.zaproxy.addon.automation.AutomationJob;
 import org.zaproxy.addon.automation.AutomationProgress;
 import org.zaproxy.addon.automation.gui.RequestorJobDialog;
+import org.zaproxy.addon.commonlib.http.RequestDispatcher;
 import org.zaproxy.zap.users.User;
 import org.zaproxy.zap.utils.ThreadUtils;
 
@@ -82,6 +84,13 @@ public class RequestorJob extends AutomationJob {
 
         this.verifyUser(this.getParameters().getUser(), progress);
 
+        Integer threadCount = this.getParameters().getThreadCount();
+        if (threadCount != null && threadCount < 1) {
+            progress.warn(
+                    Constant.messages.getString(
+                            "automation.error.requestor.threadcount", this.getName(), threadCount));
+        }
+
         Object requestsList = jobData.get(REQUESTS);
         if (requestsList == null) {
             return;
@@ -161,86 +170,134 @@ public class RequestorJob extends AutomationJob {
     /**
      * This method sets the headers plus other required components of an HTTP message and then sends
      * the HTTP request.
+     *
+     * <p>The requests are sent with the configured number of threads, not exceeding the number of
+     * requests per host, and their responses are processed in the order of the requests. The job
+     * stops sending requests on the first failure, the requests already being sent are still
+     * processed.
      */
     @Override
     public void runJob(AutomationEnvironment env, AutomationProgress progress) {
-
-        for (Request req : this.getData().getRequests()) {
-            HttpMessage msg = new HttpMessage();
-            String method = req.getMethod();
-            if (method == null || method.isEmpty()) {
-                method = "GET";
-            }
-            List<Request.Header> headers = req.getHeaders();
-            if (headers != null) {
-                for (Request.Header header : headers) {
-                    msg.getRequestHeader().addHeader(header.getName(), header.getValue());
+        try (RequestDispatcher<SendResult> dispatcher =
+                new RequestDispatcher<>(
+                        "ZAP-Automation-Requestor-",
+                        JobUtils.unBox(getParameters().getThreadCount()),
+                        JobUtils.unBox(getParameters().getMaxRequestsPerHost()),
+                        result -> handleResult(result, progress))) {
+            for (Request req : this.getData().getRequests()) {
+                if (dispatcher.isStopped()) {
+                    break;
                 }
+                HttpMessage msg = createMessage(req, env, progress);
+                if (msg == null) {
+                    break;
+                }
+                HttpRequestHeader header = msg.getRequestHeader();
+                dispatcher.submit(
+                        header.getHostName() + ":" + header.getHostPort(),
+                        () -> send(req, msg, dispatcher));
             }
-            msg.getRequestHeader().setMethod(method);
-            String httpVersion = req.getHttpVersion();
-            if (httpVersion == null || httpVersion.isBlank()) {
-                httpVersion = HttpHeader.HTTP11;
-            }
-            msg.getRequestHeader().setVersion(httpVersion);
-            String url = env.replaceVars(req.getUrl());
-            try {
-                msg.getRequestHeader().setURI(new URI(url, true));
-            } catch (URIException e) {
-                // Will not have been reported above if the URL contains envvars
-                progress.warn(
-                        Constant.messages.getString(
-                                "automation.error.requestor.badurl", this.getName(), url, e));
-                return;
+        }
+    }
+
+    private HttpMessage createMessage(
+            Request req, AutomationEnvironment env, AutomationProgress progress) {
+        HttpMessage msg = new HttpMessage();
+        String method = req.getMethod();
+        if (method == null || method.isEmpty()) {
+            method = "GET";
+        }
+        List<Request.Header> headers = req.getHeaders();
+        if (headers != null) {
+            for (Request.Header header : headers) {
+                msg.getRequestHeader().addHeader(header.getName(), header.getValue());
             }
+        }
+        msg.getRequestHeader().setMethod(method);
+        String httpVersion = req.getHttpVersion();
+        if (httpVersion == null || httpVersion.isBlank()) {
+            httpVersion = HttpHeader.HTTP11;
+        }
+        msg.getRequestHeader().setVersion(httpVersion);
+        String url = env.replaceVars(req.getUrl());
+        try {
+            msg.getRequestHeader().setURI(new URI(url, true));
+        } catch (URIException e) {
+            // Will not have been reported above if the URL contains envvars
+            progress.warn(
+                    Constant.messages.getString(
+                            "automation.error.requestor.badurl", this.getName(), url, e));
+            return null;
+        }
+        if (!StringUtils.isEmpty(req.getData())) {
+            msg.getRequestBody().setBody(env.replaceVars(req.getData()));
+            msg.getRequestHeader().setContentLength(msg.getRequestBody().length());
+        }
+        User user = this.getUser(this.getParameters().getUser(), progress);
+        if (user != null) {
+            msg.setRequestingUser(user);
+            progress.info(
+                    Constant.messages.getString(
+                            "automation.info.requrluser",
+                            this.getName(),
+                            msg.getRequestHeader().getURI(),
+                            user.getName()));
+        } else {
+            progress.info(
+                    Constant.messages.getString(
+                            "automation.info.requrl",
+                            this.getName(),
+                            msg.getRequestHeader().getURI()));
+        }
+        return msg;
+    }
+
+    private SendResult send(Request req, HttpMessage msg, RequestDispatcher<?> dispatcher) {
+        if (dispatcher.isStopped()) {
+            return new SendResult(req, msg, null, false);
+        }
+        try {
+            httpSender.sendAndReceive(msg);
+        } catch (Exception e) {
+            dispatcher.stop();
+            return new SendResult(req, msg, e, true);
+        }
+        return new SendResult(req, msg, null, true);
+    }
+
+    private void handleResult(SendResult result, AutomationProgress progress) {
+        if (!result.sent()) {
+            return;
+        }
+        Request req = result.request();
+        HttpMessage msg = result.message();
+        if (result.error() != null) {
             String name = req.getName();
             if (name == null) {
                 name =
                         msg.getRequestHeader().getMethod()
                                 + msg.getRequestHeader().getURI().toString();
             }
-            if (!StringUtils.isEmpty(req.getData())) {
-                msg.getRequestBody().setBody(env.replaceVars(req.getData()));
-                msg.getRequestHeader().setContentLength(msg.getRequestBody().length());
-            }
-            User user = this.getUser(this.getParameters().getUser(), progress);
-
-            try {
-                if (user != null) {
-                    msg.setRequestingUser(user);
-                    progress.info(
-                            Constant.messages.getString(
-                                    "automation.info.requrluser",
-                                    this.getName(),
-                                    msg.getRequestHeader().getURI(),
-                                    user.getName()));
-                } else {
-                    progress.info(
-                            Constant.messages.getString(
-                                    "automation.info.requrl",
-                                    this.getName(),
-                                    msg.getRequestHeader().getURI()));
-                }
-                httpSender.sendAndReceive(msg);
-            } catch (Exception e) {
+            progress.warn(
+                    Constant.messages.getString(
+                            "automation.error.requestor.badnetwork",
+                            this.getName(),
+                            name,
+                            result.error()));
+            return;
+        }
+        persistToHistoryAndSitesTree(msg);
+        if (req.getResponseCode() != null) {
+            int receivedCode = msg.getResponseHeader().getStatusCode();
+            if (receivedCode != req.getResponseCode()) {
                 progress.warn(
                         Constant.messages.getString(
-                                "automation.error.requestor.badnetwork", this.getName(), name, e));
-                return;
-            }
-            persistToHistoryAndSitesTree(msg);
-            if (req.getResponseCode() != null) {
-                int receivedCode = msg.getResponseHeader().getStatusCode();
-                if (receivedCode != req.getResponseCode()) {
-                    progress.warn(
-                            Constant.messages.getString(
-                                    "automation.error.requestor.codemismatch",
-                                    msg.getRequestHeader().getMethod()
-                                            + " "
-                                            + msg.getRequestHeader().getURI(),
-                                    req.getResponseCode(),
-                                    receivedCode));
-                }
+                                "automation.error.requestor.codemismatch",
+                                msg.getRequestHeader().getMethod()
+                                        + " "
+                                        + msg.getRequestHeader().getURI(),
+                                req.getResponseCode(),
+                                receivedCode));
             }
         }
     }
@@ -317,6 +374,9 @@ public class RequestorJob extends AutomationJob {
         return parameters;
     }
 
+    private record SendResult(
+            Request request, HttpMessage message, Exception error, boolean sent) {}
+
     public static class Data extends JobData {
         private Parameters parameters;
         private List<Request> requests = new ArrayList<>();
@@ -347,6 +407,8 @@ public class RequestorJob extends AutomationJob {
     @Setter
     public static class Parameters extends AutomationData {
         private String user;
+        private Integer threadCount = 1;
+        private Integer maxRequestsPerHost = 0;
     }
 
     @Getter
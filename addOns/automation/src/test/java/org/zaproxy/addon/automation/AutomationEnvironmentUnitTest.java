@@ -726,6 +726,62 @@ class AutomationEnvironmentUnitTest extends TestUtils {
         assertThat(ae.getMaxDuration(), is(equalTo(expected)));
     }
 
+    @Test
+    void shouldHaveDefaultParallelJobsParam() {
+        // Given
+        String contextStr =
+                """
+                env:
+                 contexts:
+                   - name: context 1
+                     urls:
+                     - https://www.example.com
+                """;
+        Yaml yaml = new Yaml();
+        LinkedHashMap<?, ?> data =
+                yaml.load(new ByteArrayInputStream(contextStr.getBytes(StandardCharsets.UTF_8)));
+        LinkedHashMap<?, ?> contextData = (LinkedHashMap<?, ?>) data.get("env");
+        AutomationProgress progress = new AutomationProgress();
+
+        // When
+        AutomationEnvironment ae = new AutomationEnvironment(contextData, progress);
+
+        // Then
+        assertThat(progress.hasErrors(), is(equalTo(false)));
+        assertThat(progress.hasWarnings(), is(equalTo(false)));
+        assertThat(ae.getParallelJobs(), is(equalTo(1)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1, 1", "0, 1", "1, 1", "4, 4"})
+    void shouldSetParallelJobsParam(int value, int expected) {
+        // Given
+        String contextStr =
+                """
+                env:
+                  contexts:
+                    - name: context 1
+                      urls:
+                      - https://www.example.com
+                  parameters:
+                    parallelJobs: %s
+                """
+                        .formatted(value);
+        Yaml yaml = new Yaml();
+        LinkedHashMap<?, ?> data =
+                yaml.load(new ByteArrayInputStream(contextStr.getBytes(StandardCharsets.UTF_8)));
+        LinkedHashMap<?, ?> contextData = (LinkedHashMap<?, ?>) data.get("env");
+        AutomationProgress progress = new AutomationProgress();
+
+        // When
+        AutomationEnvironment ae = new AutomationEnvironment(contextData, progress);
+
+        // Then
+        assertThat(progress.hasErrors(), is(equalTo(false)));
+        assertThat(progress.hasWarnings(), is(equalTo(false)));
+        assertThat(ae.getParallelJobs(), is(equalTo(expected)));
+    }
+
     @Test
     void shouldWarnOnUnrecognisedEnvParams() {
         // Given
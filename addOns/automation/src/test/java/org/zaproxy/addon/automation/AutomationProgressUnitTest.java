@@ -20,7 +20,9 @@
 package org.zaproxy.addon.automation;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 
@@ -239,6 +241,89 @@ class AutomationProgressUnitTest extends TestUtils {
         assertThat(progress.getInfos(job1).size(), is(0));
     }
 
+    @Test
+    void shouldRecordJobTimeTaken() {
+        // Given
+        AutomationJob job1 = mock(AutomationJob.class);
+        given(job1.getTimeTaken()).willReturn(1234L);
+
+        // When
+        progress.addRunJob(job1);
+
+        // Then
+        assertThat(progress.getJobResults(job1).getTimeTaken(), is(1234L));
+    }
+
+    @Test
+    void shouldAddMessagesOfJobProgress() {
+        // Given
+        AutomationJob job1 = mock(AutomationJob.class);
+        AutomationJob job2 = mock(AutomationJob.class);
+        given(job2.getTimeTaken()).willReturn(10L);
+        progress.info("info1");
+        progress.addRunJob(job1);
+        AutomationProgress job2Progress = progress.createJobProgress();
+        job2Progress.info("info2");
+        job2Progress.warn("warn2");
+        job2Progress.error("error2");
+
+        // When
+        progress.addRunJob(job2, job2Progress);
+
+        // Then
+        assertThat(progress.getRunJobs(), contains(job1, job2));
+        assertThat(progress.getInfos(), contains("info1", "info2"));
+        assertThat(progress.getWarnings(), contains("warn2"));
+        assertThat(progress.getErrors(), contains("error2"));
+        assertThat(progress.getAllMessages(), contains("info1", "info2", "warn2", "error2"));
+        assertThat(progress.getInfos(job1), contains("info1"));
+        assertThat(progress.getInfos(job2), contains("info2"));
+        assertThat(progress.getWarnings(job2), contains("warn2"));
+        assertThat(progress.getErrors(job2), contains("error2"));
+        assertThat(progress.getJobResults(job2).getTimeTaken(), is(10L));
+    }
+
+    @Test
+    void shouldNotMixMessagesOfJobProgresses() {
+        // Given
+        AutomationJob job1 = mock(AutomationJob.class);
+        AutomationJob job2 = mock(AutomationJob.class);
+        AutomationProgress job1Progress = progress.createJobProgress();
+        AutomationProgress job2Progress = progress.createJobProgress();
+        job1Progress.info("info1");
+        job2Progress.info("info2");
+        job1Progress.warn("warn1");
+
+        // When
+        progress.addRunJob(job2, job2Progress);
+        progress.addRunJob(job1, job1Progress);
+
+        // Then
+        assertThat(progress.getInfos(), contains("info2", "info1"));
+        assertThat(progress.getInfos(job1), contains("info1"));
+        assertThat(progress.getWarnings(job1), contains("warn1"));
+        assertThat(progress.getInfos(job2), contains("info2"));
+        assertThat(progress.getWarnings(job2).size(), is(0));
+    }
+
+    @Test
+    void shouldReportErrorsAndResultDataOfParentInJobProgress() {
+        // Given
+        JobResultData data = mock(JobResultData.class);
+        given(data.getKey()).willReturn("key");
+        progress.addJobResultData(data);
+        progress.error("error");
+
+        // When
+        AutomationProgress jobProgress = progress.createJobProgress();
+
+        // Then
+        assertThat(jobProgress.hasErrors(), is(true));
+        assertThat(jobProgress.getErrors().size(), is(0));
+        assertThat(jobProgress.getJobResultData("key"), is(data));
+        assertThat(jobProgress.getAllJobResultData(), contains(data));
+    }
+
     @Test
     void shouldPrintToStdoutOnInfoWhenOutputStdoutIsTrue() {
         // Given
@@ -39,6 +39,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.commons.configuration.ConfigurationException;
@@ -1352,6 +1353,58 @@ class ExtensionAutomationUnitTest extends TestUtils {
         assertThat(job4InterruptFlagOnStart.get(), is(equalTo(false)));
     }
 
+    @Test
+    @Timeout(10)
+    void shouldRunJobsInParallelAfterTheJobsTheyDependOn() {
+        // Given
+        ExtensionAutomation extAuto = new ExtensionAutomation();
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        AtomicBoolean jobsRanInParallel = new AtomicBoolean(true);
+        AtomicBoolean job4RanAfterOthers = new AtomicBoolean();
+
+        AutomationJobImpl job1 = new ParallelAutomationJobImpl("job1", null, jobsRanInParallel);
+        AutomationJobImpl job2 = new ParallelAutomationJobImpl("job2", barrier, jobsRanInParallel);
+        AutomationJobImpl job3 = new ParallelAutomationJobImpl("job3", barrier, jobsRanInParallel);
+        AutomationJobImpl job4 =
+                new AutomationJobImpl(true) {
+                    @Override
+                    public String getType() {
+                        return "job4";
+                    }
+
+                    @Override
+                    public Order getOrder() {
+                        return Order.REPORT;
+                    }
+
+                    @Override
+                    public void runJob(AutomationEnvironment env, AutomationProgress progress) {
+                        super.runJob(env, progress);
+                        job4RanAfterOthers.set(job1.wasRun() && job2.wasRun() && job3.wasRun());
+                    }
+                };
+        extAuto.registerAutomationJob(job1);
+        extAuto.registerAutomationJob(job2);
+        extAuto.registerAutomationJob(job3);
+        extAuto.registerAutomationJob(job4);
+        Path filePath = getResourcePath("resources/testplan-paralleljobs.yaml");
+
+        // When
+        AutomationProgress progress =
+                extAuto.runAutomationFile(filePath.toAbsolutePath().toString());
+
+        // Then
+        assertThat(progress.hasWarnings(), is(equalTo(false)));
+        assertThat(progress.hasErrors(), is(equalTo(false)));
+        assertThat(jobsRanInParallel.get(), is(equalTo(true)));
+        assertThat(job4RanAfterOthers.get(), is(equalTo(true)));
+        assertThat(progress.getRunJobs().size(), is(equalTo(4)));
+        assertThat(progress.getRunJobs().get(0), is(equalTo(job1)));
+        assertThat(progress.getRunJobs().get(3), is(equalTo(job4)));
+        assertThat(job2.getDependsOn(), contains("job1"));
+        assertThat(job3.getDependsOn(), contains("job1"));
+    }
+
     @Test
     void shouldSetConfigParams() throws ConfigurationException {
         // Given
@@ -1507,6 +1560,39 @@ class ExtensionAutomationUnitTest extends TestUtils {
         }
     }
 
+    private static class ParallelAutomationJobImpl extends AutomationJobImpl {
+
+        private final String type;
+        private final CyclicBarrier barrier;
+        private final AtomicBoolean jobsRanInParallel;
+
+        ParallelAutomationJobImpl(
+                String type, CyclicBarrier barrier, AtomicBoolean jobsRanInParallel) {
+            super(true);
+            this.type = type;
+            this.barrier = barrier;
+            this.jobsRanInParallel = jobsRanInParallel;
+        }
+
+        @Override
+        public void runJob(AutomationEnvironment env, AutomationProgress progress) {
+            super.runJob(env, progress);
+            if (barrier == null) {
+                return;
+            }
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                jobsRanInParallel.set(false);
+            }
+        }
+
+        @Override
+        public String getType() {
+            return type;
+        }
+    }
+
     private static class AutomationJobImpl extends AutomationJob {
 
         private boolean wasRun = false;
@@ -27,6 +27,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -640,6 +641,110 @@ class RequestorJobUnitTest {
         assertThat(msg.getRequestBody().toString(), is(equalTo("aaa=bbb&ccc=xxx")));
     }
 
+    @Test
+    void shouldWarnIfThreadCountLowerThanOne() {
+        // Given
+        AutomationProgress progress = new AutomationProgress();
+        RequestorJob job = new RequestorJob(httpSender);
+
+        String yamlStr =
+                "parameters:\n"
+                        + "  threadCount: 0\n"
+                        + "requests:\n"
+                        + "- url: https://www.example.com\n";
+        Yaml yaml = new Yaml();
+        LinkedHashMap<?, ?> jobData = (LinkedHashMap<?, ?>) yaml.load(yamlStr);
+
+        // When
+        job.setJobData(jobData);
+        job.verifyParameters(progress);
+
+        // Then
+        assertThat(progress.hasErrors(), is(equalTo(false)));
+        assertThat(progress.getWarnings(), hasSize(1));
+        assertThat(
+                progress.getWarnings().get(0),
+                is(equalTo("!automation.error.requestor.threadcount!")));
+    }
+
+    @Test
+    void shouldSendAllRequestsWithSeveralThreads() throws IOException {
+        // Given
+        AutomationProgress progress = new AutomationProgress();
+        AutomationEnvironment env = new AutomationEnvironment(progress);
+        RequestorJob job = new RequestorJob(httpSender);
+
+        String yamlStr =
+                "parameters:\n"
+                        + "  threadCount: 3\n"
+                        + "  maxRequestsPerHost: 1\n"
+                        + "requests:\n"
+                        + "- url: https://www.example.com/1\n"
+                        + "- url: https://www.example.org/2\n"
+                        + "- url: https://www.example.com/3\n"
+                        + "  responseCode: 200\n"
+                        + "- url: https://www.example.org/4\n"
+                        + "  responseCode: 404\n"
+                        + "- url: https://www.example.com/5\n";
+        Yaml yaml = new Yaml();
+        LinkedHashMap<?, ?> jobData = (LinkedHashMap<?, ?>) yaml.load(yamlStr);
+
+        doAnswer(
+                        invocation -> {
+                            Object[] args = invocation.getArguments();
+                            ((HttpMessage) args[0]).getResponseHeader().setStatusCode(200);
+                            return null;
+                        })
+                .when(httpSender)
+                .sendAndReceive(any());
+
+        // When
+        job.setJobData(jobData);
+        job.verifyParameters(progress);
+        job.runJob(env, progress);
+
+        // Then
+        assertThat(progress.hasErrors(), is(equalTo(false)));
+        assertThat(progress.getWarnings(), hasSize(1));
+        assertThat(
+                progress.getWarnings().get(0),
+                is(equalTo("!automation.error.requestor.codemismatch!")));
+        assertThat(getMessagesSent(5), hasSize(5));
+    }
+
+    @Test
+    void shouldStopSendingRequestsOnNetworkError() throws IOException {
+        // Given
+        AutomationProgress progress = new AutomationProgress();
+        AutomationEnvironment env = new AutomationEnvironment(progress);
+        RequestorJob job = new RequestorJob(httpSender);
+
+        String yamlStr =
+                "requests:\n"
+                        + "- url: https://www.example.com/1\n"
+                        + "- url: https://www.example.com/2\n";
+        Yaml yaml = new Yaml();
+        LinkedHashMap<?, ?> jobData = (LinkedHashMap<?, ?>) yaml.load(yamlStr);
+
+        doThrow(new IOException()).when(httpSender).sendAndReceive(any());
+
+        // When
+        job.setJobData(jobData);
+        job.verifyParameters(progress);
+        job.runJob(env, progress);
+
+        // Then
+        assertThat(progress.hasErrors(), is(equalTo(false)));
+        assertThat(progress.getWarnings(), hasSize(1));
+        assertThat(
+                progress.getWarnings().get(0),
+                is(equalTo("!automation.error.requestor.badnetwork!")));
+        HttpMessage msg = getMessagesSent(1).get(0);
+        assertThat(
+                msg.getRequestHeader().getURI().toString(),
+                is(equalTo("https://www.example.com/1")));
+    }
+
     private List<HttpMessage> getMessagesSent(int number) throws IOException {
         ArgumentCaptor<HttpMessage> argument = ArgumentCaptor.forClass(HttpMessage.class);
         verify(httpSender, times(number)).sendAndReceive(argument.capture());
@@ -21,6 +21,7 @@
 package com.sittinglittleduck.DirBuster;
 
 import java.net.URL;
+import java.util.regex.Pattern;
 
 /** Used to store information about a base case. */
 public class BaseCase {
@@ -53,6 +54,9 @@ public class BaseCase {
      */
     private String regex;
 
+    // ZAP: the regex compiled, used to check all the responses of the base case
+    private volatile Pattern regexPattern;
+
     /** Creates a new instance of BaseCase */
     public BaseCase(
             URL baseCaseURL,
@@ -117,6 +121,20 @@ public class BaseCase {
         return regex;
     }
 
+    /**
+     * Gets the regex compiled, to not compile it for each response checked.
+     *
+     * @return the pattern of the regex.
+     */
+    public Pattern getRegexPattern() {
+        Pattern pattern = regexPattern;
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            regexPattern = pattern;
+        }
+        return pattern;
+    }
+
     public int getReturnCode() {
         return returnCode;
     }
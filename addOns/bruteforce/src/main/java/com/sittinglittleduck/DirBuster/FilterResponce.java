@@ -25,10 +25,29 @@ package com.sittinglittleduck.DirBuster;
 import java.net.URL;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import org.apache.commons.lang3.Strings;
 
 /** Util class to normliaze http responces */
 public class FilterResponce {
 
+    private static final Pattern DATE_HEADER =
+            Pattern.compile("Date: [\\w\\d, :;=/]+\\W", Pattern.CASE_INSENSITIVE);
+    private static final Pattern P3P_HEADER =
+            Pattern.compile("P3P: [\\w\\d, :;=/]+\\W", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SET_COOKIE_HEADER =
+            Pattern.compile("Set-Cookie:.*?\r\n", Pattern.CASE_INSENSITIVE);
+    private static final Pattern EXPIRES_HEADER =
+            Pattern.compile("Expires: [\\w\\d, :-;=/]+\\W", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ETAG_HEADER =
+            Pattern.compile("ETag: [\\w\\d\"\', :]+\\W", Pattern.CASE_INSENSITIVE);
+    private static final Pattern POSSIBLE_DATE =
+            Pattern.compile(
+                    "\\w\\w\\w,? \\d\\d? \\w\\w\\w \\d\\d\\d\\d \\d?\\d?:?\\d?\\d?:?\\d?\\d? \\w?\\w?\\w?",
+                    Pattern.CASE_INSENSITIVE);
+    private static final Pattern IP_ADDRESS =
+            Pattern.compile(
+                    "\\d\\d\\d?\\.\\d\\d\\d?\\.\\d\\d\\d?\\.\\d\\d\\d?", Pattern.CASE_INSENSITIVE);
+
     /** Creates a new instance of FilterResponce */
     public FilterResponce() {}
 
@@ -58,79 +77,40 @@ public class FilterResponce {
                 // firstline = toclean.
 
                 // remove date header
-                Pattern p = Pattern.compile("Date: [\\w\\d, :;=/]+\\W", Pattern.CASE_INSENSITIVE);
-                Matcher m = p.matcher(toclean);
-                if (m.find()) {
-                    // System.out.println("Found Date value = '" + m.group(0) + "'");
-                    toclean = toclean.replaceAll(m.group(0), "DATE LINE REMOVED");
-                }
+                toclean = replaceFirstMatchEverywhere(toclean, DATE_HEADER, "DATE LINE REMOVED");
 
                 // remove P3P header
-                p = Pattern.compile("P3P: [\\w\\d, :;=/]+\\W", Pattern.CASE_INSENSITIVE);
-                m = p.matcher(toclean);
-                if (m.find()) {
-                    // System.out.println("Found Date value = '" + m.group(0) + "'");
-                    toclean = toclean.replaceAll(m.group(0), "PSP LINE REMOVED");
-                }
+                toclean = replaceFirstMatchEverywhere(toclean, P3P_HEADER, "PSP LINE REMOVED");
 
                 // Remove cookie header
-                p = Pattern.compile("Set-Cookie:.*?\r\n", Pattern.CASE_INSENSITIVE);
-                m = p.matcher(toclean);
-                if (m.find()) {
-                    // System.out.println("Found Date value = '" + m.group(0) + "'");
-                    toclean = toclean.replaceAll(m.group(0), "SET-COOKIE LINE REMOVED\r\n");
-                }
+                toclean =
+                        replaceFirstMatchEverywhere(
+                                toclean, SET_COOKIE_HEADER, "SET-COOKIE LINE REMOVED\r\n");
 
                 // Remove Expires
-                p = Pattern.compile("Expires: [\\w\\d, :-;=/]+\\W", Pattern.CASE_INSENSITIVE);
-                m = p.matcher(toclean);
-                if (m.find()) {
-                    // System.out.println("Found Date value = '" + m.group(0) + "'");
-                    toclean = toclean.replaceAll(m.group(0), "EXPIRES LINE REMOVED");
-                }
+                toclean =
+                        replaceFirstMatchEverywhere(
+                                toclean, EXPIRES_HEADER, "EXPIRES LINE REMOVED");
 
                 // Remove Etag
-                p = Pattern.compile("ETag: [\\w\\d\"\', :]+\\W", Pattern.CASE_INSENSITIVE);
-                m = p.matcher(toclean);
-                if (m.find()) {
-                    // System.out.println("Found Date value = '" + m.group(0) + "'");
-                    toclean = toclean.replaceAll(m.group(0), "");
-                }
+                toclean = replaceFirstMatchEverywhere(toclean, ETAG_HEADER, "");
 
                 // Remove a possible date
-                p =
-                        Pattern.compile(
-                                "\\w\\w\\w,? \\d\\d? \\w\\w\\w \\d\\d\\d\\d \\d?\\d?:?\\d?\\d?:?\\d?\\d? \\w?\\w?\\w?",
-                                Pattern.CASE_INSENSITIVE);
-                m = p.matcher(toclean); // get a matcher object
-                toclean = m.replaceAll("DATE REMOVED");
+                toclean = POSSIBLE_DATE.matcher(toclean).replaceAll("DATE REMOVED");
 
                 // remove the host
-                p = Pattern.compile(Pattern.quote(url.getHost()), Pattern.CASE_INSENSITIVE);
-                m = p.matcher(toclean); // get a matcher object
-                toclean = m.replaceAll("HOST REMOVED");
+                toclean = replaceIgnoreCase(toclean, url.getHost(), "HOST REMOVED");
 
                 // remove the entire URL
-                p = Pattern.compile(Pattern.quote(url.toString()), Pattern.CASE_INSENSITIVE);
-                m = p.matcher(toclean); // get a matcher object
-                toclean = m.replaceAll("ADDRESSED REMOVED");
+                toclean = replaceIgnoreCase(toclean, url.toString(), "ADDRESSED REMOVED");
 
                 // remove the file location
-                p = Pattern.compile(Pattern.quote(url.getFile()), Pattern.CASE_INSENSITIVE);
-                m = p.matcher(toclean); // get a matcher object
-                toclean = m.replaceAll("FILE REMOVED");
+                toclean = replaceIgnoreCase(toclean, url.getFile(), "FILE REMOVED");
 
-                p = Pattern.compile(Pattern.quote(url.getPath()), Pattern.CASE_INSENSITIVE);
-                m = p.matcher(toclean); // get a matcher object
-                toclean = m.replaceAll("PATH REMOVED");
+                toclean = replaceIgnoreCase(toclean, url.getPath(), "PATH REMOVED");
 
                 // remove any ip address
-                p =
-                        Pattern.compile(
-                                "\\d\\d\\d?\\.\\d\\d\\d?\\.\\d\\d\\d?\\.\\d\\d\\d?",
-                                Pattern.CASE_INSENSITIVE);
-                m = p.matcher(toclean); // get a matcher object
-                toclean = m.replaceAll("IP ADDRESSED REMOVED");
+                toclean = IP_ADDRESS.matcher(toclean).replaceAll("IP ADDRESSED REMOVED");
                 /*
                 if(itemChecked != null)
                 {
@@ -145,6 +125,31 @@ public class FilterResponce {
         return toclean;
     }
 
+    /*
+     * ZAP: Replaces all the occurrences of the text first matched by the given pattern, the
+     * patterns are compiled just once as they are applied to every response checked.
+     */
+    private static String replaceFirstMatchEverywhere(
+            String toclean, Pattern pattern, String replacement) {
+        Matcher m = pattern.matcher(toclean);
+        if (m.find()) {
+            return toclean.replace(m.group(0), replacement);
+        }
+        return toclean;
+    }
+
+    /*
+     * ZAP: Replaces the given text ignoring the case, without compiling a pattern if not present.
+     */
+    private static String replaceIgnoreCase(String toclean, String text, String replacement) {
+        if (!text.isEmpty() && !Strings.CI.contains(toclean, text)) {
+            return toclean;
+        }
+        return Pattern.compile(Pattern.quote(text), Pattern.CASE_INSENSITIVE)
+                .matcher(toclean)
+                .replaceAll(Matcher.quoteReplacement(replacement));
+    }
+
     public static String removeItemCheckedFor(String toclean, String itemToCheckFor) {
         /*
         if (itemToCheckFor != null && toclean != null)
@@ -29,10 +29,14 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Set;
 import java.util.Timer;
 import java.util.Vector;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.prefs.Preferences;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -60,7 +64,8 @@ public class Manager implements ProcessChecker.ProcessUpdate {
     private int port;
     private String startPoint;
     private boolean doDirs, doFiles;
-    private int totalDone = 0;
+    // ZAP: Counters and collections updated by the workers are lock-free, to not serialise them.
+    private final AtomicInteger totalDone = new AtomicInteger();
     private Vector<Worker> workers = new Vector<>(100, 10);
     private Vector<HTMLparse> parseWorkers = new Vector<>(100, 10);
     private String[] charSet;
@@ -72,26 +77,27 @@ public class Manager implements ProcessChecker.ProcessUpdate {
     // flag for if we are auto switching between HEADS and GETS
     private boolean auto = true;
     // used for storing total numbers of trys per pass
-    private double totalPass;
+    private volatile double totalPass;
     // used to record the total number of dirs that have been found
     // set to 1 as we there must always at least 1
-    private int totalDirsFound = 1;
+    private final AtomicInteger totalDirsFound = new AtomicInteger(1);
     // setting for using a blank extention
     private boolean blankExt = false;
     // store of all extention that are to be tested
     private Vector<ExtToCheck> extToUse = new Vector<>(10, 5);
-    private Vector<BaseCase> producedBasesCases = new Vector<>(10, 10);
+    private CopyOnWriteArrayList<BaseCase> producedBasesCases = new CopyOnWriteArrayList<>();
     // used to store all the links that have parsed, will not contain a list a all items, processed
     // as this will consume to much memory.  There for there is a chance of some duplication.
-    private Vector<String> processedLinks = new Vector<>(100, 100);
+    // ZAP: Lower case in case insensitive mode, to not have to compare with all the links.
+    private Set<String> processedLinks = ConcurrentHashMap.newKeySet();
     // not all base case requests are processed so this will ensure the stats stay correct
-    private int baseCaseCounterCorrection = 0;
+    private final AtomicInteger baseCaseCounterCorrection = new AtomicInteger();
     // used to store the value of items that will have been skipped
-    private int workAmountCorrection = 0;
+    private final AtomicInteger workAmountCorrection = new AtomicInteger();
     // total number of links pasrsed from the HTML that have been added to the work queue
-    private int parsedLinksProcessed = 0;
+    private final AtomicInteger parsedLinksProcessed = new AtomicInteger();
     // total number of basecases produced
-    private int numberOfBaseCasesProduced = 0;
+    private final AtomicInteger numberOfBaseCasesProduced = new AtomicInteger();
     // exts that are not to be added to the work queue if found by the HTML parser
     public Vector<String> extsToMiss = new Vector<>(10, 10);
     // Vector to store all the html elements that are to be parsed.
@@ -197,7 +203,7 @@ public class Manager implements ProcessChecker.ProcessUpdate {
             boolean recursive,
             boolean blankExt,
             Vector<ExtToCheck> extToUse) {
-        totalDone = 0;
+        totalDone.set(0);
         this.startPoint = startPoint;
         this.inputFile = inputFile;
         this.firstPartOfURL = protocol + "://" + host + ":" + port;
@@ -248,7 +254,7 @@ public class Manager implements ProcessChecker.ProcessUpdate {
             boolean doFiles,
             boolean recursive,
             boolean blankExt) {
-        totalDone = 0;
+        totalDone.set(0);
         this.startPoint = startPoint;
         this.firstPartOfURL = protocol + "://" + host + ":" + port;
         this.extention = extention;
@@ -292,7 +298,7 @@ public class Manager implements ProcessChecker.ProcessUpdate {
             int ThreadNumber,
             String urlFuzzStart,
             String urlFuzzEnd) {
-        totalDone = 0;
+        totalDone.set(0);
         this.inputFile = inputFile;
         this.firstPartOfURL = protocol + "://" + host + ":" + port;
         this.protocol = protocol;
@@ -333,7 +339,7 @@ public class Manager implements ProcessChecker.ProcessUpdate {
         /*
          * test details
          */
-        totalDone = 0;
+        totalDone.set(0);
         this.firstPartOfURL = protocol + "://" + host + ":" + port;
         this.protocol = protocol;
         this.host = host;
@@ -396,10 +402,10 @@ public class Manager implements ProcessChecker.ProcessUpdate {
         try {
             timestarted = System.currentTimeMillis();
 
-            totalDirsFound = 0;
+            totalDirsFound.set(0);
             producedBasesCases.clear();
-            numberOfBaseCasesProduced = 0;
-            parsedLinksProcessed = 0;
+            numberOfBaseCasesProduced.set(0);
+            parsedLinksProcessed.set(0);
             processedLinks.clear();
 
             task = new ProcessChecker(this);
@@ -453,22 +459,38 @@ public class Manager implements ProcessChecker.ProcessUpdate {
         return dirQueue;
     }
 
-    public synchronized void foundDir(URL url, int statusCode, BaseCase baseCaseObj) {
+    public void foundDir(URL url, int statusCode, BaseCase baseCaseObj) {
         foundDir(url, statusCode, null, null, null, baseCaseObj);
     }
 
-    public synchronized void foundDir(
-            URL url, int statusCode, String Responce, BaseCase baseCaseObj) {
+    public void foundDir(URL url, int statusCode, String Responce, BaseCase baseCaseObj) {
         foundDir(url, statusCode, Responce, null, Responce, baseCaseObj);
     }
 
-    public synchronized void foundDir(
+    public void foundDir(
             URL url,
             int statusCode,
             String Responce,
             String BaseCase,
             String RawResponce,
             BaseCase baseCaseObj) {
+        // ZAP: Lock just while checking and adding to the dir queue.
+        synchronized (this) {
+            if (!addFoundDirToDirQueue(url)) {
+                return;
+            }
+        }
+
+        LOGGER.debug("Dir found: {} - {}", url.getFile(), statusCode);
+
+        // add to list of items that have already processed
+        addParsedLink(url.getPath());
+
+        headlessResult.addElement(
+                new HeadlessResult(url.getFile(), statusCode, HeadlessResult.DIR));
+    }
+
+    private boolean addFoundDirToDirQueue(URL url) {
         try {
 
             boolean isStartPoint;
@@ -525,7 +547,7 @@ public class Manager implements ProcessChecker.ProcessUpdate {
                     if (addToDirQueue) {
                         dirQueue.put(new DirToCheck(url.getPath(), tempExtToUse));
                     }
-                    totalDirsFound++;
+                    totalDirsFound.incrementAndGet();
                 }
 
             }
@@ -561,33 +583,25 @@ public class Manager implements ProcessChecker.ProcessUpdate {
                     if (addToDirQueue) {
                         dirQueue.put(new DirToCheck(url.getPath(), tempExtToUse));
                     }
-                    totalDirsFound++;
+                    totalDirsFound.incrementAndGet();
                 }
             }
-
-            LOGGER.debug("Dir found: {} - {}", url.getFile(), statusCode);
-
-            // add to list of items that have already processed
-            addParsedLink(url.getPath());
-
-            headlessResult.addElement(
-                    new HeadlessResult(url.getFile(), statusCode, HeadlessResult.DIR));
+            return true;
         } catch (InterruptedException e) {
             LOGGER.debug(e);
-            return;
+            return false;
         }
     }
 
-    public synchronized void foundFile(URL url, int statusCode, BaseCase baseCaseObj) {
+    public void foundFile(URL url, int statusCode, BaseCase baseCaseObj) {
         foundFile(url, statusCode, null, null, null, baseCaseObj);
     }
 
-    public synchronized void foundFile(
-            URL url, int statusCode, String Responce, BaseCase baseCaseObj) {
+    public void foundFile(URL url, int statusCode, String Responce, BaseCase baseCaseObj) {
         foundFile(url, statusCode, Responce, null, Responce, baseCaseObj);
     }
 
-    public synchronized void foundFile(
+    public void foundFile(
             URL url,
             int statusCode,
             String Responce,
@@ -603,7 +617,7 @@ public class Manager implements ProcessChecker.ProcessUpdate {
                 new HeadlessResult(url.getFile(), statusCode, HeadlessResult.FILE));
     }
 
-    public synchronized void foundError(URL url, String reason) {
+    public void foundError(URL url, String reason) {
         headlessResult.addElement(
                 new HeadlessResult(url.getFile() + ":" + reason, -1, HeadlessResult.ERROR));
         LOGGER.warn("{} - {}", url, reason);
@@ -624,12 +638,12 @@ public class Manager implements ProcessChecker.ProcessUpdate {
     @Override
     public void isAlive() {}
 
-    public synchronized void workDone() {
-        totalDone++;
+    public void workDone() {
+        totalDone.incrementAndGet();
     }
 
-    public synchronized int getTotalDone() {
-        return totalDone;
+    public int getTotalDone() {
+        return totalDone.get();
     }
 
     public String getProtocol() {
@@ -694,12 +708,12 @@ public class Manager implements ProcessChecker.ProcessUpdate {
         parseQueue.clear();
 
         // reset counters
-        totalDirsFound = 0;
+        totalDirsFound.set(0);
         producedBasesCases.clear();
-        numberOfBaseCasesProduced = 0;
-        parsedLinksProcessed = 0;
+        numberOfBaseCasesProduced.set(0);
+        parsedLinksProcessed.set(0);
         processedLinks.clear();
-        workAmountCorrection = 0;
+        workAmountCorrection.set(0);
 
         // kill all the running threads
         task.cancel();
@@ -740,16 +754,16 @@ public class Manager implements ProcessChecker.ProcessUpdate {
         pureBrutefuzz = false;
     }
 
-    public synchronized double getTotalPass() {
+    public double getTotalPass() {
         return totalPass;
     }
 
-    public synchronized void setTotalPass(double totalPass) {
+    public void setTotalPass(double totalPass) {
         this.totalPass = totalPass;
     }
 
-    public synchronized int getTotalDirsFound() {
-        return totalDirsFound;
+    public int getTotalDirsFound() {
+        return totalDirsFound.get();
     }
 
     public int getWorkerCount() {
@@ -821,7 +835,7 @@ public class Manager implements ProcessChecker.ProcessUpdate {
                  */
                 if (dirQueue.remove(dirToCheck)) {
 
-                    totalDirsFound--;
+                    totalDirsFound.decrementAndGet();
                 } else {
                     LOGGER.warn("Failed to remove {} from dir queue", processWork);
                 }
@@ -835,7 +849,7 @@ public class Manager implements ProcessChecker.ProcessUpdate {
         try {
 
             dirQueue.put(new DirToCheck(dir, extToUse));
-            totalDirsFound++;
+            totalDirsFound.incrementAndGet();
         } catch (InterruptedException ex) {
             LOGGER.debug(ex);
             return;
@@ -868,13 +882,12 @@ public class Manager implements ProcessChecker.ProcessUpdate {
         return extToUse;
     }
 
-    public synchronized BaseCase getBaseCase(String base, boolean isDir, String fileExt) {
+    public BaseCase getBaseCase(String base, boolean isDir, String fileExt) {
 
         try {
-            for (int a = 0; a < producedBasesCases.size(); a++) {
-                BaseCase tempBaseCase = producedBasesCases.elementAt(a);
-
-                if (tempBaseCase.getBaseCaseURL().equals(new URI(base).toURL())
+            URL baseUrl = new URI(base).toURL();
+            for (BaseCase tempBaseCase : producedBasesCases) {
+                if (tempBaseCase.getBaseCaseURL().equals(baseUrl)
                         && tempBaseCase.isDir() == isDir) {
                     if (!isDir) {
                         if (tempBaseCase.getFileExt().equals(fileExt)) {
@@ -892,42 +905,39 @@ public class Manager implements ProcessChecker.ProcessUpdate {
         return null;
     }
 
-    public synchronized void addBaseCase(BaseCase baseCase) {
-        if (!producedBasesCases.contains(baseCase)) {
-            producedBasesCases.addElement(baseCase);
-        }
+    public void addBaseCase(BaseCase baseCase) {
+        producedBasesCases.addIfAbsent(baseCase);
     }
 
-    public synchronized boolean hasLinkBeenDone(String link) {
+    public boolean hasLinkBeenDone(String link) {
+        return processedLinks.contains(toProcessedLink(link));
+    }
 
-        if (processedLinks.contains(link)) {
-            return true;
+    private static String toProcessedLink(String link) {
+        if (Config.caseInsensativeMode) {
+            return link.toLowerCase(Locale.ENGLISH);
         }
-
-        return false;
+        return link;
     }
 
     public int getBaseCaseCounterCorrection() {
-        return baseCaseCounterCorrection;
+        return baseCaseCounterCorrection.get();
     }
 
-    public synchronized int getParsedLinksProcessed() {
-        return parsedLinksProcessed;
+    public int getParsedLinksProcessed() {
+        return parsedLinksProcessed.get();
     }
 
-    public synchronized boolean addParsedLink(String link) {
+    public boolean addParsedLink(String link) {
         // System.out.println("SBSB addParsedLink " + link);
         /*
          * case insenataive mode
          */
         if (Config.caseInsensativeMode) {
 
-            for (int a = 0; a < processedLinks.size(); a++) {
-                if (link.equalsIgnoreCase(processedLinks.elementAt(a))) {
-                    return false;
-                }
+            if (!processedLinks.add(toProcessedLink(link))) {
+                return false;
             }
-            processedLinks.addElement(link);
 
             if (onlyUnderStartPoint
                     && !link.toLowerCase(Locale.ENGLISH)
@@ -940,9 +950,7 @@ public class Manager implements ProcessChecker.ProcessUpdate {
          * case sensative mode
          */
         {
-            if (!processedLinks.contains(link)) {
-                processedLinks.addElement(link);
-            }
+            processedLinks.add(link);
 
             if (onlyUnderStartPoint && !link.startsWith(startPoint)) {
                 addParsedLinksProcessed();
@@ -953,25 +961,25 @@ public class Manager implements ProcessChecker.ProcessUpdate {
         return true;
     }
 
-    public synchronized void addParsedLinksProcessed() {
-        parsedLinksProcessed++;
+    public void addParsedLinksProcessed() {
+        parsedLinksProcessed.incrementAndGet();
     }
 
-    public synchronized int getNumberOfBaseCasesProduced() {
-        return numberOfBaseCasesProduced;
+    public int getNumberOfBaseCasesProduced() {
+        return numberOfBaseCasesProduced.get();
     }
 
     // increments the correction counter
-    public synchronized void addBaseCaseCounterCorrection() {
-        baseCaseCounterCorrection++;
+    public void addBaseCaseCounterCorrection() {
+        baseCaseCounterCorrection.incrementAndGet();
     }
 
     public Vector<HTMLelementToParse> getElementsToParse() {
         return elementsToParse;
     }
 
-    public synchronized void addNumberOfBaseCasesProduced() {
-        numberOfBaseCasesProduced++;
+    public void addNumberOfBaseCasesProduced() {
+        numberOfBaseCasesProduced.incrementAndGet();
     }
 
     public Vector<HTMLparse> getParseWorkers() {
@@ -1004,12 +1012,12 @@ public class Manager implements ProcessChecker.ProcessUpdate {
         this.currentlyProcessing = currentlyProcessing;
     }
 
-    public synchronized void addToWorkCorrection(int amount) {
-        workAmountCorrection = workAmountCorrection + amount;
+    public void addToWorkCorrection(int amount) {
+        workAmountCorrection.addAndGet(amount);
     }
 
-    public synchronized int getWorkAmountCorrection() {
-        return workAmountCorrection;
+    public int getWorkAmountCorrection() {
+        return workAmountCorrection.get();
     }
 
     public String getUrlFuzzEnd() {
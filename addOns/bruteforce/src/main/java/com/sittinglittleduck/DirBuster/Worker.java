@@ -135,7 +135,7 @@ public class Worker implements Runnable {
                  * use the custom regex check instead
                  */
                 else if (work.getBaseCaseObj().isUseRegexInstead()) {
-                    Pattern regexFindFile = Pattern.compile(work.getBaseCaseObj().getRegex());
+                    Pattern regexFindFile = work.getBaseCaseObj().getRegexPattern();
 
                     Matcher m = regexFindFile.matcher(rawResponse);
 
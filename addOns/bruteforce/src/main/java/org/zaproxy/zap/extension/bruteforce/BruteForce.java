@@ -64,6 +64,7 @@ public class BruteForce extends Thread implements BruteForceListenner {
     private DirBusterManager manager = null;
     private List<String> extensions = null;
     private int scanId;
+    private final ResultsChannel<FoundUrl> results = new ResultsChannel<>(this::processFoundUrls);
 
     private boolean onlyUnderDirectory;
 
@@ -168,6 +169,7 @@ public class BruteForce extends Thread implements BruteForceListenner {
                     false,
                     extsVector);
 
+            results.start("ZAP-BruteForce-Results-" + scanId);
             manager.start();
 
             try {
@@ -205,6 +207,7 @@ public class BruteForce extends Thread implements BruteForceListenner {
         } catch (java.net.URISyntaxException | MalformedURLException ex) {
             LOGGER.error("Failed brute forcing site {}", target.getURI(), ex);
         }
+        results.close();
 
         if (this.listenner != null) {
             this.listenner.scanFinshed(target);
@@ -266,6 +269,33 @@ public class BruteForce extends Thread implements BruteForceListenner {
             String baseCase,
             String rawResponse,
             BaseCase baseCaseObj) {
+        // Called by the DirBuster workers, processed by the results thread.
+        results.publish(new FoundUrl(url, rawResponse));
+    }
+
+    private void processFoundUrls(List<FoundUrl> foundUrls) {
+        List<HistoryReference> refs = new ArrayList<>(foundUrls.size());
+        for (FoundUrl foundUrl : foundUrls) {
+            HistoryReference ref = createHistoryReference(foundUrl.url(), foundUrl.rawResponse());
+            if (ref != null) {
+                refs.add(ref);
+            }
+        }
+        if (refs.isEmpty()) {
+            return;
+        }
+
+        SwingUtilities.invokeLater(
+                () -> {
+                    for (HistoryReference ref : refs) {
+                        tableModel.addHistoryReference(ref);
+                        SiteNode sn = Model.getSingleton().getSession().getSiteTree().addPath(ref);
+                        sn.addCustomIcon(ExtensionBruteForce.HAMMER_ICON_RESOURCE, true);
+                    }
+                });
+    }
+
+    private static HistoryReference createHistoryReference(URL url, String rawResponse) {
         try {
             // Analyse and store the request
 
@@ -303,23 +333,18 @@ public class BruteForce extends Thread implements BruteForceListenner {
             HttpMessage msg = new HttpMessage(reqHeader, reqBody, resHeader, resBody);
             msg.setTimeSentMillis(System.currentTimeMillis());
 
-            final HistoryReference ref =
+            HistoryReference ref =
                     new HistoryReference(
                             Model.getSingleton().getSession(),
                             HistoryReference.TYPE_BRUTE_FORCE,
                             msg);
 
             Stats.incCounter("stats.bruteforce.url.found");
-
-            SwingUtilities.invokeLater(
-                    () -> {
-                        tableModel.addHistoryReference(ref);
-                        SiteNode sn = Model.getSingleton().getSession().getSiteTree().addPath(ref);
-                        sn.addCustomIcon(ExtensionBruteForce.HAMMER_ICON_RESOURCE, true);
-                    });
+            return ref;
 
         } catch (Exception e) {
             LOGGER.error("Failed to analyse response from {}", url, e);
+            return null;
         }
     }
 
@@ -355,6 +380,8 @@ public class BruteForce extends Thread implements BruteForceListenner {
         return scanId;
     }
 
+    private record FoundUrl(URL url, String rawResponse) {}
+
     private static class SimpleHttpClientImpl implements SimpleHttpClient {
 
         private HttpSender httpSender;
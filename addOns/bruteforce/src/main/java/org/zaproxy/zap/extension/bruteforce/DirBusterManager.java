@@ -39,7 +39,7 @@ public class DirBusterManager extends Manager {
     }
 
     @Override
-    public synchronized void foundDir(
+    public void foundDir(
             URL url,
             int statusCode,
             String responce,
@@ -57,7 +57,7 @@ public class DirBusterManager extends Manager {
     }
 
     @Override
-    public synchronized void foundFile(
+    public void foundFile(
             URL url,
             int statusCode,
             String responce,
@@ -69,7 +69,7 @@ public class DirBusterManager extends Manager {
     }
 
     @Override
-    public synchronized void foundError(URL url, String reason) {
+    public void foundError(URL url, String reason) {
         super.foundError(url, reason);
         LOGGER.warn("DirBusterManager.foundError {} reason: {}", url, reason);
     }
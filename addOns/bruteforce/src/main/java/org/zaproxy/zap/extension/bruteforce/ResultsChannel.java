@@ -0,0 +1,140 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.bruteforce;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A bounded channel of the results found by the DirBuster workers, consumed in batches by a single
+ * thread.
+ *
+ * <p>The workers block when the channel is full, instead of the results accumulating without limit.
+ *
+ * @param <T> the type of the results.
+ */
+class ResultsChannel<T> {
+
+    static final int DEFAULT_CAPACITY = 1000;
+    static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private static final Logger LOGGER = LogManager.getLogger(ResultsChannel.class);
+
+    private final BlockingQueue<T> queue;
+    private final int maxBatchSize;
+    private final Consumer<List<T>> consumer;
+    private volatile boolean closed;
+    private Thread thread;
+
+    ResultsChannel(Consumer<List<T>> consumer) {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_BATCH_SIZE, consumer);
+    }
+
+    ResultsChannel(int capacity, int maxBatchSize, Consumer<List<T>> consumer) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.consumer = consumer;
+    }
+
+    synchronized void start(String threadName) {
+        if (thread != null) {
+            return;
+        }
+        thread = new Thread(this::consume, threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Publishes the given result, waiting if the channel is full.
+     *
+     * @param result the result.
+     */
+    void publish(T result) {
+        try {
+            queue.put(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (closed) {
+            // Published while closing, not consumed by the thread.
+            drain();
+        }
+    }
+
+    /** Closes the channel, waiting for the results published to be consumed. */
+    void close() {
+        closed = true;
+        Thread currentThread;
+        synchronized (this) {
+            currentThread = thread;
+        }
+        if (currentThread != null) {
+            try {
+                currentThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drain();
+    }
+
+    private void consume() {
+        List<T> batch = new ArrayList<>(maxBatchSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                T result = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (result == null) {
+                    continue;
+                }
+                batch.add(result);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, maxBatchSize - 1);
+            deliver(batch);
+            batch = new ArrayList<>(maxBatchSize);
+        }
+    }
+
+    private void drain() {
+        List<T> batch = new ArrayList<>();
+        while (queue.drainTo(batch, maxBatchSize) > 0) {
+            deliver(batch);
+            batch = new ArrayList<>();
+        }
+    }
+
+    private void deliver(List<T> batch) {
+        try {
+            consumer.accept(batch);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to process the results found:", e);
+        }
+    }
+}
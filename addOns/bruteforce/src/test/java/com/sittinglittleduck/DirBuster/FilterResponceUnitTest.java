@@ -0,0 +1,80 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.sittinglittleduck.DirBuster;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.net.URI;
+import java.net.URL;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link FilterResponce}. */
+class FilterResponceUnitTest {
+
+    @Test
+    void shouldRemoveVariableHeaders() throws Exception {
+        // Given
+        URL url = new URI("http://example.com/admin/file.php").toURL();
+        String response =
+                "HTTP/1.1 200 OK\r\n"
+                        + "Date: Mon, 01 Jan 2024 10:00:00 GMT\r\n"
+                        + "Set-Cookie: id=123\r\n"
+                        + "ETag: \"abc\"\r\n\r\n"
+                        + "Body";
+        // When
+        String cleaned = FilterResponce.CleanResponce(response, url, null);
+        // Then
+        assertThat(
+                cleaned,
+                is(
+                        equalTo(
+                                "HTTP/1.1 200 OK\r\n"
+                                        + "DATE LINE REMOVED\n"
+                                        + "SET-COOKIE LINE REMOVED\r\n"
+                                        + "\n\r\n"
+                                        + "Body")));
+    }
+
+    @Test
+    void shouldRemoveHostAndPathIgnoringCase() throws Exception {
+        // Given
+        URL url = new URI("http://example.com/admin/file.php").toURL();
+        String response = "Not found: /ADMIN/FILE.PHP on EXAMPLE.com from 192.168.10.12";
+        // When
+        String cleaned = FilterResponce.CleanResponce(response, url, null);
+        // Then
+        assertThat(
+                cleaned,
+                is(equalTo("Not found: FILE REMOVED on HOST REMOVED from IP ADDRESSED REMOVED")));
+    }
+
+    @Test
+    void shouldNotChangeResponseWithoutVariableContent() throws Exception {
+        // Given
+        URL url = new URI("http://example.com/admin/file.php").toURL();
+        String response = "<html><body>Page not found</body></html>";
+        // When
+        String cleaned = FilterResponce.CleanResponce(response, url, null);
+        // Then
+        assertThat(cleaned, is(equalTo(response)));
+    }
+}
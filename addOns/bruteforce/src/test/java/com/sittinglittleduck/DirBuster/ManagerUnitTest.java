@@ -0,0 +1,131 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.sittinglittleduck.DirBuster;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link Manager}. */
+class ManagerUnitTest {
+
+    private Manager manager;
+    private boolean savedCaseInsensativeMode;
+
+    @BeforeEach
+    void setUp() {
+        manager = new Manager(mock(SimpleHttpClient.class));
+        manager.setOnlyUnderStartPoint(false);
+        savedCaseInsensativeMode = Config.caseInsensativeMode;
+    }
+
+    @AfterEach
+    void tearDown() {
+        Config.caseInsensativeMode = savedCaseInsensativeMode;
+    }
+
+    @Test
+    void shouldTrackParsedLinks() {
+        // Given
+        Config.caseInsensativeMode = false;
+        // When
+        boolean added = manager.addParsedLink("/admin/");
+        // Then
+        assertThat(added, is(equalTo(true)));
+        assertThat(manager.hasLinkBeenDone("/admin/"), is(equalTo(true)));
+        assertThat(manager.hasLinkBeenDone("/ADMIN/"), is(equalTo(false)));
+    }
+
+    @Test
+    void shouldTrackParsedLinksIgnoringCaseInCaseInsensitiveMode() {
+        // Given
+        Config.caseInsensativeMode = true;
+        manager.addParsedLink("/admin/");
+        // When
+        boolean added = manager.addParsedLink("/ADMIN/");
+        // Then
+        assertThat(added, is(equalTo(false)));
+        assertThat(manager.hasLinkBeenDone("/Admin/"), is(equalTo(true)));
+    }
+
+    @Test
+    void shouldCountWorkDoneConcurrently() throws Exception {
+        // Given
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            workers.add(
+                    new Thread(
+                            () -> {
+                                for (int j = 0; j < 1000; j++) {
+                                    manager.workDone();
+                                }
+                            }));
+        }
+        // When
+        workers.forEach(Thread::start);
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        // Then
+        assertThat(manager.getTotalDone(), is(equalTo(8000)));
+    }
+
+    @Test
+    void shouldGetBaseCaseAdded() throws Exception {
+        // Given
+        BaseCase dirBaseCase = createBaseCase(true, null);
+        BaseCase fileBaseCase = createBaseCase(false, "php");
+        manager.addBaseCase(dirBaseCase);
+        manager.addBaseCase(fileBaseCase);
+        manager.addBaseCase(fileBaseCase);
+        // When / Then
+        assertThat(
+                manager.getBaseCase("http://example.com/admin/", true, null),
+                is(sameInstance(dirBaseCase)));
+        assertThat(
+                manager.getBaseCase("http://example.com/admin/", false, "php"),
+                is(sameInstance(fileBaseCase)));
+        assertThat(manager.getBaseCase("http://example.com/admin/", false, "jsp"), is(nullValue()));
+        assertThat(manager.getBaseCase("http://example.com/other/", true, null), is(nullValue()));
+    }
+
+    private static BaseCase createBaseCase(boolean dir, String fileExt) throws Exception {
+        return new BaseCase(
+                new URI("http://example.com/admin/").toURL(),
+                404,
+                dir,
+                new URI("http://example.com/admin/thereIsNoWayThat-You-CanBeThere").toURL(),
+                "Not Found",
+                fileExt,
+                false,
+                null);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.bruteforce;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link ResultsChannel}. */
+class ResultsChannelUnitTest {
+
+    @Test
+    void shouldConsumeResultsPublished() {
+        // Given
+        List<Integer> consumed = new CopyOnWriteArrayList<>();
+        ResultsChannel<Integer> channel = new ResultsChannel<>(consumed::addAll);
+        channel.start("Results");
+        // When
+        channel.publish(1);
+        channel.publish(2);
+        channel.publish(3);
+        channel.close();
+        // Then
+        assertThat(consumed, contains(1, 2, 3));
+    }
+
+    @Test
+    void shouldConsumeInBatchesOfMaxSize() throws Exception {
+        // Given
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        ResultsChannel<Integer> channel =
+                new ResultsChannel<>(
+                        100,
+                        10,
+                        batch -> {
+                            awaitQuietly(release);
+                            batches.add(new ArrayList<>(batch));
+                        });
+        channel.start("Results");
+        // When
+        for (int i = 0; i < 50; i++) {
+            channel.publish(i);
+        }
+        release.countDown();
+        channel.close();
+        // Then
+        assertThat(batches.stream().mapToInt(List::size).sum(), is(equalTo(50)));
+        assertThat(batches.stream().map(List::size).toList(), everyItem(lessThanOrEqualTo(10)));
+    }
+
+    @Test
+    void shouldConsumeResultsPublishedConcurrently() throws Exception {
+        // Given
+        List<Integer> consumed = new CopyOnWriteArrayList<>();
+        ResultsChannel<Integer> channel = new ResultsChannel<>(10, 5, consumed::addAll);
+        channel.start("Results");
+        List<Thread> publishers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t * 100;
+            publishers.add(
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < 100; i++) {
+                                    channel.publish(offset + i);
+                                }
+                            }));
+        }
+        // When
+        publishers.forEach(Thread::start);
+        for (Thread publisher : publishers) {
+            publisher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        channel.close();
+        // Then
+        assertThat(consumed, hasSize(400));
+    }
+
+    @Test
+    void shouldConsumeResultsPublishedWithoutStarting() {
+        // Given
+        List<Integer> consumed = new CopyOnWriteArrayList<>();
+        ResultsChannel<Integer> channel = new ResultsChannel<>(consumed::addAll);
+        channel.publish(1);
+        // When
+        channel.close();
+        // Then
+        assertThat(consumed, contains(1));
+    }
+
+    @Test
+    void shouldConsumeResultsPublishedAfterClose() {
+        // Given
+        List<Integer> consumed = new CopyOnWriteArrayList<>();
+        ResultsChannel<Integer> channel = new ResultsChannel<>(consumed::addAll);
+        channel.start("Results");
+        channel.close();
+        // When
+        channel.publish(1);
+        // Then
+        assertThat(consumed, contains(1));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -19,15 +19,21 @@
  */
 package org.zaproxy.addon.client.internal;
 
+import java.awt.EventQueue;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.MutableTreeNode;
 import javax.swing.tree.TreeNode;
 import net.sf.json.JSONObject;
 import org.apache.logging.log4j.LogManager;
@@ -62,6 +68,10 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
     private final List<ClientMapListener> listeners = new CopyOnWriteArrayList<>();
     private final Graph<ClientGraphVertex, DefaultEdge> graph =
             new DirectedMultigraph<>(DefaultEdge.class);
+    // The nodes already found, by node path (the query values are not part of it, so it has at
+    // most one entry per node), cleared when any node is removed
+    private final Map<NodeKey, ClientNode> nodeIndex = new ConcurrentHashMap<>();
+    private final Set<ClientNode> pendingStructureChanges = new LinkedHashSet<>();
 
     public ClientMap(ClientNode root) {
         super(root);
@@ -96,12 +106,12 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
         return this.getNode(url, visited, storage, false, false, 0);
     }
 
-    private synchronized ClientNode getNode(
+    private ClientNode getNode(
             String url, boolean visited, boolean storage, boolean add, boolean publishEvent) {
         return getNode(url, visited, storage, add, publishEvent, 0);
     }
 
-    private synchronized ClientNode getNode(
+    private ClientNode getNode(
             String url,
             boolean visited,
             boolean storage,
@@ -113,9 +123,42 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
         }
         List<String> nodeNames =
                 ClientUtils.urlToNodes(url, root.getSession().getUrlParamParser(url));
+        NodeKey nodeKey = new NodeKey(nodeNames, storage);
+        ClientNode node = nodeIndex.get(nodeKey);
+        if (node != null) {
+            return node;
+        }
+
+        NodeLookup lookup = findNode(url, nodeKey, visited, add, publishEvent);
+        NodeAdded nodeAdded = lookup.nodeAdded();
+        if (nodeAdded != null) {
+            // Notified outside the lock, the listeners might take a while
+            Map<String, String> map = new HashMap<>();
+            map.put(URL_KEY, url);
+            map.put(DEPTH_KEY, Integer.toString(nodeAdded.depth()));
+            map.put(SIBLINGS_KEY, Integer.toString(nodeAdded.siblings()));
+            ZAP.getEventBus()
+                    .publishSyncEvent(
+                            this, new Event(this, MAP_NODE_ADDED_EVENT, new Target(), map));
+            listeners.forEach(
+                    l -> l.nodeAdded(url, nodeAdded.depth(), nodeAdded.siblings(), source));
+        }
+        return lookup.node();
+    }
+
+    private synchronized NodeLookup findNode(
+            String url, NodeKey nodeKey, boolean visited, boolean add, boolean publishEvent) {
+        ClientNode indexedNode = nodeIndex.get(nodeKey);
+        if (indexedNode != null) {
+            return new NodeLookup(indexedNode, null);
+        }
+
+        List<String> nodeNames = nodeKey.nodeNames();
+        boolean storage = nodeKey.storage();
 
         ClientNode parent = root;
         ClientNode child = null;
+        NodeAdded nodeAdded = null;
 
         for (int i = 0; i < nodeNames.size(); i++) {
             String nodeName = nodeNames.get(i);
@@ -123,7 +166,7 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
             child = parent.getChild(nodeName, lastComponent && storage);
             if (child == null) {
                 if (!add) {
-                    return null;
+                    return new NodeLookup(null, null);
                 }
                 if (lastComponent) {
                     child =
@@ -131,18 +174,9 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
                                     new ClientSideDetails(nodeName, url, visited, storage),
                                     storage);
                     if (!storage && publishEvent) {
-                        int depth = parent.getLevel() + 1;
-                        int siblings = parent.getChildCount() + 1;
-                        Map<String, String> map = new HashMap<>();
-                        map.put(URL_KEY, url);
                         // Note we haven't added the child to the parent yet
-                        map.put(DEPTH_KEY, Integer.toString(depth));
-                        map.put(SIBLINGS_KEY, Integer.toString(siblings));
-                        ZAP.getEventBus()
-                                .publishSyncEvent(
-                                        this,
-                                        new Event(this, MAP_NODE_ADDED_EVENT, new Target(), map));
-                        listeners.forEach(l -> l.nodeAdded(url, depth, siblings, source));
+                        nodeAdded =
+                                new NodeAdded(parent.getLevel() + 1, parent.getChildCount() + 1);
                     }
                 } else {
                     // Create intermediate node with a suitable URL
@@ -176,11 +210,47 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
                                     new ClientSideDetails(nodeName, nodeUrl, false, false), false);
                 }
                 this.insertNodeInto(child, parent);
-                this.nodeStructureChanged(parent);
+                structureChanged(parent);
             }
             parent = child;
         }
-        return child;
+        if (child != null) {
+            nodeIndex.put(nodeKey, child);
+        }
+        return new NodeLookup(child, nodeAdded);
+    }
+
+    /**
+     * Notifies that the structure of the given node changed.
+     *
+     * <p>When the view is initialised the notifications are done in batches in the EDT, so that a
+     * node with many children added in a short time is refreshed just once.
+     */
+    private void structureChanged(ClientNode node) {
+        if (!View.isInitialised()) {
+            nodeStructureChanged(node);
+            return;
+        }
+        synchronized (pendingStructureChanges) {
+            if (pendingStructureChanges.isEmpty()) {
+                EventQueue.invokeLater(this::notifyPendingStructureChanges);
+            }
+            pendingStructureChanges.add(node);
+        }
+    }
+
+    private void notifyPendingStructureChanges() {
+        List<ClientNode> nodes;
+        synchronized (pendingStructureChanges) {
+            nodes = new ArrayList<>(pendingStructureChanges);
+            pendingStructureChanges.clear();
+        }
+        for (ClientNode node : nodes) {
+            // Ignore the nodes removed in the meantime
+            if (node.getRoot() == root) {
+                nodeStructureChanged(node);
+            }
+        }
     }
 
     public void deleteNodes(List<ClientNode> nodes) {
@@ -191,8 +261,26 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
         }
     }
 
+    @Override
+    public void removeNodeFromParent(MutableTreeNode node) {
+        synchronized (this) {
+            super.removeNodeFromParent(node);
+            nodeIndex.clear();
+        }
+    }
+
+    int getIndexSize() {
+        return nodeIndex.size();
+    }
+
     public void clear() {
-        root.removeAllChildren();
+        synchronized (this) {
+            root.removeAllChildren();
+            nodeIndex.clear();
+        }
+        synchronized (pendingStructureChanges) {
+            pendingStructureChanges.clear();
+        }
         this.nodeStructureChanged(root);
         synchronized (graph) {
             graph.removeAllVertices(new HashSet<>(graph.vertexSet()));
@@ -433,6 +521,12 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
     private static boolean isApiUrl(String url) {
         return url != null && (url.startsWith(API.API_URL) || url.startsWith(API.API_URL_S));
     }
+
+    private record NodeKey(List<String> nodeNames, boolean storage) {}
+
+    private record NodeAdded(int depth, int siblings) {}
+
+    private record NodeLookup(ClientNode node, NodeAdded nodeAdded) {}
 }
 
 /**
@@ -21,7 +21,10 @@ package org.zaproxy.addon.client.internal;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.MutableTreeNode;
 import org.parosproxy.paros.model.Session;
 
 @SuppressWarnings("serial")
@@ -30,6 +33,8 @@ public class ClientNode extends DefaultMutableTreeNode {
     private static final long serialVersionUID = 1L;
     private boolean storage;
     private Session session;
+    // Index of the children, to find them without going through all of them
+    private final Map<ChildKey, ClientNode> childrenIndex = new ConcurrentHashMap<>();
 
     public ClientNode(ClientSideDetails userObject, Session session) {
         super(userObject);
@@ -57,13 +62,36 @@ public class ClientNode extends DefaultMutableTreeNode {
     }
 
     public ClientNode getChild(String name, boolean isStorage) {
-        for (int i = 0; i < getChildCount(); i++) {
-            ClientNode child = getChildAt(i);
-            if (isStorage == child.isStorage() && name.equals(child.getUserObject().getName())) {
-                return child;
+        return childrenIndex.get(new ChildKey(name, isStorage));
+    }
+
+    @Override
+    public void insert(MutableTreeNode newChild, int childIndex) {
+        super.insert(newChild, childIndex);
+        if (newChild instanceof ClientNode child) {
+            childrenIndex.putIfAbsent(child.getChildKey(), child);
+        }
+    }
+
+    @Override
+    public void remove(int childIndex) {
+        ClientNode child = getChildAt(childIndex);
+        super.remove(childIndex);
+        ChildKey key = child.getChildKey();
+        if (childrenIndex.remove(key, child)) {
+            // Index a remaining child with the same name, if any
+            for (int i = 0; i < getChildCount(); i++) {
+                ClientNode other = getChildAt(i);
+                if (key.equals(other.getChildKey())) {
+                    childrenIndex.put(key, other);
+                    break;
+                }
             }
         }
-        return null;
+    }
+
+    private ChildKey getChildKey() {
+        return new ChildKey(getUserObject().getName(), storage);
     }
 
     public boolean isStorage() {
@@ -125,4 +153,6 @@ public class ClientNode extends DefaultMutableTreeNode {
     public String toString() {
         return getUserObject().getUrl();
     }
+
+    private record ChildKey(String name, boolean storage) {}
 }
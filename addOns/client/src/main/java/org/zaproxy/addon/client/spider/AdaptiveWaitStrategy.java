@@ -25,14 +25,21 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.zaproxy.addon.client.internal.ClientSideComponent;
 import org.zaproxy.addon.client.spider.ClientSpider.WebDriverProcess;
 
+/**
+ * A wait strategy that waits until the browser is quiet, that is, no in-scope requests are in
+ * flight and no nodes or components were added to the Client Map by the browser for a short
+ * period, up to a hard limit.
+ *
+ * <p>The wait is woken up by the activity, instead of polling, so that it ends as soon as the quiet
+ * period is reached.
+ */
 public class AdaptiveWaitStrategy implements ActionWaitStrategy {
 
     private static final Logger LOGGER = LogManager.getLogger(AdaptiveWaitStrategy.class);
 
-    static final long POLL_INTERVAL_MS = 50;
-
     static final long QUIESCE_THRESHOLD_WITH_PAGE_LOAD_MS = 100;
     static final long QUIESCE_THRESHOLD_NO_PAGE_LOAD_MS = 50;
 
@@ -42,6 +49,8 @@ public class AdaptiveWaitStrategy implements ActionWaitStrategy {
     private final Predicate<String> urlInScope;
     private final AtomicInteger inflightInScopeCount = new AtomicInteger();
     private final Set<String> visitedUrls;
+    private final Object activityLock = new Object();
+    private long lastActivity;
 
     private volatile int proxyPort;
     private volatile boolean pageLoadReceived;
@@ -66,13 +75,46 @@ public class AdaptiveWaitStrategy implements ActionWaitStrategy {
     public void onRequestStarted(String url) {
         if (urlInScope.test(url)) {
             inflightInScopeCount.incrementAndGet();
+            activity();
         }
     }
 
     @Override
     public void onRequestCompleted(String url) {
         if (urlInScope.test(url)) {
-            inflightInScopeCount.decrementAndGet();
+            // The count is reset after each wait, ignore the requests started before.
+            inflightInScopeCount.updateAndGet(count -> count > 0 ? count - 1 : 0);
+            activity();
+        }
+    }
+
+    @Override
+    public void nodeAdded(String url, int depth, int siblings, int source) {
+        if (source == proxyPort) {
+            activity();
+        }
+    }
+
+    @Override
+    public void componentAdded(
+            ClientSideComponent component, int depth, int siblings, int source) {
+        if (source == proxyPort) {
+            activity();
+        }
+    }
+
+    @Override
+    public void componentStateChanged(
+            ClientSideComponent component, int depth, int siblings, int source) {
+        if (source == proxyPort) {
+            activity();
+        }
+    }
+
+    private void activity() {
+        synchronized (activityLock) {
+            lastActivity = System.currentTimeMillis();
+            activityLock.notifyAll();
         }
     }
 
@@ -100,49 +142,50 @@ public class AdaptiveWaitStrategy implements ActionWaitStrategy {
 
     private boolean waitForStability(boolean instanceFirst, boolean urlFirstAccess) {
         long start = System.currentTimeMillis();
-        long quiesceStart = -1;
-
-        while (true) {
-            long now = System.currentTimeMillis();
-            if (now - start >= timeoutMs) {
-                LOGGER.debug("Adaptive wait timeout reached after {}ms", timeoutMs);
-                break;
-            }
-
-            int inflight = inflightInScopeCount.get();
-            if (inflight == 0) {
-                if (quiesceStart < 0) {
-                    quiesceStart = now;
-                }
-                long threshold;
-                if (instanceFirst) {
-                    threshold = initialLoadTimeMs;
-                } else if (urlFirstAccess) {
-                    threshold = quiesceFirstAccessMs;
-                } else {
-                    threshold =
-                            pageLoadReceived
-                                    ? QUIESCE_THRESHOLD_WITH_PAGE_LOAD_MS
-                                    : QUIESCE_THRESHOLD_NO_PAGE_LOAD_MS;
+        long deadline = start + timeoutMs;
+
+        try {
+            synchronized (activityLock) {
+                while (true) {
+                    long now = System.currentTimeMillis();
+                    if (now >= deadline) {
+                        LOGGER.debug("Adaptive wait timeout reached after {}ms", timeoutMs);
+                        break;
+                    }
+
+                    long waitTime = deadline - now;
+                    if (inflightInScopeCount.get() == 0) {
+                        long quietTime = now - Math.max(start, lastActivity);
+                        long remaining =
+                                getQuiesceThreshold(instanceFirst, urlFirstAccess) - quietTime;
+                        if (remaining <= 0) {
+                            break;
+                        }
+                        waitTime = Math.min(waitTime, remaining);
+                    }
+                    activityLock.wait(waitTime);
                 }
-                if (now - quiesceStart >= threshold) {
-                    break;
-                }
-            } else {
-                quiesceStart = -1;
-            }
-
-            try {
-                Thread.sleep(POLL_INTERVAL_MS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                LOGGER.debug("Interrupted while waiting for stability.");
-                pageLoadReceived = false;
-                return false;
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Interrupted while waiting for stability.");
+            pageLoadReceived = false;
+            return false;
         }
         inflightInScopeCount.set(0);
         pageLoadReceived = false;
         return true;
     }
+
+    private long getQuiesceThreshold(boolean instanceFirst, boolean urlFirstAccess) {
+        if (instanceFirst) {
+            return initialLoadTimeMs;
+        }
+        if (urlFirstAccess) {
+            return quiesceFirstAccessMs;
+        }
+        return pageLoadReceived
+                ? QUIESCE_THRESHOLD_WITH_PAGE_LOAD_MS
+                : QUIESCE_THRESHOLD_NO_PAGE_LOAD_MS;
+    }
 }
@@ -64,7 +64,6 @@ import org.parosproxy.paros.network.HttpHeader;
 import org.parosproxy.paros.network.HttpMalformedHeaderException;
 import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.network.HttpResponseHeader;
-import org.parosproxy.paros.network.HttpSender;
 import org.parosproxy.paros.network.HttpStatusCode;
 import org.zaproxy.addon.client.ExtensionClientIntegration;
 import org.zaproxy.addon.client.internal.ClientMap;
@@ -80,11 +79,9 @@ import org.zaproxy.addon.client.spider.actions.FollowGraph;
 import org.zaproxy.addon.client.spider.actions.SubmitForm;
 import org.zaproxy.addon.commonlib.AuthConstants;
 import org.zaproxy.addon.commonlib.ValueProvider;
-import org.zaproxy.addon.network.ExtensionNetwork;
 import org.zaproxy.addon.network.server.HttpMessageHandler;
 import org.zaproxy.addon.network.server.HttpMessageHandlerContext;
-import org.zaproxy.addon.network.server.HttpServerConfig;
-import org.zaproxy.addon.network.server.Server;
+import org.zaproxy.zap.extension.selenium.BrowserPool;
 import org.zaproxy.zap.extension.selenium.DriverConfiguration;
 import org.zaproxy.zap.extension.selenium.DriverConfiguration.DriverConfigurationBuilder;
 import org.zaproxy.zap.extension.selenium.ExtensionSelenium;
@@ -134,7 +131,6 @@ public class ClientSpider implements GenericScanner2 {
     private ExtensionClientIntegration extClient;
     private final ClientMap clientMap;
     private final ExtensionSelenium extSelenium;
-    private final ExtensionNetwork extensionNetwork;
 
     private final Session session;
     private final List<String> exclusionList;
@@ -226,7 +222,6 @@ public class ClientSpider implements GenericScanner2 {
         clientMap.addListener(clientMapListener);
 
         extSelenium = getExtension(ExtensionSelenium.class);
-        extensionNetwork = getExtension(ExtensionNetwork.class);
 
         exclusionList = new ArrayList<>();
         exclusionList.addAll(session.getExcludeFromSpiderRegexs());
@@ -1077,9 +1072,7 @@ public class ClientSpider implements GenericScanner2 {
     @Getter
     public class WebDriverProcess {
 
-        private static final String LOCAL_PROXY_IP = "127.0.0.1";
-
-        private Server proxy;
+        private BrowserPool.Lease lease;
         private WebDriver webDriver;
         private final int proxyPort;
         private final ActionWaitStrategy waitStrategy;
@@ -1089,29 +1082,9 @@ public class ClientSpider implements GenericScanner2 {
             this.waitStrategy = createWaitStrategy();
             this.proxyHandler = new ProxyHandler(waitStrategy);
             int initiator = scanOptions.getInitiator();
-            HttpSender httpSender = scanOptions.getHttpSender();
-            if (httpSender == null) {
-                httpSender = new HttpSender(initiator);
-            }
-            proxy =
-                    extensionNetwork.createHttpServer(
-                            HttpServerConfig.builder()
-                                    .setHttpMessageHandler(proxyHandler)
-                                    .setHttpSender(httpSender)
-                                    .setServeZapApi(true)
-                                    .build());
-            proxyPort = proxy.start(Server.ANY_PORT);
-            proxyPorts.add(proxyPort);
-            extClient.registerPortInitiator(proxyPort, initiator);
-
-            clientMap.addListener(waitStrategy);
 
             DriverConfigurationBuilder driverConfBuilder =
-                    DriverConfiguration.builder()
-                            .requester(initiator)
-                            .proxyAddress(LOCAL_PROXY_IP)
-                            .proxyPort(proxyPort)
-                            .enableExtensions(true);
+                    DriverConfiguration.builder().requester(initiator).enableExtensions(true);
             if (!scanOptions.getIncludeExtensions().isEmpty()) {
                 driverConfBuilder.includeExtensions(scanOptions.getIncludeExtensions());
             }
@@ -1119,21 +1092,47 @@ public class ClientSpider implements GenericScanner2 {
                 driverConfBuilder.excludeExtensions(scanOptions.getExcludeExtensions());
             }
 
+            // The browser might be reused, the port is registered before launching a new one.
+            AtomicInteger launchPort = new AtomicInteger(-1);
             try {
-                webDriver =
-                        extSelenium.getWebDriver(options.getBrowserId(), driverConfBuilder.build());
-                if (ScopeCheck.STRICT.equals(options.getScopeCheck())
-                        || mode == Control.Mode.protect) {
-                    proxyHandler.setAllowAll(false);
+                lease =
+                        extSelenium
+                                .getBrowserPool()
+                                .lease(
+                                        options.getBrowserId(),
+                                        driverConfBuilder.build(),
+                                        scanOptions.getHttpSender(),
+                                        proxyHandler,
+                                        port -> {
+                                            launchPort.set(port);
+                                            registerProxyPort(port, initiator);
+                                        });
+            } catch (IOException | RuntimeException e) {
+                if (launchPort.get() != -1) {
+                    proxyPorts.remove(launchPort.get());
+                    extClient.unregisterPortInitiator(launchPort.get());
                 }
-            } catch (Exception e) {
-                closeProxy();
                 throw e;
             }
+            proxyPort = lease.getProxyPort();
+            if (launchPort.get() != proxyPort) {
+                registerProxyPort(proxyPort, initiator);
+            }
+            webDriver = lease.getWebDriver();
+            if (ScopeCheck.STRICT.equals(options.getScopeCheck())
+                    || mode == Control.Mode.protect) {
+                proxyHandler.setAllowAll(false);
+            }
 
+            clientMap.addListener(waitStrategy);
             waitStrategy.configure(this);
         }
 
+        private void registerProxyPort(int port, int initiator) {
+            proxyPorts.add(port);
+            extClient.registerPortInitiator(port, initiator);
+        }
+
         private ActionWaitStrategy createWaitStrategy() {
             if (options.getPageLoadTimeInSecs() == 0 && options.getActionWaitTimeInSecs() == 0) {
                 return new AdaptiveWaitStrategy(
@@ -1145,30 +1144,19 @@ public class ClientSpider implements GenericScanner2 {
                     Duration.ofSeconds(options.getActionWaitTimeInSecs()));
         }
 
-        private void closeProxy() {
-            if (proxy != null) {
-                extClient.unregisterPortInitiator(proxyPort);
-                clientMap.removeListener(waitStrategy);
-                try {
-                    proxy.close();
-                } catch (IOException e) {
-                    LOGGER.debug("An error occurred while stopping the proxy.", e);
-                }
-                proxy = null;
-            }
-        }
-
         private void shutdown() {
-            if (webDriver != null) {
-                try {
-                    extClient.browserClosing(webDriver);
-                    webDriver.quit();
-                } catch (Exception e) {
-                    LOGGER.warn("An error occurred while quitting the browser.", e);
-                }
+            if (lease == null) {
+                return;
             }
-
-            closeProxy();
+            try {
+                extClient.browserClosing(webDriver);
+            } catch (Exception e) {
+                LOGGER.warn("An error occurred while closing the browser.", e);
+            }
+            extClient.unregisterPortInitiator(proxyPort);
+            clientMap.removeListener(waitStrategy);
+            lease.close();
+            lease = null;
         }
     }
 
@@ -22,8 +22,10 @@ package org.zaproxy.addon.client.internal;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -38,6 +40,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -145,6 +148,75 @@ class ClientMapUnitTest extends TestUtils {
         assertThat(e.getMessage(), is("The url parameter should not be null"));
     }
 
+    @Test
+    void shouldGetSameNodeForSameUrl() {
+        // Given
+        ClientNode node = map.getOrAddNode(BBB_AAA_URL, false, false);
+
+        // When
+        ClientNode sameNode = map.getNode(BBB_AAA_URL, false, false);
+
+        // Then
+        assertThat(sameNode, is(node));
+        verify(listener, times(1)).nodeAdded(any(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void shouldNotGetNodeDeleted() {
+        // Given
+        ClientNode node = map.getOrAddNode(BBB_AAA_URL, false, false);
+
+        // When
+        map.deleteNodes(List.of(node));
+
+        // Then
+        assertThat(map.getNode(BBB_AAA_URL, false, false), is(nullValue()));
+    }
+
+    @Test
+    void shouldAddNodeAgainAfterDeleted() {
+        // Given
+        ClientNode node = map.getOrAddNode(BBB_AAA_URL, false, false);
+        map.deleteNodes(List.of(node));
+
+        // When
+        ClientNode newNode = map.getOrAddNode(BBB_AAA_URL, false, false);
+
+        // Then
+        assertThat(newNode, is(notNullValue()));
+        assertThat(newNode, is(not(sameInstance(node))));
+        assertThat(root.getChildAt(0).getChildCount(), is(1));
+    }
+
+    @Test
+    void shouldIndexSameNodeOnceForDifferentParamValues() {
+        // Given
+        ClientNode node = map.getOrAddNode("https://www.example.com/aaa?id=1", false, false);
+
+        // When
+        for (int i = 2; i < 10; i++) {
+            assertThat(
+                    map.getOrAddNode("https://www.example.com/aaa?id=" + i, false, false),
+                    is(sameInstance(node)));
+        }
+
+        // Then
+        assertThat(map.getIndexSize(), is(1));
+    }
+
+    @Test
+    void shouldNotGetNodesAfterClear() {
+        // Given
+        map.getOrAddNode(BBB_AAA_URL, false, false);
+
+        // When
+        map.clear();
+
+        // Then
+        assertThat(map.getNode(BBB_AAA_URL, false, false), is(nullValue()));
+        assertThat(root.getChildCount(), is(0));
+    }
+
     @Test
     void shouldHandleBaseSiteSlashFragmentSlash() {
         // Given / When
@@ -128,6 +128,22 @@ class ClientNodeUnitTest {
         assertThat(child.getUserObject().isStorage(), is(true));
     }
 
+    @Test
+    void shouldNotGetChildRemoved() {
+        // Given
+        map.getOrAddNode(EXAMPLE_COM, false, false);
+        map.getOrAddNode(EXAMPLE_COM + "/aa", false, false);
+        ClientNode site = root.getChild(EXAMPLE_COM, false);
+        ClientNode child = site.getChild("aa", false);
+
+        // When
+        map.removeNodeFromParent(child);
+
+        // Then
+        assertNull(site.getChild("aa", false));
+        assertThat(site.getChildCount(), is(0));
+    }
+
     @Test
     void shouldGetSite() {
         // Given
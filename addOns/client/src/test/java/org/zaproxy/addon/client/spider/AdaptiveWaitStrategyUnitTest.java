@@ -470,6 +470,67 @@ class AdaptiveWaitStrategyUnitTest {
         assertThat(elapsed, lessThan(INITIAL_PAGE_LOAD_TIME_MS));
     }
 
+    @Test
+    void shouldWaitWhileNodesAreAddedByBrowser() {
+        // Given
+        scheduler.schedule(
+                () -> strategy.nodeAdded(IN_SCOPE_URL, 1, 0, PROXY_PORT),
+                30,
+                TimeUnit.MILLISECONDS);
+        scheduler.schedule(
+                () -> strategy.nodeAdded(IN_SCOPE_URL + "/a", 1, 0, PROXY_PORT),
+                60,
+                TimeUnit.MILLISECONDS);
+
+        // When
+        long start = System.currentTimeMillis();
+        boolean result = strategy.waitAfterAction();
+
+        // Then
+        long elapsed = elapsed(start);
+        assertThat(result, is(true));
+        assertThat(
+                elapsed,
+                greaterThanOrEqualTo(60 + AdaptiveWaitStrategy.QUIESCE_THRESHOLD_NO_PAGE_LOAD_MS));
+        assertThat(elapsed, lessThan(QUIESCE_THRESHOLD_FIRST_ACCESS_MS));
+    }
+
+    @Test
+    void shouldIgnoreNodesAddedByOtherBrowsers() {
+        // Given
+        scheduler.schedule(
+                () -> strategy.nodeAdded(IN_SCOPE_URL, 1, 0, PROXY_PORT + 1),
+                30,
+                TimeUnit.MILLISECONDS);
+
+        // When
+        long start = System.currentTimeMillis();
+        boolean result = strategy.waitAfterAction();
+
+        // Then
+        long elapsed = elapsed(start);
+        assertThat(result, is(true));
+        assertThat(
+                elapsed,
+                greaterThanOrEqualTo(AdaptiveWaitStrategy.QUIESCE_THRESHOLD_NO_PAGE_LOAD_MS));
+        assertWithMargin(elapsed, AdaptiveWaitStrategy.QUIESCE_THRESHOLD_NO_PAGE_LOAD_MS);
+    }
+
+    @Test
+    void shouldNotWaitForTimeoutIfRequestCompletedAfterReset() {
+        // Given
+        strategy.onRequestCompleted(IN_SCOPE_URL);
+
+        // When
+        long start = System.currentTimeMillis();
+        boolean result = strategy.waitAfterAction();
+
+        // Then
+        long elapsed = elapsed(start);
+        assertThat(result, is(true));
+        assertWithMargin(elapsed, AdaptiveWaitStrategy.QUIESCE_THRESHOLD_WITH_PAGE_LOAD_MS);
+    }
+
     private static long elapsed(long start) {
         return System.currentTimeMillis() - start;
     }
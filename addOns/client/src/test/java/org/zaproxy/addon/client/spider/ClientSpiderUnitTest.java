@@ -25,7 +25,6 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
@@ -48,6 +47,7 @@ import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.stream.Stream;
 import org.apache.commons.httpclient.URI;
 import org.apache.logging.log4j.Level;
@@ -98,12 +98,9 @@ import org.zaproxy.addon.client.internal.InteractableState;
 import org.zaproxy.addon.client.internal.graph.ClientGraphVertex;
 import org.zaproxy.addon.commonlib.ValueProvider;
 import org.zaproxy.addon.commonlib.http.HttpFieldsNames;
-import org.zaproxy.addon.network.ExtensionNetwork;
 import org.zaproxy.addon.network.server.HttpMessageHandler;
 import org.zaproxy.addon.network.server.HttpMessageHandlerContext;
-import org.zaproxy.addon.network.server.HttpServerConfig;
-import org.zaproxy.addon.network.server.Server;
-import org.zaproxy.zap.extension.selenium.DriverConfiguration;
+import org.zaproxy.zap.extension.selenium.BrowserPool;
 import org.zaproxy.zap.extension.selenium.ExtensionSelenium;
 import org.zaproxy.zap.testutils.TestUtils;
 import org.zaproxy.zap.utils.ZapXmlConfiguration;
@@ -123,8 +120,8 @@ class ClientSpiderUnitTest extends TestUtils {
     private ExtensionSelenium extSel;
     private ExtensionClientIntegration extClient;
     private Session session;
-    private ExtensionNetwork network;
-    private Server serverMock;
+    private BrowserPool browserPool;
+    private BrowserPool.Lease lease;
 
     private ClientSpider spider;
 
@@ -159,12 +156,7 @@ class ClientSpiderUnitTest extends TestUtils {
                 mock(ExtensionHistory.class, withSettings().strictness(Strictness.LENIENT));
         when(extensionLoader.getExtension(ExtensionHistory.class)).thenReturn(history);
         when(extensionLoader.getExtension(ExtensionSelenium.class)).thenReturn(extSel);
-        network = mock(ExtensionNetwork.class, withSettings().strictness(Strictness.LENIENT));
-        when(extensionLoader.getExtension(ExtensionNetwork.class)).thenReturn(network);
-        serverMock = mock(Server.class, withSettings().strictness(Strictness.LENIENT));
         proxyCdl = new CountDownLatch(1);
-        given(serverMock.start(anyInt())).willReturn(PROXY_PORT);
-        given(network.createHttpServer(any(HttpServerConfig.class))).willReturn(serverMock);
 
         wd = mock(withSettings().strictness(Strictness.LENIENT));
         WebElement wdElement =
@@ -188,7 +180,12 @@ class ClientSpiderUnitTest extends TestUtils {
                                         .defaultAnswer(CALLS_REAL_METHODS)
                                         .strictness(Strictness.LENIENT)));
 
-        when(extSel.getWebDriver(any(String.class), any(DriverConfiguration.class))).thenReturn(wd);
+        browserPool = mock(withSettings().strictness(Strictness.LENIENT));
+        given(extSel.getBrowserPool()).willReturn(browserPool);
+        lease = mock(withSettings().strictness(Strictness.LENIENT));
+        given(lease.getProxyPort()).willReturn(PROXY_PORT);
+        given(lease.getWebDriver()).willReturn(wd);
+        given(browserPool.lease(anyString(), any(), any(), any(), any())).willReturn(lease);
         given(extClient.getModel()).willReturn(model);
         session = mock(Session.class, withSettings().strictness(Strictness.LENIENT));
         given(model.getSession()).willReturn(session);
@@ -316,12 +313,14 @@ class ClientSpiderUnitTest extends TestUtils {
         clientMapListener();
         String urlFoundDuringStartup = "https://www.example.com/post-auth-page";
         CountDownLatch getWebDriverCdl = new CountDownLatch(1);
-        when(extSel.getWebDriver(any(String.class), any(DriverConfiguration.class)))
-                .thenAnswer(
+        given(browserPool.lease(anyString(), any(), any(), any(), any()))
+                .willAnswer(
                         invocation -> {
+                            IntConsumer proxyStartedListener = invocation.getArgument(4);
+                            proxyStartedListener.accept(PROXY_PORT);
                             mapListener.nodeAdded(urlFoundDuringStartup, 0, 0, PROXY_PORT);
                             getWebDriverCdl.countDown();
-                            return wd;
+                            return lease;
                         });
 
         // When
@@ -832,12 +831,12 @@ class ClientSpiderUnitTest extends TestUtils {
         redirectMessage.setResponseHeader("HTTP/1.1 302 Found");
         redirectMessage.getResponseHeader().setHeader(HttpFieldsNames.LOCATION, location);
 
-        ArgumentCaptor<HttpServerConfig> configCaptor = ArgumentCaptor.captor();
-        given(network.createHttpServer(configCaptor.capture())).willReturn(serverMock);
         spider.run();
         waitForProxy();
 
-        HttpMessageHandler handler = configCaptor.getValue().getHttpMessageHandler();
+        ArgumentCaptor<HttpMessageHandler> handlerCaptor = ArgumentCaptor.captor();
+        verify(browserPool).lease(anyString(), any(), any(), handlerCaptor.capture(), any());
+        HttpMessageHandler handler = handlerCaptor.getValue();
         HttpMessageHandlerContext ctx = mock(HttpMessageHandlerContext.class);
         given(ctx.isFromClient()).willReturn(false);
 
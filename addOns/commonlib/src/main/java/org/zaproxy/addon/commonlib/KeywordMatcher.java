@@ -0,0 +1,239 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * A matcher of several keywords at once, that scans the text only once regardless of the number of
+ * keywords (Aho-Corasick automaton).
+ *
+ * <p>The matcher is immutable and thread-safe, it should be created once and reused while the
+ * keywords do not change.
+ *
+ * @since 1.44.0
+ */
+public final class KeywordMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NO_STATE = -1;
+
+    private final List<String> keywords;
+    private final boolean ignoreCase;
+    private final boolean wholeWords;
+
+    private final int[] keywordLengths;
+    private final char[][] transitionChars;
+    private final int[][] transitionStates;
+    private final int[] failStates;
+    private final int[] outputStates;
+    private final int[][] stateKeywords;
+
+    private KeywordMatcher(List<String> keywords, boolean ignoreCase, boolean wholeWords) {
+        this.keywords = List.copyOf(keywords);
+        this.ignoreCase = ignoreCase;
+        this.wholeWords = wholeWords;
+
+        keywordLengths = new int[this.keywords.size()];
+        List<Map<Character, Integer>> transitions = new ArrayList<>();
+        List<List<Integer>> keywordsPerState = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        keywordsPerState.add(new ArrayList<>(1));
+        for (int i = 0; i < keywordLengths.length; i++) {
+            String keyword = this.keywords.get(i);
+            keywordLengths[i] = keyword.length();
+            int state = ROOT;
+            for (int j = 0; j < keyword.length(); j++) {
+                char c = normalise(keyword.charAt(j));
+                Integer next = transitions.get(state).get(c);
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.get(state).put(c, next);
+                    transitions.add(new TreeMap<>());
+                    keywordsPerState.add(new ArrayList<>(1));
+                }
+                state = next;
+            }
+            keywordsPerState.get(state).add(i);
+        }
+
+        int stateCount = transitions.size();
+        transitionChars = new char[stateCount][];
+        transitionStates = new int[stateCount][];
+        stateKeywords = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            Map<Character, Integer> stateTransitions = transitions.get(state);
+            transitionChars[state] = new char[stateTransitions.size()];
+            transitionStates[state] = new int[stateTransitions.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> entry : stateTransitions.entrySet()) {
+                transitionChars[state][i] = entry.getKey();
+                transitionStates[state][i] = entry.getValue();
+                i++;
+            }
+            stateKeywords[state] =
+                    keywordsPerState.get(state).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        failStates = new int[stateCount];
+        outputStates = new int[stateCount];
+        outputStates[ROOT] = NO_STATE;
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitionStates[ROOT]) {
+            failStates[child] = ROOT;
+            outputStates[child] = stateKeywords[ROOT].length != 0 ? ROOT : NO_STATE;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < transitionChars[state].length; i++) {
+                char c = transitionChars[state][i];
+                int child = transitionStates[state][i];
+                int fail = next(failStates[state], c);
+                failStates[child] = fail;
+                outputStates[child] = stateKeywords[fail].length != 0 ? fail : outputStates[fail];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Creates a matcher for the given keywords.
+     *
+     * <p>When ignoring the case the characters are compared with {@link
+     * Character#toLowerCase(char)}. When matching whole words the keywords must have a word
+     * boundary (as {@code \b} in a regular expression) before and after them.
+     *
+     * @param keywords the keywords to match, must not be {@code null} nor contain {@code null}
+     *     elements.
+     * @param ignoreCase {@code true} if the case should be ignored, {@code false} otherwise.
+     * @param wholeWords {@code true} if the keywords should match only whole words, {@code false}
+     *     otherwise.
+     * @return the matcher.
+     */
+    public static KeywordMatcher create(
+            List<String> keywords, boolean ignoreCase, boolean wholeWords) {
+        return new KeywordMatcher(keywords, ignoreCase, wholeWords);
+    }
+
+    /**
+     * Gets the keywords of the matcher, in the order given when created.
+     *
+     * @return an unmodifiable list with the keywords.
+     */
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Tells whether or not the matcher has no keywords, in which case it never matches.
+     *
+     * @return {@code true} if the matcher has no keywords, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return keywords.isEmpty();
+    }
+
+    /**
+     * Finds the first keyword, in the order given when created, that occurs in the given text.
+     *
+     * <p>The text is scanned once, the result is the same as checking each keyword in turn and
+     * returning the first occurrence of the first one found.
+     *
+     * @param text the text to search.
+     * @return the match, or {@code null} if none of the keywords occur in the text.
+     */
+    public Match find(CharSequence text) {
+        int bestKeyword = Integer.MAX_VALUE;
+        int bestStart = 0;
+        int length = text.length();
+        int state = ROOT;
+        for (int end = 0; end <= length; end++) {
+            if (end != 0) {
+                state = next(state, normalise(text.charAt(end - 1)));
+            }
+            int output = stateKeywords[state].length != 0 ? state : outputStates[state];
+            for (; output != NO_STATE; output = outputStates[output]) {
+                for (int keyword : stateKeywords[output]) {
+                    if (keyword >= bestKeyword) {
+                        break;
+                    }
+                    int start = end - keywordLengths[keyword];
+                    if (!wholeWords || (isBoundary(text, start) && isBoundary(text, end))) {
+                        bestKeyword = keyword;
+                        bestStart = start;
+                    }
+                }
+            }
+            if (bestKeyword == 0) {
+                break;
+            }
+        }
+        if (bestKeyword == Integer.MAX_VALUE) {
+            return null;
+        }
+        return new Match(bestKeyword, bestStart, bestStart + keywordLengths[bestKeyword]);
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int i = Arrays.binarySearch(transitionChars[state], c);
+            if (i >= 0) {
+                return transitionStates[state][i];
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failStates[state];
+        }
+    }
+
+    private char normalise(char c) {
+        return ignoreCase ? Character.toLowerCase(c) : c;
+    }
+
+    private static boolean isBoundary(CharSequence text, int index) {
+        return isWordChar(text, index - 1) != isWordChar(text, index);
+    }
+
+    private static boolean isWordChar(CharSequence text, int index) {
+        if (index < 0 || index >= text.length()) {
+            return false;
+        }
+        char c = text.charAt(index);
+        return c == '_' || Character.isLetterOrDigit(c);
+    }
+
+    /**
+     * A match of a keyword.
+     *
+     * @param keyword the index of the keyword matched, in the order given when created.
+     * @param start the start index of the match in the text, inclusive.
+     * @param end the end index of the match in the text, exclusive.
+     * @since 1.44.0
+     */
+    public record Match(int keyword, int start, int end) {}
+}
@@ -88,6 +88,12 @@ public class ComparableResponse {
     private Map<String, Integer> allPaths;
     private int numPaths;
 
+    // Body derived values, computed once as the same response is usually compared many times.
+    private int wordCount = -1;
+    private int lineCount = -1;
+    private int[] relevantKeywordsCounts;
+    private int ownReflectionsCount = -1;
+
     // Use variables instead of constants to be able to tune it depending on the differences on
     // normal request replay.
     private float statusCodeWeight = STATUS_CODE_WEIGHT;
@@ -252,15 +258,16 @@ public class ComparableResponse {
             ComparableResponse response1, ComparableResponse response2) {
         float nRelevantKeywordsR1 = 0;
         float nRelevantKeywordsR2 = 0;
-        for (String keyword : RELEVANT_KEYWORDS) {
+        int[] keywordsCountsR1 = response1.getRelevantKeywordsCounts();
+        int[] keywordsCountsR2 = response2.getRelevantKeywordsCounts();
+        for (int i = 0; i < RELEVANT_KEYWORDS.size(); i++) {
+            String keyword = RELEVANT_KEYWORDS.get(i);
             if (keyword.equalsIgnoreCase(response1.getValueSent())
                     || keyword.equalsIgnoreCase(response2.getValueSent())) {
                 continue;
             }
-            nRelevantKeywordsR1 +=
-                    StringUtils.countMatches(response1.body.toLowerCase(), keyword.toLowerCase());
-            nRelevantKeywordsR2 +=
-                    StringUtils.countMatches(response2.body.toLowerCase(), keyword.toLowerCase());
+            nRelevantKeywordsR1 += keywordsCountsR1[i];
+            nRelevantKeywordsR2 += keywordsCountsR2[i];
         }
 
         if (nRelevantKeywordsR1 > nRelevantKeywordsR2) {
@@ -287,10 +294,8 @@ public class ComparableResponse {
         String bodyResp1 = response1.body;
         String bodyResp2 = response2.body;
 
-        int nReflectionsPayload1in1 = StringUtils.countMatches(bodyResp1, req1Value);
-        nReflectionsPayload1in1 += StringUtils.countMatches(bodyResp1, escapeHtml4(req1Value));
-        int nReflectionsPayload2in2 = StringUtils.countMatches(bodyResp2, req2Value);
-        nReflectionsPayload2in2 += StringUtils.countMatches(bodyResp2, escapeHtml4(req2Value));
+        int nReflectionsPayload1in1 = response1.getOwnReflectionsCount();
+        int nReflectionsPayload2in2 = response2.getOwnReflectionsCount();
 
         // In case one payload is a substring of the other it will appear but it is not fixed
         // so we need to remove the payload from the body to know the ones that are independent
@@ -331,8 +336,8 @@ public class ComparableResponse {
      */
     public static float wordCountHeuristic(
             ComparableResponse response1, ComparableResponse response2) {
-        float nWords1 = WORD_SPLIT_PATTERN.split(response1.body).length;
-        float nWords2 = WORD_SPLIT_PATTERN.split(response2.body).length;
+        float nWords1 = response1.getWordCount();
+        float nWords2 = response2.getWordCount();
 
         if (nWords1 > nWords2) {
             return nWords2 / nWords1;
@@ -352,8 +357,8 @@ public class ComparableResponse {
      */
     public static float lineCountHeuristic(
             ComparableResponse response1, ComparableResponse response2) {
-        float nLinesR1 = CRLF_SPLIT_PATTERN.split(response1.body).length;
-        float nLinesR2 = CRLF_SPLIT_PATTERN.split(response2.body).length;
+        float nLinesR1 = response1.getLineCount();
+        float nLinesR2 = response2.getLineCount();
 
         if (nLinesR1 > nLinesR2) {
             return nLinesR2 / nLinesR1;
@@ -461,6 +466,51 @@ public class ComparableResponse {
         return 0;
     }
 
+    private synchronized int getWordCount() {
+        if (wordCount == -1) {
+            wordCount = WORD_SPLIT_PATTERN.split(body).length;
+        }
+        return wordCount;
+    }
+
+    private synchronized int getLineCount() {
+        if (lineCount == -1) {
+            lineCount = CRLF_SPLIT_PATTERN.split(body).length;
+        }
+        return lineCount;
+    }
+
+    /**
+     * Gets the number of occurrences of each of the {@link #RELEVANT_KEYWORDS}, in the same order.
+     *
+     * @return the counts of the relevant keywords.
+     */
+    private synchronized int[] getRelevantKeywordsCounts() {
+        if (relevantKeywordsCounts == null) {
+            String lowerCaseBody = body.toLowerCase();
+            int[] counts = new int[RELEVANT_KEYWORDS.size()];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = StringUtils.countMatches(lowerCaseBody, RELEVANT_KEYWORDS.get(i));
+            }
+            relevantKeywordsCounts = counts;
+        }
+        return relevantKeywordsCounts;
+    }
+
+    /**
+     * Gets the number of reflections of the value sent in the body, plain and HTML escaped.
+     *
+     * @return the number of reflections of the value sent.
+     */
+    private synchronized int getOwnReflectionsCount() {
+        if (ownReflectionsCount == -1) {
+            ownReflectionsCount =
+                    StringUtils.countMatches(body, valueSent)
+                            + StringUtils.countMatches(body, escapeHtml4(valueSent));
+        }
+        return ownReflectionsCount;
+    }
+
     /**
      * @return all The Possible Paths.
      */
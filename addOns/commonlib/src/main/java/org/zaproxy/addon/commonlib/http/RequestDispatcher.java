@@ -0,0 +1,231 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.http;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A dispatcher of requests, sends them with a bounded number of threads and limits the number of
+ * requests sent concurrently to the same host.
+ *
+ * <p>The results are handled in the thread that submits the requests and in the order the requests
+ * were submitted, a bounded number of requests is sent ahead of the ones being handled. With just
+ * one thread the requests are sent and handled in the calling thread.
+ *
+ * <p>The dispatcher should be used by a single thread and closed once all the requests were
+ * submitted, to handle the remaining results and release the threads. It can be stopped from any
+ * thread, for example, by a request that failed.
+ *
+ * <p>If a request throws an exception the requests still pending are cancelled and the exception
+ * is rethrown to the caller, when submitting or closing, as if the request was sent in the calling
+ * thread.
+ *
+ * @param <R> the type of the results of the requests.
+ * @since 1.44.0
+ */
+public class RequestDispatcher<R> implements AutoCloseable {
+
+    private final int threadCount;
+    private final int maxRequestsPerHost;
+    private final Consumer<R> resultHandler;
+    private final ExecutorService executor;
+    private final Map<String, Semaphore> hostPermits;
+    private final Deque<Future<R>> pending;
+    private volatile boolean stopped;
+
+    /**
+     * Constructs a {@code RequestDispatcher} with the given number of threads and requests per
+     * host.
+     *
+     * @param threadNamePrefix the prefix of the names of the threads.
+     * @param threadCount the number of threads, values lower than 1 are treated as 1.
+     * @param maxRequestsPerHost the maximum number of requests sent concurrently to the same host,
+     *     values lower than 1 mean no limit other than the number of threads.
+     * @param resultHandler the handler of the results of the requests.
+     */
+    public RequestDispatcher(
+            String threadNamePrefix,
+            int threadCount,
+            int maxRequestsPerHost,
+            Consumer<R> resultHandler) {
+        this.threadCount = Math.max(1, threadCount);
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        this.resultHandler = resultHandler;
+        this.hostPermits = new HashMap<>();
+        this.pending = new ArrayDeque<>();
+
+        if (this.threadCount == 1) {
+            executor = null;
+        } else {
+            AtomicInteger threadNumber = new AtomicInteger(1);
+            executor =
+                    Executors.newFixedThreadPool(
+                            this.threadCount,
+                            r -> {
+                                Thread thread =
+                                        new Thread(
+                                                r,
+                                                threadNamePrefix + threadNumber.getAndIncrement());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+        }
+    }
+
+    /**
+     * Submits the given request.
+     *
+     * <p>Blocks while the maximum number of requests is being sent to the host or while the oldest
+     * result is handled.
+     *
+     * @param host the host of the request, for example, the host name and port, {@code null} if
+     *     the request should not count towards any host.
+     * @param request the request to send.
+     * @return {@code true} if the request was submitted, {@code false} if the dispatcher was
+     *     stopped.
+     * @throws RuntimeException if the request, or a previous one, threw the exception.
+     * @see #stop()
+     */
+    public boolean submit(String host, Supplier<R> request) {
+        if (stopped) {
+            return false;
+        }
+
+        if (executor == null) {
+            resultHandler.accept(request.get());
+            return true;
+        }
+
+        Semaphore permits = getPermits(host);
+        if (permits != null) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelPending();
+                return false;
+            }
+        }
+
+        pending.add(
+                executor.submit(
+                        () -> {
+                            try {
+                                return request.get();
+                            } finally {
+                                if (permits != null) {
+                                    permits.release();
+                                }
+                            }
+                        }));
+
+        if (pending.size() >= threadCount * 2) {
+            handleResult(pending.poll());
+        }
+        return true;
+    }
+
+    private Semaphore getPermits(String host) {
+        if (host == null || maxRequestsPerHost < 1 || maxRequestsPerHost >= threadCount) {
+            return null;
+        }
+        return hostPermits.computeIfAbsent(host, k -> new Semaphore(maxRequestsPerHost));
+    }
+
+    private void handleResult(Future<R> future) {
+        R result;
+        try {
+            result = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            cancelPending();
+            return;
+        } catch (ExecutionException e) {
+            cancelPending();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        resultHandler.accept(result);
+    }
+
+    private void cancelPending() {
+        stopped = true;
+        pending.forEach(f -> f.cancel(true));
+        pending.clear();
+    }
+
+    /**
+     * Stops the dispatcher, no more requests are accepted.
+     *
+     * <p>The requests already submitted are still sent and their results handled, they can check
+     * {@link #isStopped()} to not proceed.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Tells whether or not the dispatcher was stopped.
+     *
+     * @return {@code true} if stopped, {@code false} otherwise.
+     * @see #stop()
+     */
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Stops the dispatcher and waits for the requests already submitted, handling their results.
+     *
+     * @throws RuntimeException if a request threw the exception.
+     */
+    @Override
+    public void close() {
+        stopped = true;
+        try {
+            while (!pending.isEmpty()) {
+                handleResult(pending.poll());
+            }
+        } finally {
+            cancelPending();
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+    }
+}
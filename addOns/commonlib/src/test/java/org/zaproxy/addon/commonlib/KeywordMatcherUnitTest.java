@@ -0,0 +1,164 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link KeywordMatcher}. */
+class KeywordMatcherUnitTest {
+
+    @Test
+    void shouldNotMatchIfNoKeywords() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.create(List.of(), false, false);
+        // When
+        KeywordMatcher.Match match = matcher.find("Some text");
+        // Then
+        assertThat(matcher.isEmpty(), is(equalTo(true)));
+        assertThat(match, is(nullValue()));
+    }
+
+    @Test
+    void shouldNotMatchIfNoKeywordOccurs() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.create(List.of("abc", "xyz"), false, false);
+        // When
+        KeywordMatcher.Match match = matcher.find("ab xy bc yz");
+        // Then
+        assertThat(match, is(nullValue()));
+    }
+
+    @Test
+    void shouldMatchFirstKeywordInOrderGiven() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.create(List.of("b", "c", "a"), false, false);
+        // When
+        KeywordMatcher.Match match = matcher.find("a c b c");
+        // Then
+        assertThat(match, is(equalTo(new KeywordMatcher.Match(0, 4, 5))));
+    }
+
+    @Test
+    void shouldMatchFirstOccurrenceOfKeyword() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.create(List.of("xyz", "abc"), false, false);
+        // When
+        KeywordMatcher.Match match = matcher.find("abc abc abc");
+        // Then
+        assertThat(match, is(equalTo(new KeywordMatcher.Match(1, 0, 3))));
+    }
+
+    @Test
+    void shouldMatchOverlappingKeywords() {
+        // Given
+        KeywordMatcher matcher =
+                KeywordMatcher.create(List.of("she", "hers", "his", "he"), false, false);
+        // When
+        KeywordMatcher.Match match = matcher.find("ushers");
+        // Then
+        assertThat(match, is(equalTo(new KeywordMatcher.Match(0, 1, 4))));
+    }
+
+    @Test
+    void shouldMatchKeywordSuffixOfAnotherKeyword() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.create(List.of("bcd", "abcx"), false, false);
+        // When
+        KeywordMatcher.Match match = matcher.find("abcd");
+        // Then
+        assertThat(match, is(equalTo(new KeywordMatcher.Match(0, 1, 4))));
+    }
+
+    @Test
+    void shouldMatchCaseSensitively() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.create(List.of("Error"), false, false);
+        // When
+        KeywordMatcher.Match match = matcher.find("ERROR error Error");
+        // Then
+        assertThat(match, is(equalTo(new KeywordMatcher.Match(0, 12, 17))));
+    }
+
+    @Test
+    void shouldMatchIgnoringCase() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.create(List.of("Error"), true, false);
+        // When
+        KeywordMatcher.Match match = matcher.find("An ERROR occurred");
+        // Then
+        assertThat(match, is(equalTo(new KeywordMatcher.Match(0, 3, 8))));
+    }
+
+    @Test
+    void shouldMatchOnlyWholeWords() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.create(List.of("BUG", "DB"), true, true);
+        // When
+        KeywordMatcher.Match match = matcher.find("// debugging the db");
+        // Then
+        assertThat(match, is(equalTo(new KeywordMatcher.Match(1, 17, 19))));
+    }
+
+    @Test
+    void shouldMatchPartsOfWordsIfNotWholeWords() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.create(List.of("BUG", "DB"), true, false);
+        // When
+        KeywordMatcher.Match match = matcher.find("// debugging the db");
+        // Then
+        assertThat(match, is(equalTo(new KeywordMatcher.Match(0, 5, 8))));
+    }
+
+    @Test
+    void shouldMatchWholeWordsAtStartAndEndOfText() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.create(List.of("FIXME", "TODO"), true, true);
+        // When
+        KeywordMatcher.Match match = matcher.find("todo_later TODO");
+        // Then
+        assertThat(match, is(equalTo(new KeywordMatcher.Match(1, 11, 15))));
+    }
+
+    @Test
+    void shouldMatchEmptyKeywordAtStart() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.create(List.of("a", ""), false, false);
+        // When
+        KeywordMatcher.Match match = matcher.find("xyz");
+        // Then
+        assertThat(match, is(equalTo(new KeywordMatcher.Match(1, 0, 0))));
+    }
+
+    @Test
+    void shouldKeepKeywordsInOrderGiven() {
+        // Given
+        List<String> keywords = List.of("b", "a", "c");
+        // When
+        KeywordMatcher matcher = KeywordMatcher.create(keywords, false, false);
+        // Then
+        assertThat(matcher.getKeywords(), is(equalTo(keywords)));
+    }
+}
@@ -673,4 +673,26 @@ class ComparableResponseUnitTest extends TestUtils {
         // Then
         assertEquals(0.0f, result);
     }
+
+    @Test
+    void shouldProduceSameResultsWhenReferenceReusedForManyComparisons() {
+        // Given
+        ComparableResponse reference =
+                new ComparableResponse(createBasicMessage(LOREM_FIVE_PARA + " error"), "test");
+        ComparableResponse candidate1 =
+                new ComparableResponse(createBasicMessage("Hello World! test error"), "test");
+        ComparableResponse candidate2 =
+                new ComparableResponse(createBasicMessage(LOREM_FIVE_PARA + " error"), "other");
+        float expected1 =
+                new ComparableResponse(createBasicMessage(LOREM_FIVE_PARA + " error"), "test")
+                        .compareWith(candidate1);
+        // When
+        float result1 = reference.compareWith(candidate1);
+        float result2 = reference.compareWith(candidate2);
+        float result1Again = reference.compareWith(candidate1);
+        // Then
+        assertEquals(expected1, result1);
+        assertEquals(result1, result1Again);
+        assertEquals(1f, result2);
+    }
 }
@@ -0,0 +1,236 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link RequestDispatcher}. */
+class RequestDispatcherUnitTest {
+
+    @Test
+    void shouldSendAndHandleInCallingThreadIfJustOneThread() {
+        // Given
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+        List<Integer> results = new ArrayList<>();
+        // When
+        try (RequestDispatcher<Integer> dispatcher =
+                new RequestDispatcher<>("test-", 1, 0, results::add)) {
+            for (int i = 0; i < 3; i++) {
+                int value = i;
+                dispatcher.submit(
+                        "host",
+                        () -> {
+                            threads.add(Thread.currentThread());
+                            return value;
+                        });
+            }
+        }
+        // Then
+        assertThat(threads, contains(caller, caller, caller));
+        assertThat(results, contains(0, 1, 2));
+    }
+
+    @Test
+    void shouldHandleResultsInOrderOfSubmission() {
+        // Given
+        List<Integer> results = new ArrayList<>();
+        // When
+        try (RequestDispatcher<Integer> dispatcher =
+                new RequestDispatcher<>("test-", 4, 0, results::add)) {
+            for (int i = 0; i < 10; i++) {
+                int value = i;
+                dispatcher.submit(null, () -> sleepAndReturn((10 - value) * 5, value));
+            }
+        }
+        // Then
+        assertThat(results, contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    @Test
+    void shouldNotSendMoreRequestsThanThreadCount() {
+        // Given
+        Concurrency concurrency = new Concurrency();
+        List<Integer> results = new ArrayList<>();
+        // When
+        try (RequestDispatcher<Integer> dispatcher =
+                new RequestDispatcher<>("test-", 3, 0, results::add)) {
+            for (int i = 0; i < 12; i++) {
+                dispatcher.submit("host", concurrency.track(i));
+            }
+        }
+        // Then
+        assertThat(results.size(), is(equalTo(12)));
+        assertThat(concurrency.max.get(), is(lessThanOrEqualTo(3)));
+    }
+
+    @Test
+    void shouldNotSendMoreRequestsToSameHostThanMax() {
+        // Given
+        Concurrency hostA = new Concurrency();
+        Concurrency hostB = new Concurrency();
+        List<Integer> results = new ArrayList<>();
+        // When
+        try (RequestDispatcher<Integer> dispatcher =
+                new RequestDispatcher<>("test-", 4, 1, results::add)) {
+            for (int i = 0; i < 6; i++) {
+                dispatcher.submit("a", hostA.track(i));
+                dispatcher.submit("b", hostB.track(i));
+            }
+        }
+        // Then
+        assertThat(results.size(), is(equalTo(12)));
+        assertThat(hostA.max.get(), is(equalTo(1)));
+        assertThat(hostB.max.get(), is(equalTo(1)));
+    }
+
+    @Test
+    void shouldNotAcceptRequestsOnceStopped() {
+        // Given
+        List<Integer> results = new ArrayList<>();
+        List<Boolean> submitted = new ArrayList<>();
+        // When
+        try (RequestDispatcher<Integer> dispatcher =
+                new RequestDispatcher<>("test-", 2, 0, results::add)) {
+            for (int i = 0; i < 6; i++) {
+                int value = i;
+                if (i == 3) {
+                    dispatcher.stop();
+                }
+                submitted.add(dispatcher.submit(null, () -> value));
+            }
+        }
+        // Then
+        assertThat(submitted, contains(true, true, true, false, false, false));
+        assertThat(results, contains(0, 1, 2));
+    }
+
+    @Test
+    void shouldStopFromResultHandler() {
+        // Given
+        List<Integer> results = new ArrayList<>();
+        List<RequestDispatcher<Integer>> holder = new ArrayList<>();
+        // When
+        try (RequestDispatcher<Integer> dispatcher =
+                new RequestDispatcher<>(
+                        "test-",
+                        1,
+                        0,
+                        r -> {
+                            results.add(r);
+                            holder.get(0).stop();
+                        })) {
+            holder.add(dispatcher);
+            for (int i = 0; i < 3 && !dispatcher.isStopped(); i++) {
+                int value = i;
+                dispatcher.submit(null, () -> value);
+            }
+        }
+        // Then
+        assertThat(results, contains(0));
+    }
+
+    @Test
+    void shouldRethrowExceptionOfRequestAndCancelPending() {
+        // Given
+        List<Integer> results = new ArrayList<>();
+        IllegalStateException exception = new IllegalStateException();
+        // When
+        IllegalStateException thrown =
+                assertThrows(
+                        IllegalStateException.class,
+                        () -> {
+                            try (RequestDispatcher<Integer> dispatcher =
+                                    new RequestDispatcher<>("test-", 2, 0, results::add)) {
+                                dispatcher.submit(null, () -> 0);
+                                dispatcher.submit(
+                                        null,
+                                        () -> {
+                                            throw exception;
+                                        });
+                                dispatcher.submit(null, () -> sleepAndReturn(50, 2));
+                            }
+                        });
+        // Then
+        assertThat(thrown, is(sameInstance(exception)));
+        assertThat(results, contains(0));
+    }
+
+    @Test
+    void shouldSendWithDaemonThreads() {
+        // Given
+        List<Boolean> daemon = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        // When
+        try (RequestDispatcher<Integer> dispatcher =
+                new RequestDispatcher<>("test-", 2, 0, r -> {})) {
+            dispatcher.submit(
+                    null,
+                    () -> {
+                        synchronized (daemon) {
+                            daemon.add(Thread.currentThread().isDaemon());
+                            names.add(Thread.currentThread().getName());
+                        }
+                        return 0;
+                    });
+        }
+        // Then
+        assertThat(daemon, contains(true));
+        assertThat(names, contains("test-1"));
+    }
+
+    private static Integer sleepAndReturn(long millis, Integer value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    private static class Concurrency {
+
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+
+        Supplier<Integer> track(Integer value) {
+            return () -> {
+                max.accumulateAndGet(current.incrementAndGet(), Math::max);
+                try {
+                    return sleepAndReturn(10, value);
+                } finally {
+                    current.decrementAndGet();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.exim.har;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import de.sstoehr.harreader.model.HarEntry;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Reads the entries of a HAR log one at a time, without loading the whole log into memory.
+ *
+ * <p>The other properties of the log are skipped.
+ */
+class HarEntriesReader implements Closeable {
+
+    private static final String LOG_FIELD = "log";
+    private static final String ENTRIES_FIELD = "entries";
+
+    private final JsonParser parser;
+
+    /**
+     * Constructs a {@code HarEntriesReader} with the given parser, positioned before the first
+     * entry.
+     *
+     * @param parser the parser of the HAR.
+     * @throws IOException if an error occurred while reading or if the entries were not found.
+     */
+    HarEntriesReader(JsonParser parser) throws IOException {
+        this.parser = parser;
+
+        validateNextToken(JsonToken.START_OBJECT, null);
+        validateNextToken(JsonToken.FIELD_NAME, LOG_FIELD);
+        validateNextToken(JsonToken.START_OBJECT, LOG_FIELD);
+
+        while (!isNextToken(JsonToken.FIELD_NAME, ENTRIES_FIELD)) {
+            parser.skipChildren();
+        }
+
+        validateNextToken(JsonToken.START_ARRAY, ENTRIES_FIELD);
+        parser.nextToken();
+    }
+
+    /**
+     * Reads the next entry.
+     *
+     * @return the entry, or {@code null} if there are no more entries.
+     * @throws IOException if an error occurred while reading the entry.
+     */
+    HarEntry next() throws IOException {
+        return parser.readValueAs(HarEntry.class);
+    }
+
+    /**
+     * Gets the number of bytes read so far.
+     *
+     * @return the number of bytes, or -1 if not known, for example, when reading characters.
+     */
+    long getBytesRead() {
+        return parser.currentLocation().getByteOffset();
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private boolean isNextToken(JsonToken wantedToken, String wantedName) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new IOException("Failed to find entries property in HAR log.");
+        }
+        if (token != wantedToken) {
+            return false;
+        }
+
+        return wantedName.equals(parser.currentName());
+    }
+
+    private void validateNextToken(JsonToken expectedToken, String expectedName)
+            throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token != expectedToken) {
+            throw new IOException("Unexpected token " + token + ", expected: " + expectedToken);
+        }
+
+        String name = parser.currentName();
+        if (!Objects.equals(name, expectedName)) {
+            throw new IOException("Unexpected name " + name + ", expected: " + expectedName);
+        }
+    }
+}
@@ -19,17 +19,17 @@
  */
 package org.zaproxy.addon.exim.har;
 
-import de.sstoehr.harreader.HarReader;
-import de.sstoehr.harreader.HarReaderException;
-import de.sstoehr.harreader.model.Har;
+import com.fasterxml.jackson.core.JsonParser;
 import de.sstoehr.harreader.model.HarEntry;
 import de.sstoehr.harreader.model.HarEntry.HarEntryBuilder;
 import de.sstoehr.harreader.model.HarLog;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
 import java.util.function.Predicate;
 import org.apache.commons.httpclient.URI;
 import org.apache.commons.lang3.Strings;
@@ -75,6 +75,9 @@ public class HarImporter {
 
     private static final String STATS_HAR = ExtensionExim.STATS_PREFIX + "import.har.%s";
 
+    /** The number of messages added to the history and sites tree at once. */
+    static final int BATCH_SIZE = 100;
+
     enum DataSource {
         FILE("file"),
         STRING("string");
@@ -112,7 +115,9 @@ public class HarImporter {
     private final boolean sendRequests;
     private final int maxMessages;
     private ProgressPaneListener progressListener;
+    private IntSupplier progress;
     private SendContext sendContext;
+    private final List<PendingMessage> pendingMessages = new ArrayList<>(BATCH_SIZE);
     private boolean success;
 
     public HarImporter(String data) {
@@ -123,7 +128,7 @@ public class HarImporter {
         this.dataSource = DataSource.STRING;
         this.sendRequests = sendRequests;
         this.maxMessages = maxMessages;
-        importData(reader -> reader.readFromString(data));
+        importData(() -> HarUtils.JSON_MAPPER.createParser(data), 0);
     }
 
     public HarImporter(File file) {
@@ -140,14 +145,23 @@ public class HarImporter {
         this.progressListener = listener;
         this.sendRequests = sendRequests;
         this.maxMessages = maxMessages;
-        importData(reader -> reader.readFromFile(file));
+        importData(() -> HarUtils.JSON_MAPPER.createParser(file), file.length());
     }
 
-    private void importData(HarProvider provider) {
-        try {
-            HarLog log = provider.from(new HarReader()).log();
-            importHarLog(log);
-        } catch (HarReaderException e) {
+    /**
+     * Imports the entries as they are read, to not load the whole HAR into memory, reporting the
+     * progress from the bytes read if the size is known.
+     */
+    private void importData(ParserProvider provider, long size) {
+        try (HarEntriesReader reader = new HarEntriesReader(provider.create())) {
+            if (size > 0 && progressListener != null) {
+                progressListener.setTotalTasks(100);
+                progress = () -> (int) (Math.max(reader.getBytesRead(), 0) * 100 / size);
+            }
+            processMessages(reader::next);
+            dataSource.successful();
+            success = true;
+        } catch (IOException e) {
             LOGGER.warn("Failed to read HAR data: {}", e.getMessage());
             dataSource.error();
             success = false;
@@ -171,7 +185,12 @@ public class HarImporter {
     }
 
     private void importHarLog(HarLog log) {
-        processMessages(log);
+        if (log != null) {
+            Iterator<HarEntry> entries = log.entries().iterator();
+            EntrySource<RuntimeException> source =
+                    () -> entries.hasNext() ? entries.next() : null;
+            processMessages(source);
+        }
         dataSource.successful();
         success = true;
     }
@@ -183,27 +202,38 @@ public class HarImporter {
         return sendContext;
     }
 
-    private void processMessages(HarLog log) {
-        if (log == null) {
-            return;
-        }
-
-        List<HarEntry> entries = preProcessHarEntries(log, sendRequests);
+    private <E extends Exception> void processMessages(EntrySource<E> entries) throws E {
         int count = 0;
         int imported = 0;
-        for (HarEntry entry : entries) {
-            if (maxMessages > 0 && imported >= maxMessages) {
-                break;
-            }
-            HttpMessage msg = sendRequests ? getSendContext().send(entry) : getHttpMessage(entry);
-            if (msg == null) {
-                updateProgress(
-                        ++count, Constant.messages.getString("exim.progress.invalidmessage"));
-                continue;
+        try {
+            HarEntry entry;
+            while ((entry = entries.next()) != null) {
+                if (maxMessages > 0 && imported >= maxMessages) {
+                    break;
+                }
+                entry = preProcessHarEntry(entry, sendRequests);
+                if (entry == null) {
+                    continue;
+                }
+                HttpMessage msg =
+                        sendRequests ? getSendContext().send(entry) : getHttpMessage(entry);
+                count++;
+                String currentTask;
+                if (msg == null) {
+                    currentTask = Constant.messages.getString("exim.progress.invalidmessage");
+                } else {
+                    persistMessage(msg);
+                    currentTask = msg.getRequestHeader().getURI().toString();
+                    imported++;
+                }
+                updateProgress(count, currentTask);
+                // Add the messages to the UI in batches, not for every message.
+                if (count % BATCH_SIZE == 0) {
+                    addPendingMessages();
+                }
             }
-            persistMessage(msg);
-            updateProgress(++count, msg.getRequestHeader().getURI().toString());
-            imported++;
+        } finally {
+            addPendingMessages();
         }
     }
 
@@ -268,11 +298,27 @@ public class HarImporter {
     }
 
     private static List<HarEntry> preProcessHarEntries(HarLog log, boolean sendRequests) {
-        return log.entries().stream()
-                .filter(HarImporter::entryIsNotLocalPrivate)
-                .map(HarImporter::correctHttpVersions)
-                .filter(entry -> entryHasUsableHttpVersion(entry, sendRequests))
-                .toList();
+        List<HarEntry> entries = new ArrayList<>();
+        for (HarEntry entry : log.entries()) {
+            entry = preProcessHarEntry(entry, sendRequests);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Corrects the HTTP versions of the given entry, if needed.
+     *
+     * @return the entry, or {@code null} if it should not be imported.
+     */
+    private static HarEntry preProcessHarEntry(HarEntry entry, boolean sendRequests) {
+        if (!entryIsNotLocalPrivate(entry)) {
+            return null;
+        }
+        HarEntry correctedEntry = correctHttpVersions(entry);
+        return entryHasUsableHttpVersion(correctedEntry, sendRequests) ? correctedEntry : null;
     }
 
     private static boolean entryHasUsableHttpVersion(HarEntry entry, boolean sendRequests) {
@@ -399,8 +445,22 @@ public class HarImporter {
         }
 
         if (getExtensionHistory() != null) {
-            ThreadUtils.invokeAndWaitHandled(() -> addMessage(historyRef, message));
+            pendingMessages.add(new PendingMessage(historyRef, message));
+        }
+    }
+
+    private void addPendingMessages() {
+        if (pendingMessages.isEmpty()) {
+            return;
         }
+        List<PendingMessage> messages = List.copyOf(pendingMessages);
+        pendingMessages.clear();
+        ThreadUtils.invokeAndWaitHandled(
+                () -> {
+                    for (PendingMessage pending : messages) {
+                        addMessage(pending.historyRef(), pending.message());
+                    }
+                });
     }
 
     private static ExtensionHistory getExtensionHistory() {
@@ -424,7 +484,7 @@ public class HarImporter {
 
     private void updateProgress(int count, String line) {
         if (progressListener != null) {
-            progressListener.setTasksDone(count);
+            progressListener.setTasksDone(progress != null ? progress.getAsInt() : count);
             progressListener.setCurrentTask(
                     Constant.messages.getString("exim.progress.currentimport", line));
         }
@@ -436,7 +496,13 @@ public class HarImporter {
         }
     }
 
-    private interface HarProvider {
-        Har from(HarReader data) throws HarReaderException;
+    private record PendingMessage(HistoryReference historyRef, HttpMessage message) {}
+
+    private interface ParserProvider {
+        JsonParser create() throws IOException;
+    }
+
+    private interface EntrySource<E extends Exception> {
+        HarEntry next() throws E;
     }
 }
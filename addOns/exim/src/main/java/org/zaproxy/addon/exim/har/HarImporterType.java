@@ -19,12 +19,8 @@
  */
 package org.zaproxy.addon.exim.har;
 
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonToken;
 import de.sstoehr.harreader.model.HarEntry;
-import java.io.IOException;
 import java.io.Reader;
-import java.util.Objects;
 import org.parosproxy.paros.Constant;
 import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.exim.ImporterOptions;
@@ -40,9 +36,6 @@ public class HarImporterType extends ImporterType {
         super(ID, Constant.messages.getString("exim.importer.type.har"));
     }
 
-    private static final String LOG_FIELD = "log";
-    private static final String ENTRIES_FIELD = "entries";
-
     @Override
     public void importData(Reader reader, MessageHandler handler) throws Exception {
         importData(reader, handler, false, 0);
@@ -57,24 +50,13 @@ public class HarImporterType extends ImporterType {
     private void importData(
             Reader reader, MessageHandler handler, boolean sendRequests, int maxMessages)
             throws Exception {
-        JsonParser parser = HarUtils.JSON_MAPPER.createParser(reader);
-
-        validateNextToken(parser, JsonToken.START_OBJECT, null);
-        validateNextToken(parser, JsonToken.FIELD_NAME, LOG_FIELD);
-        validateNextToken(parser, JsonToken.START_OBJECT, LOG_FIELD);
-
-        while (!isNextToken(parser, JsonToken.FIELD_NAME, ENTRIES_FIELD)) {
-            parser.skipChildren();
-        }
-
-        validateNextToken(parser, JsonToken.START_ARRAY, ENTRIES_FIELD);
-        parser.nextToken();
+        HarEntriesReader entries = new HarEntriesReader(HarUtils.JSON_MAPPER.createParser(reader));
 
         HarImporter.SendContext sendContext =
                 sendRequests ? HarImporter.SendContext.create() : null;
         HarEntry entry;
         int imported = 0;
-        while ((entry = parser.readValueAs(HarEntry.class)) != null) {
+        while ((entry = entries.next()) != null) {
             if (maxMessages > 0 && imported >= maxMessages) {
                 break;
             }
@@ -86,30 +68,4 @@ public class HarImporterType extends ImporterType {
             }
         }
     }
-
-    private static boolean isNextToken(JsonParser parser, JsonToken wantedToken, String wantedName)
-            throws IOException {
-        JsonToken token = parser.nextToken();
-        if (token == null) {
-            throw new IOException("Failed to find entries property in HAR log.");
-        }
-        if (token != wantedToken) {
-            return false;
-        }
-
-        return wantedName.equals(parser.currentName());
-    }
-
-    private static void validateNextToken(
-            JsonParser parser, JsonToken expectedToken, String expectedName) throws IOException {
-        JsonToken token = parser.nextToken();
-        if (token != expectedToken) {
-            throw new IOException("Unexpected token " + token + ", expected: " + expectedToken);
-        }
-
-        String name = parser.currentName();
-        if (!Objects.equals(name, expectedName)) {
-            throw new IOException("Unexpected name " + name + ", expected: " + expectedName);
-        }
-    }
 }
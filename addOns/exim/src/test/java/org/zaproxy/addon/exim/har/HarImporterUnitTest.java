@@ -32,7 +32,9 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.intThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -411,15 +413,57 @@ class HarImporterUnitTest extends TestUtils {
     }
 
     @Test
-    void shouldCountNullMessagesTowardsTasksDone() {
+    void shouldCountNullMessagesTowardsTasksDone() throws Exception {
         // Given
         ProgressPaneListener listener = mock(ProgressPaneListener.class);
+        HarLog harLog =
+                new HarReader().readFromFile(getResourcePath("oneNullMessage.har").toFile()).log();
         // When
-        new HarImporter(getResourcePath("oneNullMessage.har").toFile(), listener);
+        new HarImporter(harLog, listener);
         // Then
         verify(listener).setTasksDone(1);
     }
 
+    @Test
+    void shouldReportProgressFromBytesReadOfFile() {
+        // Given
+        ProgressPaneListener listener = mock(ProgressPaneListener.class);
+        // When
+        new HarImporter(getResourcePath("oneNullMessage.har").toFile(), listener);
+        // Then
+        verify(listener).setTotalTasks(100);
+        verify(listener).setTasksDone(intThat(progress -> progress > 0 && progress <= 100));
+    }
+
+    @Test
+    void shouldAddAllMessagesToHistoryAndSitesTreeInBatchesAndReportEachMessage() throws Exception {
+        // Given
+        clearInvocations(extHistory, siteMap);
+        List<HarEntry> entries = new ArrayList<>();
+        int messages = HarImporter.BATCH_SIZE * 2 + 1;
+        for (int i = 0; i < messages; i++) {
+            entries.add(
+                    HarUtils.createHarEntry(
+                            new HttpMessage(
+                                    "GET http://example.com/" + i + " HTTP/1.1",
+                                    EMPTY_BODY,
+                                    "HTTP/1.1 200 OK",
+                                    EMPTY_BODY)));
+        }
+        ProgressPaneListener listener = mock(ProgressPaneListener.class);
+        // When
+        HarImporter importer =
+                new HarImporter(HarUtils.createZapHarLog().entries(entries).build(), listener);
+        // Then
+        assertThat(importer.isSuccess(), equalTo(true));
+        verify(extHistory, times(messages)).addHistory(any());
+        verify(siteMap, times(messages)).addPath(any(HistoryReference.class), any());
+        verify(listener).setTasksDone(HarImporter.BATCH_SIZE);
+        verify(listener).setTasksDone(HarImporter.BATCH_SIZE * 2);
+        verify(listener).setTasksDone(messages);
+        verify(listener, times(messages)).setCurrentTask(anyString());
+    }
+
     @ParameterizedTest
     @ValueSource(
             strings = {
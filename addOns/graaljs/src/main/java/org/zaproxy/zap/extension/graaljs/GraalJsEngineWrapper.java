@@ -26,6 +26,8 @@ import java.util.List;
 import java.util.Objects;
 import javax.script.ScriptEngine;
 import javax.swing.ImageIcon;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.fife.ui.rsyntaxtextarea.SyntaxConstants;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Engine;
@@ -34,10 +36,15 @@ import org.zaproxy.zap.extension.script.ScriptWrapper;
 
 public class GraalJsEngineWrapper extends DefaultEngineWrapper {
 
+    private static final Logger LOGGER = LogManager.getLogger(GraalJsEngineWrapper.class);
+
     private final ClassLoader hostClassLoader;
     private final List<Path> defaultTemplates;
     private final ImageIcon icon;
 
+    // Shared by all the script engines, to reuse the parsed and compiled code between them.
+    private Engine sharedEngine;
+
     public GraalJsEngineWrapper(
             ClassLoader hostClassLoader, List<Path> defaultTemplates, ImageIcon icon) {
         super(new GraalJSEngineFactory());
@@ -64,12 +71,6 @@ public class GraalJsEngineWrapper extends DefaultEngineWrapper {
 
     @Override
     public ScriptEngine getEngine() {
-        Engine engine =
-                Engine.newBuilder()
-                        .allowExperimentalOptions(true)
-                        .option("engine.WarnInterpreterOnly", "false")
-                        .build();
-
         Context.Builder contextBuilder =
                 Context.newBuilder("js")
                         .allowExperimentalOptions(true)
@@ -81,7 +82,36 @@ public class GraalJsEngineWrapper extends DefaultEngineWrapper {
                         .allowAllAccess(true)
                         .hostClassLoader(hostClassLoader);
 
-        return new ScriptEngineCleaner(GraalJSScriptEngine.create(engine, contextBuilder));
+        return new ScriptEngineCleaner(
+                GraalJSScriptEngine.create(getSharedEngine(), contextBuilder));
+    }
+
+    private synchronized Engine getSharedEngine() {
+        if (sharedEngine == null) {
+            sharedEngine =
+                    Engine.newBuilder()
+                            .allowExperimentalOptions(true)
+                            .option("engine.WarnInterpreterOnly", "false")
+                            .build();
+        }
+        return sharedEngine;
+    }
+
+    /**
+     * Closes the engine shared by the script engines, cancelling the scripts still running.
+     *
+     * <p>Script engines obtained afterwards use a new shared engine.
+     */
+    synchronized void close() {
+        if (sharedEngine == null) {
+            return;
+        }
+        try {
+            sharedEngine.close(true);
+        } catch (Exception e) {
+            LOGGER.debug("Error closing shared engine:", e);
+        }
+        sharedEngine = null;
     }
 
     @Override
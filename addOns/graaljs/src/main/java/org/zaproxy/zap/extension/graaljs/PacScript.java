@@ -31,6 +31,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Clock;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
@@ -41,7 +42,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import javax.script.Invocable;
@@ -55,6 +59,10 @@ import org.graalvm.polyglot.proxy.ProxyExecutable;
 /**
  * Represents a PAC script file and methods to evaluate its content.
  *
+ * <p>The proxy settings found are reused for the same host, or URL if the script uses it, unless
+ * the script depends on the current date or time. The host names resolved by the script are also
+ * reused. Both for a limited time, one minute by default.
+ *
  * @author aine-rb
  */
 class PacScript {
@@ -73,9 +81,23 @@ class PacScript {
     private static final String TYPE_PROXY_DATA_SEPARATOR = " ";
     private static final String HOST_PORT_SEPARATOR = ":";
 
+    static final Duration DEFAULT_DECISION_CACHE_TTL = Duration.ofMinutes(1);
+    static final Duration DEFAULT_DNS_CACHE_TTL = Duration.ofMinutes(1);
+    static final int MAX_CACHE_ENTRIES = 1000;
+
+    private static final Pattern FIND_PROXY_FOR_URL_FUNCTION =
+            Pattern.compile("function\\s+FindProxyForURL\\s*\\(\\s*([\\w$]+)\\s*,");
+
     private final Invocable pacImpl;
+    private final boolean urlInspected;
+    private final ExpiringCache<List<Setting>> decisionCache =
+            new ExpiringCache<>(DEFAULT_DECISION_CACHE_TTL);
+    private final ExpiringCache<String> dnsCache = new ExpiringCache<>(DEFAULT_DNS_CACHE_TTL);
 
     private Clock baseClock;
+    private HostResolver hostResolver = InetAddress::getByName;
+    // Guarded by this, set when the current evaluation depends on the date or time.
+    private boolean timeDependent;
 
     /**
      * Constructs a {@code PacScript} from the given URL (read with UTF-8 charset).
@@ -119,6 +141,7 @@ class PacScript {
             throw new IllegalArgumentException("The PAC script content must not be null or empty.");
         }
         this.baseClock = Clock.systemDefaultZone();
+        this.urlInspected = isUrlInspected(scriptContent);
 
         Engine engine =
                 Engine.newBuilder("js").option("engine.WarnInterpreterOnly", "false").build();
@@ -130,10 +153,10 @@ class PacScript {
         se.put("dateRange", (ProxyExecutable) this::dateRange);
         se.put("dnsDomainIs", (ProxyExecutable) PacScript::dnsDomainIs);
         se.put("dnsDomainLevels", (ProxyExecutable) PacScript::dnsDomainLevels);
-        se.put("dnsResolve", (ProxyExecutable) PacScript::dnsResolve);
-        se.put("isInNet", (ProxyExecutable) PacScript::isInNet);
+        se.put("dnsResolve", (ProxyExecutable) this::dnsResolve);
+        se.put("isInNet", (ProxyExecutable) this::isInNet);
         se.put("isPlainHostName", (ProxyExecutable) PacScript::isPlainHostName);
-        se.put("isResolvable", (ProxyExecutable) PacScript::isResolvable);
+        se.put("isResolvable", (ProxyExecutable) this::isResolvable);
         se.put("localHostOrDomainIs", (ProxyExecutable) PacScript::localHostOrDomainIs);
         se.put("myIpAddress", (ProxyExecutable) PacScript::myIpAddress);
         se.put("shExpMatch", (ProxyExecutable) PacScript::shExpMatch);
@@ -144,10 +167,55 @@ class PacScript {
         pacImpl = se;
     }
 
+    /**
+     * Tells whether or not the {@code FindProxyForURL} function might use its {@code url}
+     * parameter, in which case the proxy settings found are reused just for the same URL.
+     */
+    static boolean isUrlInspected(String scriptContent) {
+        Matcher function = FIND_PROXY_FOR_URL_FUNCTION.matcher(scriptContent);
+        if (!function.find() || scriptContent.contains("arguments")) {
+            return true;
+        }
+
+        Matcher usages =
+                Pattern.compile("(?<![\\w$.])" + Pattern.quote(function.group(1)) + "(?![\\w$])")
+                        .matcher(scriptContent);
+        int count = 0;
+        while (usages.find()) {
+            count++;
+        }
+        // The declaration of the parameter is also counted.
+        return count > 1;
+    }
+
     void setBaseClock(Clock baseClock) {
         this.baseClock = baseClock;
     }
 
+    void setHostResolver(HostResolver hostResolver) {
+        this.hostResolver = hostResolver;
+    }
+
+    /**
+     * Sets how long the proxy settings found are reused.
+     *
+     * @param ttl the time to live of the proxy settings, zero to not reuse them.
+     * @throws NullPointerException if the {@code ttl} is {@code null}.
+     */
+    void setDecisionCacheTtl(Duration ttl) {
+        decisionCache.setTtl(Objects.requireNonNull(ttl));
+    }
+
+    /**
+     * Sets how long the host names resolved by the script are reused.
+     *
+     * @param ttl the time to live of the resolved host names, zero to not reuse them.
+     * @throws NullPointerException if the {@code ttl} is {@code null}.
+     */
+    void setDnsCacheTtl(Duration ttl) {
+        dnsCache.setTtl(Objects.requireNonNull(ttl));
+    }
+
     public void close() {
         ((GraalJSScriptEngine) pacImpl).close();
     }
@@ -161,7 +229,8 @@ class PacScript {
      * @throws ScriptException if an error occurred while calling the {@code FindProxyForURL}
      *     function.
      */
-    String evaluate(String url, String host) throws ScriptException {
+    synchronized String evaluate(String url, String host) throws ScriptException {
+        timeDependent = false;
         try {
             return (String) pacImpl.invokeFunction("FindProxyForURL", url, host);
         } catch (Exception e) {
@@ -179,7 +248,27 @@ class PacScript {
      *     function or parsing its result.
      */
     public List<Setting> findProxyForUrl(String url, String host) throws ScriptException {
-        String result = evaluate(url, host);
+        String key = urlInspected ? url + " " + host : host;
+        long now = baseClock.millis();
+        List<Setting> settings = decisionCache.get(key, now);
+        if (settings != null) {
+            return settings;
+        }
+
+        String result;
+        boolean cacheable;
+        synchronized (this) {
+            result = evaluate(url, host);
+            cacheable = !timeDependent;
+        }
+        settings = createSettings(result);
+        if (cacheable) {
+            decisionCache.put(key, settings, now);
+        }
+        return settings;
+    }
+
+    private static List<Setting> createSettings(String result) throws ScriptException {
         if (result == null || result.isEmpty()) {
             return Collections.emptyList();
         }
@@ -197,7 +286,7 @@ class PacScript {
                 break;
             }
         }
-        return settings;
+        return Collections.unmodifiableList(settings);
     }
 
     private static Setting createSetting(String value) throws ScriptException {
@@ -539,16 +628,22 @@ class PacScript {
      * @see <a href="http://findproxyforurl.com/netscape-documentation/#dnsResolve">Netscape
      *     documentation</a>
      */
-    private static String dnsResolve(Value... args) {
-        String hostName = extractArg(args, 0);
-        InetAddress address;
-        try {
-            address = InetAddress.getByName(hostName);
-        } catch (UnknownHostException e) {
-            return ""; // Unknown host
-        }
+    private String dnsResolve(Value... args) {
+        return resolve(extractArg(args, 0));
+    }
 
-        return address.getHostAddress();
+    private String resolve(String hostName) {
+        long now = baseClock.millis();
+        String address = dnsCache.get(hostName, now);
+        if (address == null) {
+            try {
+                address = hostResolver.resolve(hostName).getHostAddress();
+            } catch (UnknownHostException e) {
+                address = ""; // Unknown host
+            }
+            dnsCache.put(hostName, address, now);
+        }
+        return address;
     }
 
     /**
@@ -572,13 +667,13 @@ class PacScript {
      *     documentation</a>
      * @see PacScript#dnsResolve(String)
      */
-    private static boolean isInNet(Value... args) {
-        Value host = args[0];
+    private boolean isInNet(Value... args) {
+        String host = extractArg(args, 0);
         String network = extractArg(args, 1);
         String mask = extractArg(args, 2);
 
         // Retrieves ip addresses in a String array format
-        String[] hostBytes = dnsResolve(host).split("\\.");
+        String[] hostBytes = resolve(host).split("\\.");
         String[] networkBytes = network.split("\\.");
         String[] maskBytes = mask.split("\\.");
 
@@ -649,14 +744,8 @@ class PacScript {
      * @see <a href="http://findproxyforurl.com/netscape-documentation/#isResolvable">Netscape
      *     documentation</a>
      */
-    private static boolean isResolvable(Value... args) {
-        try {
-            InetAddress.getByName(extractArg(args, 0));
-        } catch (UnknownHostException e) {
-            return false; // Unknown host
-        }
-
-        return true;
+    private boolean isResolvable(Value... args) {
+        return !resolve(extractArg(args, 0)).isEmpty();
     }
 
     /**
@@ -986,6 +1075,7 @@ class PacScript {
     }
 
     private Clock getClock(String timeZone) {
+        timeDependent = true;
         if (GMT_TIME_ZONE.equals(timeZone)) {
             return baseClock.withZone(ZoneId.of(GMT_TIME_ZONE));
         }
@@ -1026,6 +1116,54 @@ class PacScript {
         return args[index].asString();
     }
 
+    @FunctionalInterface
+    interface HostResolver {
+        InetAddress resolve(String hostName) throws UnknownHostException;
+    }
+
+    /** A cache whose entries expire after a time to live, limited in the number of entries. */
+    private static class ExpiringCache<V> {
+
+        private final Map<String, CacheEntry<V>> entries = new ConcurrentHashMap<>();
+        private volatile long ttlMs;
+
+        ExpiringCache(Duration ttl) {
+            setTtl(ttl);
+        }
+
+        void setTtl(Duration ttl) {
+            ttlMs = ttl.toMillis();
+            entries.clear();
+        }
+
+        V get(String key, long now) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (now >= entry.expiry()) {
+                entries.remove(key, entry);
+                return null;
+            }
+            return entry.value();
+        }
+
+        void put(String key, V value, long now) {
+            if (ttlMs <= 0) {
+                return;
+            }
+            if (entries.size() >= MAX_CACHE_ENTRIES) {
+                entries.values().removeIf(entry -> now >= entry.expiry());
+                if (entries.size() >= MAX_CACHE_ENTRIES) {
+                    entries.clear();
+                }
+            }
+            entries.put(key, new CacheEntry<>(value, now + ttlMs));
+        }
+    }
+
+    private record CacheEntry<V>(V value, long expiry) {}
+
     @FunctionalInterface
     public interface StringPredicate {
         boolean apply(String... args);
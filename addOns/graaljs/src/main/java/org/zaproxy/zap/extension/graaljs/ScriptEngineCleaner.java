@@ -33,6 +33,7 @@ import javax.script.ScriptEngineFactory;
 import javax.script.ScriptException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.graalvm.polyglot.Engine;
 
 class ScriptEngineCleaner implements ScriptEngine, Compilable, Invocable, AutoCloseable {
 
@@ -176,6 +177,10 @@ class ScriptEngineCleaner implements ScriptEngine, Compilable, Invocable, AutoCl
         delegate.close();
     }
 
+    Engine getPolyglotEngine() {
+        return delegate.getPolyglotEngine();
+    }
+
     private static class CleanupAction implements Runnable {
 
         private final GraalJSScriptEngine scriptEngine;
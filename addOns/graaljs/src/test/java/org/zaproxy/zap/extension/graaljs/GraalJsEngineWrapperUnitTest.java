@@ -20,7 +20,11 @@
 package org.zaproxy.zap.extension.graaljs;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.List;
@@ -104,6 +108,48 @@ class GraalJsEngineWrapperUnitTest {
         assertThat(result, instanceOf(Map.class));
     }
 
+    @Test
+    void shouldShareEngineBetweenScriptEngines() {
+        // Given / When
+        ScriptEngine engine1 = engineWrapper.getEngine();
+        ScriptEngine engine2 = engineWrapper.getEngine();
+
+        // Then
+        assertThat(
+                ((ScriptEngineCleaner) engine1).getPolyglotEngine(),
+                is(sameInstance(((ScriptEngineCleaner) engine2).getPolyglotEngine())));
+    }
+
+    @Test
+    void shouldNotShareGlobalStateBetweenScriptEngines() throws ScriptException {
+        // Given
+        ScriptEngine engine1 = engineWrapper.getEngine();
+        ScriptEngine engine2 = engineWrapper.getEngine();
+        engine1.eval("var x = 1");
+
+        // When
+        Object result = engine2.eval("typeof x");
+
+        // Then
+        assertThat(result, is(equalTo("undefined")));
+    }
+
+    @Test
+    void shouldUseNewEngineAfterWrapperClosed() throws ScriptException {
+        // Given
+        ScriptEngine engine1 = engineWrapper.getEngine();
+
+        // When
+        engineWrapper.close();
+
+        // Then
+        ScriptEngine engine2 = engineWrapper.getEngine();
+        assertThat(
+                ((ScriptEngineCleaner) engine2).getPolyglotEngine(),
+                is(not(sameInstance(((ScriptEngineCleaner) engine1).getPolyglotEngine()))));
+        assertThat(engine2.eval("1 + 1"), instanceOf(Number.class));
+    }
+
     @Test
     void shouldThrowAfterClose() throws Exception {
         // Given
@@ -21,13 +21,18 @@ package org.zaproxy.zap.extension.graaljs;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.net.InetAddress;
 import java.net.URL;
+import java.net.UnknownHostException;
 import java.time.Clock;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -35,6 +40,7 @@ import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.WeekFields;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.script.ScriptException;
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
@@ -506,6 +512,154 @@ class PacScriptUnitTest extends TestUtils {
                 () -> pacScript.findProxyForUrl("http://example.com/", "example.com"));
     }
 
+    @Test
+    void shouldReuseSettingsForSameHostIfUrlNotUsed() throws Exception {
+        // Given
+        PacScript pacScript = new PacScript(countingScript("host"));
+        pacScript.findProxyForUrl("http://example.com/a", "example.com");
+        // When
+        List<Setting> settings = pacScript.findProxyForUrl("http://example.com/b", "example.com");
+        // Then
+        assertThat(settings.get(0), hasPort(1));
+    }
+
+    @Test
+    void shouldNotReuseSettingsForOtherHost() throws Exception {
+        // Given
+        PacScript pacScript = new PacScript(countingScript("host"));
+        pacScript.findProxyForUrl("http://example.com/", "example.com");
+        // When
+        List<Setting> settings = pacScript.findProxyForUrl("http://example.org/", "example.org");
+        // Then
+        assertThat(settings.get(0), hasPort(2));
+    }
+
+    @Test
+    void shouldReuseSettingsJustForSameUrlIfUrlUsed() throws Exception {
+        // Given
+        PacScript pacScript = new PacScript(countingScript("url.length * 0"));
+        pacScript.findProxyForUrl("http://example.com/a", "example.com");
+        // When
+        List<Setting> settings1 = pacScript.findProxyForUrl("http://example.com/a", "example.com");
+        List<Setting> settings2 = pacScript.findProxyForUrl("http://example.com/b", "example.com");
+        // Then
+        assertThat(settings1.get(0), hasPort(1));
+        assertThat(settings2.get(0), hasPort(2));
+    }
+
+    @Test
+    void shouldNotReuseSettingsIfScriptDependsOnTime() throws Exception {
+        // Given
+        PacScript pacScript = new PacScript(countingScript("weekdayRange(\"SUN\", \"SAT\") * 0"));
+        pacScript.findProxyForUrl("http://example.com/", "example.com");
+        // When
+        List<Setting> settings = pacScript.findProxyForUrl("http://example.com/", "example.com");
+        // Then
+        assertThat(settings.get(0), hasPort(2));
+    }
+
+    @Test
+    void shouldNotReuseSettingsAfterTtl() throws Exception {
+        // Given
+        PacScript pacScript = new PacScript(countingScript("host"));
+        pacScript.setBaseClock(FIXED_CLOCK);
+        pacScript.findProxyForUrl("http://example.com/", "example.com");
+        pacScript.setBaseClock(
+                Clock.offset(FIXED_CLOCK, PacScript.DEFAULT_DECISION_CACHE_TTL.plusMillis(1)));
+        // When
+        List<Setting> settings = pacScript.findProxyForUrl("http://example.com/", "example.com");
+        // Then
+        assertThat(settings.get(0), hasPort(2));
+    }
+
+    @Test
+    void shouldNotReuseSettingsIfTtlIsZero() throws Exception {
+        // Given
+        PacScript pacScript = new PacScript(countingScript("host"));
+        pacScript.setDecisionCacheTtl(Duration.ZERO);
+        pacScript.findProxyForUrl("http://example.com/", "example.com");
+        // When
+        List<Setting> settings = pacScript.findProxyForUrl("http://example.com/", "example.com");
+        // Then
+        assertThat(settings.get(0), hasPort(2));
+    }
+
+    @Test
+    void shouldReuseResolvedHostNames() throws Exception {
+        // Given
+        PacScript pacScript = new PacScript(getFileUrl(ISINNET_FILE_NAME));
+        AtomicInteger lookups = new AtomicInteger();
+        pacScript.setHostResolver(countingResolver(lookups));
+        pacScript.evaluate("http://example.com/", "example.com");
+        // When
+        String result = pacScript.evaluate("http://example.com/", "example.com");
+        // Then
+        assertEquals("SUCCESS", result);
+        assertThat(lookups.get(), is(equalTo(1)));
+    }
+
+    @Test
+    void shouldResolveHostNamesAgainAfterTtl() throws Exception {
+        // Given
+        PacScript pacScript = new PacScript(getFileUrl(ISRESOLVABLE_FILE_NAME));
+        AtomicInteger lookups = new AtomicInteger();
+        pacScript.setHostResolver(countingResolver(lookups));
+        pacScript.setBaseClock(FIXED_CLOCK);
+        pacScript.evaluate("http://example.com/", "example.com");
+        pacScript.setBaseClock(
+                Clock.offset(FIXED_CLOCK, PacScript.DEFAULT_DNS_CACHE_TTL.plusMillis(1)));
+        // When
+        pacScript.evaluate("http://example.com/", "example.com");
+        // Then
+        assertThat(lookups.get(), is(equalTo(2)));
+    }
+
+    @Test
+    void shouldReuseUnresolvedHostNames() throws Exception {
+        // Given
+        PacScript pacScript = new PacScript(getFileUrl(ISRESOLVABLE_FILE_NAME));
+        AtomicInteger lookups = new AtomicInteger();
+        pacScript.setHostResolver(
+                hostName -> {
+                    lookups.incrementAndGet();
+                    throw new UnknownHostException(hostName);
+                });
+        pacScript.evaluate("http://example.com/", "example.com");
+        // When
+        String result = pacScript.evaluate("http://example.com/", "example.com");
+        // Then
+        assertEquals("FAILURE", result);
+        assertThat(lookups.get(), is(equalTo(1)));
+    }
+
+    @Test
+    void shouldConsiderUrlInspectedOnlyIfUsed() {
+        // Given / When / Then
+        assertThat(PacScript.isUrlInspected(returns("DIRECT")), is(equalTo(false)));
+        assertThat(PacScript.isUrlInspected(countingScript("host")), is(equalTo(false)));
+        assertThat(PacScript.isUrlInspected(countingScript("url.length")), is(equalTo(true)));
+        assertThat(PacScript.isUrlInspected(countingScript("arguments[0]")), is(equalTo(true)));
+        assertThat(PacScript.isUrlInspected("var FindProxyForURL = f;"), is(equalTo(true)));
+    }
+
+    private static String countingScript(String expression) {
+        return "var count = 0;\n"
+                + "function FindProxyForURL(url, host) {\n"
+                + "  count++;\n"
+                + "  "
+                + expression
+                + ";\n"
+                + "  return \"PROXY proxy.example.com:\" + count;\n"
+                + "}";
+    }
+
+    private static PacScript.HostResolver countingResolver(AtomicInteger lookups) {
+        return hostName -> {
+            lookups.incrementAndGet();
+            return InetAddress.getByName("127.0.0.1");
+        };
+    }
+
     private static URL getFileUrl(String fileName) {
         return PacScriptUnitTest.class.getResource(fileName);
     }
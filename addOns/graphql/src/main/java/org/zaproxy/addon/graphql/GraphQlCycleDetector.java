@@ -26,16 +26,18 @@ import graphql.schema.GraphQLType;
 import graphql.schema.GraphQLTypeUtil;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -92,45 +94,47 @@ public class GraphQlCycleDetector {
             return;
         }
         AtomicInteger cycleCount = new AtomicInteger();
-        try {
-            detectCycles(
-                    result -> {
-                        raiseAlert(result);
-                        if (cycleCount.incrementAndGet() >= param.getMaxCycleDetectionAlerts()) {
-                            throw CYCLE_DETECTION_COMPLETE_EXCEPTION;
-                        }
-                    });
-        } catch (CycleDetectionCompleteException ignored) {
-        }
+        detectCycles(
+                result -> {
+                    raiseAlert(result);
+                    if (cycleCount.incrementAndGet() >= param.getMaxCycleDetectionAlerts()) {
+                        throw CYCLE_DETECTION_COMPLETE_EXCEPTION;
+                    }
+                });
     }
 
     void detectCycles(Consumer<GraphQlCycleDetectionResult> cycleResultConsumer) {
+        long deadline =
+                param.getMaxCycleDetectionDuration() > 0
+                        ? System.nanoTime()
+                                + TimeUnit.SECONDS.toNanos(param.getMaxCycleDetectionDuration())
+                        : Long.MAX_VALUE;
         List<Node> allNodes =
                 typeNodeMap.values().stream()
                         .sorted(Comparator.comparingInt(node -> node.neighbors.size()))
                         .toList();
-        List<SCC> currentSCCs = findStronglyConnectedComponents(allNodes);
+        computeShortestPathsFromRootTypes();
+        Map<Node, Set<Node>> nodeSccMap = new HashMap<>();
+        findStronglyConnectedComponents(new HashSet<>(allNodes))
+                .forEach(scc -> scc.forEach(node -> nodeSccMap.put(node, scc)));
         Consumer<Cycle> cycleConsumer =
                 cycle -> buildCycleDetectionResult(cycle).ifPresent(cycleResultConsumer);
-        for (int i = 0; i < allNodes.size(); i++) {
-            Node startNode = allNodes.get(i);
-
-            if (currentSCCs.stream()
-                    .noneMatch(scc -> scc.nodes.contains(startNode) && scc.nodes.size() > 1)) {
-                continue;
-            }
+        try {
+            for (Node startNode : allNodes) {
+                Set<Node> scc = nodeSccMap.remove(startNode);
+                if (scc == null) {
+                    continue;
+                }
 
-            findCyclesInSCC(startNode, cycleConsumer);
+                findCyclesInSCC(startNode, scc, cycleConsumer, deadline);
 
-            for (int j = i + 1; j < allNodes.size(); j++) {
-                Node node = allNodes.get(j);
-                node.index = -1;
-                node.lowLink = -1;
-                node.onStack = false;
-                node.neighbors.remove(startNode);
+                // Remove the start node from its component, which might split it into others.
+                scc.remove(startNode);
+                scc.forEach(nodeSccMap::remove);
+                findStronglyConnectedComponents(scc)
+                        .forEach(newScc -> newScc.forEach(node -> nodeSccMap.put(node, newScc)));
             }
-
-            currentSCCs = findStronglyConnectedComponents(allNodes.subList(i + 1, allNodes.size()));
+        } catch (CycleDetectionCompleteException ignored) {
         }
     }
 
@@ -155,166 +159,207 @@ public class GraphQlCycleDetector {
         return graph;
     }
 
-    private List<SCC> findStronglyConnectedComponents(List<Node> nodes) {
+    /**
+     * Finds the strongly connected components, with more than one node, of the subgraph formed by
+     * the given nodes.
+     *
+     * @param nodes the nodes of the subgraph.
+     * @return the nodes of each strongly connected component.
+     */
+    private static List<Set<Node>> findStronglyConnectedComponents(Set<Node> nodes) {
         // Use Tarjan's algorithm to find strongly connected components in the graph, ref:
         // https://en.wikipedia.org/wiki/Tarjan%27s_strongly_connected_components_algorithm
-        List<SCC> sccs = new ArrayList<>();
-        Deque<Node> stack = new ArrayDeque<>();
-        AtomicInteger index = new AtomicInteger(0);
+        // Implemented iteratively, deep type chains would otherwise overflow the call stack.
         for (Node node : nodes) {
-            if (node.index == -1) {
-                strongConnect(node, stack, index, sccs);
-            }
+            node.index = -1;
+            node.lowLink = -1;
+            node.onStack = false;
         }
-        return sccs;
-    }
-
-    private void strongConnect(Node node, Deque<Node> stack, AtomicInteger index, List<SCC> sccs) {
-        node.index = index.get();
-        node.lowLink = index.get();
-        index.incrementAndGet();
-        stack.push(node);
-        node.onStack = true;
-
-        for (Node neighbor : node.neighbors) {
-            if (neighbor.index == -1) {
-                strongConnect(neighbor, stack, index, sccs);
-                node.lowLink = Math.min(node.lowLink, neighbor.lowLink);
-            } else if (neighbor.onStack) {
-                node.lowLink = Math.min(node.lowLink, neighbor.index);
+        List<Set<Node>> sccs = new ArrayList<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        Deque<SearchFrame> callStack = new ArrayDeque<>();
+        int index = 0;
+        for (Node root : nodes) {
+            if (root.index != -1) {
+                continue;
             }
-        }
+            root.index = index;
+            root.lowLink = index++;
+            stack.push(root);
+            root.onStack = true;
+            callStack.push(new SearchFrame(root));
+
+            while (!callStack.isEmpty()) {
+                SearchFrame frame = callStack.peek();
+                Node node = frame.node;
+                if (frame.neighbors.hasNext()) {
+                    Node neighbor = frame.neighbors.next();
+                    if (!nodes.contains(neighbor)) {
+                        continue;
+                    }
+                    if (neighbor.index == -1) {
+                        neighbor.index = index;
+                        neighbor.lowLink = index++;
+                        stack.push(neighbor);
+                        neighbor.onStack = true;
+                        callStack.push(new SearchFrame(neighbor));
+                    } else if (neighbor.onStack) {
+                        node.lowLink = Math.min(node.lowLink, neighbor.index);
+                    }
+                    continue;
+                }
 
-        if (node.lowLink == node.index) {
-            List<Node> sccNodes = new ArrayList<>();
-            Node w;
-            do {
-                w = stack.pop();
-                w.onStack = false;
-                sccNodes.add(0, w);
-            } while (w != node);
-
-            if (sccNodes.size() > 1) {
-                sccs.add(new SCC(sccNodes));
+                callStack.pop();
+                if (!callStack.isEmpty()) {
+                    Node parent = callStack.peek().node;
+                    parent.lowLink = Math.min(parent.lowLink, node.lowLink);
+                }
+
+                if (node.lowLink == node.index) {
+                    Set<Node> sccNodes = new HashSet<>();
+                    Node w;
+                    do {
+                        w = stack.pop();
+                        w.onStack = false;
+                        sccNodes.add(w);
+                    } while (w != node);
+
+                    if (sccNodes.size() > 1) {
+                        sccs.add(sccNodes);
+                    }
+                }
             }
         }
+        return sccs;
     }
 
-    private void findCyclesInSCC(Node startNode, Consumer<Cycle> cycleConsumer) {
+    private void findCyclesInSCC(
+            Node startNode, Set<Node> sccNodes, Consumer<Cycle> cycleConsumer, long deadline) {
         // Use Johnson's algorithm to find cycles in a strongly connected component, ref:
         // https://github.com/mission-peace/interview/blob/master/src/com/interview/graph/AllCyclesInDirectedGraphJohnson.java
+        // Implemented iteratively, long cycles would otherwise overflow the call stack.
+        boolean quick =
+                param.getCycleDetectionMode() == GraphQlParam.CycleDetectionModeOption.QUICK;
+        int maxLength = param.getMaxCycleDetectionLength();
         Set<Node> blockedNodes = new HashSet<>();
         Map<Node, Set<Node>> unblockDependencies = new HashMap<>();
-        Deque<Node> stack = new ArrayDeque<>();
-        findCyclesFromNode(
-                startNode, startNode, blockedNodes, unblockDependencies, stack, cycleConsumer);
-    }
-
-    private boolean findCyclesFromNode(
-            Node currentNode,
-            Node startNode,
-            Set<Node> blockedNodes,
-            Map<Node, Set<Node>> unblockDependencies,
-            Deque<Node> stack,
-            Consumer<Cycle> cycleConsumer) {
-        boolean foundCycle = false;
-        stack.push(currentNode);
-        blockedNodes.add(currentNode);
-        for (Node neighbor : currentNode.neighbors) {
-            if (neighbor == startNode) {
-                // Found a cycle
-                cycleConsumer.accept(new Cycle(new ArrayList<>(stack)));
-                foundCycle = true;
-                if (param.getCycleDetectionMode() == GraphQlParam.CycleDetectionModeOption.QUICK) {
-                    return true;
+        List<Node> path = new ArrayList<>();
+        Deque<SearchFrame> callStack = new ArrayDeque<>();
+
+        path.add(startNode);
+        blockedNodes.add(startNode);
+        callStack.push(new SearchFrame(startNode));
+        while (!callStack.isEmpty()) {
+            if (System.nanoTime() > deadline) {
+                LOGGER.debug("Cycle detection stopped, maximum duration reached.");
+                throw CYCLE_DETECTION_COMPLETE_EXCEPTION;
+            }
+            SearchFrame frame = callStack.peek();
+            if (frame.neighbors.hasNext() && !(quick && frame.closedCycle)) {
+                Node neighbor = frame.neighbors.next();
+                if (neighbor == startNode) {
+                    cycleConsumer.accept(new Cycle(new ArrayList<>(path)));
+                    frame.foundCycle = true;
+                    frame.closedCycle = true;
+                } else if (sccNodes.contains(neighbor) && !blockedNodes.contains(neighbor)) {
+                    if (maxLength > 0 && path.size() >= maxLength) {
+                        // Not followed, but handled as if a cycle was found so that the nodes
+                        // are not left blocked for shorter paths.
+                        frame.foundCycle = true;
+                    } else {
+                        path.add(neighbor);
+                        blockedNodes.add(neighbor);
+                        callStack.push(new SearchFrame(neighbor));
+                    }
                 }
-            } else if (!blockedNodes.contains(neighbor)) {
-                foundCycle |=
-                        findCyclesFromNode(
-                                neighbor,
-                                startNode,
-                                blockedNodes,
-                                unblockDependencies,
-                                stack,
-                                cycleConsumer);
+                continue;
             }
-        }
-        if (foundCycle) {
-            unblockNodeAndDependents(currentNode, blockedNodes, unblockDependencies);
-        } else {
-            for (Node neighbor : currentNode.neighbors) {
-                unblockDependencies
-                        .computeIfAbsent(neighbor, k -> new HashSet<>())
-                        .add(currentNode);
+
+            callStack.pop();
+            Node currentNode = frame.node;
+            if (frame.foundCycle) {
+                unblockNodeAndDependents(currentNode, blockedNodes, unblockDependencies);
+                if (!callStack.isEmpty()) {
+                    callStack.peek().foundCycle = true;
+                }
+            } else {
+                for (Node neighbor : currentNode.neighbors) {
+                    unblockDependencies
+                            .computeIfAbsent(neighbor, k -> new HashSet<>())
+                            .add(currentNode);
+                }
             }
+            path.remove(path.size() - 1);
         }
-        stack.pop();
-        return foundCycle;
     }
 
-    private void unblockNodeAndDependents(
+    private static void unblockNodeAndDependents(
             Node nodeToUnblock, Set<Node> blockedNodes, Map<Node, Set<Node>> unblockDependencies) {
-        blockedNodes.remove(nodeToUnblock);
-        if (unblockDependencies.containsKey(nodeToUnblock)) {
-            unblockDependencies
-                    .get(nodeToUnblock)
-                    .forEach(
-                            node -> {
-                                if (blockedNodes.contains(node)) {
-                                    unblockNodeAndDependents(
-                                            node, blockedNodes, unblockDependencies);
-                                }
-                            });
-            unblockDependencies.remove(nodeToUnblock);
+        Deque<Node> nodesToUnblock = new ArrayDeque<>();
+        nodesToUnblock.push(nodeToUnblock);
+        while (!nodesToUnblock.isEmpty()) {
+            Node node = nodesToUnblock.pop();
+            blockedNodes.remove(node);
+            Set<Node> dependents = unblockDependencies.remove(node);
+            if (dependents != null) {
+                dependents.stream().filter(blockedNodes::contains).forEach(nodesToUnblock::push);
+            }
         }
     }
 
-    private List<Node> findShortestPathToCycle(Cycle cycle) {
-        Set<Node> cycleNodes = new HashSet<>(cycle.nodes);
-        Queue<PathInfo> queue = new LinkedList<>();
-        Set<Node> visited = new HashSet<>();
-
-        addRootTypesToQueue(queue, visited);
-
+    /**
+     * Computes the shortest paths from the root types to all reachable types, done once before
+     * searching for the cycles as each cycle found needs to be connected to a root type.
+     */
+    private void computeShortestPathsFromRootTypes() {
+        Queue<Node> queue = new ArrayDeque<>();
+        addRootTypesToQueue(queue);
         while (!queue.isEmpty()) {
-            PathInfo current = queue.poll();
-            Node currentNode = current.path.get(current.path.size() - 1);
-
-            if (cycleNodes.contains(currentNode)) {
-                return current.path;
-            }
-
+            Node currentNode = queue.poll();
             for (Node neighbor : currentNode.neighbors) {
-                if (!visited.contains(neighbor)) {
-                    visited.add(neighbor);
-                    List<Node> newPath = new ArrayList<>(current.path);
-                    newPath.add(neighbor);
-                    queue.offer(new PathInfo(newPath, current.distance + 1));
+                if (neighbor.distance == -1) {
+                    neighbor.distance = currentNode.distance + 1;
+                    neighbor.predecessor = currentNode;
+                    queue.offer(neighbor);
                 }
             }
         }
-
-        LOGGER.debug(
-                "No path found to cycle: {}",
-                cycle.nodes.stream().map(node -> node.type.getName()).toList());
-        return List.of();
     }
 
-    private void addRootTypesToQueue(Queue<PathInfo> queue, Set<Node> visited) {
-        if (schema.getQueryType() != null) {
-            Node queryNode = typeNodeMap.get(schema.getQueryType());
-            queue.offer(new PathInfo(List.of(queryNode), 0));
-            visited.add(queryNode);
+    private List<Node> findShortestPathToCycle(Cycle cycle) {
+        Node closestNode =
+                cycle.nodes.stream()
+                        .filter(node -> node.distance != -1)
+                        .min(Comparator.comparingInt(node -> node.distance))
+                        .orElse(null);
+        if (closestNode == null) {
+            LOGGER.debug(
+                    "No path found to cycle: {}",
+                    cycle.nodes.stream().map(node -> node.type.getName()).toList());
+            return List.of();
         }
-        if (schema.getMutationType() != null) {
-            Node mutationNode = typeNodeMap.get(schema.getMutationType());
-            queue.offer(new PathInfo(List.of(mutationNode), 0));
-            visited.add(mutationNode);
+
+        List<Node> path = new ArrayList<>(closestNode.distance + 1);
+        for (Node node = closestNode; node != null; node = node.predecessor) {
+            path.add(0, node);
         }
-        if (schema.getSubscriptionType() != null) {
-            Node subscriptionNode = typeNodeMap.get(schema.getSubscriptionType());
-            queue.offer(new PathInfo(List.of(subscriptionNode), 0));
-            visited.add(subscriptionNode);
+        return path;
+    }
+
+    private void addRootTypesToQueue(Queue<Node> queue) {
+        for (GraphQLObjectType rootType :
+                Arrays.asList(
+                        schema.getQueryType(),
+                        schema.getMutationType(),
+                        schema.getSubscriptionType())) {
+            if (rootType == null) {
+                continue;
+            }
+            Node rootNode = typeNodeMap.get(rootType);
+            if (rootNode != null && rootNode.distance == -1) {
+                rootNode.distance = 0;
+                queue.offer(rootNode);
+            }
         }
     }
 
@@ -444,15 +489,23 @@ public class GraphQlCycleDetector {
         int index = -1;
         int lowLink = -1;
         boolean onStack = false;
+        int distance = -1;
+        Node predecessor;
         Set<Node> neighbors = new HashSet<>();
     }
 
-    private record SCC(List<Node> nodes) {
-        // SCC stands for "Strongly Connected Component".
-        // Ref: https://en.wikipedia.org/wiki/Strongly_connected_component
-    }
+    /** The state of a node being visited, in place of a recursive call. */
+    private static class SearchFrame {
+        final Node node;
+        final Iterator<Node> neighbors;
+        boolean foundCycle;
+        boolean closedCycle;
 
-    private record PathInfo(List<Node> path, int distance) {}
+        SearchFrame(Node node) {
+            this.node = node;
+            this.neighbors = node.neighbors.iterator();
+        }
+    }
 
     private record Cycle(List<Node> nodes) {
         @Override
@@ -46,7 +46,9 @@ import net.sf.json.JSONObject;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.ValueProvider;
+import org.zaproxy.addon.commonlib.http.RequestDispatcher;
 import org.zaproxy.addon.graphql.GraphQlParam.RequestMethodOption;
 
 public class GraphQlGenerator {
@@ -67,6 +69,13 @@ public class GraphQlGenerator {
     private final int maxMessages;
     private int messagesSent;
 
+    private RequestDispatcher<List<HttpMessage>> dispatcher;
+
+    private final List<String> batchQueries = new ArrayList<>();
+    private final List<String> batchVariables = new ArrayList<>();
+    private boolean batchingSupported = true;
+    private boolean batchingConfirmed;
+
     public GraphQlGenerator(
             ValueProvider valueProvider,
             String sdl,
@@ -103,8 +112,32 @@ public class GraphQlGenerator {
         requestor.sendQuery(query, RequestMethodOption.POST_GRAPHQL);
     }
 
-    /** Generates and sends graphql requests based on user set parameters. */
+    /**
+     * Generates and sends graphql requests based on user set parameters.
+     *
+     * <p>The queries are sent with the configured number of threads, the listeners of the
+     * requestor are notified in the order the queries were generated.
+     */
     public void generateAndSend() {
+        if (param.getThreadCount() <= 1) {
+            generateAndSendAll();
+            return;
+        }
+
+        try (RequestDispatcher<List<HttpMessage>> queryDispatcher =
+                new RequestDispatcher<>(
+                        "ZAP-GraphQL-Requestor-",
+                        param.getThreadCount(),
+                        0,
+                        requestor::notifyListeners)) {
+            dispatcher = queryDispatcher;
+            generateAndSendAll();
+        } finally {
+            dispatcher = null;
+        }
+    }
+
+    private void generateAndSendAll() {
         switch (param.getArgsType()) {
             case INLINE:
                 inlineArgsEnabled = true;
@@ -182,6 +215,7 @@ public class GraphQlGenerator {
                 sendByLeaf(RequestType.SUBSCRIPTION);
                 break;
         }
+        sendPendingBatch();
     }
 
     private void sendFull(RequestType requestType) {
@@ -245,10 +279,91 @@ public class GraphQlGenerator {
             throw new InterruptedException();
         }
         prefixRequestType(query, requestType);
-        requestor.sendQuery(query.toString(), variables.toString(), param.getRequestMethod());
+        if (isBatching()) {
+            batchQueries.add(query.toString());
+            batchVariables.add(variables.toString());
+            if (batchQueries.size() >= param.getBatchSize()) {
+                sendPendingBatch();
+            }
+        } else {
+            sendQuery(query.toString(), variables.toString(), param.getRequestMethod());
+        }
         messagesSent++;
     }
 
+    private void sendQuery(String query, String variables, RequestMethodOption method) {
+        if (dispatcher == null) {
+            requestor.sendQuery(query, variables, method);
+            return;
+        }
+        dispatcher.submit(
+                null, () -> requestor.sendQueryWithoutNotifying(query, variables, method));
+    }
+
+    private boolean isBatching() {
+        return batchingSupported
+                && param.getBatchSize() > 1
+                && param.getRequestMethod() == RequestMethodOption.POST_JSON;
+    }
+
+    private void sendPendingBatch() {
+        if (batchQueries.isEmpty()) {
+            return;
+        }
+        List<String> queries = new ArrayList<>(batchQueries);
+        List<String> variables = new ArrayList<>(batchVariables);
+        batchQueries.clear();
+        batchVariables.clear();
+        sendBatch(queries, variables);
+    }
+
+    /**
+     * Sends the given queries in a single request. If the response is not a batched response the
+     * queries are sent individually when the endpoint did not yet accept a batch (i.e. batching is
+     * not supported), otherwise the batch is split in half and each half is sent again.
+     */
+    private void sendBatch(List<String> queries, List<String> variables) {
+        if (queries.size() == 1) {
+            requestor.sendQuery(queries.get(0), variables.get(0), RequestMethodOption.POST_JSON);
+            return;
+        }
+
+        HttpMessage msg = requestor.sendBatchQuery(queries, variables);
+        if (isBatchResponse(msg, queries.size())) {
+            batchingConfirmed = true;
+            return;
+        }
+
+        if (!batchingConfirmed) {
+            LOGGER.debug("The endpoint does not support batching, sending queries individually.");
+            batchingSupported = false;
+            for (int i = 0; i < queries.size(); i++) {
+                sendQuery(queries.get(i), variables.get(i), RequestMethodOption.POST_JSON);
+            }
+            return;
+        }
+
+        int half = queries.size() / 2;
+        sendBatch(queries.subList(0, half), variables.subList(0, half));
+        sendBatch(
+                queries.subList(half, queries.size()), variables.subList(half, variables.size()));
+    }
+
+    private static boolean isBatchResponse(HttpMessage msg, int expectedSize) {
+        if (msg == null || msg.getResponseHeader().isEmpty()) {
+            return false;
+        }
+        String body = msg.getResponseBody().toString().trim();
+        if (!body.startsWith("[")) {
+            return false;
+        }
+        try {
+            return JSONArray.fromObject(body).size() == expectedSize;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
     private GraphQLObjectType getRequestTypeObject(RequestType requestType) {
         switch (requestType) {
             case MUTATION:
@@ -60,6 +60,10 @@ public class GraphQlOptionsPanel extends AbstractParamPanel {
     private JLabel maxAdditionalQueryDepthLabel;
     private JComboBox<CycleDetectionModeOption> cycleDetectionModeOptions;
     private ZapNumberSpinner maxCycleDetectionAlertsNumberSpinner;
+    private ZapNumberSpinner maxCycleDetectionLengthNumberSpinner;
+    private ZapNumberSpinner maxCycleDetectionDurationNumberSpinner;
+    private ZapNumberSpinner batchSizeNumberSpinner;
+    private ZapNumberSpinner threadCountNumberSpinner;
 
     public GraphQlOptionsPanel() {
         super();
@@ -89,8 +93,12 @@ public class GraphQlOptionsPanel extends AbstractParamPanel {
         getArgsTypeOptions().setSelectedItem(param.getArgsType());
         getQuerySplitOptions().setSelectedItem(param.getQuerySplitType());
         getRequestMethodOptions().setSelectedItem(param.getRequestMethod());
+        getBatchSizeNumberSpinner().setValue(param.getBatchSize());
+        getThreadCountNumberSpinner().setValue(param.getThreadCount());
         getCycleDetectionModeOptions().setSelectedItem(param.getCycleDetectionMode());
         getMaxCycleDetectionAlertsNumberSpinner().setValue(param.getMaxCycleDetectionAlerts());
+        getMaxCycleDetectionLengthNumberSpinner().setValue(param.getMaxCycleDetectionLength());
+        getMaxCycleDetectionDurationNumberSpinner().setValue(param.getMaxCycleDetectionDuration());
     }
 
     @Override
@@ -107,9 +115,13 @@ public class GraphQlOptionsPanel extends AbstractParamPanel {
         param.setArgsType((ArgsTypeOption) getArgsTypeOptions().getSelectedItem());
         param.setQuerySplitType((QuerySplitOption) getQuerySplitOptions().getSelectedItem());
         param.setRequestMethod((RequestMethodOption) getRequestMethodOptions().getSelectedItem());
+        param.setBatchSize(getBatchSizeNumberSpinner().getValue());
+        param.setThreadCount(getThreadCountNumberSpinner().getValue());
         param.setCycleDetectionMode(
                 (CycleDetectionModeOption) getCycleDetectionModeOptions().getSelectedItem());
         param.setMaxCycleDetectionAlerts(getMaxCycleDetectionAlertsNumberSpinner().getValue());
+        param.setMaxCycleDetectionLength(getMaxCycleDetectionLengthNumberSpinner().getValue());
+        param.setMaxCycleDetectionDuration(getMaxCycleDetectionDurationNumberSpinner().getValue());
     }
 
     private JCheckBox getQueryGenEnabled() {
@@ -155,6 +167,10 @@ public class GraphQlOptionsPanel extends AbstractParamPanel {
                     new JLabel(Constant.messages.getString("graphql.options.label.split"));
             JLabel requestMethodLabel =
                     new JLabel(Constant.messages.getString("graphql.options.label.requestMethod"));
+            JLabel batchSizeLabel =
+                    new JLabel(Constant.messages.getString("graphql.options.label.batchSize"));
+            JLabel threadCountLabel =
+                    new JLabel(Constant.messages.getString("graphql.options.label.threadCount"));
 
             int i = -1;
             queryGenConfigPanel.add(
@@ -196,6 +212,16 @@ public class GraphQlOptionsPanel extends AbstractParamPanel {
             queryGenConfigPanel.add(
                     getRequestMethodOptions(),
                     LayoutHelper.getGBC(1, i, 1, 1.0, new Insets(2, 2, 2, 2)));
+            queryGenConfigPanel.add(
+                    batchSizeLabel, LayoutHelper.getGBC(0, ++i, 1, 1.0, new Insets(2, 2, 2, 2)));
+            queryGenConfigPanel.add(
+                    getBatchSizeNumberSpinner(),
+                    LayoutHelper.getGBC(1, i, 1, 1.0, new Insets(2, 2, 2, 2)));
+            queryGenConfigPanel.add(
+                    threadCountLabel, LayoutHelper.getGBC(0, ++i, 1, 1.0, new Insets(2, 2, 2, 2)));
+            queryGenConfigPanel.add(
+                    getThreadCountNumberSpinner(),
+                    LayoutHelper.getGBC(1, i, 1, 1.0, new Insets(2, 2, 2, 2)));
         }
         return queryGenConfigPanel;
     }
@@ -215,6 +241,14 @@ public class GraphQlOptionsPanel extends AbstractParamPanel {
                     new JLabel(
                             Constant.messages.getString(
                                     "graphql.options.label.cycleDetectionMaxAlerts"));
+            JLabel maxLengthLabel =
+                    new JLabel(
+                            Constant.messages.getString(
+                                    "graphql.options.label.cycleDetectionMaxLength"));
+            JLabel maxDurationLabel =
+                    new JLabel(
+                            Constant.messages.getString(
+                                    "graphql.options.label.cycleDetectionMaxDuration"));
 
             int y = -1;
             cycleDetectionConfigPanel.add(
@@ -227,6 +261,16 @@ public class GraphQlOptionsPanel extends AbstractParamPanel {
             cycleDetectionConfigPanel.add(
                     getMaxCycleDetectionAlertsNumberSpinner(),
                     LayoutHelper.getGBC(1, y, 1, 1.0, new Insets(2, 2, 2, 2)));
+            cycleDetectionConfigPanel.add(
+                    maxLengthLabel, LayoutHelper.getGBC(0, ++y, 1, 1.0, new Insets(2, 2, 2, 2)));
+            cycleDetectionConfigPanel.add(
+                    getMaxCycleDetectionLengthNumberSpinner(),
+                    LayoutHelper.getGBC(1, y, 1, 1.0, new Insets(2, 2, 2, 2)));
+            cycleDetectionConfigPanel.add(
+                    maxDurationLabel, LayoutHelper.getGBC(0, ++y, 1, 1.0, new Insets(2, 2, 2, 2)));
+            cycleDetectionConfigPanel.add(
+                    getMaxCycleDetectionDurationNumberSpinner(),
+                    LayoutHelper.getGBC(1, y, 1, 1.0, new Insets(2, 2, 2, 2)));
         }
         return cycleDetectionConfigPanel;
     }
@@ -349,6 +393,42 @@ public class GraphQlOptionsPanel extends AbstractParamPanel {
         return maxCycleDetectionAlertsNumberSpinner;
     }
 
+    private ZapNumberSpinner getMaxCycleDetectionLengthNumberSpinner() {
+        if (maxCycleDetectionLengthNumberSpinner == null) {
+            maxCycleDetectionLengthNumberSpinner =
+                    new ZapNumberSpinner(
+                            0, GraphQlParam.DEFAULT_MAX_CYCLE_DETECTION_LENGTH, Integer.MAX_VALUE);
+        }
+        return maxCycleDetectionLengthNumberSpinner;
+    }
+
+    private ZapNumberSpinner getMaxCycleDetectionDurationNumberSpinner() {
+        if (maxCycleDetectionDurationNumberSpinner == null) {
+            maxCycleDetectionDurationNumberSpinner =
+                    new ZapNumberSpinner(
+                            0,
+                            GraphQlParam.DEFAULT_MAX_CYCLE_DETECTION_DURATION,
+                            Integer.MAX_VALUE);
+        }
+        return maxCycleDetectionDurationNumberSpinner;
+    }
+
+    private ZapNumberSpinner getBatchSizeNumberSpinner() {
+        if (batchSizeNumberSpinner == null) {
+            batchSizeNumberSpinner =
+                    new ZapNumberSpinner(1, GraphQlParam.DEFAULT_BATCH_SIZE, Integer.MAX_VALUE);
+        }
+        return batchSizeNumberSpinner;
+    }
+
+    private ZapNumberSpinner getThreadCountNumberSpinner() {
+        if (threadCountNumberSpinner == null) {
+            threadCountNumberSpinner =
+                    new ZapNumberSpinner(1, GraphQlParam.DEFAULT_THREAD_COUNT, Integer.MAX_VALUE);
+        }
+        return threadCountNumberSpinner;
+    }
+
     @Override
     public String getHelpIndex() {
         return "graphql.options";
@@ -46,6 +46,12 @@ public class GraphQlParam extends VersionedAbstractParam {
     private static final String PARAM_CYCLE_DETECTION_MODE = PARAM_BASE_KEY + ".cycleDetectionMode";
     private static final String PARAM_CYCLE_DETECTION_MAX_ALERTS =
             PARAM_BASE_KEY + ".cycleDetectionMaxAlerts";
+    private static final String PARAM_CYCLE_DETECTION_MAX_LENGTH =
+            PARAM_BASE_KEY + ".cycleDetectionMaxLength";
+    private static final String PARAM_CYCLE_DETECTION_MAX_DURATION =
+            PARAM_BASE_KEY + ".cycleDetectionMaxDuration";
+    private static final String PARAM_BATCH_SIZE = PARAM_BASE_KEY + ".batchSize";
+    private static final String PARAM_THREAD_COUNT = PARAM_BASE_KEY + ".threadCount";
 
     public static final boolean DEFAULT_QUERY_GEN_ENABLED = true;
     public static final int DEFAULT_MAX_QUERY_DEPTH = 5;
@@ -59,6 +65,10 @@ public class GraphQlParam extends VersionedAbstractParam {
     public static final CycleDetectionModeOption DEFAULT_CYCLE_DETECTION_MODE =
             CycleDetectionModeOption.QUICK;
     public static final int DEFAULT_MAX_CYCLE_DETECTION_ALERTS = 100;
+    public static final int DEFAULT_MAX_CYCLE_DETECTION_LENGTH = 0;
+    public static final int DEFAULT_MAX_CYCLE_DETECTION_DURATION = 0;
+    public static final int DEFAULT_BATCH_SIZE = 1;
+    public static final int DEFAULT_THREAD_COUNT = 1;
 
     /**
      * The version of the configurations. Used to keep track of configurations changes between
@@ -94,6 +104,8 @@ public class GraphQlParam extends VersionedAbstractParam {
         this.requestMethod = requestMethod;
         this.cycleDetectionMode = cycleDetectionMode;
         this.maxCycleDetectionAlerts = maxCycleDetectionAlerts;
+        this.batchSize = DEFAULT_BATCH_SIZE;
+        this.threadCount = DEFAULT_THREAD_COUNT;
     }
 
     /** This option is used to specify how field arguments should be included. */
@@ -189,6 +201,10 @@ public class GraphQlParam extends VersionedAbstractParam {
     private RequestMethodOption requestMethod;
     private CycleDetectionModeOption cycleDetectionMode;
     private int maxCycleDetectionAlerts;
+    private int maxCycleDetectionLength;
+    private int maxCycleDetectionDuration;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int threadCount = DEFAULT_THREAD_COUNT;
 
     public int getMaxQueryDepth() {
         return maxQueryDepth;
@@ -334,6 +350,96 @@ public class GraphQlParam extends VersionedAbstractParam {
         getConfig().setProperty(PARAM_CYCLE_DETECTION_MAX_ALERTS, maxCycleDetectionAlerts);
     }
 
+    /**
+     * Gets the maximum number of types in the cycles detected, longer cycles are not followed.
+     *
+     * @return the maximum length, {@code 0} for no limit.
+     * @since 0.35.0
+     */
+    public int getMaxCycleDetectionLength() {
+        return maxCycleDetectionLength;
+    }
+
+    /**
+     * Sets the maximum number of types in the cycles detected.
+     *
+     * @param maxCycleDetectionLength the maximum length, {@code 0} for no limit.
+     * @since 0.35.0
+     */
+    public void setMaxCycleDetectionLength(int maxCycleDetectionLength) {
+        this.maxCycleDetectionLength = maxCycleDetectionLength;
+        getConfig().setProperty(PARAM_CYCLE_DETECTION_MAX_LENGTH, maxCycleDetectionLength);
+    }
+
+    /**
+     * Gets the maximum time, in seconds, spent detecting cycles in an imported schema.
+     *
+     * @return the maximum duration in seconds, {@code 0} for no limit.
+     * @since 0.35.0
+     */
+    public int getMaxCycleDetectionDuration() {
+        return maxCycleDetectionDuration;
+    }
+
+    /**
+     * Sets the maximum time, in seconds, spent detecting cycles in an imported schema.
+     *
+     * @param maxCycleDetectionDuration the maximum duration in seconds, {@code 0} for no limit.
+     * @since 0.35.0
+     */
+    public void setMaxCycleDetectionDuration(int maxCycleDetectionDuration) {
+        this.maxCycleDetectionDuration = maxCycleDetectionDuration;
+        getConfig().setProperty(PARAM_CYCLE_DETECTION_MAX_DURATION, maxCycleDetectionDuration);
+    }
+
+    /**
+     * Gets the maximum number of generated operations sent in a single (array-batched) request.
+     *
+     * <p>Batching is only used with the {@link RequestMethodOption#POST_JSON POST_JSON} request
+     * method, a value of {@code 1} (or lower) disables it.
+     *
+     * @return the batch size.
+     * @since 0.35.0
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum number of generated operations sent in a single (array-batched) request.
+     *
+     * @param batchSize the batch size, {@code 1} (or lower) to disable batching.
+     * @since 0.35.0
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        getConfig().setProperty(PARAM_BATCH_SIZE, batchSize);
+    }
+
+    /**
+     * Gets the number of threads used to send the generated queries.
+     *
+     * <p>The queries sent in batches are not sent concurrently.
+     *
+     * @return the number of threads.
+     * @since 0.35.0
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Sets the number of threads used to send the generated queries.
+     *
+     * @param threadCount the number of threads, {@code 1} (or lower) to send the queries one at a
+     *     time.
+     * @since 0.35.0
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+        getConfig().setProperty(PARAM_THREAD_COUNT, threadCount);
+    }
+
     @Override
     protected String getConfigVersionKey() {
         return PARAM_BASE_KEY + VERSION_ATTRIBUTE;
@@ -360,6 +466,12 @@ public class GraphQlParam extends VersionedAbstractParam {
         cycleDetectionMode = getEnum(PARAM_CYCLE_DETECTION_MODE, DEFAULT_CYCLE_DETECTION_MODE);
         maxCycleDetectionAlerts =
                 getInt(PARAM_CYCLE_DETECTION_MAX_ALERTS, DEFAULT_MAX_CYCLE_DETECTION_ALERTS);
+        maxCycleDetectionLength =
+                getInt(PARAM_CYCLE_DETECTION_MAX_LENGTH, DEFAULT_MAX_CYCLE_DETECTION_LENGTH);
+        maxCycleDetectionDuration =
+                getInt(PARAM_CYCLE_DETECTION_MAX_DURATION, DEFAULT_MAX_CYCLE_DETECTION_DURATION);
+        batchSize = getInt(PARAM_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        threadCount = getInt(PARAM_THREAD_COUNT, DEFAULT_THREAD_COUNT);
     }
 
     @Override
@@ -22,6 +22,8 @@ package org.zaproxy.addon.graphql;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import net.sf.json.JSONArray;
 import net.sf.json.JSONObject;
 import org.apache.commons.httpclient.URI;
 import org.parosproxy.paros.network.HttpHeader;
@@ -48,6 +50,24 @@ public class GraphQlQueryMessageBuilder {
         };
     }
 
+    /**
+     * Builds a POST request with a JSON array body, containing one operation per query.
+     *
+     * @param queries the queries to batch.
+     * @param variables the variables of each query, empty if the query has none.
+     * @return the message with the batched operations.
+     * @throws IOException if an error occurred while building the message.
+     * @since 0.35.0
+     */
+    public HttpMessage buildBatchQueryMessage(List<String> queries, List<String> variables)
+            throws IOException {
+        JSONArray msgBodyJson = new JSONArray();
+        for (int i = 0; i < queries.size(); i++) {
+            msgBodyJson.add(createJsonOperation(queries.get(i), variables.get(i)));
+        }
+        return buildJsonPostMessage(msgBodyJson.toString());
+    }
+
     private HttpMessage buildGetQueryMessage(String query, String variables) throws IOException {
         String updatedEndpointUrl =
                 endpointUrl
@@ -82,12 +102,20 @@ public class GraphQlQueryMessageBuilder {
 
     private HttpMessage buildJsonPostQueryMessage(String query, String variables)
             throws IOException {
-        JSONObject msgBodyJson = new JSONObject();
-        msgBodyJson.put("query", query);
+        return buildJsonPostMessage(createJsonOperation(query, variables).toString());
+    }
+
+    private static JSONObject createJsonOperation(String query, String variables) {
+        JSONObject operation = new JSONObject();
+        operation.put("query", query);
         if (!variables.isEmpty()) {
-            msgBodyJson.put("variables", variables);
+            operation.put("variables", variables);
         }
-        HttpRequestBody msgBody = new HttpRequestBody(msgBodyJson.toString());
+        return operation;
+    }
+
+    private HttpMessage buildJsonPostMessage(String body) throws IOException {
+        HttpRequestBody msgBody = new HttpRequestBody(body);
 
         HttpRequestHeader msgHeader =
                 new HttpRequestHeader(HttpRequestHeader.POST, endpointUrl, HttpHeader.HTTP11);
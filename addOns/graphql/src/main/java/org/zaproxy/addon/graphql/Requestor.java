@@ -63,10 +63,76 @@ public class Requestor {
         return null;
     }
 
+    /**
+     * Sends the given queries in a single, array-batched, request.
+     *
+     * @param queries the queries to send.
+     * @param variables the variables of each query, empty if the query has none.
+     * @return the message sent, or {@code null} if an error occurred while sending it.
+     * @since 0.35.0
+     */
+    public HttpMessage sendBatchQuery(List<String> queries, List<String> variables) {
+        try {
+            HttpMessage message = queryMsgBuilder.buildBatchQueryMessage(queries, variables);
+            send(message);
+            return message;
+        } catch (IOException e) {
+            LOGGER.warn(e.getMessage(), e);
+        }
+        return null;
+    }
+
     public void send(HttpMessage message) throws IOException {
         sender.sendAndReceive(message, requestConfig);
     }
 
+    /**
+     * Sends the given query without notifying the listeners, the messages sent are returned to be
+     * notified later, with {@link #notifyListeners(List)}.
+     *
+     * <p>Allows to send the queries concurrently while still notifying the listeners in order.
+     *
+     * @param query the query.
+     * @param variables the variables of the query, empty if none.
+     * @param method the request method.
+     * @return the messages sent, including redirections, never {@code null}.
+     */
+    List<HttpMessage> sendQueryWithoutNotifying(
+            String query, String variables, GraphQlParam.RequestMethodOption method) {
+        List<HttpMessage> messages = new ArrayList<>(1);
+        HttpRequestConfig config =
+                HttpRequestConfig.builder()
+                        .setRedirectionValidator(new MessageCollector(messages))
+                        .build();
+        try {
+            HttpMessage message = queryMsgBuilder.buildQueryMessage(query, variables, method);
+            sender.sendAndReceive(message, config);
+        } catch (IOException e) {
+            LOGGER.warn(e.getMessage(), e);
+        }
+        return messages;
+    }
+
+    /**
+     * Notifies the listeners of the given messages.
+     *
+     * @param messages the messages sent.
+     * @see #sendQueryWithoutNotifying(String, String, GraphQlParam.RequestMethodOption)
+     */
+    void notifyListeners(List<HttpMessage> messages) {
+        messages.forEach(this::notifyListeners);
+    }
+
+    private void notifyListeners(HttpMessage message) {
+        for (RequesterListener listener : listeners) {
+            try {
+                listener.handleMessage(message, initiator);
+            } catch (Exception e) {
+                LOGGER.warn(e.getMessage(), e);
+            }
+        }
+    }
+
     public void addListener(RequesterListener listener) {
         this.listeners.add(listener);
     }
@@ -80,13 +146,27 @@ public class Requestor {
 
         @Override
         public void notifyMessageReceived(HttpMessage message) {
-            for (RequesterListener listener : listeners) {
-                try {
-                    listener.handleMessage(message, initiator);
-                } catch (Exception e) {
-                    LOGGER.warn(e.getMessage(), e);
-                }
-            }
+            notifyListeners(message);
+        }
+
+        @Override
+        public boolean isValid(URI redirection) {
+            return true;
+        }
+    }
+
+    /** Collects the messages sent, to notify the {@link #listeners} later. */
+    private static class MessageCollector implements HttpRedirectionValidator {
+
+        private final List<HttpMessage> messages;
+
+        MessageCollector(List<HttpMessage> messages) {
+            this.messages = messages;
+        }
+
+        @Override
+        public void notifyMessageReceived(HttpMessage message) {
+            messages.add(message);
         }
 
         @Override
@@ -19,9 +19,15 @@
  */
 package org.zaproxy.addon.graphql;
 
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.TreeSet;
 import net.sf.json.JSONArray;
 import net.sf.json.JSONObject;
@@ -40,13 +46,39 @@ import org.zaproxy.zap.model.SessionStructure;
 public class VariantGraphQl implements Variant {
 
     private static final Logger LOGGER = LogManager.getLogger(VariantGraphQl.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final InlineInjector injector = new InlineInjector();
     private final List<NameValuePair> params = new ArrayList<>();
 
     private static final String QUERY_KEY = "query";
 
+    /** The separator between the index of the operation and the name of a batched parameter. */
+    private static final char BATCH_PARAM_SEPARATOR = ':';
+
     @Override
     public void setMessage(HttpMessage msg) {
+        ArrayNode batch = getBatch(msg);
+        if (batch != null) {
+            params.clear();
+            for (int i = 0; i < batch.size(); i++) {
+                String prefix = i + String.valueOf(BATCH_PARAM_SEPARATOR);
+                String query = getBatchQuery(batch, i);
+                if (query == null) {
+                    continue;
+                }
+                injector.extract(query)
+                        .forEach(
+                                (name, value) ->
+                                        params.add(
+                                                new NameValuePair(
+                                                        NameValuePair.TYPE_GRAPHQL_INLINE,
+                                                        prefix + name,
+                                                        value,
+                                                        params.size())));
+            }
+            return;
+        }
+
         String query = getQuery(msg);
         if (query == null) {
             return;
@@ -117,6 +149,69 @@ public class VariantGraphQl implements Variant {
         return injector.validateQuery(query) ? query : null;
     }
 
+    /**
+     * Gets the operations of an array-batched request.
+     *
+     * @param msg the message.
+     * @return the operations, or {@code null} if the message is not an array-batched request with
+     *     at least one GraphQL query.
+     */
+    private ArrayNode getBatch(HttpMessage msg) {
+        HttpRequestHeader header = msg.getRequestHeader();
+        if (!HttpRequestHeader.POST.equals(header.getMethod())) {
+            return null;
+        }
+        String body = msg.getRequestBody().toString().trim();
+        if (!body.startsWith("[")) {
+            return null;
+        }
+        var contentTypeHeader = header.getNormalisedContentTypeValue();
+        if (contentTypeHeader != null
+                && !contentTypeHeader.contains(HttpHeader.JSON_CONTENT_TYPE)) {
+            return null;
+        }
+        try {
+            JsonNode node = OBJECT_MAPPER.readTree(body);
+            if (node instanceof ArrayNode batch) {
+                for (int i = 0; i < batch.size(); i++) {
+                    if (getBatchQuery(batch, i) != null) {
+                        return batch;
+                    }
+                }
+            }
+        } catch (JacksonException e) {
+            // Not a JSON array, handled as a single query.
+        }
+        return null;
+    }
+
+    private String getBatchQuery(ArrayNode batch, int index) {
+        JsonNode query = batch.get(index).get(QUERY_KEY);
+        if (query == null || !query.isTextual()) {
+            return null;
+        }
+        return injector.validateQuery(query.asText()) ? query.asText() : null;
+    }
+
+    private String setBatchParameter(HttpMessage msg, ArrayNode batch, String param, String value) {
+        int separatorIdx = param.indexOf(BATCH_PARAM_SEPARATOR);
+        try {
+            int index = Integer.parseInt(param.substring(0, separatorIdx));
+            String query = getBatchQuery(batch, index);
+            if (query == null) {
+                return null;
+            }
+            String name = param.substring(separatorIdx + 1);
+            ((ObjectNode) batch.get(index)).put(QUERY_KEY, injector.inject(query, name, value));
+            msg.setRequestBody(batch.toString());
+            msg.getRequestHeader().setContentLength(msg.getRequestBody().length());
+            return value;
+        } catch (Exception e) {
+            LOGGER.warn("Failed to set parameter in batched GraphQL message: {}", e.getMessage());
+            return null;
+        }
+    }
+
     private void setQuery(HttpMessage msg, String query) {
         HttpRequestHeader header = msg.getRequestHeader();
         String body = msg.getRequestBody().toString();
@@ -154,6 +249,11 @@ public class VariantGraphQl implements Variant {
     @Override
     public String setParameter(
             HttpMessage msg, NameValuePair originalPair, String param, String value) {
+        ArrayNode batch = getBatch(msg);
+        if (batch != null) {
+            return setBatchParameter(msg, batch, param, value);
+        }
+
         String query = getQuery(msg);
         if (query == null) {
             return null;
@@ -177,16 +277,34 @@ public class VariantGraphQl implements Variant {
 
     @Override
     public List<String> getTreePath(HttpMessage msg) throws URIException {
-        String query = getQuery(msg);
-        if (query == null) {
-            return null;
+        List<String> queries = new ArrayList<>();
+        ArrayNode batch = getBatch(msg);
+        if (batch != null) {
+            for (int i = 0; i < batch.size(); i++) {
+                String query = getBatchQuery(batch, i);
+                if (query != null) {
+                    queries.add(query);
+                }
+            }
+        } else {
+            String query = getQuery(msg);
+            if (query == null) {
+                return null;
+            }
+            queries.add(query);
         }
         URI uri = msg.getRequestHeader().getURI();
         String[] path = uri.getPath() != null ? uri.getPath().split("/") : new String[0];
         List<String> treePath = new ArrayList<>(path.length + 1);
         Collections.addAll(treePath, path);
-        treePath.add(injector.extractOperations(query));
-        treePath.add(injector.getNodeName(query));
+        Set<String> operations = new TreeSet<>();
+        List<String> nodeNames = new ArrayList<>(queries.size());
+        for (String query : queries) {
+            Collections.addAll(operations, injector.extractOperations(query).split(", "));
+            nodeNames.add(injector.getNodeName(query));
+        }
+        treePath.add(String.join(", ", operations));
+        treePath.add(String.join(", ", nodeNames));
         return treePath;
     }
 }
@@ -245,5 +245,10 @@ public class GraphQlJob extends AutomationJob {
         private String cycleDetectionMode =
                 GraphQlParam.DEFAULT_CYCLE_DETECTION_MODE.name().toLowerCase(Locale.ROOT);
         private Integer maxCycleDetectionAlerts = GraphQlParam.DEFAULT_MAX_CYCLE_DETECTION_ALERTS;
+        private Integer maxCycleDetectionLength = GraphQlParam.DEFAULT_MAX_CYCLE_DETECTION_LENGTH;
+        private Integer maxCycleDetectionDuration =
+                GraphQlParam.DEFAULT_MAX_CYCLE_DETECTION_DURATION;
+        private Integer batchSize = GraphQlParam.DEFAULT_BATCH_SIZE;
+        private Integer threadCount = GraphQlParam.DEFAULT_THREAD_COUNT;
     }
 }
@@ -61,10 +61,16 @@ public class GraphQlJobDialog extends StandardFieldsDialog {
     private static final String ARGS_TYPE_PARAM = "graphql.automation.dialog.argstype";
     private static final String QUERY_SPLIT_TYPE_PARAM = "graphql.automation.dialog.querysplittype";
     private static final String REQUEST_METHOD_PARAM = "graphql.automation.dialog.requestmethod";
+    private static final String BATCH_SIZE_PARAM = "graphql.automation.dialog.batchsize";
+    private static final String THREAD_COUNT_PARAM = "graphql.automation.dialog.threadcount";
     private static final String CYCLE_DETECTION_MODE_PARAM =
             "graphql.automation.dialog.cycleDetectionMode";
     private static final String MAX_CYCLE_DETECTION_ALERTS_PARAM =
             "graphql.automation.dialog.maxCycleAlerts";
+    private static final String MAX_CYCLE_DETECTION_LENGTH_PARAM =
+            "graphql.automation.dialog.maxCycleLength";
+    private static final String MAX_CYCLE_DETECTION_DURATION_PARAM =
+            "graphql.automation.dialog.maxCycleDuration";
 
     private GraphQlJob job;
 
@@ -175,6 +181,20 @@ public class GraphQlJobDialog extends StandardFieldsDialog {
                         : GraphQlParam.RequestMethodOption.POST_JSON);
         this.addComboField(1, REQUEST_METHOD_PARAM, requestMethodModel);
 
+        this.addNumberField(
+                1,
+                BATCH_SIZE_PARAM,
+                1,
+                Integer.MAX_VALUE,
+                JobUtils.unBox(this.job.getParameters().getBatchSize()));
+
+        this.addNumberField(
+                1,
+                THREAD_COUNT_PARAM,
+                1,
+                Integer.MAX_VALUE,
+                JobUtils.unBox(this.job.getParameters().getThreadCount()));
+
         this.addPadding(1);
 
         /* Cycle Detection Config Tab */
@@ -194,6 +214,18 @@ public class GraphQlJobDialog extends StandardFieldsDialog {
                 0,
                 Integer.MAX_VALUE,
                 JobUtils.unBox(this.job.getParameters().getMaxCycleDetectionAlerts()));
+        this.addNumberField(
+                2,
+                MAX_CYCLE_DETECTION_LENGTH_PARAM,
+                0,
+                Integer.MAX_VALUE,
+                JobUtils.unBox(this.job.getParameters().getMaxCycleDetectionLength()));
+        this.addNumberField(
+                2,
+                MAX_CYCLE_DETECTION_DURATION_PARAM,
+                0,
+                Integer.MAX_VALUE,
+                JobUtils.unBox(this.job.getParameters().getMaxCycleDetectionDuration()));
 
         this.addPadding(2);
     }
@@ -238,6 +270,8 @@ public class GraphQlJobDialog extends StandardFieldsDialog {
                 GraphQlParam.RequestMethodOption rm = (GraphQlParam.RequestMethodOption) rmObj;
                 this.job.getParameters().setRequestMethod(rm.name().toLowerCase());
             }
+            this.job.getParameters().setBatchSize(this.getIntValue(BATCH_SIZE_PARAM));
+            this.job.getParameters().setThreadCount(this.getIntValue(THREAD_COUNT_PARAM));
 
             Object cdmObj = cycleDetectionModel.getSelectedItem();
             if (cdmObj instanceof GraphQlParam.CycleDetectionModeOption) {
@@ -248,6 +282,13 @@ public class GraphQlJobDialog extends StandardFieldsDialog {
             this.job
                     .getParameters()
                     .setMaxCycleDetectionAlerts(this.getIntValue(MAX_CYCLE_DETECTION_ALERTS_PARAM));
+            this.job
+                    .getParameters()
+                    .setMaxCycleDetectionLength(this.getIntValue(MAX_CYCLE_DETECTION_LENGTH_PARAM));
+            this.job
+                    .getParameters()
+                    .setMaxCycleDetectionDuration(
+                            this.getIntValue(MAX_CYCLE_DETECTION_DURATION_PARAM));
 
         } else {
             this.job.getParameters().setMaxQueryDepth(null);
@@ -258,8 +299,12 @@ public class GraphQlJobDialog extends StandardFieldsDialog {
             this.job.getParameters().setArgsType(null);
             this.job.getParameters().setQuerySplitType(null);
             this.job.getParameters().setRequestMethod(null);
+            this.job.getParameters().setBatchSize(null);
+            this.job.getParameters().setThreadCount(null);
             this.job.getParameters().setCycleDetectionMode(null);
             this.job.getParameters().setMaxCycleDetectionAlerts(null);
+            this.job.getParameters().setMaxCycleDetectionLength(null);
+            this.job.getParameters().setMaxCycleDetectionDuration(null);
         }
         this.job.resetAndSetChanged();
     }
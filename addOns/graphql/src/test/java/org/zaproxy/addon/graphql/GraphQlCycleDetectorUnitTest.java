@@ -20,7 +20,9 @@
 package org.zaproxy.addon.graphql;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
@@ -47,6 +49,7 @@ import org.zaproxy.addon.graphql.GraphQlCycleDetector.GraphQlCycleDetectionResul
 import org.zaproxy.zap.extension.alert.ExtensionAlert;
 import org.zaproxy.zap.network.HttpRequestBody;
 import org.zaproxy.zap.testutils.TestUtils;
+import org.zaproxy.zap.utils.ZapXmlConfiguration;
 
 class GraphQlCycleDetectorUnitTest extends TestUtils {
     GraphQlParam param;
@@ -94,6 +97,76 @@ class GraphQlCycleDetectorUnitTest extends TestUtils {
                                                 "{}")))));
     }
 
+    @Test
+    void shouldDetectCyclesWithMoreThanTwoTypes() {
+        // Given
+        String sdl =
+                """
+                type Query { a: A }
+                type A { id: ID b: B }
+                type B { id: ID c: C }
+                type C { id: ID a: A }
+                """;
+        List<GraphQlCycleDetectionResult> results = new ArrayList<>();
+        // When
+        createCycleDetector(sdl).detectCycles(results::add);
+        // Then
+        assertThat(
+                results,
+                is(
+                        equalTo(
+                                List.of(
+                                        new GraphQlCycleDetectionResult(
+                                                "Query -> (A -> B -> C -> A)",
+                                                "query { a { b { c { a { id } } } } }",
+                                                "{}")))));
+    }
+
+    @Test
+    void shouldNotDetectCyclesLongerThanMaxLength() {
+        // Given
+        String sdl =
+                """
+                type Query { a: A }
+                type A { id: ID b: B }
+                type B { id: ID c: C }
+                type C { id: ID a: A }
+                """;
+        param = new GraphQlParam();
+        param.load(new ZapXmlConfiguration());
+        param.setCycleDetectionMode(GraphQlParam.CycleDetectionModeOption.EXHAUSTIVE);
+        param.setMaxCycleDetectionLength(2);
+        List<GraphQlCycleDetectionResult> results = new ArrayList<>();
+        // When
+        createCycleDetector(sdl).detectCycles(results::add);
+        // Then
+        assertThat(results, is(empty()));
+    }
+
+    @Test
+    void shouldDetectCyclesWithManyTypes() {
+        // Given
+        int typeCount = 5_000;
+        StringBuilder sdl = new StringBuilder("type Query { t0: T0 }\n");
+        for (int i = 0; i < typeCount; i++) {
+            int next = (i + 1) % typeCount;
+            sdl.append("type T").append(i).append(" { id: ID ");
+            sdl.append('t').append(next).append(": T").append(next).append(" }\n");
+        }
+        List<GraphQlCycleDetectionResult> results = new ArrayList<>();
+        // When
+        createCycleDetector(sdl.toString()).detectCycles(results::add);
+        // Then
+        assertThat(results, hasSize(1));
+    }
+
+    private GraphQlCycleDetector createCycleDetector(String sdl) {
+        GraphQLSchema schema =
+                UnExecutableSchemaGenerator.makeUnExecutableSchema(new SchemaParser().parse(sdl));
+        var generator = new GraphQlGenerator(valueProvider, schema, null, param, 0);
+        return new GraphQlCycleDetector(schema, generator, null, param);
+    }
+
     @Test
     void shouldRaiseAlertsForDetectedCycles() throws Exception {
         // Given
@@ -19,22 +19,32 @@
  */
 package org.zaproxy.addon.graphql;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.SchemaParser;
 import graphql.schema.idl.UnExecutableSchemaGenerator;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.ValueProvider;
 import org.zaproxy.addon.graphql.GraphQlParam.ArgsTypeOption;
 import org.zaproxy.addon.graphql.GraphQlParam.QuerySplitOption;
 import org.zaproxy.zap.testutils.TestUtils;
+import org.zaproxy.zap.utils.ZapXmlConfiguration;
 
 class GraphQlGeneratorUnitTest extends TestUtils {
     GraphQlGenerator generator;
@@ -89,6 +99,104 @@ class GraphQlGeneratorUnitTest extends TestUtils {
         verify(requestor, times(2)).sendQuery(anyString(), anyString(), any());
     }
 
+    @Test
+    void shouldSendQueriesInBatchesWhenBatchSizeSet() {
+        // Given
+        Requestor requestor = mock(Requestor.class);
+        given(requestor.sendBatchQuery(anyList(), anyList()))
+                .willAnswer(
+                        invocation -> {
+                            List<?> queries = invocation.getArgument(0);
+                            String body = "[{}" + ",{}".repeat(queries.size() - 1) + "]";
+                            return createBatchResponse(body);
+                        });
+        GraphQlGenerator batchGenerator = createBatchGenerator(requestor, 3);
+        // When
+        batchGenerator.generateAndSend();
+        // Then
+        verify(requestor, times(2)).sendBatchQuery(anyList(), anyList());
+        verify(requestor, never()).sendQuery(anyString(), anyString(), any());
+    }
+
+    @Test
+    void shouldSendQueriesIndividuallyIfBatchingNotSupported() {
+        // Given
+        Requestor requestor = mock(Requestor.class);
+        given(requestor.sendBatchQuery(anyList(), anyList()))
+                .willAnswer(invocation -> createBatchResponse("{\"errors\":[]}"));
+        GraphQlGenerator batchGenerator = createBatchGenerator(requestor, 3);
+        // When
+        batchGenerator.generateAndSend();
+        // Then
+        verify(requestor, times(1)).sendBatchQuery(anyList(), anyList());
+        verify(requestor, times(5)).sendQuery(anyString(), anyString(), any());
+    }
+
+    @Test
+    void shouldSendQueriesConcurrentlyAndNotifyInOrderWhenThreadCountSet() {
+        // Given
+        Requestor requestor = mock(Requestor.class);
+        given(requestor.sendQueryWithoutNotifying(anyString(), anyString(), any()))
+                .willAnswer(
+                        invocation -> {
+                            String query = invocation.getArgument(0);
+                            if (query.contains("name")) {
+                                Thread.sleep(50);
+                            }
+                            HttpMessage msg = new HttpMessage();
+                            msg.setRequestBody(query);
+                            return List.of(msg);
+                        });
+        List<String> notified = new ArrayList<>();
+        doAnswer(
+                        invocation -> {
+                            List<HttpMessage> msgs = invocation.getArgument(0);
+                            msgs.forEach(msg -> notified.add(msg.getRequestBody().toString()));
+                            return null;
+                        })
+                .when(requestor)
+                .notifyListeners(anyList());
+        GraphQlParam concurrentParam = new GraphQlParam();
+        concurrentParam.load(new ZapXmlConfiguration());
+        concurrentParam.setArgsType(ArgsTypeOption.INLINE);
+        concurrentParam.setThreadCount(3);
+        GraphQlGenerator concurrentGenerator =
+                new GraphQlGenerator(
+                        valueProvider,
+                        getHtml("scalarFieldsOnly.graphql"),
+                        requestor,
+                        concurrentParam,
+                        0);
+        // When
+        concurrentGenerator.generateAndSend();
+        // Then
+        verify(requestor, never()).sendQuery(anyString(), anyString(), any());
+        assertThat(
+                notified,
+                contains(
+                        "query { name } ",
+                        "query { id } ",
+                        "query { age } ",
+                        "query { height } ",
+                        "query { human } "));
+    }
+
+    private GraphQlGenerator createBatchGenerator(Requestor requestor, int batchSize) {
+        GraphQlParam batchParam = new GraphQlParam();
+        batchParam.load(new ZapXmlConfiguration());
+        batchParam.setArgsType(ArgsTypeOption.INLINE);
+        batchParam.setBatchSize(batchSize);
+        return new GraphQlGenerator(
+                valueProvider, getHtml("scalarFieldsOnly.graphql"), requestor, batchParam, 0);
+    }
+
+    private static HttpMessage createBatchResponse(String body) throws Exception {
+        HttpMessage msg = new HttpMessage();
+        msg.setResponseHeader("HTTP/1.1 200 OK\r\n");
+        msg.setResponseBody(body);
+        return msg;
+    }
+
     @Test
     void scalarFieldsOnly() {
         generator = createGraphQlGenerator(getHtml("scalarFieldsOnly.graphql"));
@@ -129,6 +129,22 @@ class GraphQlParamUnitTest {
         assertThat(options.getRequestMethod(), is(equalTo(RequestMethodOption.POST_JSON)));
     }
 
+    @Test
+    void shouldDefaultToNoBatching() {
+        // Given / When
+        options.load(config);
+        // Then
+        assertThat(options.getBatchSize(), is(equalTo(1)));
+    }
+
+    @Test
+    void shouldDefaultToOneThread() {
+        // Given / When
+        options.load(config);
+        // Then
+        assertThat(options.getThreadCount(), is(equalTo(1)));
+    }
+
     @Test
     void shouldWriteConfigCorrectly() {
         // Given
@@ -147,6 +163,10 @@ class GraphQlParamUnitTest {
         options.setRequestMethod(RequestMethodOption.POST_GRAPHQL);
         options.setCycleDetectionMode(CycleDetectionModeOption.EXHAUSTIVE);
         options.setMaxCycleDetectionAlerts(9999);
+        options.setMaxCycleDetectionLength(10);
+        options.setMaxCycleDetectionDuration(60);
+        options.setBatchSize(10);
+        options.setThreadCount(4);
         // Then
         assertThat(
                 ConfigurationUtils.toString(config).replaceAll("\\R", "\n"),
@@ -164,6 +184,10 @@ graphql.querySplitType=ROOT_FIELD
 graphql.requestMethod=POST_GRAPHQL
 graphql.cycleDetectionMode=EXHAUSTIVE
 graphql.cycleDetectionMaxAlerts=9999
+graphql.cycleDetectionMaxLength=10
+graphql.cycleDetectionMaxDuration=60
+graphql.batchSize=10
+graphql.threadCount=4
 graphql[@version]=2""")));
     }
 }
@@ -20,7 +20,9 @@
 package org.zaproxy.addon.graphql;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -152,6 +154,67 @@ class VariantGraphQlUnitTest {
                 is(true));
     }
 
+    @Test
+    void shouldExtractParametersOfEachOperationInBatchedRequest()
+            throws HttpMalformedHeaderException {
+        // Given
+        HttpMessage msg =
+                createJsonPostMessage(
+                        "[{\"query\":\"query { a (x: 1) }\"},{\"query\":\"query { b (y: 2) }\"}]");
+        // When
+        variant.setMessage(msg);
+        // Then
+        assertThat(variant.getParamList().size(), is(equalTo(2)));
+        assertThat(variant.getParamList().get(0).getName(), is(equalTo("0:a.x")));
+        assertThat(variant.getParamList().get(0).getValue(), is(equalTo("1")));
+        assertThat(variant.getParamList().get(1).getName(), is(equalTo("1:b.y")));
+        assertThat(variant.getParamList().get(1).getValue(), is(equalTo("2")));
+    }
+
+    @Test
+    void shouldSetParameterOnlyInItsOperationOfBatchedRequest()
+            throws HttpMalformedHeaderException {
+        // Given
+        HttpMessage msg =
+                createJsonPostMessage(
+                        "[{\"query\":\"query { a (x: 1) }\"},{\"query\":\"query { a (x: 1) }\"}]");
+        variant.setMessage(msg);
+        NameValuePair param = variant.getParamList().get(1);
+        // When
+        String value = variant.setParameter(msg, param, param.getName(), "3");
+        // Then
+        assertThat(value, is(equalTo("3")));
+        assertThat(
+                msg.getRequestBody().toString(),
+                is(
+                        equalTo(
+                                "[{\"query\":\"query { a (x: 1) }\"},{\"query\":\"{a(x:3)}\"}]")));
+    }
+
+    @Test
+    void shouldIncludeAllOperationsOfBatchedRequestInTreePath()
+            throws HttpMalformedHeaderException, URIException {
+        // Given
+        HttpMessage msg =
+                createJsonPostMessage(
+                        "[{\"query\":\"query { a (x: 1) }\"},{\"query\":\"mutation { b (y: 2) }\"}]");
+        // When
+        List<String> treePath = variant.getTreePath(msg);
+        // Then
+        assertThat(treePath, contains("", "graphql", "mutation, query", "(0) {a}, (0) mutation{b}"));
+    }
+
+    private static HttpMessage createJsonPostMessage(String body)
+            throws HttpMalformedHeaderException {
+        HttpRequestHeader httpReqHeader = new HttpRequestHeader();
+        httpReqHeader.setMessage("POST /graphql HTTP/1.1");
+        httpReqHeader.setHeader(HttpHeader.CONTENT_TYPE, "application/json");
+        HttpMessage msg = new HttpMessage(httpReqHeader);
+        msg.getRequestBody().setBody(body);
+        msg.getRequestHeader().setContentLength(msg.getRequestBody().length());
+        return msg;
+    }
+
     private static void handleError(String message) {
         logMessages.add(message);
     }
@@ -41,8 +41,7 @@ import org.parosproxy.paros.network.HttpMalformedHeaderException;
 import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.network.ExtensionNetwork;
 import org.zaproxy.addon.oast.OastState.OastStateEventType;
-import org.zaproxy.addon.oast.internal.AlertEntity;
-import org.zaproxy.addon.oast.internal.MessageEntity;
+import org.zaproxy.addon.oast.internal.OastAlertRegistry;
 import org.zaproxy.addon.oast.internal.OastPermanentDatabase;
 import org.zaproxy.addon.oast.services.boast.BoastEntity;
 import org.zaproxy.addon.oast.services.boast.BoastOptionsPanelTab;
@@ -83,6 +82,8 @@ public class ExtensionOast extends ExtensionAdaptor {
     private InteractshService interactshService;
     private OastPermanentDatabase permanentDatabase;
     private boolean wasUsePermanentDatabase;
+    private final OastAlertRegistry alertRegistry =
+            new OastAlertRegistry(this::getPermanentDatabase);
 
     public ExtensionOast() {
         super(NAME);
@@ -158,6 +159,7 @@ public class ExtensionOast extends ExtensionAdaptor {
             trimDatabase(oastParam.getDaysToKeepRecords());
         }
 
+        alertRegistry.start();
         boastService.startService();
         callbackService.startService();
         interactshService.startService();
@@ -168,6 +170,7 @@ public class ExtensionOast extends ExtensionAdaptor {
     }
 
     public void clearAllRecords() {
+        alertRegistry.clear();
         getPermanentDatabase().clearAllRecords();
         boastService.clearRegisteredServers();
         if (hasView()) {
@@ -311,8 +314,7 @@ public class ExtensionOast extends ExtensionAdaptor {
     }
 
     private void persistAlert(String payload, Alert alert) {
-        var messageEntity = new MessageEntity(alert.getMessage());
-        getPermanentDatabase().persistEntity(new AlertEntity(payload, messageEntity, alert));
+        alertRegistry.register(payload, alert);
     }
 
     private void activeScanAlertOastRequestHandler(OastRequest request) {
@@ -320,8 +322,8 @@ public class ExtensionOast extends ExtensionAdaptor {
             HttpMessage oastReceivedMsg = request.getHistoryReference().getHttpMessage();
             String uri = oastReceivedMsg.getRequestHeader().getURI().toString();
 
-            AlertEntity alertEntity = getPermanentDatabase().getAlertForPayload(uri);
-            if (alertEntity == null) {
+            Alert alert = alertRegistry.takeAlert(uri);
+            if (alert == null) {
                 LOGGER.warn(
                         "Not raising alert, the interaction {} through '{}' from {} was not found.",
                         uri,
@@ -330,7 +332,6 @@ public class ExtensionOast extends ExtensionAdaptor {
                 return;
             }
 
-            Alert alert = alertEntity.toAlert();
             StringBuilder otherInfo = new StringBuilder(alert.getOtherInfo());
             if (otherInfo.length() > 0) {
                 otherInfo.append('\n');
@@ -389,6 +390,7 @@ public class ExtensionOast extends ExtensionAdaptor {
         unregisterOastService(boastService);
         unregisterOastService(callbackService);
         unregisterOastService(interactshService);
+        alertRegistry.stop();
         getPermanentDatabase().close();
     }
 
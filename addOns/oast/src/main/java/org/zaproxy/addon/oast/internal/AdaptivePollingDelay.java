@@ -0,0 +1,71 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.oast.internal;
+
+import java.util.function.IntSupplier;
+
+/**
+ * The delay between the polls of an OAST service.
+ *
+ * <p>The service is polled at the minimum delay while interactions are being received, backing off
+ * (doubling the delay) when idle, up to the polling frequency configured by the user.
+ */
+public class AdaptivePollingDelay {
+
+    static final int MINIMUM_DELAY = 2;
+
+    private final IntSupplier pollingFrequency;
+    private int delay;
+
+    /**
+     * Constructs an {@code AdaptivePollingDelay} with the given polling frequency.
+     *
+     * @param pollingFrequency the supplier of the polling frequency, in seconds, the maximum delay.
+     */
+    public AdaptivePollingDelay(IntSupplier pollingFrequency) {
+        this.pollingFrequency = pollingFrequency;
+        reset();
+    }
+
+    /** Resets the delay to the polling frequency, for example, when the polling is restarted. */
+    public synchronized void reset() {
+        delay = getMaximumDelay();
+    }
+
+    /**
+     * Gets the delay until the next poll.
+     *
+     * @param interactions the number of interactions received in the last poll.
+     * @return the delay, in seconds.
+     */
+    public synchronized int next(int interactions) {
+        int max = getMaximumDelay();
+        if (interactions > 0) {
+            delay = MINIMUM_DELAY;
+        } else {
+            delay = Math.min(max, delay * 2);
+        }
+        return delay;
+    }
+
+    private int getMaximumDelay() {
+        return Math.max(MINIMUM_DELAY, pollingFrequency.getAsInt());
+    }
+}
@@ -44,8 +44,8 @@ public class AlertEntity {
 
     private String payload;
 
+    // Not dependent, the same message can be shared by several alerts.
     @Column(name = "MESSAGEID")
-    @Persistent(dependent = "true")
     private MessageEntity message;
 
     private int alertId;
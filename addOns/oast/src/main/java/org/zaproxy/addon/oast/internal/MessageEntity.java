@@ -20,6 +20,8 @@
 package org.zaproxy.addon.oast.internal;
 
 import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Objects;
 import javax.jdo.annotations.Cacheable;
 import javax.jdo.annotations.Column;
 import javax.jdo.annotations.IdGeneratorStrategy;
@@ -65,6 +67,55 @@ public class MessageEntity {
         }
     }
 
+    /**
+     * Constructs a {@code MessageEntity} with the contents of the given one.
+     *
+     * @param other the entity to copy.
+     */
+    public MessageEntity(MessageEntity other) {
+        timeSentMillis = other.timeSentMillis;
+        timeElapsedMillis = other.timeElapsedMillis;
+        reqHeader = other.reqHeader;
+        reqBody = other.reqBody;
+        responseFromTargetHost = other.responseFromTargetHost;
+        resHeader = other.resHeader;
+        resBody = other.resBody;
+    }
+
+    /**
+     * Tells whether or not the given entity has the same message contents as this one.
+     *
+     * @param other the other entity.
+     * @return {@code true} if the contents are the same, {@code false} otherwise.
+     */
+    public boolean hasSameContents(MessageEntity other) {
+        return timeSentMillis == other.timeSentMillis
+                && timeElapsedMillis == other.timeElapsedMillis
+                && responseFromTargetHost == other.responseFromTargetHost
+                && Objects.equals(reqHeader, other.reqHeader)
+                && Arrays.equals(reqBody, other.reqBody)
+                && Objects.equals(resHeader, other.resHeader)
+                && Arrays.equals(resBody, other.resBody);
+    }
+
+    /**
+     * Gets the hash code of the message contents, consistent with {@link
+     * #hasSameContents(MessageEntity)}.
+     *
+     * @return the hash code of the contents.
+     */
+    public int getContentsHash() {
+        int result =
+                Objects.hash(
+                        timeSentMillis,
+                        timeElapsedMillis,
+                        responseFromTargetHost,
+                        reqHeader,
+                        resHeader);
+        result = 31 * result + Arrays.hashCode(reqBody);
+        return 31 * result + Arrays.hashCode(resBody);
+    }
+
     public Timestamp getCreateTimestamp() {
         return createTimestamp;
     }
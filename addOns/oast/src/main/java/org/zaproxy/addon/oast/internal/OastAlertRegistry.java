@@ -0,0 +1,429 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.oast.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.parosproxy.paros.core.scanner.Alert;
+
+/**
+ * The alerts registered for OAST payloads.
+ *
+ * <p>The alerts are kept in memory, to be found without querying the database when the
+ * interactions are received, and persisted in batches in the background, sharing the messages with
+ * the same contents. The database is still queried for the payloads not known, for example,
+ * registered before a restart.
+ *
+ * <p>The alerts are indexed by the longest token (letters, digits, and hyphens) of their payloads,
+ * the payloads are generated identifiers (for example, host names or paths) which are delimited in
+ * the URIs of the interactions. The alerts taken are remembered until deleted from the database, to
+ * not raise them again for other interactions with the same payload.
+ *
+ * <p>The alerts that fail to be persisted or deleted are retried on the next flushes, up to {@link
+ * #MAX_FLUSH_ATTEMPTS} times.
+ */
+public class OastAlertRegistry {
+
+    static final int DEFAULT_BATCH_SIZE = 100;
+    static final long DEFAULT_FLUSH_INTERVAL_MS = 1000;
+    static final int DEFAULT_MAX_REGISTRATIONS = 10_000;
+    static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    private static final Logger LOGGER = LogManager.getLogger(OastAlertRegistry.class);
+
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("[A-Za-z0-9-]+");
+
+    private final Supplier<OastPermanentDatabase> database;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final int maxRegistrations;
+
+    private final Object pendingLock = new Object();
+    private final Object flushLock = new Object();
+    private final Map<String, Registration> registrations = new HashMap<>();
+    private final Map<String, Set<String>> payloadsIndex = new HashMap<>();
+    private final Set<String> takenPayloads = new HashSet<>();
+    private final Set<String> persistedPayloads = new LinkedHashSet<>();
+    private final Map<String, Integer> failedFlushes = new HashMap<>();
+    private List<Registration> pendingRegistrations = new ArrayList<>();
+    private Map<Integer, List<MessageEntity>> pendingMessages = new HashMap<>();
+    private Set<String> pendingDeletions = new HashSet<>();
+    private volatile ScheduledExecutorService executor;
+
+    public OastAlertRegistry(Supplier<OastPermanentDatabase> database) {
+        this(database, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MS, DEFAULT_MAX_REGISTRATIONS);
+    }
+
+    OastAlertRegistry(
+            Supplier<OastPermanentDatabase> database,
+            int batchSize,
+            long flushIntervalMs,
+            int maxRegistrations) {
+        this.database = database;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxRegistrations = maxRegistrations;
+    }
+
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread thread = new Thread(r, "ZAP-OAST-Alerts");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        executor.scheduleWithFixedDelay(
+                this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /** Stops the background persistence, persisting the pending changes. */
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+        flush();
+    }
+
+    /**
+     * Registers the given alert for the given payload.
+     *
+     * <p>The alert and its message are copied, any later changes are not registered.
+     *
+     * @param payload the payload.
+     * @param alert the alert to raise when an interaction with the payload is received.
+     */
+    public void register(String payload, Alert alert) {
+        Alert alertCopy = alert.newInstance();
+        var message = new MessageEntity(alert.getMessage());
+        boolean flushNow;
+        synchronized (pendingLock) {
+            var registration = new Registration(payload, alertCopy, intern(message));
+            registrations.put(payload, registration);
+            persistedPayloads.remove(payload);
+            takenPayloads.remove(payload);
+            payloadsIndex
+                    .computeIfAbsent(getIndexKey(payload), k -> new HashSet<>(1))
+                    .add(payload);
+            pendingRegistrations.add(registration);
+            flushNow = pendingRegistrations.size() >= batchSize;
+        }
+
+        if (flushNow) {
+            flushAsync();
+        }
+    }
+
+    private static String getIndexKey(String payload) {
+        String key = "";
+        Matcher matcher = TOKEN_PATTERN.matcher(payload);
+        while (matcher.find()) {
+            if (matcher.end() - matcher.start() > key.length()) {
+                key = matcher.group();
+            }
+        }
+        return key;
+    }
+
+    private void unindex(String payload) {
+        String key = getIndexKey(payload);
+        Set<String> payloads = payloadsIndex.get(key);
+        if (payloads != null && payloads.remove(payload) && payloads.isEmpty()) {
+            payloadsIndex.remove(key);
+        }
+    }
+
+    private MessageEntity intern(MessageEntity message) {
+        List<MessageEntity> messages =
+                pendingMessages.computeIfAbsent(message.getContentsHash(), k -> new ArrayList<>(1));
+        for (MessageEntity pendingMessage : messages) {
+            if (pendingMessage.hasSameContents(message)) {
+                return pendingMessage;
+            }
+        }
+        messages.add(message);
+        return message;
+    }
+
+    private void flushAsync() {
+        ScheduledExecutorService currentExecutor = executor;
+        if (currentExecutor == null) {
+            return;
+        }
+        try {
+            currentExecutor.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            // Stopping, the pending alerts are persisted by the stop.
+        }
+    }
+
+    /**
+     * Gets the alert registered for a payload contained in the given interaction URI, the alert is
+     * unregistered.
+     *
+     * @param uri the URI of the interaction.
+     * @return the alert, or {@code null} if no alert was registered for the payload.
+     * @throws Exception if an error occurred while creating the alert.
+     */
+    public Alert takeAlert(String uri) throws Exception {
+        Registration registration = null;
+        synchronized (pendingLock) {
+            String payload = findPayload(uri);
+            if (payload != null) {
+                registration = registrations.remove(payload);
+                if (registration != null) {
+                    persistedPayloads.remove(payload);
+                    takenPayloads.add(payload);
+                    pendingDeletions.add(payload);
+                } else if (takenPayloads.contains(payload)) {
+                    // Already taken, do not raise it again from the database before deleted.
+                    return null;
+                }
+            }
+        }
+        if (registration != null) {
+            return new AlertEntity(
+                            registration.payload(), registration.message(), registration.alert())
+                    .toAlert();
+        }
+
+        OastPermanentDatabase db = database.get();
+        if (db == null) {
+            return null;
+        }
+        AlertEntity alertEntity = db.getAlertForPayload(uri);
+        return alertEntity != null ? alertEntity.toAlert() : null;
+    }
+
+    private String findPayload(String uri) {
+        String payload = findPayload(uri, payloadsIndex.get(""));
+        Matcher matcher = TOKEN_PATTERN.matcher(uri);
+        while (payload == null && matcher.find()) {
+            payload = findPayload(uri, payloadsIndex.get(matcher.group()));
+        }
+        return payload;
+    }
+
+    private static String findPayload(String uri, Set<String> payloads) {
+        if (payloads != null) {
+            for (String payload : payloads) {
+                if (uri.contains(payload)) {
+                    return payload;
+                }
+            }
+        }
+        return null;
+    }
+
+    /** Discards all the alerts registered, for example, when all the records are cleared. */
+    public void clear() {
+        synchronized (pendingLock) {
+            registrations.clear();
+            payloadsIndex.clear();
+            takenPayloads.clear();
+            persistedPayloads.clear();
+            failedFlushes.clear();
+            pendingRegistrations = new ArrayList<>();
+            pendingMessages = new HashMap<>();
+            pendingDeletions = new HashSet<>();
+        }
+    }
+
+    int getPendingCount() {
+        synchronized (pendingLock) {
+            return pendingRegistrations.size();
+        }
+    }
+
+    int getPersistedCount() {
+        synchronized (pendingLock) {
+            return persistedPayloads.size();
+        }
+    }
+
+    /** Persists the alerts registered and deletes the ones taken, since the previous flush. */
+    public void flush() {
+        synchronized (flushLock) {
+            flushImpl();
+        }
+    }
+
+    private void flushImpl() {
+        List<Registration> toPersist;
+        Set<String> toDelete;
+        synchronized (pendingLock) {
+            if (pendingRegistrations.isEmpty() && pendingDeletions.isEmpty()) {
+                return;
+            }
+            toPersist = pendingRegistrations;
+            toDelete = pendingDeletions;
+            pendingRegistrations = new ArrayList<>();
+            pendingMessages = new HashMap<>();
+            pendingDeletions = new HashSet<>();
+        }
+
+        OastPermanentDatabase db = database.get();
+        if (db == null) {
+            synchronized (pendingLock) {
+                removeTaken(toDelete);
+            }
+            return;
+        }
+
+        List<AlertEntity> alerts = new ArrayList<>(toPersist.size());
+        Set<String> notPersisted = new HashSet<>();
+        // The registrations keep their (transient) message, persist copies shared by the alerts.
+        Map<MessageEntity, MessageEntity> messages = new IdentityHashMap<>();
+        for (Registration registration : toPersist) {
+            // Taken before being persisted, no need to persist nor delete it.
+            if (toDelete.contains(registration.payload())) {
+                notPersisted.add(registration.payload());
+                continue;
+            }
+            alerts.add(
+                    new AlertEntity(
+                            registration.payload(),
+                            messages.computeIfAbsent(registration.message(), MessageEntity::new),
+                            registration.alert()));
+        }
+
+        try {
+            db.persistAlerts(alerts);
+        } catch (Exception e) {
+            LOGGER.error("An error occurred while persisting the OAST alerts: ", e);
+            requeue(toPersist, toDelete);
+            return;
+        }
+
+        Set<String> deleted = new HashSet<>(toDelete);
+        deleted.removeAll(notPersisted);
+        try {
+            db.deleteAlerts(deleted);
+        } catch (Exception e) {
+            LOGGER.error("An error occurred while deleting the OAST alerts: ", e);
+            requeue(List.of(), deleted);
+            deleted = Set.of();
+        }
+
+        synchronized (pendingLock) {
+            removeTaken(notPersisted);
+            removeTaken(deleted);
+            if (!failedFlushes.isEmpty()) {
+                toPersist.forEach(registration -> failedFlushes.remove(registration.payload()));
+                deleted.forEach(failedFlushes::remove);
+            }
+
+            // Limit the alerts kept in memory, the persisted ones can still be found in the
+            // database.
+            for (AlertEntity alert : alerts) {
+                if (registrations.containsKey(alert.getPayload())) {
+                    persistedPayloads.add(alert.getPayload());
+                }
+            }
+            evictPersisted();
+        }
+    }
+
+    private void evictPersisted() {
+        Iterator<String> it = persistedPayloads.iterator();
+        while (registrations.size() > maxRegistrations && it.hasNext()) {
+            String payload = it.next();
+            it.remove();
+            if (registrations.remove(payload) != null) {
+                unindex(payload);
+            }
+        }
+    }
+
+    private void requeue(List<Registration> toPersist, Set<String> toDelete) {
+        synchronized (pendingLock) {
+            Set<String> failed = new HashSet<>(toDelete);
+            toPersist.forEach(registration -> failed.add(registration.payload()));
+            Set<String> discarded = new HashSet<>();
+            for (String payload : failed) {
+                int attempts = failedFlushes.merge(payload, 1, Integer::sum);
+                if (attempts >= MAX_FLUSH_ATTEMPTS) {
+                    failedFlushes.remove(payload);
+                    discarded.add(payload);
+                }
+            }
+
+            List<Registration> registrationsPending =
+                    new ArrayList<>(toPersist.size() + pendingRegistrations.size());
+            for (Registration registration : toPersist) {
+                String payload = registration.payload();
+                if (!discarded.contains(payload)) {
+                    registrationsPending.add(registration);
+                } else if (registrations.get(payload) == registration) {
+                    // Kept just in memory, while not evicted.
+                    persistedPayloads.add(payload);
+                }
+            }
+            registrationsPending.addAll(pendingRegistrations);
+            pendingRegistrations = registrationsPending;
+
+            for (String payload : toDelete) {
+                if (!discarded.contains(payload)) {
+                    pendingDeletions.add(payload);
+                } else if (takenPayloads.remove(payload)) {
+                    unindex(payload);
+                }
+            }
+
+            if (!discarded.isEmpty()) {
+                LOGGER.warn(
+                        "Discarded the changes of {} OAST alerts after {} failed attempts.",
+                        discarded.size(),
+                        MAX_FLUSH_ATTEMPTS);
+                evictPersisted();
+            }
+        }
+    }
+
+    private void removeTaken(Set<String> payloads) {
+        for (String payload : payloads) {
+            if (takenPayloads.remove(payload)) {
+                unindex(payload);
+            }
+        }
+    }
+
+    private record Registration(String payload, Alert alert, MessageEntity message) {}
+}
@@ -19,6 +19,12 @@
  */
 package org.zaproxy.addon.oast.internal;
 
+import static java.util.stream.Collectors.joining;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import javax.jdo.JDOObjectNotFoundException;
 import javax.jdo.Query;
 import javax.jdo.Transaction;
@@ -58,6 +64,9 @@ public class OastPermanentDatabase extends PermanentDatabase {
                     tx.rollback();
                 }
             }
+            if (copy.getMessage() != null) {
+                deleteUnusedMessages(List.of(copy.getMessage().getId()));
+            }
             return copy;
         } catch (JDOObjectNotFoundException e) {
             return null;
@@ -69,6 +78,86 @@ public class OastPermanentDatabase extends PermanentDatabase {
         return null;
     }
 
+    /**
+     * Persists the given alerts in a single transaction. The alerts can share the same message,
+     * which is persisted just once.
+     *
+     * @param alerts the alerts to persist.
+     */
+    public void persistAlerts(List<AlertEntity> alerts) {
+        if (alerts.isEmpty()) {
+            return;
+        }
+        try (var pm = getPm()) {
+            Transaction tx = pm.currentTransaction();
+            try {
+                tx.begin();
+                pm.makePersistentAll(alerts);
+                tx.commit();
+            } finally {
+                if (tx.isActive()) {
+                    tx.rollback();
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the alerts with the given payloads, and their messages if no longer used by other
+     * alerts.
+     *
+     * @param payloads the payloads of the alerts to delete.
+     * @throws Exception if an error occurred while deleting the alerts.
+     */
+    @SuppressWarnings({"try", "unchecked"})
+    public void deleteAlerts(Collection<String> payloads) throws Exception {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        List<Integer> messageIds;
+        try (var pm = getPm();
+                Query<AlertEntity> idsQuery = pm.newQuery(AlertEntity.class);
+                Query<AlertEntity> deleteQuery = pm.newQuery(AlertEntity.class)) {
+            idsQuery.setFilter(":payloads.contains(this.payload)");
+            idsQuery.setResult("this.message.id");
+            messageIds = new ArrayList<>((List<Integer>) idsQuery.execute(payloads));
+
+            Transaction tx = pm.currentTransaction();
+            try {
+                tx.begin();
+                deleteQuery.setFilter(":payloads.contains(this.payload)");
+                deleteQuery.deletePersistentAll(payloads);
+                tx.commit();
+            } finally {
+                if (tx.isActive()) {
+                    tx.rollback();
+                }
+            }
+        }
+        messageIds.removeIf(Objects::isNull);
+        deleteUnusedMessages(messageIds);
+    }
+
+    private void deleteUnusedMessages(List<Integer> messageIds) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        // The IDs are integers, safe to include directly in the statement.
+        String ids = messageIds.stream().distinct().map(String::valueOf).collect(joining(","));
+        try {
+            runQuery(
+                    "DELETE FROM MESSAGE WHERE ID IN ("
+                            + ids
+                            + ") AND ID NOT IN (SELECT MESSAGEID FROM ALERT WHERE MESSAGEID IN ("
+                            + ids
+                            + "))",
+                    null,
+                    false);
+        } catch (Exception e) {
+            LOGGER.error("Failed to delete the unused messages", e);
+        }
+    }
+
     public void trim(int days) {
         if (days <= 0) {
             return;
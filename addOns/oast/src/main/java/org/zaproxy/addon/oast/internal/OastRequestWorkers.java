@@ -0,0 +1,110 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.oast.internal;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The workers that handle the interactions polled from an OAST service, off the polling thread.
+ *
+ * <p>The number of interactions waiting to be handled is bounded, when full the interactions are
+ * handled by the thread submitting them, which slows down the polling. The interactions submitted
+ * after the workers are stopped are discarded.
+ */
+public class OastRequestWorkers {
+
+    static final int DEFAULT_THREADS = 2;
+    static final int DEFAULT_QUEUE_CAPACITY = 500;
+
+    private static final Logger LOGGER = LogManager.getLogger(OastRequestWorkers.class);
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Constructs an {@code OastRequestWorkers} with the given thread name prefix.
+     *
+     * @param namePrefix the prefix of the names of the threads.
+     */
+    public OastRequestWorkers(String namePrefix) {
+        this(namePrefix, DEFAULT_THREADS, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    OastRequestWorkers(String namePrefix, int threads, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        30,
+                        TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        r -> {
+                            Thread thread =
+                                    new Thread(r, namePrefix + threadNumber.getAndIncrement());
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        (r, e) -> {
+                            if (e.isShutdown()) {
+                                LOGGER.debug("Workers stopped, discarding the interaction.");
+                                return;
+                            }
+                            r.run();
+                        });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Handles the given interaction, in a worker thread or, if the workers are busy, in the calling
+     * thread. The interaction is discarded if the workers are stopped.
+     *
+     * @param task the task that handles the interaction.
+     */
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    int getPendingCount() {
+        return executor.getQueue().size() + executor.getActiveCount();
+    }
+
+    /**
+     * Stops the workers, waiting for the pending interactions to be handled.
+     *
+     * @param timeout the maximum time to wait, in seconds.
+     */
+    public void shutdown(long timeout) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeout, TimeUnit.SECONDS)) {
+                LOGGER.warn("Failed to await for the interactions to be handled.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while awaiting for the interactions to be handled.");
+        }
+    }
+}
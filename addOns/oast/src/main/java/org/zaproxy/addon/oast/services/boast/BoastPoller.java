@@ -21,6 +21,7 @@ package org.zaproxy.addon.oast.services.boast;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.Constant;
@@ -29,6 +30,7 @@ import org.parosproxy.paros.network.HttpMalformedHeaderException;
 import org.zaproxy.addon.oast.OastRequest;
 import org.zaproxy.addon.oast.OastState;
 import org.zaproxy.addon.oast.OastState.OastStateEventType;
+import org.zaproxy.addon.oast.internal.OastRequestWorkers;
 
 public class BoastPoller implements Runnable {
 
@@ -41,20 +43,33 @@ public class BoastPoller implements Runnable {
 
     @Override
     public void run() {
+        poll();
+    }
+
+    /**
+     * Polls all the registered BOAST servers, the events are handled by the workers of the service.
+     *
+     * @return the number of events received.
+     */
+    int poll() {
         if (boastService.getRegisteredServers().isEmpty()) {
-            return;
+            return 0;
         }
         LOGGER.debug("Polling all registered BOAST Servers.");
-        this.boastService.getRegisteredServers().stream()
-                .map(BoastServer::poll)
-                .flatMap(Collection::stream)
-                .forEach(this::handleBoastEvent);
+        List<BoastEvent> events =
+                this.boastService.getRegisteredServers().stream()
+                        .map(BoastServer::poll)
+                        .flatMap(Collection::stream)
+                        .toList();
+        OastRequestWorkers requestWorkers = this.boastService.getRequestWorkers();
+        events.forEach(event -> requestWorkers.execute(() -> handleBoastEvent(event)));
         this.boastService.fireOastStateChanged(
                 new OastState(
                         boastService.getName(),
                         true,
                         LocalDateTime.now(),
                         OastStateEventType.POLLED));
+        return events.size();
     }
 
     private void handleBoastEvent(BoastEvent boastEvent) {
@@ -35,6 +35,8 @@ import org.zaproxy.addon.oast.OastPayload;
 import org.zaproxy.addon.oast.OastService;
 import org.zaproxy.addon.oast.OastState;
 import org.zaproxy.addon.oast.OastState.OastStateEventType;
+import org.zaproxy.addon.oast.internal.AdaptivePollingDelay;
+import org.zaproxy.addon.oast.internal.OastRequestWorkers;
 
 public class BoastService extends OastService implements OptionsChangedListener {
 
@@ -43,10 +45,14 @@ public class BoastService extends OastService implements OptionsChangedListener
     private List<BoastServer> registeredServers = new ArrayList<>();
     private final ScheduledExecutorService executorService =
             Executors.newSingleThreadScheduledExecutor(new OastThreadFactory("ZAP-OAST-BOAST-"));
+    private OastRequestWorkers requestWorkers;
+    private final AdaptivePollingDelay pollingDelay =
+            new AdaptivePollingDelay(() -> getParam().getPollingFrequency());
 
     private BoastParam boastParam;
     private int currentPollingFrequency;
     private ScheduledFuture<?> pollingSchedule;
+    private int pollingGeneration;
 
     @Override
     public String getName() {
@@ -56,6 +62,7 @@ public class BoastService extends OastService implements OptionsChangedListener
     @Override
     public void startService() {
         LOGGER.debug("Starting BOAST Service.");
+        startRequestWorkers();
         if (pollingSchedule == null || pollingSchedule.isDone()) {
             schedulePoller(getParam().getPollingFrequency());
         }
@@ -63,7 +70,18 @@ public class BoastService extends OastService implements OptionsChangedListener
 
     @Override
     public void stopService() {
+        synchronized (this) {
+            pollingGeneration++;
+        }
         shutdown(LOGGER, boastParam.getPollingFrequency(), executorService, pollingSchedule);
+        OastRequestWorkers workers;
+        synchronized (this) {
+            workers = requestWorkers;
+            requestWorkers = null;
+        }
+        if (workers != null) {
+            workers.shutdown(boastParam.getPollingFrequency() * 2L);
+        }
     }
 
     @Override
@@ -78,7 +96,7 @@ public class BoastService extends OastService implements OptionsChangedListener
     @Override
     public void optionsChanged(OptionsParam optionsParam) {
         if (currentPollingFrequency != getParam().getPollingFrequency()) {
-            pollingSchedule.cancel(false);
+            stopPoller();
             startService();
             currentPollingFrequency = getParam().getPollingFrequency();
             LOGGER.debug("Updated BOAST Polling frequency to {} seconds.", currentPollingFrequency);
@@ -87,19 +105,46 @@ public class BoastService extends OastService implements OptionsChangedListener
 
     @Override
     public void poll() {
-        pollingSchedule.cancel(false);
+        stopPoller();
         schedulePoller(0);
     }
 
-    private void schedulePoller(int initialDelay) {
+    private synchronized void stopPoller() {
+        pollingGeneration++;
+        if (pollingSchedule != null) {
+            pollingSchedule.cancel(false);
+        }
+    }
+
+    private synchronized void schedulePoller(int initialDelay) {
+        pollingDelay.reset();
+        schedulePoll(pollingGeneration, initialDelay);
+    }
+
+    private synchronized void schedulePoll(int generation, int delay) {
+        // Polling restarted or stopped in the meantime.
+        if (generation != pollingGeneration || executorService.isShutdown()) {
+            return;
+        }
+        BoastPoller poller = new BoastPoller(this);
         pollingSchedule =
-                executorService.scheduleAtFixedRate(
-                        new BoastPoller(this),
-                        initialDelay,
-                        getParam().getPollingFrequency(),
+                executorService.schedule(
+                        () -> schedulePoll(generation, pollingDelay.next(poller.poll())),
+                        delay,
                         TimeUnit.SECONDS);
     }
 
+    private synchronized OastRequestWorkers startRequestWorkers() {
+        if (requestWorkers == null) {
+            requestWorkers = new OastRequestWorkers("ZAP-OAST-BOAST-Handler-");
+        }
+        return requestWorkers;
+    }
+
+    OastRequestWorkers getRequestWorkers() {
+        return startRequestWorkers();
+    }
+
     public BoastParam getParam() {
         if (boastParam == null) {
             boastParam = new BoastParam();
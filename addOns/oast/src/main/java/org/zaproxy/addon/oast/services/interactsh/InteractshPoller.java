@@ -20,6 +20,7 @@
 package org.zaproxy.addon.oast.services.interactsh;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.db.DatabaseException;
@@ -27,6 +28,7 @@ import org.parosproxy.paros.network.HttpMalformedHeaderException;
 import org.zaproxy.addon.oast.OastRequest;
 import org.zaproxy.addon.oast.OastState;
 import org.zaproxy.addon.oast.OastState.OastStateEventType;
+import org.zaproxy.addon.oast.internal.OastRequestWorkers;
 
 public class InteractshPoller implements Runnable {
 
@@ -39,14 +41,26 @@ public class InteractshPoller implements Runnable {
 
     @Override
     public void run() {
+        poll();
+    }
+
+    /**
+     * Polls the Interactsh server, the interactions are handled by the workers of the service.
+     *
+     * @return the number of interactions received.
+     */
+    int poll() {
         LOGGER.debug("Polling the Interactsh Server.");
-        this.interactshService.getInteractions().forEach(this::handleInteraction);
+        List<InteractshEvent> interactions = this.interactshService.getInteractions();
+        OastRequestWorkers requestWorkers = this.interactshService.getRequestWorkers();
+        interactions.forEach(event -> requestWorkers.execute(() -> handleInteraction(event)));
         this.interactshService.fireOastStateChanged(
                 new OastState(
                         interactshService.getName(),
                         interactshService.isRegistered(),
                         LocalDateTime.now(),
                         OastStateEventType.POLLED));
+        return interactions.size();
     }
 
     private void handleInteraction(InteractshEvent event) {
@@ -68,6 +68,8 @@ import org.zaproxy.addon.oast.OastPayload;
 import org.zaproxy.addon.oast.OastService;
 import org.zaproxy.addon.oast.OastState;
 import org.zaproxy.addon.oast.OastState.OastStateEventType;
+import org.zaproxy.addon.oast.internal.AdaptivePollingDelay;
+import org.zaproxy.addon.oast.internal.OastRequestWorkers;
 import org.zaproxy.zap.network.HttpRequestBody;
 import org.zaproxy.zap.utils.Stats;
 
@@ -81,6 +83,7 @@ public class InteractshService extends OastService implements OptionsChangedList
     private final ScheduledExecutorService executorService =
             Executors.newSingleThreadScheduledExecutor(
                     new OastThreadFactory("ZAP-OAST-Interactsh-"));
+    private OastRequestWorkers requestWorkers;
     private final UUID secretKey;
     private final String correlationId;
     private final HttpSender httpSender;
@@ -94,6 +97,8 @@ public class InteractshService extends OastService implements OptionsChangedList
     private String currentServerUrl;
     private int currentPollingFrequency;
     private ScheduledFuture<?> pollingSchedule;
+    private final AdaptivePollingDelay pollingDelay;
+    private int pollingGeneration;
 
     public InteractshService() {
         this(new InteractshParam());
@@ -104,6 +109,7 @@ public class InteractshService extends OastService implements OptionsChangedList
         secretKey = UUID.randomUUID();
         correlationId = randomAlphanumericLc(20);
         this.param = param;
+        pollingDelay = new AdaptivePollingDelay(param::getPollingFrequency);
     }
 
     private static String randomAlphanumericLc(int count) {
@@ -118,6 +124,7 @@ public class InteractshService extends OastService implements OptionsChangedList
     @Override
     public void startService() {
         LOGGER.debug("Starting Interactsh Service.");
+        startRequestWorkers();
         if (pollingSchedule == null || pollingSchedule.isDone()) {
             schedulePoller(param.getPollingFrequency());
         }
@@ -125,7 +132,18 @@ public class InteractshService extends OastService implements OptionsChangedList
 
     @Override
     public void stopService() {
+        synchronized (this) {
+            pollingGeneration++;
+        }
         shutdown(LOGGER, param.getPollingFrequency(), executorService, pollingSchedule);
+        OastRequestWorkers workers;
+        synchronized (this) {
+            workers = requestWorkers;
+            requestWorkers = null;
+        }
+        if (workers != null) {
+            workers.shutdown(param.getPollingFrequency() * 2L);
+        }
         deregister();
     }
 
@@ -342,6 +360,7 @@ public class InteractshService extends OastService implements OptionsChangedList
     }
 
     private synchronized void stopPoller() {
+        pollingGeneration++;
         if (pollingSchedule != null) {
             pollingSchedule.cancel(false);
         }
@@ -352,14 +371,34 @@ public class InteractshService extends OastService implements OptionsChangedList
             return;
         }
         LOGGER.debug("Start Polling the Interactsh Server ...");
+        pollingDelay.reset();
+        schedulePoll(pollingGeneration, initialDelay);
+    }
+
+    private synchronized void schedulePoll(int generation, int delay) {
+        // Polling restarted or stopped in the meantime.
+        if (generation != pollingGeneration || !isRegistered || executorService.isShutdown()) {
+            return;
+        }
+        InteractshPoller poller = new InteractshPoller(this);
         pollingSchedule =
-                executorService.scheduleAtFixedRate(
-                        new InteractshPoller(this),
-                        initialDelay,
-                        param.getPollingFrequency(),
+                executorService.schedule(
+                        () -> schedulePoll(generation, pollingDelay.next(poller.poll())),
+                        delay,
                         TimeUnit.SECONDS);
     }
 
+    private synchronized OastRequestWorkers startRequestWorkers() {
+        if (requestWorkers == null) {
+            requestWorkers = new OastRequestWorkers("ZAP-OAST-Interactsh-Handler-");
+        }
+        return requestWorkers;
+    }
+
+    OastRequestWorkers getRequestWorkers() {
+        return startRequestWorkers();
+    }
+
     /**
      * @return new interactions from the server.
      */
@@ -397,7 +436,7 @@ public class InteractshService extends OastService implements OptionsChangedList
                         pollMsg.getResponseBody());
                 return new ArrayList<>();
             }
-            String aesKey = response.getString("aes_key");
+            SecretKey aesKey = decryptKey(response.getString("aes_key"));
             Object data = response.get("data");
             if (data instanceof JSONNull) {
                 LOGGER.debug("Interactsh server has returned null data");
@@ -436,8 +475,8 @@ public class InteractshService extends OastService implements OptionsChangedList
         }
     }
 
-    /** Decrypts an AES-256-RSA-OAEP encrypted message to string */
-    private byte[] decryptMessage(String encodedEncryptedKey, String encodedEncryptedMsg) {
+    /** Decrypts the RSA-OAEP encrypted AES key, shared by all the interactions of a poll. */
+    private SecretKey decryptKey(String encodedEncryptedKey) {
         try {
             byte[] decodedEncryptedKey = Base64.getDecoder().decode(encodedEncryptedKey);
             Cipher decryptionCipher = Cipher.getInstance("RSA/ECB/OAEPWITHSHA-256ANDMGF1PADDING");
@@ -449,10 +488,22 @@ public class InteractshService extends OastService implements OptionsChangedList
                             PSource.PSpecified.DEFAULT);
             decryptionCipher.init(Cipher.DECRYPT_MODE, privateKey, oaepParameterSpec);
             byte[] decodedDecryptedKey = decryptionCipher.doFinal(decodedEncryptedKey);
+            return new SecretKeySpec(decodedDecryptedKey, "AES");
+        } catch (Exception e) {
+            LOGGER.warn(
+                    "Could not decrypt Interactsh interactions: {}", e.getLocalizedMessage(), e);
+            return null;
+        }
+    }
 
+    /** Decrypts an AES-256-RSA-OAEP encrypted message to string */
+    private static byte[] decryptMessage(SecretKey aesKey, String encodedEncryptedMsg) {
+        if (aesKey == null) {
+            return new byte[0];
+        }
+        try {
             byte[] decodedEncryptedMsg = Base64.getDecoder().decode(encodedEncryptedMsg);
-            decryptionCipher = Cipher.getInstance("AES/CTR/NoPadding");
-            SecretKey aesKey = new SecretKeySpec(decodedDecryptedKey, "AES");
+            Cipher decryptionCipher = Cipher.getInstance("AES/CTR/NoPadding");
             IvParameterSpec iv =
                     new IvParameterSpec(
                             Arrays.copyOf(decodedEncryptedMsg, decryptionCipher.getBlockSize()));
@@ -0,0 +1,95 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.oast.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link AdaptivePollingDelay}. */
+class AdaptivePollingDelayUnitTest {
+
+    private AtomicInteger pollingFrequency;
+    private AdaptivePollingDelay pollingDelay;
+
+    @BeforeEach
+    void setUp() {
+        pollingFrequency = new AtomicInteger(30);
+        pollingDelay = new AdaptivePollingDelay(pollingFrequency::get);
+    }
+
+    @Test
+    void shouldUsePollingFrequencyWhileIdle() {
+        // Given / When
+        int delay = pollingDelay.next(0);
+        // Then
+        assertThat(delay, is(equalTo(30)));
+    }
+
+    @Test
+    void shouldUseMinimumDelayWhileReceivingInteractions() {
+        // Given / When
+        int delay = pollingDelay.next(5);
+        // Then
+        assertThat(delay, is(equalTo(AdaptivePollingDelay.MINIMUM_DELAY)));
+    }
+
+    @Test
+    void shouldBackOffUpToPollingFrequencyWhenIdle() {
+        // Given
+        pollingDelay.next(1);
+        // When
+        int first = pollingDelay.next(0);
+        int second = pollingDelay.next(0);
+        int third = pollingDelay.next(0);
+        int fourth = pollingDelay.next(0);
+        int fifth = pollingDelay.next(0);
+        // Then
+        assertThat(first, is(equalTo(4)));
+        assertThat(second, is(equalTo(8)));
+        assertThat(third, is(equalTo(16)));
+        assertThat(fourth, is(equalTo(30)));
+        assertThat(fifth, is(equalTo(30)));
+    }
+
+    @Test
+    void shouldUseChangedPollingFrequency() {
+        // Given
+        pollingFrequency.set(10);
+        // When
+        int delay = pollingDelay.next(0);
+        // Then
+        assertThat(delay, is(equalTo(10)));
+    }
+
+    @Test
+    void shouldResetToPollingFrequency() {
+        // Given
+        pollingDelay.next(1);
+        // When
+        pollingDelay.reset();
+        // Then
+        assertThat(pollingDelay.next(0), is(equalTo(30)));
+    }
+}
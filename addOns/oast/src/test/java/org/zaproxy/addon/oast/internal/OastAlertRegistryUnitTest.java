@@ -0,0 +1,306 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.oast.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.apache.commons.httpclient.URI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.parosproxy.paros.core.scanner.Alert;
+import org.parosproxy.paros.network.HttpMessage;
+import org.zaproxy.zap.testutils.TestUtils;
+
+/** Unit test for {@link OastAlertRegistry}. */
+class OastAlertRegistryUnitTest extends TestUtils {
+
+    private OastPermanentDatabase database;
+    private OastAlertRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        database = mock(OastPermanentDatabase.class);
+        registry = new OastAlertRegistry(() -> database, 100, 60_000, 100);
+    }
+
+    @Test
+    void shouldTakeRegisteredAlertWithoutQueryingDatabase() throws Exception {
+        // Given
+        registry.register("payload1.example.org", createAlert("Alert 1", "https://example.com/"));
+        // When
+        Alert alert = registry.takeAlert("http://payload1.example.org/path");
+        // Then
+        assertThat(alert, is(notNullValue()));
+        assertThat(alert.getName(), is(equalTo("Alert 1")));
+        assertThat(alert.getMessage(), is(notNullValue()));
+        verify(database, never()).getAlertForPayload(any());
+    }
+
+    @Test
+    void shouldTakeAlertJustOnce() throws Exception {
+        // Given
+        registry.register("payload1.example.org", createAlert("Alert 1", "https://example.com/"));
+        registry.takeAlert("http://payload1.example.org/");
+        // When
+        Alert alert = registry.takeAlert("http://payload1.example.org/");
+        // Then
+        assertThat(alert, is(nullValue()));
+        verify(database, never()).getAlertForPayload(any());
+    }
+
+    @Test
+    void shouldNotQueryDatabaseForTakenAlertUntilDeleted() throws Exception {
+        // Given
+        registry.register("payload1.example.org", createAlert("Alert 1", "https://example.com/"));
+        registry.flush();
+        registry.takeAlert("http://payload1.example.org/");
+        // When
+        Alert alertBeforeDelete = registry.takeAlert("dns://payload1.example.org");
+        registry.flush();
+        Alert alertAfterDelete = registry.takeAlert("dns://payload1.example.org");
+        // Then
+        assertThat(alertBeforeDelete, is(nullValue()));
+        assertThat(alertAfterDelete, is(nullValue()));
+        verify(database).getAlertForPayload("dns://payload1.example.org");
+    }
+
+    @Test
+    void shouldTakeAlertsOfDifferentPayloadFormats() throws Exception {
+        // Given
+        String callbackPayload = "http://127.0.0.1:8080/1b4e28ba-2fa1-11d2-883f-0016d3cca427";
+        registry.register("payload1.example.org", createAlert("Alert 1", "https://example.com/"));
+        registry.register(
+                "a.c58bduhe008dovpvhvugcfemp9yyyyyyn.oast.example.org",
+                createAlert("Alert 2", "https://example.com/"));
+        registry.register(callbackPayload, createAlert("Alert 3", "https://example.com/"));
+        // When
+        Alert alert1 = registry.takeAlert("http://payload1.example.org/path");
+        Alert alert2 =
+                registry.takeAlert("dns://a.c58bduhe008dovpvhvugcfemp9yyyyyyn.oast.example.org");
+        Alert alert3 = registry.takeAlert(callbackPayload + "?a=b");
+        // Then
+        assertThat(alert1.getName(), is(equalTo("Alert 1")));
+        assertThat(alert2.getName(), is(equalTo("Alert 2")));
+        assertThat(alert3.getName(), is(equalTo("Alert 3")));
+        verify(database, never()).getAlertForPayload(any());
+    }
+
+    @Test
+    void shouldQueryDatabaseForUnknownPayloads() throws Exception {
+        // Given
+        AlertEntity alertEntity = mock(AlertEntity.class);
+        Alert dbAlert = createAlert("Alert DB", "https://example.com/");
+        given(alertEntity.toAlert()).willReturn(dbAlert);
+        given(database.getAlertForPayload("http://payload2.example.org/"))
+                .willReturn(alertEntity);
+        // When
+        Alert alert = registry.takeAlert("http://payload2.example.org/");
+        // Then
+        assertThat(alert, is(sameInstance(dbAlert)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPersistRegistrationsInBatchSharingSameMessage() throws Exception {
+        // Given
+        registry.register("payload1.example.org", createAlert("Alert 1", "https://example.com/"));
+        registry.register("payload2.example.org", createAlert("Alert 2", "https://example.com/"));
+        registry.register("payload3.example.org", createAlert("Alert 3", "https://example.net/"));
+        // When
+        registry.flush();
+        // Then
+        ArgumentCaptor<List<AlertEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(database).persistAlerts(captor.capture());
+        List<AlertEntity> alerts = captor.getValue();
+        assertThat(alerts, hasSize(3));
+        assertThat(alerts.get(0).getMessage(), is(sameInstance(alerts.get(1).getMessage())));
+        assertThat(alerts.get(0).getMessage(), is(not(sameInstance(alerts.get(2).getMessage()))));
+        assertThat(registry.getPendingCount(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldNotPersistAlertsTakenBeforeFlush() throws Exception {
+        // Given
+        registry.register("payload1.example.org", createAlert("Alert 1", "https://example.com/"));
+        registry.takeAlert("http://payload1.example.org/");
+        // When
+        registry.flush();
+        // Then
+        verify(database).persistAlerts(List.of());
+        verify(database).deleteAlerts(Set.of());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDeletePersistedAlertsWhenTaken() throws Exception {
+        // Given
+        registry.register("payload1.example.org", createAlert("Alert 1", "https://example.com/"));
+        registry.flush();
+        registry.takeAlert("http://payload1.example.org/");
+        // When
+        registry.flush();
+        // Then
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(database, times(2)).deleteAlerts(captor.capture());
+        assertThat(captor.getValue(), contains("payload1.example.org"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPersistRegistrationsAgainIfPersistFailed() throws Exception {
+        // Given
+        registry.register("payload1.example.org", createAlert("Alert 1", "https://example.com/"));
+        willThrow(RuntimeException.class).willDoNothing().given(database).persistAlerts(anyList());
+        registry.flush();
+        // When
+        registry.flush();
+        // Then
+        ArgumentCaptor<List<AlertEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(database, times(2)).persistAlerts(captor.capture());
+        assertThat(captor.getValue(), hasSize(1));
+        assertThat(captor.getValue().get(0).getPayload(), is(equalTo("payload1.example.org")));
+        assertThat(registry.getPendingCount(), is(equalTo(0)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDeleteTakenAlertsAgainIfDeleteFailed() throws Exception {
+        // Given
+        registry.register("payload1.example.org", createAlert("Alert 1", "https://example.com/"));
+        registry.flush();
+        registry.takeAlert("http://payload1.example.org/");
+        willThrow(RuntimeException.class)
+                .given(database)
+                .deleteAlerts(Set.of("payload1.example.org"));
+        registry.flush();
+        willDoNothing().given(database).deleteAlerts(anyCollection());
+        // When
+        Alert alert = registry.takeAlert("http://payload1.example.org/");
+        registry.flush();
+        // Then
+        assertThat(alert, is(nullValue()));
+        verify(database, never()).getAlertForPayload(any());
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(database, times(3)).deleteAlerts(captor.capture());
+        assertThat(captor.getValue(), contains("payload1.example.org"));
+    }
+
+    @Test
+    void shouldStopPersistingRegistrationsAfterMaxFailedAttempts() throws Exception {
+        // Given
+        registry.register("payload1.example.org", createAlert("Alert 1", "https://example.com/"));
+        willThrow(RuntimeException.class).given(database).persistAlerts(anyList());
+        // When
+        for (int i = 0; i < OastAlertRegistry.MAX_FLUSH_ATTEMPTS + 2; i++) {
+            registry.flush();
+        }
+        // Then
+        verify(database, times(OastAlertRegistry.MAX_FLUSH_ATTEMPTS)).persistAlerts(anyList());
+        assertThat(registry.getPendingCount(), is(equalTo(0)));
+        assertThat(registry.takeAlert("http://payload1.example.org/"), is(notNullValue()));
+        verify(database, never()).getAlertForPayload(any());
+    }
+
+    @Test
+    void shouldStopDeletingTakenAlertsAfterMaxFailedAttempts() throws Exception {
+        // Given
+        registry.register("payload1.example.org", createAlert("Alert 1", "https://example.com/"));
+        registry.flush();
+        registry.takeAlert("http://payload1.example.org/");
+        willThrow(RuntimeException.class)
+                .given(database)
+                .deleteAlerts(Set.of("payload1.example.org"));
+        // When
+        for (int i = 0; i < OastAlertRegistry.MAX_FLUSH_ATTEMPTS + 2; i++) {
+            registry.flush();
+        }
+        // Then
+        verify(database, times(OastAlertRegistry.MAX_FLUSH_ATTEMPTS))
+                .deleteAlerts(Set.of("payload1.example.org"));
+    }
+
+    @Test
+    void shouldNotKeepTakenAlertsAsPersisted() throws Exception {
+        // Given
+        registry.register("payload1.example.org", createAlert("Alert 1", "https://example.com/"));
+        registry.register("payload2.example.org", createAlert("Alert 2", "https://example.com/"));
+        registry.flush();
+        // When
+        registry.takeAlert("http://payload1.example.org/");
+        registry.flush();
+        // Then
+        assertThat(registry.getPersistedCount(), is(equalTo(1)));
+    }
+
+    @Test
+    void shouldEvictOldestPersistedAlertsOverMaxRegistrations() throws Exception {
+        // Given
+        registry = new OastAlertRegistry(() -> database, 100, 60_000, 1);
+        registry.register("payload1.example.org", createAlert("Alert 1", "https://example.com/"));
+        registry.register("payload2.example.org", createAlert("Alert 2", "https://example.com/"));
+        // When
+        registry.flush();
+        // Then
+        assertThat(registry.takeAlert("http://payload2.example.org/"), is(notNullValue()));
+        registry.takeAlert("http://payload1.example.org/");
+        verify(database).getAlertForPayload("http://payload1.example.org/");
+        assertThat(registry.getPersistedCount(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldNotAccessDatabaseIfNothingChanged() throws Exception {
+        // Given / When
+        registry.flush();
+        // Then
+        verify(database, never()).persistAlerts(anyList());
+        verify(database, never()).deleteAlerts(anyCollection());
+    }
+
+    private static Alert createAlert(String name, String uri) throws Exception {
+        HttpMessage message = new HttpMessage(new URI(uri, true));
+        Alert alert = new Alert(1);
+        alert.setName(name);
+        alert.setUri(uri);
+        alert.setMessage(message);
+        return alert;
+    }
+}
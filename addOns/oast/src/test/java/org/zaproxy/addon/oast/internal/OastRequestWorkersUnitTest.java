@@ -0,0 +1,112 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.oast.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link OastRequestWorkers}. */
+class OastRequestWorkersUnitTest {
+
+    @Test
+    void shouldHandleInWorkerThread() throws Exception {
+        // Given
+        OastRequestWorkers workers = new OastRequestWorkers("Worker-");
+        CountDownLatch handled = new CountDownLatch(1);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        // When
+        workers.execute(
+                () -> {
+                    threads.add(Thread.currentThread().getName());
+                    handled.countDown();
+                });
+        // Then
+        assertThat(handled.await(5, TimeUnit.SECONDS), is(equalTo(true)));
+        assertThat(threads.get(0), startsWith("Worker-"));
+        workers.shutdown(5);
+    }
+
+    @Test
+    void shouldHandleInCallerThreadWhenFull() throws Exception {
+        // Given
+        OastRequestWorkers workers = new OastRequestWorkers("Worker-", 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        workers.execute(
+                () -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                });
+        started.await(5, TimeUnit.SECONDS);
+        workers.execute(() -> {});
+        List<String> threads = new CopyOnWriteArrayList<>();
+        // When
+        workers.execute(() -> threads.add(Thread.currentThread().getName()));
+        // Then
+        assertThat(threads.get(0), is(equalTo(Thread.currentThread().getName())));
+        release.countDown();
+        workers.shutdown(5);
+    }
+
+    @Test
+    void shouldHandlePendingOnShutdown() {
+        // Given
+        OastRequestWorkers workers = new OastRequestWorkers("Worker-", 1, 10);
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int id = i;
+            workers.execute(() -> handled.add(id));
+        }
+        // When
+        workers.shutdown(5);
+        // Then
+        assertThat(handled, is(equalTo(List.of(0, 1, 2, 3, 4))));
+        assertThat(workers.getPendingCount(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldDiscardAfterShutdown() {
+        // Given
+        OastRequestWorkers workers = new OastRequestWorkers("Worker-");
+        workers.shutdown(5);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        // When
+        workers.execute(() -> threads.add(Thread.currentThread().getName()));
+        // Then
+        assertThat(threads, is(empty()));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -256,9 +256,36 @@ public class ExtensionOpenApi extends ExtensionAdaptor implements CommandLineLis
             int contextId,
             User user,
             int maxMessages) {
+        return importOpenApiDefinitionV2(
+                uri, targetUrl, initViaUi, contextId, user, maxMessages, 1);
+    }
+
+    /**
+     * Imports the API definition from a URI.
+     *
+     * @param uri the URI with the API definition.
+     * @param targetUrl the URL to override the URL defined in the API, might be {@code null}.
+     * @param initViaUi {@code true} if the import is being done through the GUI, {@code false}
+     *     otherwise.
+     * @param contextId the ID of the context to add the structural modifiers, or -1 if none.
+     * @param user the user to send the requests with, might be {@code null}.
+     * @param maxMessages the maximum number of messages to import, 0 to import all.
+     * @param threadCount the number of threads used to send the requests.
+     * @return the results of the import.
+     * @since 59
+     */
+    public OpenApiResults importOpenApiDefinitionV2(
+            final URI uri,
+            final String targetUrl,
+            boolean initViaUi,
+            int contextId,
+            User user,
+            int maxMessages,
+            int threadCount) {
         OpenApiResults results = new OpenApiResults();
         Requestor requestor = new Requestor(HttpSender.MANUAL_REQUEST_INITIATOR);
         requestor.setUser(user);
+        requestor.setThreadCount(threadCount);
         requestor.addListener(new HistoryPersister(results));
         try {
             String path = uri.getPath();
@@ -358,10 +385,37 @@ public class ExtensionOpenApi extends ExtensionAdaptor implements CommandLineLis
             int contextId,
             User user,
             int maxMessages) {
+        return importOpenApiDefinitionV2(
+                file, targetUrl, initViaUi, contextId, user, maxMessages, 1);
+    }
+
+    /**
+     * Imports the API definition from a file.
+     *
+     * @param file the file with the API definition.
+     * @param targetUrl the URL to override the URL defined in the API, might be {@code null}.
+     * @param initViaUi {@code true} if the import is being done through the GUI, {@code false}
+     *     otherwise.
+     * @param contextId the ID of the context to add the structural modifiers, or -1 if none.
+     * @param user the user to send the requests with, might be {@code null}.
+     * @param maxMessages the maximum number of messages to import, 0 to import all.
+     * @param threadCount the number of threads used to send the requests.
+     * @return the results of the import.
+     * @since 59
+     */
+    public OpenApiResults importOpenApiDefinitionV2(
+            final File file,
+            final String targetUrl,
+            boolean initViaUi,
+            int contextId,
+            User user,
+            int maxMessages,
+            int threadCount) {
         OpenApiResults results = new OpenApiResults();
         try {
             Requestor requestor = new Requestor(HttpSender.MANUAL_REQUEST_INITIATOR);
             requestor.setUser(user);
+            requestor.setThreadCount(threadCount);
             requestor.addListener(new HistoryPersister(results));
 
             if (!file.exists()) {
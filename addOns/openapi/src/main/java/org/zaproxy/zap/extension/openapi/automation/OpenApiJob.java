@@ -57,6 +57,7 @@ public class OpenApiJob extends AutomationJob {
     private static final String PARAM_USER = "user";
 
     private static final String PARAM_MAX_MESSAGES = "maxMessages";
+    private static final String PARAM_THREAD_COUNT = "threadCount";
 
     private ExtensionOpenApi extOpenApi;
 
@@ -98,6 +99,13 @@ public class OpenApiJob extends AutomationJob {
                             getName(),
                             getParameters().getMaxMessages()));
         }
+        if (getParameters().getThreadCount() < 1) {
+            progress.warn(
+                    Constant.messages.getString(
+                            "openapi.automation.warn.threadCount",
+                            getName(),
+                            getParameters().getThreadCount()));
+        }
     }
 
     @Override
@@ -114,6 +122,7 @@ public class OpenApiJob extends AutomationJob {
         map.put(PARAM_CONTEXT, "");
         map.put(PARAM_USER, "");
         map.put(PARAM_MAX_MESSAGES, "0");
+        map.put(PARAM_THREAD_COUNT, "1");
         return map;
     }
 
@@ -140,6 +149,7 @@ public class OpenApiJob extends AutomationJob {
         User user = getUser(this.getParameters().getUser(), progress);
 
         int maxMessages = getParameters().getMaxMessages();
+        int threadCount = getParameters().getThreadCount();
 
         if (!StringUtils.isEmpty(apiFile)) {
             File file = JobUtils.getFile(apiFile, getPlan());
@@ -149,7 +159,13 @@ public class OpenApiJob extends AutomationJob {
                     results =
                             getExtOpenApi()
                                     .importOpenApiDefinitionV2(
-                                            file, targetUrl, false, contextId, user, maxMessages);
+                                            file,
+                                            targetUrl,
+                                            false,
+                                            contextId,
+                                            user,
+                                            maxMessages,
+                                            threadCount);
                 } catch (EmptyDefinitionException | InvalidDefinitionException e) {
                     progress.error(e.getLocalizedMessage());
                     return;
@@ -183,7 +199,13 @@ public class OpenApiJob extends AutomationJob {
                 OpenApiResults results =
                         getExtOpenApi()
                                 .importOpenApiDefinitionV2(
-                                        uri, targetUrl, false, contextId, user, maxMessages);
+                                        uri,
+                                        targetUrl,
+                                        false,
+                                        contextId,
+                                        user,
+                                        maxMessages,
+                                        threadCount);
                 List<String> errors = results.getErrors();
                 if (errors != null && errors.size() > 0) {
                     for (String error : errors) {
@@ -300,5 +322,6 @@ public class OpenApiJob extends AutomationJob {
         private String context = "";
         private String user = "";
         private int maxMessages;
+        private int threadCount = 1;
     }
 }
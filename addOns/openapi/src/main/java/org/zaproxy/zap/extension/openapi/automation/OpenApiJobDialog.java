@@ -41,11 +41,12 @@ public class OpenApiJobDialog extends StandardFieldsDialog {
     private static final String CONTEXT_PARAM = "openapi.automation.dialog.context";
     private static final String USER_PARAM = "automation.dialog.all.user";
     private static final String MAX_MESSAGES_PARAM = "openapi.automation.dialog.maxmessages";
+    private static final String THREAD_COUNT_PARAM = "openapi.automation.dialog.threadcount";
 
     private OpenApiJob job;
 
     public OpenApiJobDialog(OpenApiJob job) {
-        super(View.getSingleton().getMainFrame(), TITLE, DisplayUtils.getScaledDimension(500, 330));
+        super(View.getSingleton().getMainFrame(), TITLE, DisplayUtils.getScaledDimension(500, 360));
         this.job = job;
 
         this.addTextField(NAME_PARAM, this.job.getData().getName());
@@ -77,6 +78,8 @@ public class OpenApiJobDialog extends StandardFieldsDialog {
         addComboField(USER_PARAM, users, job.getData().getParameters().getUser());
         this.addNumberField(
                 MAX_MESSAGES_PARAM, 0, Integer.MAX_VALUE, job.getParameters().getMaxMessages());
+        this.addNumberField(
+                THREAD_COUNT_PARAM, 1, Integer.MAX_VALUE, job.getParameters().getThreadCount());
         this.addPadding();
     }
 
@@ -89,6 +92,7 @@ public class OpenApiJobDialog extends StandardFieldsDialog {
         this.job.getParameters().setContext(getStringValue(CONTEXT_PARAM));
         this.job.getParameters().setUser(getStringValue(USER_PARAM));
         this.job.getParameters().setMaxMessages(this.getIntValue(MAX_MESSAGES_PARAM));
+        this.job.getParameters().setThreadCount(this.getIntValue(THREAD_COUNT_PARAM));
         this.job.resetAndSetChanged();
     }
 
@@ -29,6 +29,7 @@ import org.parosproxy.paros.Constant;
 import org.parosproxy.paros.network.HttpHeaderField;
 import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.network.HttpSender;
+import org.zaproxy.addon.commonlib.http.RequestDispatcher;
 import org.zaproxy.zap.network.HttpRedirectionValidator;
 import org.zaproxy.zap.network.HttpRequestConfig;
 import org.zaproxy.zap.users.User;
@@ -39,6 +40,7 @@ public class Requestor {
     private List<RequesterListener> listeners = new ArrayList<>();
     private HttpSender sender;
     private final HttpRequestConfig requestConfig;
+    private int threadCount = 1;
     private static final Logger LOGGER = LogManager.getLogger(Requestor.class);
 
     public Requestor(int initiator) {
@@ -55,32 +57,18 @@ public class Requestor {
     public List<String> run(User user, List<RequestModel> requestsModel) {
         List<String> errors = new ArrayList<>();
         try {
-            for (RequestModel requestModel : requestsModel) {
-                String url = requestModel.getUrl();
-                HttpMessage httpRequest = new HttpMessage(new URI(url, false));
-                httpRequest.getRequestHeader().setMethod(requestModel.getMethod().name());
-                for (HttpHeaderField hhf : requestModel.getHeaders()) {
-                    httpRequest.getRequestHeader().setHeader(hhf.getName(), hhf.getValue());
-                }
-                httpRequest.getRequestBody().setBody(requestModel.getBody());
-                httpRequest
-                        .getRequestHeader()
-                        .setContentLength(httpRequest.getRequestBody().length());
-
-                httpRequest.setRequestingUser(user);
-
-                try {
-
-                    sender.sendAndReceive(httpRequest, requestConfig);
-                } catch (IOException e) {
-                    errors.add(
-                            Constant.messages.getString(
-                                    "openapi.import.error",
-                                    url,
-                                    e.getClass().getName(),
-                                    e.getMessage()));
-                    LOGGER.debug(e.getMessage(), e);
+            if (threadCount == 1) {
+                for (RequestModel requestModel : requestsModel) {
+                    HttpMessage httpRequest = createMessage(user, requestModel);
+                    try {
+                        sender.sendAndReceive(httpRequest, requestConfig);
+                    } catch (IOException e) {
+                        errors.add(createError(requestModel.getUrl(), e));
+                        LOGGER.debug(e.getMessage(), e);
+                    }
                 }
+            } else {
+                runConcurrently(user, requestsModel, errors);
             }
         } catch (IOException e) {
             errors.add(e.getMessage());
@@ -89,17 +77,83 @@ public class Requestor {
         return errors;
     }
 
-    public String getResponseBody(URI uri) throws NullPointerException, IOException {
-        HttpMessage httpRequest = new HttpMessage(uri);
-        httpRequest.getRequestHeader().setHeader("Accept", "application/json,*/*");
-        sender.sendAndReceive(httpRequest, true);
+    /**
+     * Sends the requests using {@link #threadCount} threads.
+     *
+     * <p>The listeners are notified from the calling thread and in the order of the requests, a
+     * bounded number of requests is sent ahead of the ones being notified.
+     */
+    private void runConcurrently(User user, List<RequestModel> requestsModel, List<String> errors)
+            throws IOException {
+        try (RequestDispatcher<SendResult> dispatcher =
+                new RequestDispatcher<>(
+                        "ZAP-OpenApi-Requestor-",
+                        threadCount,
+                        0,
+                        result -> notifyResult(result, errors))) {
+            for (RequestModel requestModel : requestsModel) {
+                HttpMessage httpRequest = createMessage(user, requestModel);
+                dispatcher.submit(null, () -> send(requestModel.getUrl(), httpRequest));
+            }
+        }
+    }
+
+    private static HttpMessage createMessage(User user, RequestModel requestModel)
+            throws IOException {
+        HttpMessage httpRequest = new HttpMessage(new URI(requestModel.getUrl(), false));
+        httpRequest.getRequestHeader().setMethod(requestModel.getMethod().name());
+        for (HttpHeaderField hhf : requestModel.getHeaders()) {
+            httpRequest.getRequestHeader().setHeader(hhf.getName(), hhf.getValue());
+        }
+        httpRequest.getRequestBody().setBody(requestModel.getBody());
+        httpRequest.getRequestHeader().setContentLength(httpRequest.getRequestBody().length());
+
+        httpRequest.setRequestingUser(user);
+        return httpRequest;
+    }
+
+    private static String createError(String url, IOException e) {
+        return Constant.messages.getString(
+                "openapi.import.error", url, e.getClass().getName(), e.getMessage());
+    }
+
+    private SendResult send(String url, HttpMessage httpRequest) {
+        SendResult result = new SendResult();
+        HttpRequestConfig config =
+                HttpRequestConfig.builder()
+                        .setRedirectionValidator(new MessageCollector(result.messages))
+                        .build();
+        try {
+            sender.sendAndReceive(httpRequest, config);
+        } catch (IOException e) {
+            result.error = createError(url, e);
+            LOGGER.debug(e.getMessage(), e);
+        }
+        return result;
+    }
+
+    private void notifyResult(SendResult result, List<String> errors) {
+        result.messages.forEach(this::notifyListeners);
+        if (result.error != null) {
+            errors.add(result.error);
+        }
+    }
+
+    private void notifyListeners(HttpMessage message) {
         for (RequesterListener listener : listeners) {
             try {
-                listener.handleMessage(httpRequest, initiator);
+                listener.handleMessage(message, initiator);
             } catch (Exception e) {
                 LOGGER.error(e.getMessage(), e);
             }
         }
+    }
+
+    public String getResponseBody(URI uri) throws NullPointerException, IOException {
+        HttpMessage httpRequest = new HttpMessage(uri);
+        httpRequest.getRequestHeader().setHeader("Accept", "application/json,*/*");
+        sender.sendAndReceive(httpRequest, true);
+        notifyListeners(httpRequest);
         return httpRequest.getResponseBody().toString();
     }
 
@@ -115,18 +169,60 @@ public class Requestor {
         sender.setUser(user);
     }
 
+    /**
+     * Sets the number of threads used to send the requests.
+     *
+     * <p>The listeners are notified in the order of the requests regardless of the number of
+     * threads.
+     *
+     * @param threadCount the number of threads, values lower than 1 are treated as 1.
+     * @since 59
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = Math.max(1, threadCount);
+    }
+
+    /**
+     * Gets the number of threads used to send the requests.
+     *
+     * @return the number of threads.
+     * @since 59
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
     /** Notifies the {@link #listeners} of the messages sent. */
     private class MessageHandler implements HttpRedirectionValidator {
 
         @Override
         public void notifyMessageReceived(HttpMessage message) {
-            for (RequesterListener listener : listeners) {
-                try {
-                    listener.handleMessage(message, initiator);
-                } catch (Exception e) {
-                    LOGGER.error(e.getMessage(), e);
-                }
-            }
+            notifyListeners(message);
+        }
+
+        @Override
+        public boolean isValid(URI redirection) {
+            return true;
+        }
+    }
+
+    private static class SendResult {
+        private final List<HttpMessage> messages = new ArrayList<>();
+        private String error;
+    }
+
+    /** Collects the messages sent, to notify the {@link #listeners} later. */
+    private static class MessageCollector implements HttpRedirectionValidator {
+
+        private final List<HttpMessage> messages;
+
+        MessageCollector(List<HttpMessage> messages) {
+            this.messages = messages;
+        }
+
+        @Override
+        public void notifyMessageReceived(HttpMessage message) {
+            messages.add(message);
         }
 
         @Override
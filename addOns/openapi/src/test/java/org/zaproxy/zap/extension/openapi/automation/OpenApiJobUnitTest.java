@@ -91,13 +91,14 @@ class OpenApiJobUnitTest extends TestUtils {
         Map<String, String> params = job.getCustomConfigParameters();
 
         // Then
-        assertThat(params.size(), is(equalTo(6)));
+        assertThat(params.size(), is(equalTo(7)));
         assertThat(params.get("apiFile"), is(equalTo("")));
         assertThat(params.get("apiUrl"), is(equalTo("")));
         assertThat(params.get("targetUrl"), is(equalTo("")));
         assertThat(params.get("context"), is(equalTo("")));
         assertThat(params.get("user"), is(equalTo("")));
         assertThat(params.get("maxMessages"), is(equalTo("0")));
+        assertThat(params.get("threadCount"), is(equalTo("1")));
     }
 
     @Test
@@ -129,6 +129,37 @@ class RequestorUnitTest extends AbstractServerTest {
         assertThat(messages.get(3), is(equalTo("GET /final Final")));
     }
 
+    @Test
+    void shouldNotifyMessagesInRequestOrderWhenUsingMultipleThreads() {
+        // Given
+        String baseUrl = "http://localhost:" + nano.getListeningPort() + "/";
+        this.nano.addHandler(
+                new NanoServerHandler("/") {
+                    @Override
+                    protected Response serve(IHTTPSession session) {
+                        return newFixedLengthResponse("");
+                    }
+                });
+
+        List<RequestModel> requests = new ArrayList<>();
+        List<String> expectedPaths = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            requests.add(requestModel(RequestMethod.GET, baseUrl + "path" + i));
+            expectedPaths.add("/path" + i);
+        }
+        List<String> paths = new ArrayList<>();
+        Requestor requestor = new Requestor(HttpSender.MANUAL_REQUEST_INITIATOR);
+        requestor.setThreadCount(4);
+        RequesterListener listener =
+                (msg, initiator) -> paths.add(msg.getRequestHeader().getURI().getEscapedPath());
+        requestor.addListener(listener);
+        // When
+        List<String> errors = requestor.run(requests);
+        // Then
+        assertThat(errors, is(empty()));
+        assertThat(paths, is(equalTo(expectedPaths)));
+    }
+
     private static RequestModel requestModel(RequestMethod method, String url) {
         RequestModel request = new RequestModel();
         request.setMethod(method);
@@ -22,12 +22,11 @@ package org.zaproxy.addon.params;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import javax.swing.tree.TreeNode;
 import org.apache.logging.log4j.LogManager;
@@ -63,7 +62,6 @@ import org.zaproxy.zap.extension.help.ExtensionHelp;
 import org.zaproxy.zap.extension.httpsessions.ExtensionHttpSessions;
 import org.zaproxy.zap.extension.params.ExtensionParams;
 import org.zaproxy.zap.extension.search.ExtensionSearch;
-import org.zaproxy.zap.utils.ErrorUtils;
 import org.zaproxy.zap.utils.ThreadUtils;
 import org.zaproxy.zap.view.SiteMapListener;
 import org.zaproxy.zap.view.SiteMapTreeCellRenderer;
@@ -78,7 +76,7 @@ public class ExtensionParams2 extends ExtensionAdaptor {
     private PopupMenuRemoveAntiCSRF popupMenuRemoveAntiCsrf = null;
     private PopupMenuAddSession popupMenuAddSession = null;
     private PopupMenuRemoveSession popupMenuRemoveSession = null;
-    private Map<String, SiteParameters> siteParamsMap = new HashMap<>();
+    private Map<String, SiteParameters> siteParamsMap = new ConcurrentHashMap<>();
 
     private static final Logger LOGGER = LogManager.getLogger(ExtensionParams2.class);
 
@@ -90,6 +88,7 @@ public class ExtensionParams2 extends ExtensionAdaptor {
     private ExtensionHttpSessions extensionHttpSessions;
     private ParamScanner paramScanner;
     private ParamsTableJdo paramsTableJdo;
+    private final ParamsPersister paramsPersister = new ParamsPersister();
 
     public ExtensionParams2() {
         super(NAME);
@@ -139,6 +138,8 @@ public class ExtensionParams2 extends ExtensionAdaptor {
             return;
         }
 
+        paramsPersister.start();
+
         extensionHook.addApiImplementor(new ParamsAPI(this));
         extensionHook.addSessionListener(new SessionChangedListenerImpl());
         extensionHook.addSiteMapListener(new SiteMapListenerImpl());
@@ -189,10 +190,12 @@ public class ExtensionParams2 extends ExtensionAdaptor {
         if (extensionPassiveScan != null && paramScanner != null) {
             extensionPassiveScan.getPassiveScannersManager().remove(paramScanner);
         }
+        paramsPersister.stop();
     }
 
     @Override
     public void destroy() {
+        paramsPersister.stop();
         if (paramsTableJdo != null) {
             paramsTableJdo.unload();
             paramsTableJdo = null;
@@ -272,11 +275,7 @@ public class ExtensionParams2 extends ExtensionAdaptor {
             this.getParamsPanel().addSite(site);
         }
 
-        SiteParameters sps = this.siteParamsMap.get(site);
-        if (sps == null) {
-            sps = new SiteParameters(this, site);
-            this.siteParamsMap.put(site, sps);
-        }
+        SiteParameters sps = this.getSiteParameters(site);
 
         // Cookie Parameters
         TreeSet<HtmlParameter> params;
@@ -334,54 +333,8 @@ public class ExtensionParams2 extends ExtensionAdaptor {
         return true;
     }
 
-    private String setToString(Set<String> set) {
-        StringBuilder sb = new StringBuilder();
-        if (set == null) {
-            return "";
-        }
-        // Despite the SonarLint warning we do need to sync on the set
-        synchronized (set) {
-            for (String str : set) {
-                if (sb.length() > 0) {
-                    sb.append(',');
-                }
-                // Escape all commas in the values
-                sb.append(str.replace(",", "%2C"));
-            }
-        }
-        return sb.toString();
-    }
-
     private void persist(HtmlParameterStats param) {
-        var pmf = ParamsTableJdo.getPmf();
-        if (pmf == null) {
-            return;
-        }
-        try {
-            if (param.getId() < 0) {
-                RecordParam rp =
-                        ParamsDao.insert(
-                                pmf,
-                                param.getSite(),
-                                param.getType().name(),
-                                param.getName(),
-                                param.getTimesUsed(),
-                                setToString(param.getFlags()),
-                                setToString(param.getValues()));
-                param.setId(rp.paramId());
-            } else {
-                ParamsDao.update(
-                        pmf,
-                        param.getId(),
-                        param.getTimesUsed(),
-                        setToString(param.getFlags()),
-                        setToString(param.getValues()));
-            }
-        } catch (Exception e) {
-            if (!ErrorUtils.handleDiskSpaceException(e)) {
-                LOGGER.error(e.getMessage(), e);
-            }
-        }
+        paramsPersister.persist(param);
     }
 
     public boolean onHttpResponseReceive(HttpMessage msg) {
@@ -419,7 +372,7 @@ public class ExtensionParams2 extends ExtensionAdaptor {
             HtmlParameter headerParam =
                     new HtmlParameter(
                             HtmlParameter.Type.header, hdrField.getName(), hdrField.getValue());
-            ThreadUtils.invokeLater(() -> persist(sps.addParam(site, headerParam, msg)));
+            persist(sps.addParam(site, headerParam, msg));
         }
 
         // TODO Only do if response URL different to request?
@@ -489,6 +442,7 @@ public class ExtensionParams2 extends ExtensionAdaptor {
         if (extAntiCSRF != null && item != null) {
             extAntiCSRF.addAntiCsrfTokenName(item.getName());
             item.addFlag(HtmlParameter.Flags.anticsrf.name());
+            persist(item);
             // Repaint so change shows up
             this.getParamsPanel().getParamsTable().repaint();
 
@@ -507,6 +461,7 @@ public class ExtensionParams2 extends ExtensionAdaptor {
         if (extAntiCSRF != null && item != null) {
             extAntiCSRF.removeAntiCsrfTokenName(item.getName());
             item.removeFlag(HtmlParameter.Flags.anticsrf.name());
+            persist(item);
             // Repaint so change shows up
             this.getParamsPanel().getParamsTable().repaint();
 
@@ -543,12 +498,7 @@ public class ExtensionParams2 extends ExtensionAdaptor {
     }
 
     public SiteParameters getSiteParameters(String site) {
-        SiteParameters sps = this.siteParamsMap.get(site);
-        if (sps == null) {
-            sps = new SiteParameters(this, site);
-            siteParamsMap.put(site, sps);
-        }
-        return sps;
+        return siteParamsMap.computeIfAbsent(site, k -> new SiteParameters(this, k));
     }
 
     public Collection<SiteParameters> getAllSiteParameters() {
@@ -573,6 +523,7 @@ public class ExtensionParams2 extends ExtensionAdaptor {
 
             // Flag the item accordingly
             item.addFlag(HtmlParameter.Flags.session.name());
+            persist(item);
             // Repaint so change shows up
             this.getParamsPanel().getParamsTable().repaint();
         }
@@ -595,6 +546,7 @@ public class ExtensionParams2 extends ExtensionAdaptor {
 
             // Unflag the item accordingly
             item.removeFlag(HtmlParameter.Flags.session.name());
+            persist(item);
             // Repaint so change shows up
             this.getParamsPanel().getParamsTable().repaint();
         }
@@ -661,7 +613,9 @@ public class ExtensionParams2 extends ExtensionAdaptor {
 
         @Override
         public void sessionAboutToChange(Session session) {
-            // Nothing to do
+            // Persist the parameters of the current session before its database is closed, the
+            // ones seen afterwards are discarded when the session changes
+            paramsPersister.flushAndSuspend();
         }
 
         @Override
@@ -671,7 +625,8 @@ public class ExtensionParams2 extends ExtensionAdaptor {
 
         private void sessionChangedEventHandler(Session session) {
             // Clear all scans
-            siteParamsMap = new HashMap<>();
+            paramsPersister.clear();
+            siteParamsMap = new ConcurrentHashMap<>();
             if (getView() != null) {
                 getParamsPanel().reset();
             }
@@ -19,19 +19,27 @@
  */
 package org.zaproxy.addon.params;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import org.parosproxy.paros.network.HtmlParameter;
 
 public class HtmlParameterStats implements Comparable<HtmlParameterStats> {
-    private long id = -1;
+
+    /**
+     * The maximum number of distinct values kept per parameter, further values are not recorded.
+     *
+     * @since 0.1.0
+     */
+    public static final int MAX_VALUES = 1000;
+
+    private volatile long id = -1;
     private String site;
     private String name;
     private HtmlParameter.Type type;
-    private int timesUsed = 0;
-    private Set<String> flags = Collections.synchronizedSet(new HashSet<>());
-    private Set<String> values = Collections.synchronizedSet(new HashSet<>());
+    private final LongAdder timesUsed = new LongAdder();
+    private final Set<String> flags = ConcurrentHashMap.newKeySet();
+    private final Set<String> values = ConcurrentHashMap.newKeySet();
 
     public HtmlParameterStats(
             String site, String name, HtmlParameter.Type type, String value, Set<String> flags) {
@@ -39,7 +47,7 @@ public class HtmlParameterStats implements Comparable<HtmlParameterStats> {
         this.name = name;
         this.type = type;
         this.addValue(value);
-        this.flags = flags;
+        addAll(this.flags, flags);
         this.incTimesUsed();
     }
 
@@ -55,9 +63,15 @@ public class HtmlParameterStats implements Comparable<HtmlParameterStats> {
         this.site = site;
         this.name = name;
         this.type = HtmlParameter.Type.valueOf(type);
-        this.timesUsed = timesUsed;
-        this.values = values;
-        this.flags = flags;
+        this.timesUsed.add(timesUsed);
+        addAll(this.values, values);
+        addAll(this.flags, flags);
+    }
+
+    private static void addAll(Set<String> set, Set<String> values) {
+        if (values != null) {
+            set.addAll(values);
+        }
     }
 
     public long getId() {
@@ -89,11 +103,11 @@ public class HtmlParameterStats implements Comparable<HtmlParameterStats> {
     }
 
     public int getTimesUsed() {
-        return timesUsed;
+        return timesUsed.intValue();
     }
 
     public void incTimesUsed() {
-        this.timesUsed++;
+        this.timesUsed.increment();
     }
 
     public Set<String> getValues() {
@@ -104,7 +118,9 @@ public class HtmlParameterStats implements Comparable<HtmlParameterStats> {
         if (value == null) {
             value = "";
         }
-        this.values.add(value);
+        if (this.values.size() < MAX_VALUES) {
+            this.values.add(value);
+        }
     }
 
     public String getValuesSummary() {
@@ -0,0 +1,236 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.params;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.zaproxy.addon.params.internal.db.ParamsDao;
+import org.zaproxy.addon.params.internal.db.ParamsTableJdo;
+import org.zaproxy.addon.params.internal.db.RecordParam;
+import org.zaproxy.zap.utils.ErrorUtils;
+
+/**
+ * Persists the parameters in the background.
+ *
+ * <p>The parameters are just marked as changed when seen, and periodically saved in batches, so
+ * that a parameter changed several times between saves is written only once, with its latest
+ * state. A parameter that fails to be saved is retried on the next flushes, up to {@link
+ * #MAX_SAVE_ATTEMPTS} times.
+ */
+class ParamsPersister {
+
+    static final long DEFAULT_FLUSH_INTERVAL_MS = 2000;
+
+    static final int MAX_SAVE_ATTEMPTS = 3;
+
+    private static final Logger LOGGER = LogManager.getLogger(ParamsPersister.class);
+
+    private final Set<HtmlParameterStats> changedParams = ConcurrentHashMap.newKeySet();
+    private final Map<HtmlParameterStats, Integer> failedSaves = new HashMap<>();
+    private final UnaryOperator<List<RecordParam>> writer;
+    private final long flushIntervalMs;
+    private ScheduledExecutorService executor;
+    private boolean suspended;
+
+    ParamsPersister() {
+        this(ParamsPersister::save, DEFAULT_FLUSH_INTERVAL_MS);
+    }
+
+    ParamsPersister(UnaryOperator<List<RecordParam>> writer, long flushIntervalMs) {
+        this.writer = writer;
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    private static List<RecordParam> save(List<RecordParam> params) {
+        var pmf = ParamsTableJdo.getPmf();
+        if (pmf == null) {
+            return null;
+        }
+        return ParamsDao.save(pmf, params);
+    }
+
+    /**
+     * Marks the given parameter as changed, to be persisted on the next flush.
+     *
+     * @param param the parameter that changed.
+     */
+    void persist(HtmlParameterStats param) {
+        changedParams.add(param);
+    }
+
+    synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread thread = new Thread(r, "ZAP-Params-Persister");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        executor.scheduleWithFixedDelay(
+                this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /** Stops the periodic flushes, persisting the parameters still pending. */
+    synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        executor = null;
+        flush();
+    }
+
+    /**
+     * Persists the pending parameters and suspends the flushes until {@link #clear() cleared}, for
+     * example, when the session is about to change.
+     */
+    synchronized void flushAndSuspend() {
+        flush();
+        suspended = true;
+    }
+
+    /**
+     * Discards the pending parameters and resumes the flushes, for example, when they belong to a
+     * previous session.
+     */
+    synchronized void clear() {
+        changedParams.clear();
+        failedSaves.clear();
+        suspended = false;
+    }
+
+    int getPendingCount() {
+        return changedParams.size();
+    }
+
+    /** Persists the parameters changed since the previous flush. */
+    synchronized void flush() {
+        if (suspended || changedParams.isEmpty()) {
+            return;
+        }
+
+        List<HtmlParameterStats> params = new ArrayList<>(changedParams.size());
+        List<RecordParam> records = new ArrayList<>(changedParams.size());
+        Iterator<HtmlParameterStats> it = changedParams.iterator();
+        while (it.hasNext()) {
+            HtmlParameterStats param = it.next();
+            // Removed before reading the state, any later change marks it again.
+            it.remove();
+            params.add(param);
+            records.add(toRecord(param));
+        }
+
+        try {
+            write(params, records);
+            if (!failedSaves.isEmpty()) {
+                params.forEach(failedSaves::remove);
+            }
+        } catch (Exception e) {
+            handleException(e);
+            if (params.size() == 1) {
+                retryLater(params.get(0), e);
+                return;
+            }
+            // Save one by one, a bad parameter should not prevent saving the others.
+            for (int i = 0; i < params.size(); i++) {
+                HtmlParameterStats param = params.get(i);
+                try {
+                    write(List.of(param), List.of(records.get(i)));
+                    failedSaves.remove(param);
+                } catch (Exception ex) {
+                    LOGGER.debug(ex.getMessage(), ex);
+                    retryLater(param, ex);
+                }
+            }
+        }
+    }
+
+    private void retryLater(HtmlParameterStats param, Exception e) {
+        int attempts = failedSaves.merge(param, 1, Integer::sum);
+        if (attempts < MAX_SAVE_ATTEMPTS) {
+            // Marked again to be retried on the next flush.
+            changedParams.add(param);
+            return;
+        }
+        failedSaves.remove(param);
+        LOGGER.warn(
+                "Discarding parameter {} of {} after {} failed saves: {}",
+                param.getName(),
+                param.getSite(),
+                attempts,
+                e.getMessage());
+    }
+
+    private void write(List<HtmlParameterStats> params, List<RecordParam> records) {
+        List<RecordParam> saved = writer.apply(records);
+        if (saved == null) {
+            return;
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            params.get(i).setId(saved.get(i).paramId());
+        }
+    }
+
+    private static void handleException(Exception e) {
+        if (!ErrorUtils.handleDiskSpaceException(e)) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    private static RecordParam toRecord(HtmlParameterStats param) {
+        return new RecordParam(
+                param.getId(),
+                param.getSite(),
+                param.getType().name(),
+                param.getName(),
+                param.getTimesUsed(),
+                setToString(param.getFlags()),
+                setToString(param.getValues()));
+    }
+
+    private static String setToString(Set<String> set) {
+        StringBuilder sb = new StringBuilder();
+        if (set == null) {
+            return "";
+        }
+        for (String str : set) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            // Escape all commas in the values
+            sb.append(str.replace(",", "%2C"));
+        }
+        return sb.toString();
+    }
+}
@@ -20,11 +20,11 @@
 package org.zaproxy.addon.params;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.parosproxy.paros.network.HtmlParameter;
 import org.parosproxy.paros.network.HtmlParameter.Type;
 import org.parosproxy.paros.network.HttpMessage;
@@ -36,11 +36,11 @@ public class SiteParameters {
     private ExtensionParams2 extension;
     private String site;
     private ParamsTableModel model = new ParamsTableModel();
-    private Map<String, HtmlParameterStats> cookieParams = new HashMap<>();
-    private Map<String, HtmlParameterStats> urlParams = new HashMap<>();
-    private Map<String, HtmlParameterStats> formParams = new HashMap<>();
-    private Map<String, HtmlParameterStats> headerParams = new HashMap<>();
-    private Map<String, HtmlParameterStats> multipartParams = new HashMap<>();
+    private Map<String, HtmlParameterStats> cookieParams = new ConcurrentHashMap<>();
+    private Map<String, HtmlParameterStats> urlParams = new ConcurrentHashMap<>();
+    private Map<String, HtmlParameterStats> formParams = new ConcurrentHashMap<>();
+    private Map<String, HtmlParameterStats> headerParams = new ConcurrentHashMap<>();
+    private Map<String, HtmlParameterStats> multipartParams = new ConcurrentHashMap<>();
 
     public SiteParameters(ExtensionParams2 extension, String site) {
         this.extension = extension;
@@ -117,60 +117,62 @@ public class SiteParameters {
         return params;
     }
 
-    public synchronized HtmlParameterStats addParam(
-            String site, HtmlParameter param, HttpMessage msg) {
-        Map<String, HtmlParameterStats> params = null;
-        HtmlParameterStats p;
+    public HtmlParameterStats addParam(String site, HtmlParameter param, HttpMessage msg) {
+        Map<String, HtmlParameterStats> params = getParamsMap(param.getType());
+        if (params == null) {
+            return createParam(site, param);
+        }
+
+        HtmlParameterStats p = params.get(param.getName());
+        if (p != null) {
+            p.incTimesUsed();
+            p.addValue(param.getValue());
+            return p;
+        }
+
+        // It's a new parameter, unless added meanwhile by another thread
+        HtmlParameterStats newParam = createParam(site, param);
+        p = params.putIfAbsent(param.getName(), newParam);
+        if (p != null) {
+            p.incTimesUsed();
+            p.addValue(param.getValue());
+            return p;
+        }
+        ThreadUtils.invokeLater(() -> model.addHtmlParameterStats(newParam));
+        return newParam;
+    }
 
-        switch (param.getType()) {
+    private Map<String, HtmlParameterStats> getParamsMap(HtmlParameter.Type type) {
+        switch (type) {
             case cookie:
-                params = cookieParams;
-                break;
+                return cookieParams;
             case url:
-                params = urlParams;
-                break;
+                return urlParams;
             case form:
-                params = formParams;
-                break;
+                return formParams;
             case header:
-                params = headerParams;
-                break;
+                return headerParams;
             case multipart:
-                params = multipartParams;
-                break;
+                return multipartParams;
         }
+        return null;
+    }
 
-        if (params != null && params.containsKey(param.getName())) {
-            p = params.get(param.getName());
-            p.incTimesUsed();
-            p.addValue(param.getValue());
-        } else {
-            // It's a new parameter
-            p =
-                    new HtmlParameterStats(
-                            site,
-                            param.getName(),
-                            param.getType(),
-                            param.getValue(),
-                            param.getFlags());
-
-            // If the HttpSessions extension is active, check if the token is a session token and,
-            // if it is, mark it so
-            ExtensionHttpSessions extSession = extension.getExtensionHttpSessions();
-            if (extSession != null) {
-                if (param.getType().equals(Type.cookie)
-                        && extSession.isSessionToken(site, param.getName())) {
-                    // Only Cookies can be session params
-                    // TODO: Add support for URL tokens
-                    p.addFlag(HtmlParameter.Flags.session.name());
-                }
-            }
-
-            if (params == null) {
-                params = new HashMap<>();
+    private HtmlParameterStats createParam(String site, HtmlParameter param) {
+        HtmlParameterStats p =
+                new HtmlParameterStats(
+                        site, param.getName(), param.getType(), param.getValue(), param.getFlags());
+
+        // If the HttpSessions extension is active, check if the token is a session token and,
+        // if it is, mark it so
+        ExtensionHttpSessions extSession = extension.getExtensionHttpSessions();
+        if (extSession != null) {
+            if (param.getType().equals(Type.cookie)
+                    && extSession.isSessionToken(site, param.getName())) {
+                // Only Cookies can be session params
+                // TODO: Add support for URL tokens
+                p.addFlag(HtmlParameter.Flags.session.name());
             }
-            params.put(param.getName(), p);
-            ThreadUtils.invokeLater(() -> model.addHtmlParameterStats(p));
         }
         return p;
     }
@@ -189,27 +191,9 @@ public class SiteParameters {
         return set;
     }
 
-    public synchronized void addParam(String site2, RecordParam param) {
-        Map<String, HtmlParameterStats> params = null;
-
-        HtmlParameter.Type type = HtmlParameter.Type.valueOf(param.type());
-        switch (type) {
-            case cookie:
-                params = cookieParams;
-                break;
-            case url:
-                params = urlParams;
-                break;
-            case form:
-                params = formParams;
-                break;
-            case header:
-                params = headerParams;
-                break;
-            case multipart:
-                params = multipartParams;
-                break;
-        }
+    public void addParam(String site2, RecordParam param) {
+        Map<String, HtmlParameterStats> params =
+                getParamsMap(HtmlParameter.Type.valueOf(param.type()));
         // These should all be new
         HtmlParameterStats p =
                 new HtmlParameterStats(
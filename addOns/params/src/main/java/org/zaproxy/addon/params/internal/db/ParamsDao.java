@@ -100,6 +100,53 @@ public final class ParamsDao {
         }
     }
 
+    /**
+     * Saves the given parameters in a single transaction, inserting the ones without ID (that is,
+     * negative) and updating the others.
+     *
+     * @param pmf the persistence manager factory.
+     * @param params the parameters to save.
+     * @return the saved parameters, in the same order, with the IDs of the inserted ones.
+     */
+    public static List<RecordParam> save(
+            PersistenceManagerFactory pmf, List<RecordParam> params) {
+        PersistenceManager pm = pmf.getPersistenceManager();
+        Transaction tx = pm.currentTransaction();
+        try {
+            tx.begin();
+            List<ParamsRow> rows = new ArrayList<>(params.size());
+            for (RecordParam param : params) {
+                ParamsRow row;
+                if (param.paramId() < 0) {
+                    row = new ParamsRow();
+                    row.setSite(param.site());
+                    row.setType(param.type());
+                    row.setName(param.name());
+                    pm.makePersistent(row);
+                } else {
+                    row = pm.getObjectById(ParamsRow.class, param.paramId());
+                }
+                row.setUsed(param.used());
+                row.setFlags(param.flags());
+                row.setVals(param.values());
+                rows.add(row);
+            }
+            pm.flush();
+            tx.commit();
+
+            List<RecordParam> result = new ArrayList<>(rows.size());
+            for (ParamsRow row : rows) {
+                result.add(toRecord(row));
+            }
+            return result;
+        } finally {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+            pm.close();
+        }
+    }
+
     private static RecordParam toRecord(ParamsRow row) {
         return new RecordParam(
                 row.getParamId(),
@@ -0,0 +1,250 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.params;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.network.HtmlParameter;
+import org.zaproxy.addon.params.internal.db.RecordParam;
+
+/** Unit test for {@link ParamsPersister}. */
+class ParamsPersisterUnitTest {
+
+    private List<List<RecordParam>> writes;
+    private AtomicLong ids;
+    private ParamsPersister persister;
+
+    @BeforeEach
+    void setUp() {
+        writes = new ArrayList<>();
+        ids = new AtomicLong();
+        persister =
+                new ParamsPersister(
+                        records -> {
+                            writes.add(records);
+                            return records.stream().map(this::withId).toList();
+                        },
+                        ParamsPersister.DEFAULT_FLUSH_INTERVAL_MS);
+    }
+
+    private RecordParam withId(RecordParam record) {
+        if (record.paramId() >= 0) {
+            return record;
+        }
+        return new RecordParam(
+                ids.incrementAndGet(),
+                record.site(),
+                record.type(),
+                record.name(),
+                record.used(),
+                record.flags(),
+                record.values());
+    }
+
+    @Test
+    void shouldNotWriteIfNoParamsChanged() {
+        // Given / When
+        persister.flush();
+        // Then
+        assertThat(writes, hasSize(0));
+    }
+
+    @Test
+    void shouldCoalesceChangesOfSameParam() {
+        // Given
+        HtmlParameterStats param = createParam("a", "1");
+        persister.persist(param);
+        param.incTimesUsed();
+        param.addValue("2");
+        persister.persist(param);
+        // When
+        persister.flush();
+        // Then
+        assertThat(writes, hasSize(1));
+        assertThat(writes.get(0), hasSize(1));
+        RecordParam record = writes.get(0).get(0);
+        assertThat(record.paramId(), is(equalTo(-1L)));
+        assertThat(record.name(), is(equalTo("a")));
+        assertThat(record.used(), is(equalTo(2)));
+        assertThat(persister.getPendingCount(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldWriteChangedParamsInSameBatch() {
+        // Given
+        persister.persist(createParam("a", "1"));
+        persister.persist(createParam("b", "1"));
+        persister.persist(createParam("c", "1"));
+        // When
+        persister.flush();
+        // Then
+        assertThat(writes, hasSize(1));
+        assertThat(writes.get(0), hasSize(3));
+    }
+
+    @Test
+    void shouldSetIdOfInsertedParamsAndUpdateOnLaterChanges() {
+        // Given
+        HtmlParameterStats param = createParam("a", "1");
+        persister.persist(param);
+        persister.flush();
+        param.incTimesUsed();
+        persister.persist(param);
+        // When
+        persister.flush();
+        // Then
+        assertThat(param.getId(), is(equalTo(1L)));
+        assertThat(writes, hasSize(2));
+        assertThat(writes.get(1).get(0).paramId(), is(equalTo(1L)));
+        assertThat(writes.get(1).get(0).used(), is(equalTo(2)));
+    }
+
+    @Test
+    void shouldNotWriteClearedParams() {
+        // Given
+        persister.persist(createParam("a", "1"));
+        persister.clear();
+        // When
+        persister.flush();
+        // Then
+        assertThat(writes, hasSize(0));
+    }
+
+    @Test
+    void shouldWritePendingParamsOnStop() {
+        // Given
+        persister.start();
+        persister.persist(createParam("a", "1"));
+        // When
+        persister.stop();
+        // Then
+        assertThat(writes, hasSize(1));
+    }
+
+    @Test
+    void shouldKeepParamsToRetryIfWriteFailed() {
+        // Given
+        persister =
+                new ParamsPersister(
+                        records -> {
+                            throw new RuntimeException();
+                        },
+                        ParamsPersister.DEFAULT_FLUSH_INTERVAL_MS);
+        persister.persist(createParam("a", "1"));
+        persister.persist(createParam("b", "1"));
+        // When
+        persister.flush();
+        // Then
+        assertThat(persister.getPendingCount(), is(equalTo(2)));
+    }
+
+    @Test
+    void shouldWriteParamsOneByOneIfBatchFailed() {
+        // Given
+        persister =
+                new ParamsPersister(
+                        records -> {
+                            if (records.stream().anyMatch(record -> "bad".equals(record.name()))) {
+                                throw new RuntimeException();
+                            }
+                            writes.add(records);
+                            return records.stream().map(this::withId).toList();
+                        },
+                        ParamsPersister.DEFAULT_FLUSH_INTERVAL_MS);
+        HtmlParameterStats paramA = createParam("a", "1");
+        HtmlParameterStats paramB = createParam("b", "1");
+        persister.persist(paramA);
+        persister.persist(createParam("bad", "1"));
+        persister.persist(paramB);
+        // When
+        persister.flush();
+        // Then
+        assertThat(writes, hasSize(2));
+        assertThat(writes.get(0), hasSize(1));
+        assertThat(writes.get(1), hasSize(1));
+        assertThat(paramA.getId(), is(not(equalTo(-1L))));
+        assertThat(paramB.getId(), is(not(equalTo(-1L))));
+        assertThat(persister.getPendingCount(), is(equalTo(1)));
+    }
+
+    @Test
+    void shouldDiscardParamAfterMaxSaveAttempts() {
+        // Given
+        List<List<RecordParam>> attempts = new ArrayList<>();
+        persister =
+                new ParamsPersister(
+                        records -> {
+                            attempts.add(records);
+                            throw new RuntimeException();
+                        },
+                        ParamsPersister.DEFAULT_FLUSH_INTERVAL_MS);
+        persister.persist(createParam("a", "1"));
+        // When
+        for (int i = 0; i < ParamsPersister.MAX_SAVE_ATTEMPTS + 2; i++) {
+            persister.flush();
+        }
+        // Then
+        assertThat(attempts, hasSize(ParamsPersister.MAX_SAVE_ATTEMPTS));
+        assertThat(persister.getPendingCount(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldNotWriteWhileSuspended() {
+        // Given
+        persister.persist(createParam("a", "1"));
+        persister.flushAndSuspend();
+        persister.persist(createParam("b", "1"));
+        // When
+        persister.flush();
+        // Then
+        assertThat(writes, hasSize(1));
+        assertThat(writes.get(0).get(0).name(), is(equalTo("a")));
+    }
+
+    @Test
+    void shouldDiscardParamsSeenWhileSuspendedAndResumeOnClear() {
+        // Given
+        persister.flushAndSuspend();
+        persister.persist(createParam("a", "1"));
+        // When
+        persister.clear();
+        persister.persist(createParam("b", "1"));
+        persister.flush();
+        // Then
+        assertThat(writes, hasSize(1));
+        assertThat(writes.get(0), hasSize(1));
+        assertThat(writes.get(0).get(0).name(), is(equalTo("b")));
+    }
+
+    private static HtmlParameterStats createParam(String name, String value) {
+        return new HtmlParameterStats(
+                "example.com:443", name, HtmlParameter.Type.url, value, new HashSet<>());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.params;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.parosproxy.paros.network.HtmlParameter;
+
+/** Unit test for {@link SiteParameters}. */
+class SiteParametersUnitTest {
+
+    private static final String SITE = "example.com:443";
+
+    private SiteParameters siteParameters;
+
+    @BeforeEach
+    void setUp() {
+        siteParameters = new SiteParameters(mock(ExtensionParams2.class), SITE);
+    }
+
+    @Test
+    void shouldAddNewParam() {
+        // Given
+        HtmlParameter param = new HtmlParameter(HtmlParameter.Type.url, "a", "1");
+        // When
+        HtmlParameterStats stats = siteParameters.addParam(SITE, param, null);
+        // Then
+        assertThat(siteParameters.hasParams(), is(equalTo(true)));
+        assertThat(siteParameters.getParam(HtmlParameter.Type.url, "a"), is(sameInstance(stats)));
+        assertThat(stats.getTimesUsed(), is(equalTo(1)));
+        assertThat(stats.getValues(), hasSize(1));
+    }
+
+    @Test
+    void shouldUpdateExistingParam() {
+        // Given
+        HtmlParameterStats stats =
+                siteParameters.addParam(
+                        SITE, new HtmlParameter(HtmlParameter.Type.url, "a", "1"), null);
+        // When
+        HtmlParameterStats updated =
+                siteParameters.addParam(
+                        SITE, new HtmlParameter(HtmlParameter.Type.url, "a", "2"), null);
+        // Then
+        assertThat(updated, is(sameInstance(stats)));
+        assertThat(stats.getTimesUsed(), is(equalTo(2)));
+        assertThat(stats.getValues(), hasSize(2));
+        assertThat(siteParameters.getParams(), hasSize(1));
+    }
+
+    @Test
+    @Timeout(30)
+    void shouldCountAllUsesWhenAddingParamsConcurrently() throws Exception {
+        // Given
+        int threads = 16;
+        int iterations = 1000;
+        int names = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        // When
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(
+                    executor.submit(
+                            () -> {
+                                start.await();
+                                for (int i = 0; i < iterations; i++) {
+                                    siteParameters.addParam(
+                                            SITE,
+                                            new HtmlParameter(
+                                                    HtmlParameter.Type.form,
+                                                    "name" + (i % names),
+                                                    "value" + thread),
+                                            null);
+                                }
+                                return null;
+                            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        // Then
+        List<HtmlParameterStats> params = siteParameters.getParams(HtmlParameter.Type.form);
+        assertThat(params, hasSize(names));
+        for (HtmlParameterStats stats : params) {
+            assertThat(stats.getTimesUsed(), is(equalTo(threads * iterations / names)));
+            assertThat(stats.getValues(), hasSize(threads));
+        }
+    }
+}
@@ -14,7 +14,7 @@ zapAddOn {
         dependencies {
             addOns {
                 register("commonlib") {
-                    version.set(">= 1.40.0 & < 2.0.0")
+                    version.set(">= 1.44.0 & < 2.0.0")
                 }
 
                 // Not an actual dependency (yet) but allows to include passive scan add-on "by default".
@@ -51,7 +51,6 @@ configurations {
 }
 
 dependencies {
-    implementation(libs.pscanrules.re2j)
     implementation(libs.pscanrules.htmlunit.csp)
 
     antlr(libs.pscanrules.antlr)
@@ -39,6 +39,7 @@ import org.parosproxy.paros.core.scanner.Alert;
 import org.parosproxy.paros.core.scanner.Plugin.AlertThreshold;
 import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
+import org.zaproxy.addon.commonlib.KeywordMatcher;
 import org.zaproxy.addon.commonlib.PolicyTag;
 import org.zaproxy.addon.commonlib.ResourceIdentificationUtils;
 import org.zaproxy.zap.extension.pscan.PluginPassiveScanner;
@@ -89,6 +90,10 @@ public class ApplicationErrorScanRule extends PluginPassiveScanner
 
     private static Supplier<Iterable<String>> payloadProvider = DEFAULT_PAYLOAD_PROVIDER;
 
+    // Built only when the payloads change, shared by all the instances
+    private static volatile KeywordMatcher payloadMatcher =
+            KeywordMatcher.create(DEFAULT_ERRORS, false, false);
+
     // Inner Content Matcher component with pattern definitions
     private ContentMatcher matcher = null;
 
@@ -171,11 +176,10 @@ public class ApplicationErrorScanRule extends PluginPassiveScanner
                 return;
             }
             String body = msg.getResponseBody().toString();
-            for (String payload : getCustomPayloads().get()) {
-                if (body.contains(payload)) {
-                    raiseAlert(msg, id, payload);
-                    return;
-                }
+            KeywordMatcher.Match match = getPayloadMatcher().find(body);
+            if (match != null) {
+                raiseAlert(msg, id, body.substring(match.start(), match.end()));
+                return;
             }
             String evidence = getContentMatcher().findInContent(body);
             if (evidence != null) {
@@ -214,6 +218,17 @@ public class ApplicationErrorScanRule extends PluginPassiveScanner
         return alerts;
     }
 
+    private static KeywordMatcher getPayloadMatcher() {
+        List<String> payloads = new ArrayList<>();
+        getCustomPayloads().get().forEach(payloads::add);
+        KeywordMatcher matcher = payloadMatcher;
+        if (!matcher.getKeywords().equals(payloads)) {
+            matcher = KeywordMatcher.create(payloads, false, false);
+            payloadMatcher = matcher;
+        }
+        return matcher;
+    }
+
     static Supplier<Iterable<String>> getCustomPayloads() {
         return payloadProvider;
     }
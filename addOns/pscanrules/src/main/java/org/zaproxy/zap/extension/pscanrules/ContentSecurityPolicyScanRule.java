@@ -99,6 +99,9 @@ public class ContentSecurityPolicyScanRule extends PluginPassiveScanner
     private static final Optional<URLWithScheme> HTTPS_URI =
             Optional.of(URI.parseURI("https://" + RAND_FQDN).get());
 
+    private static final HeaderAnalysisCache<CspAnalysis> CSP_ANALYSIS_CACHE =
+            new HeaderAnalysisCache<>(PLUGIN_ID);
+
     @Override
     public void scanHttpResponseReceive(HttpMessage msg, int id, Source source) {
         boolean cspHeaderFound = false;
@@ -126,15 +129,11 @@ public class ContentSecurityPolicyScanRule extends PluginPassiveScanner
 
         if (cspHeaderFound) {
             List<PolicyError> observedErrors = new ArrayList<>();
-            PolicyErrorConsumer consumer =
-                    (severity, message, directiveIndex, valueIndex) -> {
-                        observedErrors.add(
-                                new PolicyError(severity, message, directiveIndex, valueIndex));
-                    };
 
             for (String csp : cspOptions) {
-                Policy policy = parsePolicy(csp, consumer, msg, id);
-                if (policy == null) {
+                CspAnalysis analysis = getPolicyAnalysis(csp, msg, id);
+                observedErrors.addAll(analysis.errors());
+                if (!analysis.parsed()) {
                     continue;
                 }
 
@@ -142,13 +141,12 @@ public class ContentSecurityPolicyScanRule extends PluginPassiveScanner
                     checkObservedErrors(observedErrors, msg, csp, false);
                 }
 
-                List<String> allowedWildcardSources = getAllowedWildcardSources(csp);
+                List<String> allowedWildcardSources = new ArrayList<>(analysis.wildcardSources());
                 if (!allowedWildcardSources.isEmpty()) {
                     checkWildcardSources(allowedWildcardSources, msg, csp, false);
                 }
 
-                PolicyInOrigin p = new PolicyInOrigin(policy, URI.parseURI(RAND_FQDN).orElse(null));
-                if (p.allowsUnsafeInlineScript()) {
+                if (analysis.unsafeInlineScript()) {
                     buildScriptUnsafeInlineAlert(
                                     getHeaderField(msg, HttpFieldsNames.CONTENT_SECURITY_POLICY)
                                             .get(0),
@@ -156,7 +154,7 @@ public class ContentSecurityPolicyScanRule extends PluginPassiveScanner
                             .raise();
                 }
 
-                if (p.allowsUnsafeInlineStyle()) {
+                if (analysis.unsafeInlineStyle()) {
                     buildStyleUnsafeInlineAlert(
                                     getHeaderField(msg, HttpFieldsNames.CONTENT_SECURITY_POLICY)
                                             .get(0),
@@ -164,7 +162,7 @@ public class ContentSecurityPolicyScanRule extends PluginPassiveScanner
                             .raise();
                 }
 
-                if (allowsUnsafeHashes(policy, FetchDirectiveKind.ScriptSrc)) {
+                if (analysis.unsafeHashesScript()) {
                     buildScriptUnsafeHashAlert(
                                     getHeaderField(msg, HttpFieldsNames.CONTENT_SECURITY_POLICY)
                                             .get(0),
@@ -172,7 +170,7 @@ public class ContentSecurityPolicyScanRule extends PluginPassiveScanner
                             .raise();
                 }
 
-                if (allowsUnsafeHashes(policy, FetchDirectiveKind.StyleSrc)) {
+                if (analysis.unsafeHashesStyle()) {
                     buildStyleUnsafeHashAlert(
                                     getHeaderField(msg, HttpFieldsNames.CONTENT_SECURITY_POLICY)
                                             .get(0),
@@ -180,7 +178,7 @@ public class ContentSecurityPolicyScanRule extends PluginPassiveScanner
                             .raise();
                 }
 
-                if (allowsUnsafeEval(policy, FetchDirectiveKind.ScriptSrc)) {
+                if (analysis.unsafeEval()) {
                     buildScriptUnsafeEvalAlert(
                                     getHeaderField(msg, HttpFieldsNames.CONTENT_SECURITY_POLICY)
                                             .get(0),
@@ -206,44 +204,34 @@ public class ContentSecurityPolicyScanRule extends PluginPassiveScanner
             String metaPolicy = element.getAttributeValue("content");
             if (HttpFieldsNames.CONTENT_SECURITY_POLICY.equalsIgnoreCase(metaField)
                     && !StringUtils.isBlank(metaPolicy)) {
-                List<PolicyError> metaObservedErrors = new ArrayList<>();
-                PolicyErrorConsumer metaConsumer =
-                        (severity, message, directiveIndex, valueIndex) -> {
-                            metaObservedErrors.add(
-                                    new PolicyError(severity, message, directiveIndex, valueIndex));
-                        };
-                Policy parsedMetaPolicy = parsePolicy(metaPolicy, metaConsumer, msg, id);
-                if (parsedMetaPolicy == null) {
+                CspAnalysis metaAnalysis = getPolicyAnalysis(metaPolicy, msg, id);
+                if (!metaAnalysis.parsed()) {
                     continue;
                 }
-                checkObservedErrors(metaObservedErrors, msg, metaPolicy, true);
-                List<String> metaWildcardSources = getAllowedWildcardSources(metaPolicy);
+                checkObservedErrors(metaAnalysis.errors(), msg, metaPolicy, true);
+                List<String> metaWildcardSources = new ArrayList<>(metaAnalysis.wildcardSources());
                 // frame-ancestors isn't applicable in META
                 metaWildcardSources.remove(FRAME_ANCESTORS);
                 checkWildcardSources(metaWildcardSources, msg, metaPolicy, true);
-                PolicyInOrigin pol =
-                        new PolicyInOrigin(parsedMetaPolicy, URI.parseURI(RAND_FQDN).orElse(null));
-                if (pol.allowsUnsafeInlineScript()) {
+                if (metaAnalysis.unsafeInlineScript()) {
                     buildScriptUnsafeInlineAlert(metaField, metaPolicy).raise();
                 }
 
-                if (pol.allowsUnsafeInlineStyle()) {
+                if (metaAnalysis.unsafeInlineStyle()) {
                     buildStyleUnsafeInlineAlert(metaField, metaPolicy).raise();
                 }
 
-                if (allowsUnsafeHashes(parsedMetaPolicy, FetchDirectiveKind.ScriptSrc)) {
+                if (metaAnalysis.unsafeHashesScript()) {
                     buildScriptUnsafeHashAlert(metaField, metaPolicy).raise();
                 }
 
-                if (allowsUnsafeHashes(parsedMetaPolicy, FetchDirectiveKind.StyleSrc)) {
+                if (metaAnalysis.unsafeHashesStyle()) {
                     buildStyleUnsafeHashAlert(metaField, metaPolicy).raise();
                 }
-                if (parsedMetaPolicy.sandbox().isPresent()
-                        || parsedMetaPolicy.frameAncestors().isPresent()
-                        || parsedMetaPolicy.reportUri().isPresent()) {
+                if (metaAnalysis.notAllowedInMeta()) {
                     buildBadMetaAlert(metaField, metaPolicy).raise();
                 }
-                if (allowsUnsafeEval(parsedMetaPolicy, FetchDirectiveKind.ScriptSrc)) {
+                if (metaAnalysis.unsafeEval()) {
                     buildScriptUnsafeEvalAlert(HttpFieldsNames.CONTENT_SECURITY_POLICY, metaPolicy)
                             .raise();
                 }
@@ -280,25 +268,62 @@ public class ContentSecurityPolicyScanRule extends PluginPassiveScanner
         }
     }
 
-    private Policy parsePolicy(String csp, PolicyErrorConsumer consumer, HttpMessage msg, int id) {
-        try {
-            return Policy.parseSerializedCSP(csp, consumer);
-        } catch (IllegalArgumentException iae) {
-            boolean warn = true;
-            if (iae.getMessage().contains("not ascii")) {
-                buildMalformedAlert(
-                                getHeaderField(msg, HttpFieldsNames.CONTENT_SECURITY_POLICY).get(0),
-                                csp,
-                                getNonasciiCharacters(csp))
-                        .raise();
-                warn = false;
-            }
+    private CspAnalysis getPolicyAnalysis(String csp, HttpMessage msg, int id) {
+        CspAnalysis analysis =
+                CSP_ANALYSIS_CACHE.get(csp, ContentSecurityPolicyScanRule::analysePolicy);
+        if (analysis.parsed()) {
+            return analysis;
+        }
 
-            if (warn) {
-                LOGGER.warn("CSP Found but not fully parsed, in message {}.", id);
-            }
+        if (analysis.notAscii()) {
+            buildMalformedAlert(
+                            getHeaderField(msg, HttpFieldsNames.CONTENT_SECURITY_POLICY).get(0),
+                            csp,
+                            getNonasciiCharacters(csp))
+                    .raise();
+        } else {
+            LOGGER.warn("CSP Found but not fully parsed, in message {}.", id);
         }
-        return null;
+        return analysis;
+    }
+
+    private static CspAnalysis analysePolicy(String csp) {
+        List<PolicyError> errors = new ArrayList<>();
+        PolicyErrorConsumer consumer =
+                (severity, message, directiveIndex, valueIndex) -> {
+                    errors.add(new PolicyError(severity, message, directiveIndex, valueIndex));
+                };
+        Policy policy;
+        try {
+            policy = Policy.parseSerializedCSP(csp, consumer);
+        } catch (IllegalArgumentException iae) {
+            return new CspAnalysis(
+                    false,
+                    iae.getMessage().contains("not ascii"),
+                    List.copyOf(errors),
+                    List.of(),
+                    false,
+                    false,
+                    false,
+                    false,
+                    false,
+                    false);
+        }
+
+        PolicyInOrigin p = new PolicyInOrigin(policy, URI.parseURI(RAND_FQDN).orElse(null));
+        return new CspAnalysis(
+                true,
+                false,
+                List.copyOf(errors),
+                List.copyOf(getAllowedWildcardSources(csp)),
+                p.allowsUnsafeInlineScript(),
+                p.allowsUnsafeInlineStyle(),
+                allowsUnsafeHashes(policy, FetchDirectiveKind.ScriptSrc),
+                allowsUnsafeHashes(policy, FetchDirectiveKind.StyleSrc),
+                allowsUnsafeEval(policy, FetchDirectiveKind.ScriptSrc),
+                policy.sandbox().isPresent()
+                        || policy.frameAncestors().isPresent()
+                        || policy.reportUri().isPresent());
     }
 
     private void checkObservedErrors(
@@ -829,6 +854,22 @@ public class ContentSecurityPolicyScanRule extends PluginPassiveScanner
         }
     }
 
+    /**
+     * The results of the analysis of a policy, which depend only on the policy itself so they are
+     * cached.
+     */
+    private record CspAnalysis(
+            boolean parsed,
+            boolean notAscii,
+            List<PolicyError> errors,
+            List<String> wildcardSources,
+            boolean unsafeInlineScript,
+            boolean unsafeInlineStyle,
+            boolean unsafeHashesScript,
+            boolean unsafeHashesStyle,
+            boolean unsafeEval,
+            boolean notAllowedInMeta) {}
+
     private interface AllowsExternalScriptCheck {
         boolean apply(
                 Optional<String> nonce,
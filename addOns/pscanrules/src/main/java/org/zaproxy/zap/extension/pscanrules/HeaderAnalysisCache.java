@@ -0,0 +1,83 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.pscanrules;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * A bounded cache of the analysis of header values, so that the same value is analysed once even
+ * if seen in many responses.
+ *
+ * <p>The cache is meant to be shared by all the instances of a scan rule, the analysis must depend
+ * only on the header value. The hits and misses are counted in the statistics {@code
+ * stats.pscan.<pluginId>.cache.hits} and {@code stats.pscan.<pluginId>.cache.misses}.
+ *
+ * @param <T> the type of the analysis.
+ */
+class HeaderAnalysisCache<T> {
+
+    static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private final String hitsStatsKey;
+    private final String missesStatsKey;
+    private final int maxEntries;
+    private final Map<String, T> entries = new ConcurrentHashMap<>();
+
+    HeaderAnalysisCache(int pluginId) {
+        this(pluginId, DEFAULT_MAX_ENTRIES);
+    }
+
+    HeaderAnalysisCache(int pluginId, int maxEntries) {
+        this.hitsStatsKey = "stats.pscan." + pluginId + ".cache.hits";
+        this.missesStatsKey = "stats.pscan." + pluginId + ".cache.misses";
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Gets the analysis of the given header value, analysing it if not already cached.
+     *
+     * @param value the header value.
+     * @param analyser the function that analyses the value, must not return {@code null}.
+     * @return the analysis of the value.
+     */
+    T get(String value, Function<String, T> analyser) {
+        T analysis = entries.get(value);
+        if (analysis != null) {
+            Stats.incCounter(hitsStatsKey);
+            return analysis;
+        }
+
+        Stats.incCounter(missesStatsKey);
+        analysis = analyser.apply(value);
+        if (entries.size() >= maxEntries) {
+            // The values seen usually do not vary much, start over rather than tracking the usage.
+            entries.clear();
+        }
+        entries.put(value, analysis);
+        return analysis;
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
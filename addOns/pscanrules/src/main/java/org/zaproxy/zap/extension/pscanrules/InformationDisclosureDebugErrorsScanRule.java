@@ -39,6 +39,7 @@ import org.parosproxy.paros.core.scanner.Plugin.AlertThreshold;
 import org.parosproxy.paros.network.HttpBody;
 import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
+import org.zaproxy.addon.commonlib.KeywordMatcher;
 import org.zaproxy.addon.commonlib.PolicyTag;
 import org.zaproxy.addon.commonlib.ResourceIdentificationUtils;
 import org.zaproxy.zap.extension.pscan.PluginPassiveScanner;
@@ -66,7 +67,7 @@ public class InformationDisclosureDebugErrorsScanRule extends PluginPassiveScann
     private static final String debugErrorFile = "xml/debug-error-messages.txt";
     private static final Logger LOGGER =
             LogManager.getLogger(InformationDisclosureDebugErrorsScanRule.class);
-    private List<String> errors = null;
+    private KeywordMatcher errors = null;
 
     @Override
     public void scanHttpResponseReceive(HttpMessage msg, int id, Source source) {
@@ -99,18 +100,20 @@ public class InformationDisclosureDebugErrorsScanRule extends PluginPassiveScann
         if (this.errors == null) {
             this.errors = loadFile(Paths.get(Constant.getZapHome(), debugErrorFile));
         }
-        String sBody = body.toString().toLowerCase();
-        for (String error : this.errors) {
-            int start = sBody.indexOf(error);
-            if (start >= 0) {
-                // Return the original (case exact) string so we can match it in the response
-                return body.toString().substring(start, start + error.length());
-            }
+        String sBody = body.toString();
+        KeywordMatcher.Match match = this.errors.find(sBody);
+        if (match != null) {
+            // Return the original (case exact) string so we can match it in the response
+            return sBody.substring(match.start(), match.end());
         }
         return null;
     }
 
-    private static List<String> loadFile(Path path) {
+    private static KeywordMatcher loadFile(Path path) {
+        return KeywordMatcher.create(readFile(path), true, false);
+    }
+
+    private static List<String> readFile(Path path) {
         List<String> strings = new ArrayList<>();
         BufferedReader reader = null;
         File f = path.toFile();
@@ -40,6 +40,7 @@ import org.parosproxy.paros.Constant;
 import org.parosproxy.paros.core.scanner.Alert;
 import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
+import org.zaproxy.addon.commonlib.KeywordMatcher;
 import org.zaproxy.addon.commonlib.PolicyTag;
 import org.zaproxy.addon.commonlib.ResourceIdentificationUtils;
 import org.zaproxy.zap.extension.pscan.PluginPassiveScanner;
@@ -94,12 +95,15 @@ public class InformationDisclosureSuspiciousCommentsScanRule extends PluginPassi
 
     private static Supplier<Iterable<String>> payloadProvider = DEFAULT_PAYLOAD_PROVIDER;
 
-    private List<Pattern> patterns = null;
+    // Characters that make a payload a regular expression, rather than a plain keyword.
+    private static final String REGEX_META_CHARS = "\\^$.|?*+()[]{}";
+
+    private PayloadMatcher payloadMatcher = null;
 
     @Override
     public void scanHttpResponseReceive(HttpMessage msg, int id, Source source) {
 
-        patterns = getPatterns();
+        payloadMatcher = getPayloadMatcher();
         Map<String, List<AlertSummary>> alertMap = new HashMap<>();
 
         if (msg.getResponseBody().length() > 0
@@ -107,7 +111,7 @@ public class InformationDisclosureSuspiciousCommentsScanRule extends PluginPassi
                 && !ResourceIdentificationUtils.isFont(msg)) {
 
             if (ResourceIdentificationUtils.isJavaScript(msg)) {
-                checkJsComments(patterns, alertMap, msg.getResponseBody().toString());
+                checkJsComments(alertMap, msg.getResponseBody().toString());
             } else {
                 // Can use the parser
 
@@ -126,7 +130,7 @@ public class InformationDisclosureSuspiciousCommentsScanRule extends PluginPassi
                 Element el;
                 int offset = 0;
                 while ((el = source.getNextElement(offset, HTMLElementName.SCRIPT)) != null) {
-                    checkJsComments(patterns, alertMap, el.getContent().toString());
+                    checkJsComments(alertMap, el.getContent().toString());
                     offset = el.getEnd();
                 }
             }
@@ -154,8 +158,7 @@ public class InformationDisclosureSuspiciousCommentsScanRule extends PluginPassi
         }
     }
 
-    private void checkJsComments(
-            List<Pattern> patterns, Map<String, List<AlertSummary>> alertMap, String target) {
+    private void checkJsComments(Map<String, List<AlertSummary>> alertMap, String target) {
         if (!isGoodCandidate(target)) {
             return;
         }
@@ -176,19 +179,15 @@ public class InformationDisclosureSuspiciousCommentsScanRule extends PluginPassi
 
     private void searchSuspiciousComments(
             Map<String, List<AlertSummary>> alertMap, String comment) {
-        for (Pattern pattern : patterns) {
-            Matcher m = pattern.matcher(comment);
-            if (m.find()) {
-                int contextStart = Math.max(0, m.start() - EVIDENCE_CONTEXT_CHARS);
-                int contextEnd = Math.min(comment.length(), m.end() + EVIDENCE_CONTEXT_CHARS);
-                recordAlertSummary(
-                        alertMap,
-                        new AlertSummary(
-                                pattern.toString(),
-                                comment,
-                                comment.substring(contextStart, contextEnd)));
-                return; // Only need to record this comment once
-            }
+        // Only need to record this comment once, for the first payload found
+        PayloadMatch match = payloadMatcher.find(comment);
+        if (match != null) {
+            int contextStart = Math.max(0, match.start() - EVIDENCE_CONTEXT_CHARS);
+            int contextEnd = Math.min(comment.length(), match.end() + EVIDENCE_CONTEXT_CHARS);
+            recordAlertSummary(
+                    alertMap,
+                    new AlertSummary(
+                            match.pattern(), comment, comment.substring(contextStart, contextEnd)));
         }
     }
 
@@ -221,23 +220,21 @@ public class InformationDisclosureSuspiciousCommentsScanRule extends PluginPassi
                 .setEvidence(evidence);
     }
 
-    private List<Pattern> getPatterns() {
-        if (patterns == null) {
-            patterns = initPatterns();
+    private PayloadMatcher getPayloadMatcher() {
+        if (payloadMatcher == null) {
+            List<String> payloads = new ArrayList<>();
+            payloadProvider.get().forEach(payloads::add);
+            payloadMatcher = new PayloadMatcher(payloads);
         }
-        return patterns;
+        return payloadMatcher;
     }
 
-    private static List<Pattern> initPatterns() {
-        List<Pattern> targetPatterns = new ArrayList<>();
-        for (String payload : payloadProvider.get()) {
-            targetPatterns.add(compilePayload(payload));
-        }
-        return targetPatterns;
+    private static String toPattern(String payload) {
+        return "\\b" + payload + "\\b";
     }
 
-    private static Pattern compilePayload(String payload) {
-        return Pattern.compile("\\b" + payload + "\\b", Pattern.CASE_INSENSITIVE);
+    private static boolean isPlainKeyword(String payload) {
+        return payload.chars().allMatch(c -> c < 128 && REGEX_META_CHARS.indexOf(c) == -1);
     }
 
     public static void setPayloadProvider(Supplier<Iterable<String>> provider) {
@@ -274,6 +271,68 @@ public class InformationDisclosureSuspiciousCommentsScanRule extends PluginPassi
         return List.of(example);
     }
 
+    private record PayloadMatch(String pattern, int start, int end) {}
+
+    /**
+     * Matches the payloads against the comments, the plain keywords are all matched in a single
+     * pass while the payloads with regular expressions are matched individually.
+     */
+    private static class PayloadMatcher {
+        private final List<String> patterns = new ArrayList<>();
+        private final List<Integer> keywordPayloads = new ArrayList<>();
+        private final KeywordMatcher keywordMatcher;
+        private final List<Integer> regexPayloads = new ArrayList<>();
+        private final List<Pattern> regexPatterns = new ArrayList<>();
+
+        PayloadMatcher(List<String> payloads) {
+            List<String> keywords = new ArrayList<>();
+            for (int i = 0; i < payloads.size(); i++) {
+                String payload = payloads.get(i);
+                String pattern = toPattern(payload);
+                patterns.add(pattern);
+                if (isPlainKeyword(payload)) {
+                    keywordPayloads.add(i);
+                    keywords.add(payload);
+                } else {
+                    regexPayloads.add(i);
+                    regexPatterns.add(Pattern.compile(pattern, Pattern.CASE_INSENSITIVE));
+                }
+            }
+            keywordMatcher = KeywordMatcher.create(keywords, true, true);
+        }
+
+        /**
+         * Finds the first payload, in the order provided, that occurs in the given comment.
+         *
+         * @param comment the comment to search.
+         * @return the match, or {@code null} if none of the payloads occur in the comment.
+         */
+        PayloadMatch find(String comment) {
+            int payload = Integer.MAX_VALUE;
+            int start = 0;
+            int end = 0;
+            KeywordMatcher.Match keywordMatch = keywordMatcher.find(comment);
+            if (keywordMatch != null) {
+                payload = keywordPayloads.get(keywordMatch.keyword());
+                start = keywordMatch.start();
+                end = keywordMatch.end();
+            }
+            for (int i = 0; i < regexPatterns.size() && regexPayloads.get(i) < payload; i++) {
+                Matcher m = regexPatterns.get(i).matcher(comment);
+                if (m.find()) {
+                    payload = regexPayloads.get(i);
+                    start = m.start();
+                    end = m.end();
+                    break;
+                }
+            }
+            if (payload == Integer.MAX_VALUE) {
+                return null;
+            }
+            return new PayloadMatch(patterns.get(payload), start, end);
+        }
+    }
+
     private static class AlertSummary {
         private final String pattern;
         private final String detail;
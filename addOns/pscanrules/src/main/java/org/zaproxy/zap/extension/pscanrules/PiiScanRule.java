@@ -24,12 +24,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.htmlparser.jericho.HTMLElementName;
 import net.htmlparser.jericho.OutputDocument;
 import net.htmlparser.jericho.Source;
 import net.htmlparser.jericho.StartTag;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
 import org.parosproxy.paros.Constant;
 import org.parosproxy.paros.core.scanner.Alert;
@@ -37,7 +37,6 @@ import org.parosproxy.paros.core.scanner.Plugin.AlertThreshold;
 import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.network.HttpResponseHeader;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
-import org.zaproxy.addon.commonlib.PiiUtils;
 import org.zaproxy.addon.commonlib.PolicyTag;
 import org.zaproxy.addon.commonlib.ResourceIdentificationUtils;
 import org.zaproxy.addon.commonlib.binlist.BinList;
@@ -58,6 +57,7 @@ public class PiiScanRule extends PluginPassiveScanner implements CommonPassiveSc
     private static final int PLUGIN_ID = 10062;
     private static final Pattern PATH_PATTERN =
             Pattern.compile("(?:\\.pdf)\\z", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
     private static final Map<String, String> ALERT_TAGS;
 
     static {
@@ -72,27 +72,47 @@ public class PiiScanRule extends PluginPassiveScanner implements CommonPassiveSc
         ALERT_TAGS = Collections.unmodifiableMap(alertTags);
     }
 
+    /**
+     * The credit cards, identified by the ranges of their first four digits (Issuer Identification
+     * Number) and their number of digits.
+     */
     private enum CreditCard {
-        AMERICAN_EXPRESS("American Express", "\\b(?:3[47][0-9]{13})\\b"),
-        DINERSCLUB("DinersClub", "\\b(?:3(?:0[0-5]|[68][0-9])[0-9]{11})\\b"),
-        DISCOVER("Discover", "\\b(?:6(?:011|5[0-9]{2})(?:[0-9]{12}))\\b"),
-        JCB("Jcb", "\\b(?:(?:2131|1800|35\\d{3})\\d{11})\\b"),
-        MAESTRO("Maestro", "\\b(?:(?:5[0678]\\d\\d|6304|6390|67\\d\\d)\\d{8,15})\\b"),
-        MASTERCARD(
-                "Mastercard",
-                "\\b(?:(?:5[1-5][0-9]{2}|222[1-9]|22[3-9][0-9]|2[3-6][0-9]{2}|27[01][0-9]|2720)[0-9]{12})\\b"),
-        VISA("Visa", "\\b(?:4[0-9]{12})(?:[0-9]{3})?\\b");
+        AMERICAN_EXPRESS("American Express", iin("34", 15), iin("37", 15)),
+        DINERSCLUB("DinersClub", iin("300-305", 14), iin("36", 14), iin("38", 14)),
+        DISCOVER("Discover", iin("6011", 16), iin("65", 16)),
+        JCB("Jcb", iin("2131", 15), iin("1800", 15), iin("35", 16)),
+        MAESTRO(
+                "Maestro",
+                iin("50", 12, 19),
+                iin("56-58", 12, 19),
+                iin("6304", 12, 19),
+                iin("6390", 12, 19),
+                iin("67", 12, 19)),
+        MASTERCARD("Mastercard", iin("51-55", 16), iin("2221-2720", 16)),
+        VISA("Visa", iin("4", 13), iin("4", 16));
+
+        static final int MIN_DIGITS = 12;
+        static final int MAX_DIGITS = 19;
 
         private final String name;
-        private final Pattern pattern;
+        private final IinRange[] ranges;
 
-        CreditCard(String name, String regex) {
+        CreditCard(String name, IinRange... ranges) {
             this.name = name;
-            this.pattern = Pattern.compile(regex);
+            this.ranges = ranges;
         }
 
-        public Matcher matcher(String cc) {
-            return pattern.matcher(cc);
+        /**
+         * Tells whether or not a number with the given first four digits and number of digits is
+         * of this credit card.
+         */
+        boolean matches(int prefix, int digits) {
+            for (IinRange range : ranges) {
+                if (range.matches(prefix, digits)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         @Override
@@ -111,26 +131,36 @@ public class PiiScanRule extends PluginPassiveScanner implements CommonPassiveSc
             return;
         }
 
+        boolean lowThreshold = getAlertThreshold().equals(AlertThreshold.LOW);
         for (String componentText : getStringsToAnalyze(source)) {
             if (componentText.isBlank()) {
                 continue;
             }
-            List<Candidate> candidates = getNumberSequences(componentText, getAlertThreshold());
-            for (Candidate candidate : candidates) {
+            NumberSequences sequences = new NumberSequences(componentText);
+            while (sequences.next()) {
+                int digits = sequences.getDigitCount();
+                if (digits < CreditCard.MIN_DIGITS || digits > CreditCard.MAX_DIGITS) {
+                    continue;
+                }
+                String containingString = null;
                 for (CreditCard cc : CreditCard.values()) {
-                    Matcher matcher = cc.matcher(candidate.getCandidate());
-                    while (matcher.find()) {
-                        String evidence = candidate.getOriginal();
-                        if (isDecimal(candidate.getContainingString())
-                                && !this.getAlertThreshold().equals(AlertThreshold.LOW)) {
-                            return;
-                        }
-                        if (PiiUtils.isValidLuhn(candidate.getCandidate())
-                                && !isSci(candidate.getContainingString())) {
-                            BinRecord binRec = BinList.getSingleton().get(evidence);
-                            createAlert(evidence, cc.name, binRec).raise();
+                    if (!cc.matches(sequences.getPrefix(), digits)) {
+                        continue;
+                    }
+                    if (containingString == null) {
+                        containingString = sequences.getContainingString();
+                        if (!lowThreshold && containingString.contains("_")) {
+                            break;
                         }
                     }
+                    if (isDecimal(containingString) && !lowThreshold) {
+                        return;
+                    }
+                    if (sequences.isValidLuhn() && !isSci(containingString)) {
+                        String evidence = sequences.getSequence();
+                        BinRecord binRec = BinList.getSingleton().get(evidence);
+                        createAlert(evidence, cc.name, binRec).raise();
+                    }
                 }
             }
         }
@@ -228,42 +258,6 @@ public class PiiScanRule extends PluginPassiveScanner implements CommonPassiveSc
         return recString.toString();
     }
 
-    private static List<Candidate> getNumberSequences(
-            String inputString, AlertThreshold threshold) {
-        return getNumberSequences(inputString, 3, threshold);
-    }
-
-    private static List<Candidate> getNumberSequences(
-            String inputString, int minSequence, AlertThreshold threshold) {
-        String regexString = String.format("(?:\\d{%d,}[\\s]*)+", minSequence);
-        // Use RE2/J to avoid StackOverflowError when the response has many numbers.
-        com.google.re2j.Matcher matcher =
-                com.google.re2j.Pattern.compile(regexString).matcher(inputString);
-        List<Candidate> result = new ArrayList<>();
-        while (matcher.find()) {
-            int proposedEnd = matcher.end() + 3;
-
-            String containingString =
-                    inputString
-                            .substring(
-                                    // Include 3 leading characters if possible
-                                    matcher.start() - 3 > 0 ? matcher.start() - 3 : matcher.start(),
-                                    inputString.length() > proposedEnd
-                                            ? matcher.end() + 3
-                                            : inputString.length())
-                            .replaceAll("\\s+", "");
-            if (!threshold.equals(AlertThreshold.LOW) && containingString.contains("_")) {
-                continue;
-            }
-            result.add(
-                    new Candidate(
-                            matcher.group(),
-                            matcher.group().replaceAll("\\s+", ""),
-                            containingString));
-        }
-        return result;
-    }
-
     @Override
     public int getPluginId() {
         return PLUGIN_ID;
@@ -307,38 +301,161 @@ public class PiiScanRule extends PluginPassiveScanner implements CommonPassiveSc
                 && !isPdfMessage(msg);
     }
 
-    private static class Candidate {
-        private final String original;
-        private final String candidate;
-        private final String containingString;
+    private static IinRange iin(String prefixes, int digits) {
+        return iin(prefixes, digits, digits);
+    }
+
+    private static IinRange iin(String prefixes, int minDigits, int maxDigits) {
+        String[] bounds = prefixes.split("-", 2);
+        String high = bounds.length == 2 ? bounds[1] : bounds[0];
+        return new IinRange(
+                Integer.parseInt(StringUtils.rightPad(bounds[0], 4, '0')),
+                Integer.parseInt(StringUtils.rightPad(high, 4, '9')),
+                minDigits,
+                maxDigits);
+    }
+
+    private record IinRange(int lowPrefix, int highPrefix, int minDigits, int maxDigits) {
 
-        Candidate(String original, String candidate, String containingString) {
-            this.original = original;
-            this.candidate = candidate;
-            this.containingString = containingString;
+        boolean matches(int prefix, int digits) {
+            return prefix >= lowPrefix
+                    && prefix <= highPrefix
+                    && digits >= minDigits
+                    && digits <= maxDigits;
         }
+    }
 
-        public String getOriginal() {
-            return original;
+    /**
+     * Finds the sequences of numbers, of at least three digits, optionally separated by
+     * whitespace, in a single pass over the text.
+     *
+     * <p>The first four digits, the number of digits, and the Luhn sums of each sequence are
+     * computed while scanning, the sequence is only extracted from the text when needed.
+     */
+    private static class NumberSequences {
+
+        private static final int MIN_RUN_DIGITS = 3;
+        private static final int CONTEXT_CHARS = 3;
+
+        private final String text;
+        private int position;
+
+        private int start;
+        private int end;
+        private int digitCount;
+        private int prefix;
+        private int luhnSumEven;
+        private int luhnSumOdd;
+
+        NumberSequences(String text) {
+            this.text = text;
         }
 
-        public String getCandidate() {
-            return candidate;
+        /**
+         * Advances to the next sequence.
+         *
+         * @return {@code true} if a sequence was found, {@code false} otherwise.
+         */
+        boolean next() {
+            int length = text.length();
+            while (position < length) {
+                int runEnd = skipDigits(position);
+                if (runEnd - position < MIN_RUN_DIGITS) {
+                    position = runEnd == position ? position + 1 : runEnd;
+                    continue;
+                }
+
+                start = position;
+                digitCount = 0;
+                prefix = 0;
+                luhnSumEven = 0;
+                luhnSumOdd = 0;
+                int runStart = position;
+                while (true) {
+                    for (int i = runStart; i < runEnd; i++) {
+                        addDigit(text.charAt(i) - '0');
+                    }
+                    end = skipWhitespace(runEnd);
+                    runStart = end;
+                    runEnd = skipDigits(runStart);
+                    if (runEnd - runStart < MIN_RUN_DIGITS) {
+                        break;
+                    }
+                }
+                position = end;
+                return true;
+            }
+            return false;
         }
 
-        public String getContainingString() {
-            return containingString;
+        private void addDigit(int digit) {
+            int doubled = digit * 2;
+            if (doubled > 9) {
+                doubled -= 9;
+            }
+            if (digitCount % 2 == 0) {
+                luhnSumEven += doubled;
+                luhnSumOdd += digit;
+            } else {
+                luhnSumEven += digit;
+                luhnSumOdd += doubled;
+            }
+            if (digitCount < 4) {
+                prefix = prefix * 10 + digit;
+            }
+            digitCount++;
         }
 
-        @Override
-        public String toString() {
-            return "Candidate [candidate="
-                    + candidate
-                    + ", containingString="
-                    + containingString
-                    + ", getOriginal()="
-                    + original
-                    + "]";
+        private int skipDigits(int index) {
+            while (index < text.length() && isDigit(text.charAt(index))) {
+                index++;
+            }
+            return index;
+        }
+
+        private int skipWhitespace(int index) {
+            while (index < text.length() && isWhitespace(text.charAt(index))) {
+                index++;
+            }
+            return index;
+        }
+
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+
+        private static boolean isWhitespace(char c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r';
+        }
+
+        int getDigitCount() {
+            return digitCount;
+        }
+
+        /** Gets the first four digits, the sequence has at least three digits. */
+        int getPrefix() {
+            return digitCount < 4 ? prefix * 10 : prefix;
+        }
+
+        boolean isValidLuhn() {
+            // The doubled digits are the ones with the same parity as the length, from the left.
+            int sum = digitCount % 2 == 0 ? luhnSumEven : luhnSumOdd;
+            return sum % 10 == 0;
+        }
+
+        /** Gets the sequence, as in the text, including the trailing whitespace. */
+        String getSequence() {
+            return text.substring(start, end);
+        }
+
+        /** Gets the sequence with up to three characters around it, without whitespace. */
+        String getContainingString() {
+            int contextStart = start - CONTEXT_CHARS > 0 ? start - CONTEXT_CHARS : start;
+            int contextEnd =
+                    text.length() > end + CONTEXT_CHARS ? end + CONTEXT_CHARS : text.length();
+            return WHITESPACE_PATTERN
+                    .matcher(text.substring(contextStart, contextEnd))
+                    .replaceAll("");
         }
     }
 }
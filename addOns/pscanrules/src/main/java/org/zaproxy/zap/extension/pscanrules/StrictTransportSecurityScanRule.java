@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.htmlparser.jericho.Element;
@@ -109,6 +110,9 @@ public class StrictTransportSecurityScanRule extends PluginPassiveScanner
     private static final Logger LOGGER =
             LogManager.getLogger(StrictTransportSecurityScanRule.class);
 
+    private static final HeaderAnalysisCache<Optional<HeaderFinding>> HEADER_ANALYSIS_CACHE =
+            new HeaderAnalysisCache<>(PLUGIN_ID);
+
     private AlertBuilder buildAlert(VulnType currentVT, String evidence) {
         return newAlert()
                 .setName(getAlertElement(currentVT, "name"))
@@ -156,25 +160,10 @@ public class StrictTransportSecurityScanRule extends PluginPassiveScanner
             } else if (stsOption.size() > 1) { // More than one header found
                 buildAlert(VulnType.HSTS_MULTIPLE_HEADERS, "").raise();
             } else { // Single HSTS header entry
-                String stsOptionString = stsOption.get(0);
-                Matcher badAgeMatcher = BAD_MAX_AGE_PATT.matcher(stsOptionString);
-                Matcher maxAgeMatcher = MAX_AGE_PATT.matcher(stsOptionString);
-                Matcher malformedMaxAgeMatcher = MALFORMED_MAX_AGE.matcher(stsOptionString);
-                Matcher wellformedMatcher = WELL_FORMED_PATT.matcher(stsOptionString);
-                if (!wellformedMatcher.matches()) {
-                    // Well formed pattern didn't match (perhaps curly quotes or some other unwanted
-                    // character(s))
-                    buildAlert(VulnType.HSTS_MALFORMED_CONTENT, STS_HEADER).raise();
-                } else if (badAgeMatcher.find()) {
-                    // Matched BAD_MAX_AGE_PATT, max-age is zero
-                    buildAlert(VulnType.HSTS_MAX_AGE_DISABLED, badAgeMatcher.group()).raise();
-                } else if (!maxAgeMatcher.find()) {
-                    // Didn't find a digit value associated with max-age
-                    buildAlert(VulnType.HSTS_MAX_AGE_MISSING, stsOption.get(0)).raise();
-                } else if (malformedMaxAgeMatcher.find()) {
-                    // Found max-age but it was malformed
-                    buildAlert(VulnType.HSTS_MALFORMED_MAX_AGE, stsOption.get(0)).raise();
-                }
+                HEADER_ANALYSIS_CACHE
+                        .get(stsOption.get(0), StrictTransportSecurityScanRule::analyseHeader)
+                        .ifPresent(
+                                finding -> buildAlert(finding.type(), finding.evidence()).raise());
             }
         } else if (AlertThreshold.LOW.equals(this.getAlertThreshold()) && !stsOption.isEmpty()) {
             // isSecure is false at this point
@@ -191,6 +180,29 @@ public class StrictTransportSecurityScanRule extends PluginPassiveScanner
         LOGGER.debug("\tScan of record {} took {}ms", id, System.currentTimeMillis() - start);
     }
 
+    private static Optional<HeaderFinding> analyseHeader(String stsOptionString) {
+        if (!WELL_FORMED_PATT.matcher(stsOptionString).matches()) {
+            // Well formed pattern didn't match (perhaps curly quotes or some other unwanted
+            // character(s))
+            return Optional.of(new HeaderFinding(VulnType.HSTS_MALFORMED_CONTENT, STS_HEADER));
+        }
+        Matcher badAgeMatcher = BAD_MAX_AGE_PATT.matcher(stsOptionString);
+        if (badAgeMatcher.find()) {
+            // Matched BAD_MAX_AGE_PATT, max-age is zero
+            return Optional.of(
+                    new HeaderFinding(VulnType.HSTS_MAX_AGE_DISABLED, badAgeMatcher.group()));
+        }
+        if (!MAX_AGE_PATT.matcher(stsOptionString).find()) {
+            // Didn't find a digit value associated with max-age
+            return Optional.of(new HeaderFinding(VulnType.HSTS_MAX_AGE_MISSING, stsOptionString));
+        }
+        if (MALFORMED_MAX_AGE.matcher(stsOptionString).find()) {
+            // Found max-age but it was malformed
+            return Optional.of(new HeaderFinding(VulnType.HSTS_MALFORMED_MAX_AGE, stsOptionString));
+        }
+        return Optional.empty();
+    }
+
     @Override
     public int getPluginId() {
         return PLUGIN_ID;
@@ -300,4 +312,6 @@ public class StrictTransportSecurityScanRule extends PluginPassiveScanner
                 buildAlert(VulnType.HSTS_MALFORMED_MAX_AGE, "\"max-age=84600\"").build(),
                 buildAlert(VulnType.HSTS_MALFORMED_CONTENT, STS_HEADER).build());
     }
+
+    private record HeaderFinding(VulnType type, String evidence) {}
 }
@@ -0,0 +1,119 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.pscanrules;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zaproxy.zap.extension.stats.InMemoryStats;
+import org.zaproxy.zap.utils.Stats;
+
+/** Unit test for {@link HeaderAnalysisCache}. */
+class HeaderAnalysisCacheUnitTest {
+
+    private static final int PLUGIN_ID = 1;
+
+    private InMemoryStats stats;
+    private List<String> analysed;
+
+    @BeforeEach
+    void setUp() {
+        stats = new InMemoryStats();
+        Stats.addListener(stats);
+        analysed = new ArrayList<>();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        Stats.removeListener(stats);
+    }
+
+    @Test
+    void shouldAnalyseValueOnlyOnce() {
+        // Given
+        HeaderAnalysisCache<Integer> cache = new HeaderAnalysisCache<>(PLUGIN_ID);
+        cache.get("value", this::analyse);
+        // When
+        Integer analysis = cache.get("value", this::analyse);
+        // Then
+        assertThat(analysis, is(equalTo(5)));
+        assertThat(analysed, is(equalTo(List.of("value"))));
+    }
+
+    @Test
+    void shouldAnalyseDifferentValues() {
+        // Given
+        HeaderAnalysisCache<Integer> cache = new HeaderAnalysisCache<>(PLUGIN_ID);
+        // When
+        cache.get("a", this::analyse);
+        cache.get("bb", this::analyse);
+        // Then
+        assertThat(analysed, is(equalTo(List.of("a", "bb"))));
+        assertThat(cache.size(), is(equalTo(2)));
+    }
+
+    @Test
+    void shouldCountHitsAndMisses() {
+        // Given
+        HeaderAnalysisCache<Integer> cache = new HeaderAnalysisCache<>(PLUGIN_ID);
+        // When
+        cache.get("a", this::analyse);
+        cache.get("a", this::analyse);
+        cache.get("a", this::analyse);
+        cache.get("b", this::analyse);
+        // Then
+        assertThat(stats.getStat("stats.pscan.1.cache.hits"), is(equalTo(2L)));
+        assertThat(stats.getStat("stats.pscan.1.cache.misses"), is(equalTo(2L)));
+    }
+
+    @Test
+    void shouldNotCountHitsIfNoneHit() {
+        // Given
+        HeaderAnalysisCache<Integer> cache = new HeaderAnalysisCache<>(PLUGIN_ID);
+        // When
+        cache.get("a", this::analyse);
+        // Then
+        assertThat(stats.getStat("stats.pscan.1.cache.hits"), is(nullValue()));
+    }
+
+    @Test
+    void shouldNotKeepMoreThanMaxEntries() {
+        // Given
+        HeaderAnalysisCache<Integer> cache = new HeaderAnalysisCache<>(PLUGIN_ID, 2);
+        // When
+        cache.get("a", this::analyse);
+        cache.get("b", this::analyse);
+        cache.get("c", this::analyse);
+        // Then
+        assertThat(cache.size(), is(equalTo(1)));
+    }
+
+    private Integer analyse(String value) {
+        analysed.add(value);
+        return value.length();
+    }
+}
@@ -88,7 +88,9 @@ class PiiScanRuleUnitTest extends PassiveScannerTest<PiiScanRule> {
                 arguments("Discover", "6011377412263580"),
                 arguments("Jcb", "3589738566381370"),
                 arguments("Maestro", "6762355337694692"),
+                arguments("Maestro 18 digits", "501800000000000009"),
                 arguments("Mastercard", "5264810966944441"),
+                arguments("Mastercard 2-series", "2221000000000009"),
                 arguments("Mastercard with spaces", "5264 8109 66944441"),
                 arguments("Visa", "4716186978544330"),
                 arguments("Visa with spaces", "4716 1869 7854 4330"));
@@ -126,6 +128,28 @@ class PiiScanRuleUnitTest extends PassiveScannerTest<PiiScanRule> {
         assertDoesNotThrow(() -> scanHttpResponseReceive(msg));
     }
 
+    @Test
+    void shouldNotRaiseAlertWhenNumberFailsLuhnCheck() throws Exception {
+        // Given
+        String cardNumber = "4716186978544331";
+        HttpMessage msg = createMsg(cardNumber);
+        // When
+        scanHttpResponseReceive(msg);
+        // Then
+        assertThat(alertsRaised.size(), is(0));
+    }
+
+    @Test
+    void shouldNotRaiseAlertWhenCreditCardIsPartOfLongerNumberSequence() throws Exception {
+        // Given
+        String cardNumber = "4716 1869 7854 4330 1234";
+        HttpMessage msg = createMsg(cardNumber);
+        // When
+        scanHttpResponseReceive(msg);
+        // Then
+        assertThat(alertsRaised.size(), is(0));
+    }
+
     @Test
     void shouldNotRaiseAlertWhenNumberDoesntHaveWordBoundaries() throws Exception {
         // Given
@@ -41,6 +41,7 @@ import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.network.HttpRequestHeader;
 import org.parosproxy.paros.network.HttpResponseHeader;
 import org.parosproxy.paros.network.HttpSender;
+import org.zaproxy.zap.extension.replacer.ReplacerParamRule.MatchType;
 import org.zaproxy.zap.network.HttpSenderListener;
 import org.zaproxy.zap.view.ZapMenuItem;
 
@@ -225,85 +226,127 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
         return replacementTokens;
     }
 
+    private static boolean applies(
+            ReplacerParamRule rule, int initiator, String method, boolean request, String url) {
+        MatchType matchType = rule.getMatchType();
+        // The cheaper checks first, the URL is matched with a regex.
+        return rule.isEnabled()
+                && rule.appliesToInitiator(initiator)
+                && rule.matchesMethod(method)
+                && (request ? isRequestRule(matchType) : isResponseRule(matchType))
+                && rule.matchesUrl(url);
+    }
+
+    private static boolean isRequestRule(MatchType matchType) {
+        return matchType == MatchType.REQ_HEADER
+                || matchType == MatchType.REQ_HEADER_STR
+                || matchType == MatchType.REQ_BODY_STR;
+    }
+
+    private static boolean isResponseRule(MatchType matchType) {
+        return matchType == MatchType.RESP_HEADER
+                || matchType == MatchType.RESP_HEADER_STR
+                || matchType == MatchType.RESP_BODY_STR;
+    }
+
+    /**
+     * Applies the given string rule to the given header or body.
+     *
+     * @return the replaced string, or the same instance if the rule did not match.
+     */
+    private static String apply(ReplacerParamRule rule, String original) {
+        Pattern p = rule.getMatchPattern();
+        if (!contains(original, rule.getMatchString(), p)) {
+            return original;
+        }
+        return replace(
+                original,
+                rule.getMatchString(),
+                p,
+                rule.getEscapedReplacement(),
+                rule.isTokenProcessingEnabled());
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void onHttpRequestSend(HttpMessage msg, int initiator, HttpSender httpSender) {
+        String url = msg.getRequestHeader().getURI().toString();
+        String method = msg.getRequestHeader().getMethod();
         boolean hostHeaderChanged = false;
+        // The header and body replaced by consecutive string rules, set once for all of them.
+        String header = null;
+        String body = null;
         for (ReplacerParamRule rule : this.getParams().getRules()) {
-            if (rule.isEnabled()
-                    && rule.appliesToInitiator(initiator)
-                    && rule.matchesUrl(msg.getRequestHeader().getURI().toString())
-                    && rule.matchesMethod(msg.getRequestHeader().getMethod())) {
-                Pattern p = null;
-                if (rule.isMatchRegex()) {
-                    p = Pattern.compile(rule.getMatchString());
-                }
-                switch (rule.getMatchType()) {
-                    case REQ_HEADER:
-                        LOGGER.debug(
-                                "Add in request header: {} : {}",
-                                rule.getMatchString(),
-                                rule.getReplacement());
-                        hostHeaderChanged |=
-                                HttpRequestHeader.HOST.equalsIgnoreCase(rule.getMatchString());
-                        if (rule.getReplacement().length() == 0) {
-                            // Remove the header
-                            msg.getRequestHeader().setHeader(rule.getMatchString(), null);
-                        } else {
-                            msg.getRequestHeader()
-                                    .setHeader(rule.getMatchString(), rule.getEscapedReplacement());
-                        }
-                        break;
-                    case REQ_HEADER_STR:
-                        LOGGER.debug(
-                                "Replace in request header: {} with {}",
-                                rule.getMatchString(),
-                                rule.getReplacement());
-                        String header = msg.getRequestHeader().toString();
-                        if (contains(header, rule.getMatchString(), p)) {
-                            header =
-                                    replace(
-                                            header,
-                                            rule.getMatchString(),
-                                            p,
-                                            rule.getEscapedReplacement(),
-                                            rule.isTokenProcessingEnabled());
-                            try {
-                                List<HttpHeaderField> oldHostHeaders = getHostHeaders(msg);
-                                msg.setRequestHeader(new HttpRequestHeader(header));
-                                hostHeaderChanged |= !oldHostHeaders.equals(getHostHeaders(msg));
-                            } catch (HttpMalformedHeaderException e) {
-                                LOGGER.error(e.getMessage(), e);
-                            }
-                        }
-                        break;
-                    case REQ_BODY_STR:
-                        LOGGER.debug(
-                                "Add in request body: {} : {}",
-                                rule.getMatchString(),
-                                rule.getReplacement());
-                        String body = msg.getRequestBody().toString();
-                        if (contains(body, rule.getMatchString(), p)) {
-                            body =
-                                    replace(
-                                            body,
-                                            rule.getMatchString(),
-                                            p,
-                                            rule.getEscapedReplacement(),
-                                            rule.isTokenProcessingEnabled());
-                            msg.getRequestBody().setBody(body);
-                            msg.getRequestHeader().setContentLength(msg.getRequestBody().length());
-                        }
-                        break;
-                    case RESP_HEADER:
-                    case RESP_HEADER_STR:
-                    case RESP_BODY_STR:
-                        // Ignore response rules here
-                        LOGGER.debug("Ignore response rule {}", rule.getDescription());
+            if (!applies(rule, initiator, method, true, url)) {
+                continue;
+            }
+            MatchType matchType = rule.getMatchType();
+            if (header != null && matchType != MatchType.REQ_HEADER_STR) {
+                hostHeaderChanged |= setRequestHeader(msg, header);
+                header = null;
+            }
+            if (body != null && matchType != MatchType.REQ_BODY_STR) {
+                setRequestBody(msg, body);
+                body = null;
+            }
+            switch (matchType) {
+                case REQ_HEADER:
+                    LOGGER.debug(
+                            "Add in request header: {} : {}",
+                            rule.getMatchString(),
+                            rule.getReplacement());
+                    hostHeaderChanged |=
+                            HttpRequestHeader.HOST.equalsIgnoreCase(rule.getMatchString());
+                    if (rule.getReplacement().length() == 0) {
+                        // Remove the header
+                        msg.getRequestHeader().setHeader(rule.getMatchString(), null);
+                    } else {
+                        msg.getRequestHeader()
+                                .setHeader(rule.getMatchString(), rule.getEscapedReplacement());
+                    }
+                    break;
+                case REQ_HEADER_STR:
+                    LOGGER.debug(
+                            "Replace in request header: {} with {}",
+                            rule.getMatchString(),
+                            rule.getReplacement());
+                    String currentHeader =
+                            header != null ? header : msg.getRequestHeader().toString();
+                    String replacedHeader = apply(rule, currentHeader);
+                    if (replacedHeader == currentHeader) {
                         break;
-                }
+                    }
+                    if (getFirstLine(replacedHeader).equals(getFirstLine(currentHeader))) {
+                        header = replacedHeader;
+                    } else {
+                        // The following rules are matched against the new URL and method.
+                        hostHeaderChanged |= setRequestHeader(msg, replacedHeader);
+                        header = null;
+                        url = msg.getRequestHeader().getURI().toString();
+                        method = msg.getRequestHeader().getMethod();
+                    }
+                    break;
+                case REQ_BODY_STR:
+                    LOGGER.debug(
+                            "Add in request body: {} : {}",
+                            rule.getMatchString(),
+                            rule.getReplacement());
+                    String currentBody = body != null ? body : msg.getRequestBody().toString();
+                    String replacedBody = apply(rule, currentBody);
+                    if (replacedBody != currentBody) {
+                        body = replacedBody;
+                    }
+                    break;
+                default:
+                    break;
             }
         }
+        if (header != null) {
+            hostHeaderChanged |= setRequestHeader(msg, header);
+        }
+        if (body != null) {
+            setRequestBody(msg, body);
+        }
 
         if (hostHeaderChanged) {
             Map<String, Object> properties;
@@ -318,6 +361,32 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
         }
     }
 
+    /**
+     * Sets the given request header.
+     *
+     * @return {@code true} if the Host header changed, {@code false} otherwise.
+     */
+    private static boolean setRequestHeader(HttpMessage msg, String header) {
+        try {
+            List<HttpHeaderField> oldHostHeaders = getHostHeaders(msg);
+            msg.setRequestHeader(new HttpRequestHeader(header));
+            return !oldHostHeaders.equals(getHostHeaders(msg));
+        } catch (HttpMalformedHeaderException e) {
+            LOGGER.error(e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private static String getFirstLine(String header) {
+        int idx = header.indexOf('\n');
+        return idx == -1 ? header : header.substring(0, idx);
+    }
+
+    private static void setRequestBody(HttpMessage msg, String body) {
+        msg.getRequestBody().setBody(body);
+        msg.getRequestHeader().setContentLength(msg.getRequestBody().length());
+    }
+
     private static List<HttpHeaderField> getHostHeaders(HttpMessage msg) {
         return msg.getRequestHeader().getHeaders().stream()
                 .filter(e -> HttpRequestHeader.HOST.equalsIgnoreCase(e.getName()))
@@ -326,77 +395,83 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
 
     @Override
     public void onHttpResponseReceive(HttpMessage msg, int initiator, HttpSender httpSender) {
+        String url = msg.getRequestHeader().getURI().toString();
+        String method = msg.getRequestHeader().getMethod();
+        // The header and body replaced by consecutive string rules, set once for all of them.
+        String header = null;
+        String body = null;
         for (ReplacerParamRule rule : this.getParams().getRules()) {
-            if (rule.isEnabled()
-                    && rule.appliesToInitiator(initiator)
-                    && rule.matchesUrl(msg.getRequestHeader().getURI().toString())
-                    && rule.matchesMethod(msg.getRequestHeader().getMethod())) {
-                Pattern p = null;
-                if (rule.isMatchRegex()) {
-                    p = Pattern.compile(rule.getMatchString());
-                }
-                switch (rule.getMatchType()) {
-                    case REQ_HEADER:
-                    case REQ_HEADER_STR:
-                    case REQ_BODY_STR:
-                        // Ignore request rules here
-                        LOGGER.debug("Ignore request rule {}", rule.getDescription());
-                        break;
-                    case RESP_HEADER:
-                        LOGGER.debug(
-                                "Add in response header: {} : {}",
-                                rule.getMatchString(),
-                                rule.getReplacement());
-                        if (rule.getReplacement().length() == 0) {
-                            // Remove the header
-                            msg.getResponseHeader().setHeader(rule.getMatchString(), null);
-                        } else {
-                            msg.getResponseHeader()
-                                    .setHeader(rule.getMatchString(), rule.getEscapedReplacement());
-                        }
-                        break;
-                    case RESP_HEADER_STR:
-                        LOGGER.debug(
-                                "Replace in response header: {} with {}",
-                                rule.getMatchString(),
-                                rule.getReplacement());
-                        String header = msg.getResponseHeader().toString();
-                        if (contains(header, rule.getMatchString(), p)) {
-                            header =
-                                    replace(
-                                            header,
-                                            rule.getMatchString(),
-                                            p,
-                                            rule.getEscapedReplacement(),
-                                            rule.isTokenProcessingEnabled());
-                            try {
-                                msg.setResponseHeader(new HttpResponseHeader(header));
-                            } catch (HttpMalformedHeaderException e) {
-                                LOGGER.error(e.getMessage(), e);
-                            }
-                        }
-                        break;
-                    case RESP_BODY_STR:
-                        LOGGER.debug(
-                                "Replace in response body: {} with {}",
-                                rule.getMatchString(),
-                                rule.getReplacement());
-                        String body = msg.getResponseBody().toString();
-                        if (contains(body, rule.getMatchString(), p)) {
-                            body =
-                                    replace(
-                                            body,
-                                            rule.getMatchString(),
-                                            p,
-                                            rule.getEscapedReplacement(),
-                                            rule.isTokenProcessingEnabled());
-                            msg.getResponseBody().setBody(body);
-                            msg.getResponseHeader()
-                                    .setContentLength(msg.getResponseBody().length());
-                        }
-                        break;
-                }
+            if (!applies(rule, initiator, method, false, url)) {
+                continue;
             }
+            MatchType matchType = rule.getMatchType();
+            if (header != null && matchType != MatchType.RESP_HEADER_STR) {
+                setResponseHeader(msg, header);
+                header = null;
+            }
+            if (body != null && matchType != MatchType.RESP_BODY_STR) {
+                setResponseBody(msg, body);
+                body = null;
+            }
+            switch (matchType) {
+                case RESP_HEADER:
+                    LOGGER.debug(
+                            "Add in response header: {} : {}",
+                            rule.getMatchString(),
+                            rule.getReplacement());
+                    if (rule.getReplacement().length() == 0) {
+                        // Remove the header
+                        msg.getResponseHeader().setHeader(rule.getMatchString(), null);
+                    } else {
+                        msg.getResponseHeader()
+                                .setHeader(rule.getMatchString(), rule.getEscapedReplacement());
+                    }
+                    break;
+                case RESP_HEADER_STR:
+                    LOGGER.debug(
+                            "Replace in response header: {} with {}",
+                            rule.getMatchString(),
+                            rule.getReplacement());
+                    String currentHeader =
+                            header != null ? header : msg.getResponseHeader().toString();
+                    String replacedHeader = apply(rule, currentHeader);
+                    if (replacedHeader != currentHeader) {
+                        header = replacedHeader;
+                    }
+                    break;
+                case RESP_BODY_STR:
+                    LOGGER.debug(
+                            "Replace in response body: {} with {}",
+                            rule.getMatchString(),
+                            rule.getReplacement());
+                    String currentBody = body != null ? body : msg.getResponseBody().toString();
+                    String replacedBody = apply(rule, currentBody);
+                    if (replacedBody != currentBody) {
+                        body = replacedBody;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (header != null) {
+            setResponseHeader(msg, header);
         }
+        if (body != null) {
+            setResponseBody(msg, body);
+        }
+    }
+
+    private static void setResponseHeader(HttpMessage msg, String header) {
+        try {
+            msg.setResponseHeader(new HttpResponseHeader(header));
+        } catch (HttpMalformedHeaderException e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    private static void setResponseBody(HttpMessage msg, String body) {
+        msg.getResponseBody().setBody(body);
+        msg.getResponseHeader().setContentLength(msg.getResponseBody().length());
     }
 }
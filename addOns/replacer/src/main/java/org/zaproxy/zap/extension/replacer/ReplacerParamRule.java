@@ -38,6 +38,7 @@ public class ReplacerParamRule extends Enableable {
     private String url;
     private Pattern urlPattern;
     private String matchString;
+    private volatile Pattern matchPattern;
     private String replacement;
     private String escapedReplacement;
     private MatchType matchType;
@@ -198,6 +199,26 @@ public class ReplacerParamRule extends Enableable {
 
     public void setMatchString(String matchString) {
         this.matchString = matchString;
+        matchPattern = null;
+    }
+
+    /**
+     * Gets the pattern of the match string, compiled once and reused until the match string
+     * changes.
+     *
+     * @return the pattern, or {@code null} if the match string is not a regex.
+     * @throws java.util.regex.PatternSyntaxException if the match string is not a valid regex.
+     */
+    Pattern getMatchPattern() {
+        if (!matchRegex) {
+            return null;
+        }
+        Pattern pattern = matchPattern;
+        if (pattern == null) {
+            pattern = Pattern.compile(matchString);
+            matchPattern = pattern;
+        }
+        return pattern;
     }
 
     public MatchType getMatchType() {
@@ -214,6 +235,7 @@ public class ReplacerParamRule extends Enableable {
 
     public void setMatchRegex(boolean matchRegex) {
         this.matchRegex = matchRegex;
+        matchPattern = null;
     }
 
     public String getReplacement() {
@@ -754,6 +754,81 @@ class ExtensionReplacerTest {
         verify(rule).matchesMethod("PUT");
     }
 
+    @Test
+    void shouldApplyConsecutiveRequestBodyRulesInOrder() throws HttpMalformedHeaderException {
+        // Given
+        msg.setRequestHeader("POST / HTTP/1.1");
+        msg.setRequestBody("a");
+        replacerRule(REQ_BODY_STR, "a", "bb");
+        replacerRule(REQ_BODY_STR, "bb", "ccc");
+
+        // When
+        extensionReplacer.onHttpRequestSend(msg, 0, null);
+
+        // Then
+        assertThat(msg.getRequestBody().toString(), equalTo("ccc"));
+        assertThat(msg.getRequestHeader().getContentLength(), equalTo(3));
+    }
+
+    @Test
+    void shouldApplyConsecutiveResponseHeaderRulesInOrder() throws HttpMalformedHeaderException {
+        // Given
+        msg.setResponseHeader("HTTP/1.1 200 OK\r\nX-Custom: a");
+        replacerRule(RESP_HEADER_STR, "X-Custom: a", "X-Custom: b");
+        replacerRule(RESP_HEADER_STR, "X-Custom: b", "X-Custom: c");
+
+        // When
+        extensionReplacer.onHttpResponseReceive(msg, 0, null);
+
+        // Then
+        assertThat(msg.getResponseHeader().getHeader("X-Custom"), equalTo("c"));
+    }
+
+    @Test
+    void shouldApplyHeaderRuleAfterPreviousHeaderStringRules()
+            throws HttpMalformedHeaderException {
+        // Given
+        msg.setRequestHeader("GET / HTTP/1.1\r\nX-Custom: a");
+        replacerRule(REQ_HEADER_STR, "X-Custom: a", "X-Custom: b");
+        replacerRule(REQ_HEADER, "X-Custom", "c");
+
+        // When
+        extensionReplacer.onHttpRequestSend(msg, 0, null);
+
+        // Then
+        assertThat(msg.getRequestHeader().getHeader("X-Custom"), equalTo("c"));
+    }
+
+    @Test
+    void shouldMatchFollowingRulesAgainstReplacedUrl() throws HttpMalformedHeaderException {
+        // Given
+        msg.setRequestHeader("POST https://example.com/a HTTP/1.1");
+        msg.setRequestBody("x");
+        replacerRule(REQ_HEADER_STR, "/a ", "/b ");
+        extensionReplacer
+                .getParams()
+                .getRules()
+                .add(
+                        new ReplacerParamRule(
+                                "",
+                                ".*/b",
+                                REQ_BODY_STR,
+                                "x",
+                                false,
+                                "y",
+                                null,
+                                true,
+                                false,
+                                ""));
+
+        // When
+        extensionReplacer.onHttpRequestSend(msg, 0, null);
+
+        // Then
+        assertThat(msg.getRequestHeader().getURI().toString(), equalTo("https://example.com/b"));
+        assertThat(msg.getRequestBody().toString(), equalTo("y"));
+    }
+
     private static ExtensionReplacer givenATokenProcessingReplacementRuleFor(
             ReplacerParamRule.MatchType matchType, String match, String replacement)
             throws HttpMalformedHeaderException {
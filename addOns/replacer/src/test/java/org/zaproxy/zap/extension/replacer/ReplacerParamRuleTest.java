@@ -22,10 +22,14 @@ package org.zaproxy.zap.extension.replacer;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.zaproxy.zap.extension.replacer.ReplacerParamRule.MatchType.REQ_HEADER_STR;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.regex.Pattern;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -128,6 +132,49 @@ class ReplacerParamRuleTest {
         assertThat(hexValueRegexRule.getEscapedReplacement(), equalTo("\\x"));
     }
 
+    @Test
+    void shouldReuseCompiledMatchPattern() {
+        // Given
+        ReplacerParamRule rule =
+                new ReplacerParamRule("", REQ_HEADER_STR, "a+", true, "", null, true);
+
+        // When
+        Pattern pattern = rule.getMatchPattern();
+
+        // Then
+        assertThat(pattern.pattern(), is(equalTo("a+")));
+        assertThat(rule.getMatchPattern(), is(sameInstance(pattern)));
+    }
+
+    @Test
+    void shouldCompileMatchPatternAgainIfMatchStringChanged() {
+        // Given
+        ReplacerParamRule rule =
+                new ReplacerParamRule("", REQ_HEADER_STR, "a+", true, "", null, true);
+        Pattern pattern = rule.getMatchPattern();
+
+        // When
+        rule.setMatchString("b+");
+
+        // Then
+        assertThat(rule.getMatchPattern(), is(not(sameInstance(pattern))));
+        assertThat(rule.getMatchPattern().pattern(), is(equalTo("b+")));
+    }
+
+    @Test
+    void shouldNotHaveMatchPatternIfNotRegex() {
+        // Given
+        ReplacerParamRule rule =
+                new ReplacerParamRule("", REQ_HEADER_STR, "a+", true, "", null, true);
+        rule.getMatchPattern();
+
+        // When
+        rule.setMatchRegex(false);
+
+        // Then
+        assertThat(rule.getMatchPattern(), is(nullValue()));
+    }
+
     @Test
     void shouldConstructRule() {
         // Given / When
@@ -41,6 +41,12 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -61,9 +67,7 @@ import org.parosproxy.paros.model.SiteMap;
 import org.parosproxy.paros.model.SiteNode;
 import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.view.View;
-import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
-import org.thymeleaf.templateresolver.FileTemplateResolver;
 import org.xhtmlrenderer.pdf.ITextRenderer;
 import org.zaproxy.zap.extension.alert.AlertNode;
 import org.zaproxy.zap.extension.alert.ExtensionAlert;
@@ -370,45 +374,150 @@ public class ExtensionReports extends ExtensionAdaptor {
     public File generateReport(
             ReportData reportData, Template template, String reportFilename, boolean display)
             throws IOException {
+        return generateReport(reportData, template, reportFilename, display, getStats(), true);
+    }
+
+    /**
+     * Generates reports with several templates from the same report data.
+     *
+     * <p>The filtered alert tree, the alert counts, and the statistics are gathered once and
+     * shared by all the reports, which are then generated concurrently. Each report includes the
+     * sections of the report data that are supported by its template, or all the sections of the
+     * template if none were specified.
+     *
+     * @param reportData the report data shared by all the reports.
+     * @param reportFilenames the templates and the full path of the file each report will be
+     *     written to.
+     * @return the files the reports were written to, in the iteration order of the templates.
+     * @throws IOException if an error occurred while generating any of the reports.
+     * @since 0.47.0
+     */
+    public List<File> generateReports(ReportData reportData, Map<Template, String> reportFilenames)
+            throws IOException {
+        if (reportFilenames.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (reportData.getAlertTreeRootNode() == null) {
+            reportData.setAlertTreeRootNode(getFilteredAlertTree(reportData));
+        }
+        initAlertCounts(reportData);
+        Map<String, Long> stats = getStats();
+
+        int threadCount =
+                Math.min(reportFilenames.size(), Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        threadCount,
+                        r -> {
+                            Thread thread =
+                                    new Thread(r, "ZAP-Reports-" + threadNumber.getAndIncrement());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        try {
+            List<Future<File>> futures = new ArrayList<>(reportFilenames.size());
+            for (Map.Entry<Template, String> entry : reportFilenames.entrySet()) {
+                Template template = entry.getKey();
+                ReportData templateReportData = reportData.copy(template);
+                // The handlers are not expected to be thread-safe, handle the data sequentially.
+                reportDataHandlers.forEach(rdh -> rdh.handle(templateReportData));
+                futures.add(
+                        executor.submit(
+                                () ->
+                                        generateReport(
+                                                templateReportData,
+                                                template,
+                                                entry.getValue(),
+                                                false,
+                                                stats,
+                                                false)));
+            }
+
+            List<File> files = new ArrayList<>(futures.size());
+            for (Future<File> future : futures) {
+                files.add(getReportFile(future));
+            }
+            return files;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static File getReportFile(Future<File> future) throws IOException {
         try {
-            TemplateEngine templateEngine = new TemplateEngine();
-            FileTemplateResolver templateResolver = new FileTemplateResolver();
-            templateResolver.setTemplateMode(template.getMode());
-            templateEngine.setTemplateResolver(templateResolver);
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating the reports.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Failed to generate the report.", e.getCause());
+        }
+    }
+
+    private static Map<String, Long> getStats() {
+        ExtensionStats extStats =
+                Control.getSingleton().getExtensionLoader().getExtension(ExtensionStats.class);
+        if (extStats != null) {
+            InMemoryStats stats = extStats.getInMemoryStats();
+            if (stats != null) {
+                return stats.getStats("");
+            }
+        }
+        return null;
+    }
 
-            templateEngine.setMessageResolver(new ReportMessageResolver(template));
+    private void initAlertCounts(ReportData reportData) {
+        if (reportData.getAlertCountsByRisk() == null) {
+            reportData.setAlertCountsByRisk(
+                    getAlertCountsByRisk(reportData.getAlertTreeRootNode()));
+        }
+        if (reportData.getAlertCountsByRule() == null) {
+            reportData.setAlertCountsByRule(
+                    getAlertCountsByRule(reportData.getAlertTreeRootNode()));
+        }
+    }
+
+    private File generateReport(
+            ReportData reportData,
+            Template template,
+            String reportFilename,
+            boolean display,
+            Map<String, Long> stats,
+            boolean handleReportData)
+            throws IOException {
+        try {
+            initAlertCounts(reportData);
 
             Context context = new Context();
             context.setVariable("alertTree", reportData.getAlertTreeRootNode());
             context.setVariable("reportTitle", reportData.getTitle());
             context.setVariable("description", reportData.getDescription());
             context.setVariable("helper", new ReportHelper());
-            context.setVariable(
-                    "alertCounts", getAlertCountsByRisk(reportData.getAlertTreeRootNode()));
-            context.setVariable(
-                    "alertCountsByRule", getAlertCountsByRule(reportData.getAlertTreeRootNode()));
+            context.setVariable("alertCounts", reportData.getAlertCountsByRisk());
+            context.setVariable("alertCountsByRule", reportData.getAlertCountsByRule());
             context.setVariable("reportData", reportData);
 
-            ExtensionStats extStats =
-                    Control.getSingleton().getExtensionLoader().getExtension(ExtensionStats.class);
-            if (extStats != null) {
-                InMemoryStats stats = extStats.getInMemoryStats();
-                if (stats != null) {
-                    context.setVariable("stats", stats.getStats(""));
-                }
+            if (stats != null) {
+                context.setVariable("stats", stats);
             }
 
             Instant currentDateTime = Instant.now();
+            String generatedString;
             synchronized (SIMPLE_DATE_FORMAT) {
-                context.setVariable(
-                        "generatedString",
-                        SIMPLE_DATE_FORMAT.format(currentDateTime.toEpochMilli()));
+                generatedString = SIMPLE_DATE_FORMAT.format(currentDateTime.toEpochMilli());
             }
+            context.setVariable("generatedString", generatedString);
             context.setVariable("created", currentDateTime.toString());
             context.setVariable("zapVersion", Constant.PROGRAM_VERSION);
             context.setVariable("programName", Constant.PROGRAM_NAME_SHORT);
 
-            reportDataHandlers.forEach(rdh -> rdh.handle(reportData));
+            if (handleReportData) {
+                reportDataHandlers.forEach(rdh -> rdh.handle(reportData));
+            }
 
             if ("PDF".equals(template.getFormat())) {
                 if (reportFilename.toLowerCase().endsWith(".pdf")) {
@@ -443,8 +552,17 @@ public class ExtensionReports extends ExtensionAdaptor {
 
             File file = new File(reportFilename);
             try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
-                templateEngine.process(
-                        template.getReportTemplateFile().getAbsolutePath(), context, writer);
+                if (TraditionalJsonReportWriter.NAME.equals(template.getWriter())
+                        && TraditionalJsonReportWriter.canWrite(reportData)) {
+                    new TraditionalJsonReportWriter(writer)
+                            .write(reportData, generatedString, currentDateTime.toString());
+                } else {
+                    template.getTemplateEngine()
+                            .process(
+                                    template.getReportTemplateFile().getAbsolutePath(),
+                                    context,
+                                    writer);
+                }
                 Stats.incCounter("stats.reports.generated." + template.getConfigName());
             }
 
@@ -577,6 +695,50 @@ public class ExtensionReports extends ExtensionAdaptor {
         return list;
     }
 
+    /**
+     * Gets the messages of the alerts raised by the given rules, going through the alerts once.
+     *
+     * <p>Same as calling {@link #getHttpMessagesForRule(int, int)} for each of the rules. The
+     * messages of other rules are not read.
+     *
+     * @param ruleIds the IDs of the rules whose messages should be obtained.
+     * @param max the maximum number of messages per rule.
+     * @return the messages by rule ID, never {@code null}.
+     * @since 0.47.0
+     */
+    public Map<Integer, List<HttpMessage>> getHttpMessagesByRule(Set<Integer> ruleIds, int max) {
+        try {
+            return getHttpMessagesByRule(this.getRootAlertNode(), ruleIds, max);
+        } catch (Exception e) {
+            LOGGER.error("Failed to get HttpMessages by rule", e);
+        }
+        return new HashMap<>();
+    }
+
+    Map<Integer, List<HttpMessage>> getHttpMessagesByRule(
+            AlertNode rootNode, Set<Integer> ruleIds, int max) {
+        Map<Integer, List<HttpMessage>> messages = new HashMap<>();
+
+        Enumeration<?> alertEnum = rootNode.children();
+        while (alertEnum.hasMoreElements()) {
+            AlertNode alertNode = (AlertNode) alertEnum.nextElement();
+            int ruleId = alertNode.getUserObject().getPluginId();
+            if (!ruleIds.contains(ruleId)) {
+                continue;
+            }
+            List<HttpMessage> list = messages.computeIfAbsent(ruleId, k -> new ArrayList<>());
+            Enumeration<?> instEnum = alertNode.children();
+            while (instEnum.hasMoreElements() && list.size() < max) {
+                AlertNode instNode = (AlertNode) instEnum.nextElement();
+                if (instNode.getRisk() != RISK_FALSE_POSITIVE) {
+                    list.add(instNode.getUserObject().getMessage());
+                }
+            }
+        }
+
+        return messages;
+    }
+
     public Map<Integer, Integer> getAlertCountsByRule() {
         try {
             return this.getAlertCountsByRule(this.getRootAlertNode());
@@ -41,6 +41,8 @@ public class ReportData {
     private boolean[] risks = new boolean[Alert.MSG_RISK.length];
     private List<String> sections = new ArrayList<>();
     private String theme;
+    private Map<Integer, Integer> alertCountsByRisk;
+    private Map<Integer, Integer> alertCountsByRule;
 
     @Deprecated
     public ReportData() {}
@@ -60,6 +62,24 @@ public class ReportData {
 
     public void setAlertTreeRootNode(AlertNode alertTreeRootNode) {
         this.alertTreeRootNode = alertTreeRootNode;
+        this.alertCountsByRisk = null;
+        this.alertCountsByRule = null;
+    }
+
+    Map<Integer, Integer> getAlertCountsByRisk() {
+        return alertCountsByRisk;
+    }
+
+    void setAlertCountsByRisk(Map<Integer, Integer> alertCountsByRisk) {
+        this.alertCountsByRisk = alertCountsByRisk;
+    }
+
+    Map<Integer, Integer> getAlertCountsByRule() {
+        return alertCountsByRule;
+    }
+
+    void setAlertCountsByRule(Map<Integer, Integer> alertCountsByRule) {
+        this.alertCountsByRule = alertCountsByRule;
     }
 
     public String getTitle() {
@@ -187,4 +207,41 @@ public class ReportData {
     public void setTemplateName(String templateName) {
         this.templateName = templateName;
     }
+
+    /**
+     * Creates a copy of this report data for the given template.
+     *
+     * <p>The alert tree and the alert counts are shared with the copy, the report objects are
+     * copied.
+     * The sections are restricted to the ones supported by the template, or all the sections of
+     * the template if this report data has none. The theme is kept if supported by the template,
+     * otherwise the first theme of the template, if any, is used.
+     *
+     * @param template the template the copy is for.
+     * @return the copy of the report data.
+     */
+    ReportData copy(Template template) {
+        ReportData copy = new ReportData(template.getConfigName());
+        copy.alertTreeRootNode = alertTreeRootNode;
+        copy.alertCountsByRisk = alertCountsByRisk;
+        copy.alertCountsByRule = alertCountsByRule;
+        copy.title = title;
+        copy.description = description;
+        copy.contexts = contexts;
+        copy.sites = sites;
+        copy.confidences = confidences.clone();
+        copy.risks = risks.clone();
+        copy.reportObjects = new HashMap<>(reportObjects);
+        if (sections.isEmpty()) {
+            copy.sections = new ArrayList<>(template.getSections());
+        } else {
+            template.getSections().stream().filter(sections::contains).forEach(copy::addSection);
+        }
+        if (template.getThemes().contains(theme)) {
+            copy.theme = theme;
+        } else if (!template.getThemes().isEmpty()) {
+            copy.theme = template.getThemes().get(0);
+        }
+        return copy;
+    }
 }
@@ -22,19 +22,26 @@ package org.zaproxy.addon.reports;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.LongSummaryStatistics;
 import java.util.ResourceBundle;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.Constant;
+import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.FileTemplateResolver;
 import org.yaml.snakeyaml.Yaml;
 
 public class Template {
@@ -52,6 +59,10 @@ public class Template {
     private ResourceBundle msgs = null;
     private Boolean hasMsgs = null;
     private URLClassLoader classloader = null;
+    private String writer;
+    private TemplateEngine templateEngine;
+    private long templateEngineLastModified;
+    private long templateEngineFileCount;
 
     public Template(File templateYaml) throws IOException {
         Yaml yaml = new Yaml();
@@ -74,6 +85,7 @@ public class Template {
                     "Cannot read " + reportTemplateFile.getAbsolutePath());
         }
         setMode(TemplateMode.parse(this.getString("mode", data, false)));
+        setWriter(this.getString("writer", data, true));
         if (data.containsKey("sections")) {
             Object o = data.get("sections");
             if (o instanceof ArrayList) {
@@ -157,6 +169,7 @@ public class Template {
 
     public void setReportTemplateFile(File reportTemplateFile) {
         this.reportTemplateFile = reportTemplateFile;
+        resetTemplateEngine();
     }
 
     public String getExtension() {
@@ -181,6 +194,28 @@ public class Template {
 
     public void setMode(TemplateMode mode) {
         this.mode = mode;
+        resetTemplateEngine();
+    }
+
+    /**
+     * Gets the name of the built-in writer used to generate the reports of this template, instead
+     * of processing the report template file.
+     *
+     * @return the name of the writer, or {@code null} if the report template file is processed.
+     * @since 0.47.0
+     */
+    public String getWriter() {
+        return writer;
+    }
+
+    /**
+     * Sets the name of the built-in writer used to generate the reports of this template.
+     *
+     * @param writer the name of the writer, or {@code null} to process the report template file.
+     * @since 0.47.0
+     */
+    public void setWriter(String writer) {
+        this.writer = writer;
     }
 
     public File getResourcesDir() {
@@ -257,7 +292,55 @@ public class Template {
         return null;
     }
 
+    /**
+     * Gets the template engine used to process this template.
+     *
+     * <p>The engine, and so the parsed template, is shared by all the reports generated with this
+     * template. It is recreated if any of the files of the template directory is changed, added, or
+     * removed, so that changes to included fragments are also picked up.
+     *
+     * @return the template engine, never {@code null}.
+     * @since 0.47.0
+     */
+    public synchronized TemplateEngine getTemplateEngine() {
+        long lastModified = 0;
+        long fileCount = 0;
+        try (Stream<Path> files = Files.walk(reportTemplateFile.getParentFile().toPath())) {
+            LongSummaryStatistics filesStats =
+                    files.filter(Files::isRegularFile)
+                            .mapToLong(file -> file.toFile().lastModified())
+                            .summaryStatistics();
+            lastModified = filesStats.getMax();
+            fileCount = filesStats.getCount();
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.debug("Failed to check the files of template {}:", configName, e);
+            // Do not reuse an engine that might be stale.
+            templateEngine = null;
+        }
+        if (templateEngine == null
+                || templateEngineLastModified != lastModified
+                || templateEngineFileCount != fileCount) {
+            FileTemplateResolver templateResolver = new FileTemplateResolver();
+            templateResolver.setTemplateMode(mode);
+            templateResolver.setCacheable(true);
+
+            TemplateEngine engine = new TemplateEngine();
+            engine.setTemplateResolver(templateResolver);
+            engine.setMessageResolver(new ReportMessageResolver(this));
+
+            templateEngine = engine;
+            templateEngineLastModified = lastModified;
+            templateEngineFileCount = fileCount;
+        }
+        return templateEngine;
+    }
+
+    private synchronized void resetTemplateEngine() {
+        templateEngine = null;
+    }
+
     void unload() {
+        resetTemplateEngine();
         if (classloader != null) {
             ResourceBundle.clearCache(classloader);
             try {
@@ -0,0 +1,260 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.reports;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import org.parosproxy.paros.Constant;
+import org.parosproxy.paros.core.scanner.Alert;
+import org.zaproxy.zap.extension.alert.AlertNode;
+
+/**
+ * A writer of the Traditional JSON report, that writes the alerts straight from the alert tree.
+ *
+ * <p>Produces the same report as the {@code traditional-json} template, without evaluating the
+ * template expressions for each alert instance and without going through the alert tree again for
+ * each alert of each site, which is slow for large numbers of alerts. The reports that include
+ * data from other add-ons (for example, insights or sequences) are not supported, those are
+ * generated with the template.
+ */
+final class TraditionalJsonReportWriter {
+
+    /** The name of the writer, to be used in the {@code template.yaml} file. */
+    static final String NAME = "traditional-json";
+
+    private final Writer writer;
+
+    TraditionalJsonReportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Tells whether or not the given report data can be written by this writer.
+     *
+     * @param reportData the report data.
+     * @return {@code true} if the report data can be written, {@code false} otherwise.
+     */
+    static boolean canWrite(ReportData reportData) {
+        return reportData.getReportObject("insightsList") == null
+                && reportData.getReportObject("stoppingInsight") == null
+                && reportData.getReportObject("seqAScanData") == null
+                && (!reportData.isIncludeSection("scriptdiagnostics")
+                        || reportData.getReportObject("scriptDiagnostics") == null);
+    }
+
+    /**
+     * Writes the report.
+     *
+     * @param reportData the report data, with the filtered alert tree.
+     * @param generated the date the report was generated, formatted.
+     * @param created the date the report was created, in ISO-8601.
+     * @throws IOException if an error occurred while writing the report.
+     */
+    void write(ReportData reportData, String generated, String created) throws IOException {
+        writer.write("{\n\t\"@programName\": ");
+        writer.write(toJsonValue(Constant.PROGRAM_NAME_SHORT));
+        writer.write(",\n\t\"@version\": ");
+        writer.write(toJsonValue(Constant.PROGRAM_VERSION));
+        writer.write(",\n\t\"@generated\": ");
+        writer.write(toJsonValue(generated));
+        writer.write(",\n\t\"created\": ");
+        writer.write(toJsonValue(created));
+        writer.write(",\n\t\"site\":[ ");
+
+        List<String> sites = reportData.getSites();
+        if (sites != null) {
+            boolean first = true;
+            for (String site : sites) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writeSite(reportData.getAlertTreeRootNode(), site);
+            }
+        }
+        writer.write("\n\t]\n\n}\n");
+    }
+
+    private void writeSite(AlertNode rootNode, String site) throws IOException {
+        writer.write("\n\t\t{\n\t\t\t\"@name\": \"");
+        writer.write(escapeText(site));
+        writer.write("\",\n\t\t\t\"@host\": \"");
+        writer.write(escapeText(ReportHelper.getHostForSite(site)));
+        writer.write("\",\n\t\t\t\"@port\": \"");
+        writer.write(Integer.toString(ReportHelper.getPortForSite(site)));
+        writer.write("\",\n\t\t\t\"@ssl\": \"");
+        writer.write(Boolean.toString(ReportHelper.isSslSite(site)));
+        writer.write("\",\n\t\t\t\"alerts\": [ ");
+
+        boolean firstAlert = true;
+        for (int alertIndex = 0; alertIndex < rootNode.getChildCount(); alertIndex++) {
+            AlertNode alertNode = rootNode.getChildAt(alertIndex);
+            Alert alert = null;
+            int count = 0;
+            for (int instIndex = 0; instIndex < alertNode.getChildCount(); instIndex++) {
+                Alert instance = alertNode.getChildAt(instIndex).getUserObject();
+                if (!instance.getUri().startsWith(site)) {
+                    continue;
+                }
+                if (alert == null) {
+                    alert = instance;
+                    if (!firstAlert) {
+                        writer.write(',');
+                    }
+                    firstAlert = false;
+                    writeAlertStart(alert);
+                } else {
+                    writer.write(',');
+                }
+                writeInstance(instance);
+                count++;
+            }
+            if (alert != null) {
+                writeAlertEnd(alertNode, alert, count);
+            }
+        }
+        writer.write("\n\t\t\t]\n\t\t}");
+    }
+
+    private void writeAlertStart(Alert alert) throws IOException {
+        writer.write("\n\t\t\t\t{");
+        writeField("pluginid", String.valueOf(alert.getPluginId()));
+        writeField("alertRef", alert.getAlertRef());
+        writeField("alert", escapeText(alert.getName()));
+        writeField("name", escapeText(alert.getName()));
+        writeField("riskcode", String.valueOf(alert.getRisk()));
+        writeField("confidence", String.valueOf(alert.getConfidence()));
+        writeField(
+                "riskdesc",
+                escapeText(
+                        ReportHelper.getRiskString(alert.getRisk())
+                                + " ("
+                                + ReportHelper.getConfidenceString(alert.getConfidence())
+                                + ")"));
+        writeField("desc", escapeParagraph(alert.getDescription()));
+        writer.write("\n\t\t\t\t\t\"instances\":[ ");
+    }
+
+    private void writeInstance(Alert instance) throws IOException {
+        writer.write("\n\t\t\t\t\t\t{\n\t\t\t\t\t\t\t\"id\": \"");
+        writer.write(String.valueOf(instance.getAlertId()));
+        writer.write("\",\n\t\t\t\t\t\t\t\"uri\": \"");
+        writer.write(escapeText(instance.getUri()));
+        writer.write("\",\n\t\t\t\t\t\t\t\"nodeName\": ");
+        writer.write(toJsonValue(instance.getNodeName()));
+        writer.write(",\n\t\t\t\t\t\t\t\"method\": \"");
+        writer.write(escapeText(instance.getMethod()));
+        writer.write("\",\n\t\t\t\t\t\t\t\"param\": \"");
+        writer.write(escapeText(instance.getParam()));
+        writer.write("\",\n\t\t\t\t\t\t\t\"attack\": \"");
+        writer.write(escapeText(instance.getAttack()));
+        writer.write("\",\n\t\t\t\t\t\t\t\"evidence\": \"");
+        writer.write(escapeText(instance.getEvidence()));
+        writer.write("\",\n\t\t\t\t\t\t\t\"otherinfo\": \"");
+        writer.write(escapeText(instance.getOtherInfo()));
+        writer.write("\"\n\t\t\t\t\t\t}");
+    }
+
+    private void writeAlertEnd(AlertNode alertNode, Alert alert, int count) throws IOException {
+        writer.write("\n\t\t\t\t\t],\n\t\t\t\t\t\"count\": \"");
+        writer.write(Integer.toString(count));
+        writer.write("\",\n\t\t\t\t\t\"systemic\": ");
+        writer.write(Boolean.toString(alertNode.isSystemic()));
+        writer.write(',');
+        writeField("solution", escapeParagraph(alert.getSolution()));
+        writeField("otherinfo", escapeParagraph(alert.getOtherInfo()));
+        writeField("reference", escapeParagraph(alert.getReference()));
+        writeField("cweid", String.valueOf(alert.getCweId()));
+        writeField("wascid", String.valueOf(alert.getWascId()));
+        writer.write("\n\t\t\t\t\t\"sourceid\": \"");
+        writer.write(String.valueOf(alert.getSourceHistoryId()));
+        writer.write("\"\n\t\t\t\t}");
+    }
+
+    private void writeField(String name, String value) throws IOException {
+        writer.write("\n\t\t\t\t\t\"");
+        writer.write(name);
+        writer.write("\": \"");
+        if (value != null) {
+            writer.write(value);
+        }
+        writer.write("\",");
+    }
+
+    private static String escapeText(String text) {
+        String escaped = ReportHelper.legacyEscapeText(text, true);
+        return escaped != null ? escaped : "";
+    }
+
+    private static String escapeParagraph(String text) {
+        return ReportHelper.legacyEscapeParagraph(text, true);
+    }
+
+    /**
+     * Converts the given value to a JSON value, like the inlined expressions of the template.
+     *
+     * @param value the value to convert, might be {@code null}.
+     * @return the JSON string, or {@code null} if the value is {@code null}.
+     */
+    static String toJsonValue(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder strBuilder = new StringBuilder(value.length() + 2);
+        strBuilder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    strBuilder.append("\\\"");
+                    break;
+                case '\\':
+                    strBuilder.append("\\\\");
+                    break;
+                case '/':
+                    strBuilder.append("\\/");
+                    break;
+                case '\b':
+                    strBuilder.append("\\b");
+                    break;
+                case '\f':
+                    strBuilder.append("\\f");
+                    break;
+                case '\n':
+                    strBuilder.append("\\n");
+                    break;
+                case '\r':
+                    strBuilder.append("\\r");
+                    break;
+                case '\t':
+                    strBuilder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        strBuilder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        strBuilder.append(c);
+                    }
+            }
+        }
+        return strBuilder.append('"').toString();
+    }
+}
@@ -28,9 +28,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -54,6 +56,8 @@ public class OutputSummaryJob extends AutomationJob {
 
     private static final String PARAM_FORMAT = "format";
 
+    private static final int MAX_MESSAGES_PER_RULE = 5;
+
     private ExtensionReportAutomation extReportAuto;
     private PrintStream out = System.out;
 
@@ -210,20 +214,32 @@ public class OutputSummaryJob extends AutomationJob {
                                 Integer.toString(o1.getId())
                                         .compareTo(Integer.toString(o2.getId())));
 
+                Set<Integer> alertingRuleIds = new HashSet<>();
                 for (var psRule : pscanRuleArray) {
                     if (!alertCounts.containsKey(psRule.getId())) {
                         if (Format.LONG.equals(format)) {
                             out.println("PASS: " + psRule.getName() + " [" + psRule.getId() + "]");
                         }
                         pass++;
+                    } else {
+                        alertingRuleIds.add(psRule.getId());
                     }
                 }
 
+                // Only the messages of the rules printed are needed
+                Map<Integer, List<HttpMessage>> messagesByRule =
+                        Format.LONG.equals(format) && !alertingRuleIds.isEmpty()
+                                ? getExtReport()
+                                        .getHttpMessagesByRule(
+                                                alertingRuleIds, MAX_MESSAGES_PER_RULE)
+                                : Map.of();
+
                 // Output the results in the expected order
                 ignore =
                         outputResults(
                                 pscanRuleArray,
                                 alertCounts,
+                                messagesByRule,
                                 ignoreIds,
                                 infoIds,
                                 failIds,
@@ -232,6 +248,7 @@ public class OutputSummaryJob extends AutomationJob {
                         outputResults(
                                 pscanRuleArray,
                                 alertCounts,
+                                messagesByRule,
                                 ignoreIds,
                                 infoIds,
                                 failIds,
@@ -240,6 +257,7 @@ public class OutputSummaryJob extends AutomationJob {
                         outputResults(
                                 pscanRuleArray,
                                 alertCounts,
+                                messagesByRule,
                                 ignoreIds,
                                 infoIds,
                                 failIds,
@@ -248,6 +266,7 @@ public class OutputSummaryJob extends AutomationJob {
                         outputResults(
                                 pscanRuleArray,
                                 alertCounts,
+                                messagesByRule,
                                 ignoreIds,
                                 infoIds,
                                 failIds,
@@ -290,6 +309,7 @@ public class OutputSummaryJob extends AutomationJob {
     private int outputResults(
             org.zaproxy.addon.automation.jobs.PassiveScanJobResultData.RuleData[] pscanRuleArray,
             Map<Integer, Integer> alertCounts,
+            Map<Integer, List<HttpMessage>> messagesByRule,
             List<Integer> ignoreIds,
             List<Integer> infoIds,
             List<Integer> failIds,
@@ -332,7 +352,8 @@ public class OutputSummaryJob extends AutomationJob {
                                 + " "
                                 + getCustomMessage(rule.getId()));
                 if (Format.LONG.equals(this.getParameters().getFormat())) {
-                    for (HttpMessage msg : getExtReport().getHttpMessagesForRule(rule.getId(), 5)) {
+                    for (HttpMessage msg :
+                            messagesByRule.getOrDefault(rule.getId(), List.of())) {
                         int code = msg.getResponseHeader().getStatusCode();
                         out.println(
                                 "\t"
@@ -21,9 +21,12 @@ package org.zaproxy.addon.reports.automation;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
@@ -58,6 +61,7 @@ public class ReportJob extends AutomationJob {
     private static final String PARAM_DISPLAY_REPORT = "displayReport";
 
     private ExtensionReports extReport;
+    private BatchedReport batchedReport;
 
     private Parameters parameters = new Parameters();
     private Data data;
@@ -149,11 +153,15 @@ public class ReportJob extends AutomationJob {
 
     @Override
     public void runJob(AutomationEnvironment env, AutomationProgress progress) {
-
-        String templateName = this.getParameters().getTemplate();
-        if (StringUtils.isEmpty(templateName)) {
-            templateName = ReportParam.DEFAULT_TEMPLATE;
+        BatchedReport batched = batchedReport;
+        batchedReport = null;
+        if (batched != null && batched.progress() == progress) {
+            // Already generated with the report of a previous job.
+            infoReportGenerated(batched.file(), progress);
+            return;
         }
+
+        String templateName = getTemplateName();
         Template template = getExtReport().getTemplateByConfigName(templateName);
         ReportData reportData = new ReportData(templateName);
 
@@ -167,31 +175,7 @@ public class ReportJob extends AutomationJob {
         }
         reportData.setTheme(theme);
 
-        // Work out the file name based on the pattern
-        String filePattern = env.replaceVars(getParameters().getReportFile());
-        if (StringUtils.isEmpty(filePattern)) {
-            filePattern = ReportParam.DEFAULT_NAME_PATTERN;
-        }
-        // Replace envs in the URL first so that the site sanitization is used, then replace in the
-        // full pattern
-        String fileName =
-                env.replaceVars(
-                        ExtensionReports.getNameFromPattern(
-                                filePattern,
-                                env.replaceVars(env.getDefaultContextWrapper().getUrls().get(0))));
-
-        if (!fileName.endsWith("." + template.getExtension())) {
-            fileName += "." + template.getExtension();
-        }
-
-        File file;
-        String reportDir = getParameters().getReportDir();
-        if (reportDir != null && reportDir.length() > 0) {
-            File dir = JobUtils.getFile(reportDir, getPlan());
-            file = new File(dir, fileName);
-        } else {
-            file = JobUtils.getFile(fileName, getPlan());
-        }
+        File file = getReportFile(env, template);
         reportData.setTitle(this.getParameters().getReportTitle());
         reportData.setDescription(this.getParameters().getReportDescription());
         reportData.setContexts(env.getContexts());
@@ -258,6 +242,12 @@ public class ReportJob extends AutomationJob {
             }
         }
 
+        List<ReportJob> jobsToBatch = getJobsToBatch(env);
+        if (!jobsToBatch.isEmpty()
+                && generateReports(reportData, template, file, jobsToBatch, env, progress)) {
+            return;
+        }
+
         reportData.setAlertTreeRootNode(getExtReport().getFilteredAlertTree(reportData));
 
         try {
@@ -268,11 +258,7 @@ public class ReportJob extends AutomationJob {
                                     template,
                                     file.getAbsolutePath(),
                                     JobUtils.unBox(this.getParameters().getDisplayReport()));
-            progress.info(
-                    Constant.messages.getString(
-                            "reports.automation.info.reportgen",
-                            this.getName(),
-                            file.getAbsolutePath()));
+            infoReportGenerated(file, progress);
         } catch (Exception e) {
             LOGGER.warn("Failed to generate the report:", e);
             progress.error(
@@ -284,6 +270,145 @@ public class ReportJob extends AutomationJob {
         }
     }
 
+    private String getTemplateName() {
+        String templateName = this.getParameters().getTemplate();
+        if (StringUtils.isEmpty(templateName)) {
+            return ReportParam.DEFAULT_TEMPLATE;
+        }
+        return templateName;
+    }
+
+    private Template getTemplate() {
+        return getExtReport().getTemplateByConfigName(getTemplateName());
+    }
+
+    private File getReportFile(AutomationEnvironment env, Template template) {
+        // Work out the file name based on the pattern
+        String filePattern = env.replaceVars(getParameters().getReportFile());
+        if (StringUtils.isEmpty(filePattern)) {
+            filePattern = ReportParam.DEFAULT_NAME_PATTERN;
+        }
+        // Replace envs in the URL first so that the site sanitization is used, then replace in the
+        // full pattern
+        String fileName =
+                env.replaceVars(
+                        ExtensionReports.getNameFromPattern(
+                                filePattern,
+                                env.replaceVars(env.getDefaultContextWrapper().getUrls().get(0))));
+
+        if (!fileName.endsWith("." + template.getExtension())) {
+            fileName += "." + template.getExtension();
+        }
+
+        String reportDir = getParameters().getReportDir();
+        if (reportDir != null && reportDir.length() > 0) {
+            File dir = JobUtils.getFile(reportDir, getPlan());
+            return new File(dir, fileName);
+        }
+        return JobUtils.getFile(fileName, getPlan());
+    }
+
+    /**
+     * Gets the report jobs that follow this one in the plan and that can be generated from the same
+     * report data, with other templates.
+     *
+     * <p>None are returned if the jobs can run in parallel or if this report is to be displayed.
+     */
+    private List<ReportJob> getJobsToBatch(AutomationEnvironment env) {
+        if (getPlan() == null
+                || env.getParallelJobs() > 1
+                || JobUtils.unBox(getParameters().getDisplayReport())) {
+            return List.of();
+        }
+        List<AutomationJob> jobs = getPlan().getJobs();
+        int index = jobs.indexOf(this);
+        if (index == -1) {
+            return List.of();
+        }
+
+        List<ReportJob> jobsToBatch = new ArrayList<>();
+        Set<Template> templates = new HashSet<>();
+        templates.add(getTemplate());
+        for (int i = index + 1; i < jobs.size(); i++) {
+            if (!(jobs.get(i) instanceof ReportJob job)
+                    || !job.isEnabled()
+                    || !hasSameReportData(job)) {
+                break;
+            }
+            Template template = job.getTemplate();
+            if (template == null || !templates.add(template)) {
+                break;
+            }
+            jobsToBatch.add(job);
+        }
+        return jobsToBatch;
+    }
+
+    private boolean hasSameReportData(ReportJob job) {
+        Parameters other = job.getParameters();
+        return !JobUtils.unBox(other.getDisplayReport())
+                && StringUtils.equals(parameters.getTheme(), other.getTheme())
+                && StringUtils.equals(parameters.getReportTitle(), other.getReportTitle())
+                && StringUtils.equals(
+                        parameters.getReportDescription(), other.getReportDescription())
+                && data.getSections() == null
+                && job.getData().getSections() == null
+                && Objects.equals(data.getRisks(), job.getData().getRisks())
+                && Objects.equals(data.getConfidences(), job.getData().getConfidences())
+                && Objects.equals(data.getSites(), job.getData().getSites());
+    }
+
+    /**
+     * Generates the report of this job and the reports of the given jobs from the same report data.
+     *
+     * @return {@code true} if the reports were generated, {@code false} otherwise, in which case
+     *     each job should generate its own report.
+     */
+    private boolean generateReports(
+            ReportData reportData,
+            Template template,
+            File file,
+            List<ReportJob> jobs,
+            AutomationEnvironment env,
+            AutomationProgress progress) {
+        Map<Template, String> reportFiles = new LinkedHashMap<>();
+        reportFiles.put(template, file.getAbsolutePath());
+        for (ReportJob job : jobs) {
+            Template jobTemplate = job.getTemplate();
+            reportFiles.put(jobTemplate, job.getReportFile(env, jobTemplate).getAbsolutePath());
+        }
+        // Each template uses its own default theme and sections, if none specified.
+        String theme = reportData.getTheme();
+        List<String> sections = reportData.getSections();
+        reportData.setTheme(getParameters().getTheme());
+        reportData.setSections(new ArrayList<>());
+        reportData.setAlertTreeRootNode(getExtReport().getFilteredAlertTree(reportData));
+
+        List<File> files;
+        try {
+            files = getExtReport().generateReports(reportData, reportFiles);
+        } catch (Exception e) {
+            LOGGER.warn("Failed to generate the reports together, generating each one:", e);
+            reportData.setTheme(theme);
+            reportData.setSections(sections);
+            return false;
+        }
+
+        infoReportGenerated(files.get(0), progress);
+        for (int i = 0; i < jobs.size(); i++) {
+            jobs.get(i).batchedReport = new BatchedReport(progress, files.get(i + 1));
+        }
+        return true;
+    }
+
+    private void infoReportGenerated(File file, AutomationProgress progress) {
+        progress.info(
+                Constant.messages.getString(
+                        "reports.automation.info.reportgen",
+                        this.getName(),
+                        file.getAbsolutePath()));
+    }
+
     private int riskStringToInt(String str, AutomationProgress progress) {
         switch (str.toLowerCase()) {
             case "high":
@@ -452,6 +577,9 @@ public class ReportJob extends AutomationJob {
         return data;
     }
 
+    /** A report generated by a previous job, in the same run of the plan. */
+    private record BatchedReport(AutomationProgress progress, File file) {}
+
     @Getter
     @Setter
     public static class Data extends JobData {
@@ -181,6 +181,50 @@ class ExtensionReportsJsonUnitTest extends TestUtils {
         checkAlert(site.getJSONObject(0));
     }
 
+    @Test
+    void shouldGenerateSameJsonReportWithWriterAsWithTemplate() throws Exception {
+        // Given
+        Template template = ReportTestUtils.getTemplateFromYamlFile("traditional-json");
+        Template templateWithoutWriter =
+                ReportTestUtils.getTemplateFromYamlFile("traditional-json");
+        templateWithoutWriter.setWriter(null);
+        File f1 = File.createTempFile("traditional-json-writer", template.getExtension());
+        File f2 = File.createTempFile("traditional-json-template", template.getExtension());
+
+        // When
+        File r1 = ReportTestUtils.generateReportWithAlerts(template, f1);
+        File r2 = ReportTestUtils.generateReportWithAlerts(templateWithoutWriter, f2);
+
+        // Then
+        assertThat(template.getWriter(), is(equalTo("traditional-json")));
+        assertThat(readReportWithoutDates(r1), is(equalTo(readReportWithoutDates(r2))));
+    }
+
+    @Test
+    void shouldGenerateSameJsonReportWithWriterAsWithTemplateForSystemicAlert() throws Exception {
+        // Given
+        Template template = ReportTestUtils.getTemplateFromYamlFile("traditional-json");
+        Template templateWithoutWriter =
+                ReportTestUtils.getTemplateFromYamlFile("traditional-json");
+        templateWithoutWriter.setWriter(null);
+        File f1 = File.createTempFile("traditional-json-writer", template.getExtension());
+        File f2 = File.createTempFile("traditional-json-template", template.getExtension());
+
+        // When
+        File r1 = ReportTestUtils.generateReportWithSystemicTaggedAlert(template, f1);
+        File r2 = ReportTestUtils.generateReportWithSystemicTaggedAlert(templateWithoutWriter, f2);
+
+        // Then
+        assertThat(readReportWithoutDates(r1), is(equalTo(readReportWithoutDates(r2))));
+    }
+
+    private static String readReportWithoutDates(File report) throws IOException {
+        JSONObject json = JSONObject.fromObject(ReportTestUtils.readReportAsString(report));
+        json.remove("@generated");
+        json.remove("created");
+        return json.toString();
+    }
+
     @Test
     void shouldGenerateValidJsonReportWithStats() throws Exception {
         // Given
@@ -26,6 +26,7 @@ import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
@@ -35,13 +36,16 @@ import java.io.File;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.core.LogEvent;
@@ -55,6 +59,7 @@ import org.apache.logging.log4j.core.layout.PatternLayout;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.quality.Strictness;
@@ -152,6 +157,58 @@ class ExtensionReportsUnitTest extends TestUtils {
         assertThat(counts.get(4), is(equalTo(8)));
     }
 
+    @Test
+    void shouldReturnMessagesByRuleIgnoringFalsePositives() {
+        // Given
+        ExtensionReports extRep = new ExtensionReports();
+        AlertNode root = new AlertNode(0, "Alerts");
+        root.add(
+                ReportTestUtils.newAlertNode(
+                        1, Alert.RISK_HIGH, "Alert High 1", "https://www.example.com", 3));
+        root.add(
+                ReportTestUtils.newAlertNode(
+                        1,
+                        ExtensionReports.RISK_FALSE_POSITIVE,
+                        "Alert Medium 1",
+                        "https://www.example.com",
+                        2));
+        root.add(
+                ReportTestUtils.newAlertNode(
+                        2, Alert.RISK_LOW, "Alert Low 1", "https://www.example.com", 8));
+
+        // When
+        Map<Integer, List<HttpMessage>> messages =
+                extRep.getHttpMessagesByRule(root, Set.of(1, 2), 5);
+
+        // Then
+        assertThat(messages.size(), is(equalTo(2)));
+        assertThat(messages.get(1).size(), is(equalTo(3)));
+        assertThat(messages.get(2).size(), is(equalTo(5)));
+        assertThat(messages.get(1), is(equalTo(extRep.getHttpMessagesForRule(root, 1, 5))));
+        assertThat(messages.get(2), is(equalTo(extRep.getHttpMessagesForRule(root, 2, 5))));
+    }
+
+    @Test
+    void shouldReturnMessagesOnlyOfGivenRules() {
+        // Given
+        ExtensionReports extRep = new ExtensionReports();
+        AlertNode root = new AlertNode(0, "Alerts");
+        root.add(
+                ReportTestUtils.newAlertNode(
+                        1, Alert.RISK_HIGH, "Alert High 1", "https://www.example.com", 3));
+        root.add(
+                ReportTestUtils.newAlertNode(
+                        2, Alert.RISK_LOW, "Alert Low 1", "https://www.example.com", 8));
+
+        // When
+        Map<Integer, List<HttpMessage>> messages =
+                extRep.getHttpMessagesByRule(root, Set.of(2), 5);
+
+        // Then
+        assertThat(messages.size(), is(equalTo(1)));
+        assertThat(messages.get(2).size(), is(equalTo(5)));
+    }
+
     @Test
     void shouldReturnExpectedCountsWithSameAlertWithDifferentRisk() {
         // Given
@@ -618,6 +675,71 @@ class ExtensionReportsUnitTest extends TestUtils {
         assertThat(r.length(), greaterThan(0L));
     }
 
+    @Test
+    void shouldReuseTemplateEngineAcrossReports() throws Exception {
+        // Given
+        ExtensionReports extRep = new ExtensionReports();
+        Template template = ReportTestUtils.getTemplateFromYamlFile("traditional-xml");
+        File f1 = File.createTempFile("zap.reports.test", "x");
+        File f2 = File.createTempFile("zap.reports.test", "x");
+        // When
+        File r1 =
+                extRep.generateReport(
+                        ReportTestUtils.getTestReportData(), template, f1.getAbsolutePath(), false);
+        Object engine = template.getTemplateEngine();
+        File r2 =
+                extRep.generateReport(
+                        ReportTestUtils.getTestReportData(), template, f2.getAbsolutePath(), false);
+        // Then
+        assertThat(template.getTemplateEngine(), is(sameInstance(engine)));
+        assertThat(r1.length(), greaterThan(0L));
+        assertThat(r2.length(), greaterThan(0L));
+    }
+
+    @Test
+    void shouldGenerateReportsForAllTemplatesFromSameReportData() throws Exception {
+        // Given
+        ExtensionReports extRep = new ExtensionReports();
+        ReportData reportData = ReportTestUtils.getTestReportData();
+        Template xmlTemplate = ReportTestUtils.getTemplateFromYamlFile("traditional-xml");
+        Template mdTemplate = ReportTestUtils.getTemplateFromYamlFile("traditional-md");
+        Map<Template, String> reportFilenames = new LinkedHashMap<>();
+        reportFilenames.put(
+                xmlTemplate, File.createTempFile("zap.reports.test", "x").getAbsolutePath());
+        reportFilenames.put(
+                mdTemplate, File.createTempFile("zap.reports.test", "x").getAbsolutePath());
+        // When
+        List<File> files = extRep.generateReports(reportData, reportFilenames);
+        // Then
+        assertThat(files.size(), is(equalTo(2)));
+        assertThat(files.get(0).getAbsolutePath(), is(equalTo(reportFilenames.get(xmlTemplate))));
+        assertThat(files.get(1).getAbsolutePath(), is(equalTo(reportFilenames.get(mdTemplate))));
+        assertThat(Files.readString(files.get(0).toPath()), containsString("<OWASPZAPReport"));
+        assertThat(files.get(1).length(), greaterThan(0L));
+    }
+
+    @Test
+    void shouldRecreateTemplateEngineIfTemplateFilesChanged(@TempDir Path templateDir)
+            throws Exception {
+        // Given
+        Path templateYaml = templateDir.resolve("template.yaml");
+        Files.writeString(templateYaml, "name: Test\nformat: MD\nmode: TEXT\nextension: md\n");
+        Files.writeString(templateDir.resolve("report.md"), "Report");
+        Path fragment = templateDir.resolve("fragment.md");
+        Files.writeString(fragment, "Fragment");
+        Template template = new Template(templateYaml.toFile());
+        Object engine = template.getTemplateEngine();
+        // When
+        fragment.toFile().setLastModified(fragment.toFile().lastModified() + 60_000);
+        Object engineFragmentChanged = template.getTemplateEngine();
+        Files.writeString(templateDir.resolve("other-fragment.md"), "Other Fragment");
+        Object engineFragmentAdded = template.getTemplateEngine();
+        // Then
+        assertThat(engineFragmentChanged, is(not(sameInstance(engine))));
+        assertThat(engineFragmentAdded, is(not(sameInstance(engineFragmentChanged))));
+        assertThat(template.getTemplateEngine(), is(sameInstance(engineFragmentAdded)));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"traditional-html", "traditional-html-plus", "traditional-md"})
     void shouldIncludeAllSectionsInReport(String reportName) throws Exception {
@@ -41,6 +41,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import org.apache.commons.httpclient.URI;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -354,7 +355,7 @@ class OutputSummaryJobUnitTest {
                         new HttpMessage(new URI("https://www.example.com", true)),
                         new HttpMessage(new URI("https://www.example.com/a", true)),
                         new HttpMessage(new URI("https://www.example.com/b", true)));
-        given(extReport.getHttpMessagesForRule(1, 5)).willReturn(msgList);
+        given(extReport.getHttpMessagesByRule(Set.of(1), 5)).willReturn(Map.of(1, msgList));
 
         var list = List.of(createRuleData(new TestPluginPassiveScanner(1, "rule1")));
 
@@ -447,7 +448,7 @@ class OutputSummaryJobUnitTest {
                         new HttpMessage(new URI("https://www.example.com", true)),
                         new HttpMessage(new URI("https://www.example.com/a", true)),
                         new HttpMessage(new URI("https://www.example.com/b", true)));
-        given(extReport.getHttpMessagesForRule(1, 5)).willReturn(msgList);
+        given(extReport.getHttpMessagesByRule(Set.of(1), 5)).willReturn(Map.of(1, msgList));
 
         var list =
                 List.of(
@@ -488,7 +489,7 @@ class OutputSummaryJobUnitTest {
                         new HttpMessage(new URI("https://www.example.com", true)),
                         new HttpMessage(new URI("https://www.example.com/a", true)),
                         new HttpMessage(new URI("https://www.example.com/b", true)));
-        given(extReport.getHttpMessagesForRule(1, 5)).willReturn(msgList);
+        given(extReport.getHttpMessagesByRule(Set.of(1), 5)).willReturn(Map.of(1, msgList));
 
         var list =
                 List.of(
@@ -523,7 +524,7 @@ class OutputSummaryJobUnitTest {
                         new HttpMessage(new URI("https://www.example.com", true)),
                         new HttpMessage(new URI("https://www.example.com/a", true)),
                         new HttpMessage(new URI("https://www.example.com/b", true)));
-        given(extReport.getHttpMessagesForRule(1, 5)).willReturn(msgList);
+        given(extReport.getHttpMessagesByRule(Set.of(1), 5)).willReturn(Map.of(1, msgList));
 
         var list =
                 List.of(
@@ -556,7 +557,7 @@ class OutputSummaryJobUnitTest {
                         new HttpMessage(new URI("https://www.example.com", true)),
                         new HttpMessage(new URI("https://www.example.com/a", true)),
                         new HttpMessage(new URI("https://www.example.com/b", true)));
-        given(extReport.getHttpMessagesForRule(1, 5)).willReturn(msgList);
+        given(extReport.getHttpMessagesByRule(Set.of(1), 5)).willReturn(Map.of(1, msgList));
 
         var list =
                 List.of(
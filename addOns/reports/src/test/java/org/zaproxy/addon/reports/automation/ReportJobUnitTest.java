@@ -25,6 +25,7 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
@@ -33,6 +34,8 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.withSettings;
 
@@ -633,6 +636,87 @@ class ReportJobUnitTest extends TestUtils {
         }
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldGenerateReportsOfFollowingJobsTogether() throws IOException {
+        // Given
+        AutomationPlan plan = new AutomationPlan();
+        AutomationProgress progress = plan.getProgress();
+        AutomationEnvironment env = plan.getEnv();
+        Template template1 = createTemplate("template1", "ext1");
+        Template template2 = createTemplate("template2", "ext2");
+        ReportJob job1 = createPlanReportJob(plan, "template1", "risks:\n- high\n");
+        ReportJob job2 = createPlanReportJob(plan, "template2", "risks:\n- high\n");
+        File file1 = new File("report.ext1");
+        File file2 = new File("report.ext2");
+        given(extensionReports.generateReports(any(), any())).willReturn(List.of(file1, file2));
+
+        // When
+        job1.runJob(env, progress);
+        job2.runJob(env, progress);
+
+        // Then
+        ArgumentCaptor<Map<Template, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(extensionReports).generateReports(any(), captor.capture());
+        assertThat(captor.getValue().keySet(), contains(template1, template2));
+        verify(extensionReports, never()).generateReport(any(), any(), anyString(), anyBoolean());
+        assertThat(progress.hasErrors(), is(equalTo(false)));
+        assertThat(
+                progress.getInfos(),
+                hasItems(
+                        containsString(file1.getAbsolutePath()),
+                        containsString(file2.getAbsolutePath())));
+    }
+
+    @Test
+    void shouldGenerateReportsOfFollowingJobsSeparatelyIfDifferentData() throws IOException {
+        // Given
+        AutomationPlan plan = new AutomationPlan();
+        AutomationProgress progress = plan.getProgress();
+        AutomationEnvironment env = plan.getEnv();
+        createTemplate("template1", "ext1");
+        createTemplate("template2", "ext2");
+        ReportJob job1 = createPlanReportJob(plan, "template1", "risks:\n- high\n");
+        ReportJob job2 = createPlanReportJob(plan, "template2", "risks:\n- low\n");
+        given(extensionReports.generateReport(any(), any(), anyString(), anyBoolean()))
+                .willReturn(mock(File.class));
+
+        // When
+        job1.runJob(env, progress);
+        job2.runJob(env, progress);
+
+        // Then
+        verify(extensionReports, never()).generateReports(any(), any());
+        verify(extensionReports, times(2))
+                .generateReport(any(), any(), anyString(), anyBoolean());
+        assertThat(progress.hasErrors(), is(equalTo(false)));
+    }
+
+    private ReportJob createPlanReportJob(AutomationPlan plan, String templateName, String data) {
+        ContextWrapper contextWrapper = mock(ContextWrapper.class);
+        given(contextWrapper.getUrls()).willReturn(Collections.singletonList(""));
+        plan.getEnv().setContexts(Arrays.asList(contextWrapper));
+        ReportJob job =
+                createReportJob(
+                        "parameters:\n"
+                                + "  template: "
+                                + templateName
+                                + "\n"
+                                + "  reportFile: report\n"
+                                + data);
+        job.verifyParameters(plan.getProgress());
+        job.setPlan(plan);
+        plan.getJobs().add(job);
+        return job;
+    }
+
+    private Template createTemplate(String templateName, String extension) {
+        Template template = mock(Template.class);
+        given(template.getExtension()).willReturn(extension);
+        given(extensionReports.getTemplateByConfigName(templateName)).willReturn(template);
+        return template;
+    }
+
     private static ReportJob createReportJob(String data) {
         ReportJob job = new ReportJob();
         job.setJobData(new Yaml().load(data));
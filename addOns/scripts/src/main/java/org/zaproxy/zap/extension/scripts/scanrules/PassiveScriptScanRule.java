@@ -38,19 +38,28 @@ public class PassiveScriptScanRule extends PassiveScriptHelper {
 
     private ExtensionScript extScript;
     private ScriptWrapper script;
-    private CachedScriptInterfaces cachedScriptInterfaces;
+    // Shared by the copies, each passive scan thread evaluates the script once and reuses the
+    // interface until the script changes.
+    private final ThreadLocal<CachedScriptInterfaces> cachedScriptInterfaces;
     private ScanRuleMetadata metadata;
 
     public PassiveScriptScanRule(ScriptWrapper script, ScanRuleMetadata metadata) {
+        this(script, metadata, ThreadLocal.withInitial(() -> new CachedScriptInterfaces(script)));
+    }
+
+    private PassiveScriptScanRule(
+            ScriptWrapper script,
+            ScanRuleMetadata metadata,
+            ThreadLocal<CachedScriptInterfaces> cachedScriptInterfaces) {
         this.script = script;
-        cachedScriptInterfaces = new CachedScriptInterfaces(script);
+        this.cachedScriptInterfaces = cachedScriptInterfaces;
         this.metadata = metadata;
     }
 
     @Override
     public void scanHttpResponseReceive(HttpMessage msg, int id, Source source) {
         try {
-            var s = cachedScriptInterfaces.getInterface(script, PassiveScript.class);
+            var s = cachedScriptInterfaces.get().getInterface(script, PassiveScript.class);
             if (s != null) {
                 s.scan(this, msg, source);
             }
@@ -64,7 +73,7 @@ public class PassiveScriptScanRule extends PassiveScriptHelper {
     @Override
     public boolean appliesToHistoryType(int historyType) {
         try {
-            var s = cachedScriptInterfaces.getInterface(script, PassiveScript.class);
+            var s = cachedScriptInterfaces.get().getInterface(script, PassiveScript.class);
             if (s != null) {
                 return execute(() -> s.appliesToHistoryType(historyType));
             }
@@ -90,7 +99,7 @@ public class PassiveScriptScanRule extends PassiveScriptHelper {
 
     @Override
     public PluginPassiveScanner copy() {
-        return new PassiveScriptScanRule(script, metadata);
+        return new PassiveScriptScanRule(script, metadata, cachedScriptInterfaces);
     }
 
     @Override
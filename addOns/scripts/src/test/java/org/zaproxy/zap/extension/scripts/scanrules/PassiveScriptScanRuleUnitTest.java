@@ -22,6 +22,8 @@ package org.zaproxy.zap.extension.scripts.scanrules;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -92,6 +94,54 @@ public class PassiveScriptScanRuleUnitTest extends TestUtils {
         verify(scriptInterface, times(1)).scan(scanRule, message, source);
     }
 
+    @Test
+    void shouldReuseScriptInterfaceInCopiesOnSameThread() throws Exception {
+        // Given
+        PassiveScript scriptInterface = mock(PassiveScript.class);
+        ScriptWrapper script = createScriptWrapper(scriptInterface, PassiveScript.class);
+        var metadata = new ScanRuleMetadata(12345, "Test Scan Rule");
+        var scanRule = new PassiveScriptScanRule(script, metadata);
+        // When
+        scanRule.copy().scanHttpResponseReceive(message, id, source);
+        scanRule.copy().scanHttpResponseReceive(message, id, source);
+        // Then
+        verify(extensionScript, times(1)).getInterface(script, PassiveScript.class);
+        verify(scriptInterface, times(2)).scan(any(), eq(message), eq(source));
+    }
+
+    @Test
+    void shouldGetScriptInterfaceAgainIfScriptChanged() throws Exception {
+        // Given
+        PassiveScript scriptInterface = mock(PassiveScript.class);
+        ScriptWrapper script = createScriptWrapper(scriptInterface, PassiveScript.class);
+        given(script.getModCount()).willReturn(1);
+        var metadata = new ScanRuleMetadata(12345, "Test Scan Rule");
+        var scanRule = new PassiveScriptScanRule(script, metadata);
+        scanRule.copy().scanHttpResponseReceive(message, id, source);
+        given(script.getModCount()).willReturn(2);
+        // When
+        scanRule.copy().scanHttpResponseReceive(message, id, source);
+        // Then
+        verify(extensionScript, times(2)).getInterface(script, PassiveScript.class);
+    }
+
+    @Test
+    void shouldNotShareScriptInterfaceBetweenThreads() throws Exception {
+        // Given
+        PassiveScript scriptInterface = mock(PassiveScript.class);
+        ScriptWrapper script = createScriptWrapper(scriptInterface, PassiveScript.class);
+        var metadata = new ScanRuleMetadata(12345, "Test Scan Rule");
+        var scanRule = new PassiveScriptScanRule(script, metadata);
+        scanRule.copy().scanHttpResponseReceive(message, id, source);
+        // When
+        Thread thread =
+                new Thread(() -> scanRule.copy().scanHttpResponseReceive(message, id, source));
+        thread.start();
+        thread.join();
+        // Then
+        verify(extensionScript, times(2)).getInterface(script, PassiveScript.class);
+    }
+
     @Test
     void shouldHandleNullReferences() throws Exception {
         // Given
@@ -0,0 +1,692 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.selenium;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import org.apache.commons.httpclient.URI;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.parosproxy.paros.network.HttpMalformedHeaderException;
+import org.parosproxy.paros.network.HttpMessage;
+import org.parosproxy.paros.network.HttpSender;
+import org.zaproxy.addon.network.server.HttpMessageHandler;
+import org.zaproxy.addon.network.server.HttpMessageHandlerContext;
+import org.zaproxy.addon.network.server.HttpServerConfig;
+import org.zaproxy.addon.network.server.Server;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * A pool of browsers, each proxying through its own local proxy, reused by the components that
+ * crawl or authenticate with browsers, to avoid launching a browser each time.
+ *
+ * <p>The browsers are leased for exclusive use and reset when returned: the extra windows are
+ * closed, the cookies and storage (including IndexedDB, Cache Storage, and service workers) of the
+ * sites accessed are deleted, and the browser is left on a blank page. The browsers no longer
+ * responsive, launched longer than the maximum lifetime, or not leased for a while are closed
+ * instead. Not all the state can be reset (for example, HTTP authentication), the leases that must
+ * not share it, for example, for different users, should use different partitions.
+ *
+ * <p>While not leased the local proxy does not forward the requests of the browser.
+ *
+ * @since 15.55.0
+ * @see ExtensionSelenium#getBrowserPool()
+ */
+public class BrowserPool {
+
+    static final int DEFAULT_MAX_IDLE_PER_KEY = 8;
+    static final long DEFAULT_MAX_LIFETIME_MS = TimeUnit.MINUTES.toMillis(30);
+    static final long DEFAULT_IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
+    static final int MAX_ORIGINS_RESET = 50;
+
+    private static final Logger LOGGER = LogManager.getLogger(BrowserPool.class);
+
+    private static final String LOCAL_PROXY_IP = "127.0.0.1";
+    private static final String BLANK_PAGE = "about:blank";
+    private static final String CLEAR_STORAGE_SCRIPT =
+            """
+            var done = arguments[arguments.length - 1];
+            var tasks = [];
+            try { localStorage.clear(); sessionStorage.clear(); } catch (e) {}
+            try {
+              tasks.push(indexedDB.databases().then(dbs => Promise.all(dbs.map(db =>
+                new Promise(resolve => {
+                  var req = indexedDB.deleteDatabase(db.name);
+                  req.onsuccess = req.onerror = req.onblocked = resolve;
+                })))));
+            } catch (e) {}
+            try {
+              tasks.push(caches.keys().then(keys => Promise.all(keys.map(k => caches.delete(k)))));
+            } catch (e) {}
+            try {
+              tasks.push(navigator.serviceWorker.getRegistrations().then(regs =>
+                Promise.all(regs.map(reg => reg.unregister()))));
+            } catch (e) {}
+            Promise.all(tasks).then(() => done(), () => done());
+            """;
+    private static final String IDLE_RESPONSE_HEADER =
+            "HTTP/1.1 200 OK\r\n"
+                    + "Content-Type: text/html; charset=UTF-8\r\n"
+                    + "Content-Length: 0\r\n\r\n";
+
+    private static final Map<String, String> FIREFOX_POOLED_PREFERENCES =
+            Map.of("browser.cache.disk.enable", "false", "browser.cache.memory.enable", "false");
+
+    private static final String STATS_PREFIX = "stats.selenium.pool.";
+
+    private final BrowserLauncher launcher;
+    private final int maxIdlePerKey;
+    private final long maxLifetimeMs;
+    private final long idleTimeoutMs;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+
+    private final Map<PoolKey, Deque<PooledBrowser>> idleBrowsers = new HashMap<>();
+    private boolean closed;
+
+    BrowserPool(BrowserLauncher launcher) {
+        this(
+                launcher,
+                DEFAULT_MAX_IDLE_PER_KEY,
+                DEFAULT_MAX_LIFETIME_MS,
+                DEFAULT_IDLE_TIMEOUT_MS,
+                null);
+    }
+
+    BrowserPool(
+            BrowserLauncher launcher,
+            int maxIdlePerKey,
+            long maxLifetimeMs,
+            long idleTimeoutMs,
+            Executor executor) {
+        this.launcher = launcher;
+        this.maxIdlePerKey = maxIdlePerKey;
+        this.maxLifetimeMs = maxLifetimeMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        if (executor == null) {
+            scheduler =
+                    Executors.newSingleThreadScheduledExecutor(
+                            r -> {
+                                Thread thread = new Thread(r, "ZAP-Selenium-BrowserPool");
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+            long interval = Math.max(1000, idleTimeoutMs / 2);
+            scheduler.scheduleWithFixedDelay(
+                    this::closeExpiredBrowsers, interval, interval, TimeUnit.MILLISECONDS);
+            this.executor = scheduler;
+        } else {
+            scheduler = null;
+            this.executor = executor;
+        }
+    }
+
+    /**
+     * Leases a browser, launching one if none is available for the given configuration.
+     *
+     * <p>Same as calling {@link #lease(String, DriverConfiguration, HttpSender,
+     * HttpMessageHandler, IntConsumer, String)} without a partition.
+     *
+     * @param browserId the ID of the provided browser.
+     * @param driverConf the driver configuration, the proxy is ignored.
+     * @param httpSender the sender of the local proxy, or {@code null} to use one of the requester.
+     * @param handler the handler of the messages of the browser.
+     * @param proxyStartedListener the listener notified of the port of the local proxy before a
+     *     browser is launched, might be {@code null}.
+     * @return the lease, to be closed once the browser is no longer needed.
+     * @throws IOException if an error occurred while starting the local proxy.
+     * @throws IllegalStateException if the pool was already closed.
+     */
+    public Lease lease(
+            String browserId,
+            DriverConfiguration driverConf,
+            HttpSender httpSender,
+            HttpMessageHandler handler,
+            IntConsumer proxyStartedListener)
+            throws IOException {
+        return lease(browserId, driverConf, httpSender, handler, proxyStartedListener, null);
+    }
+
+    /**
+     * Leases a browser, launching one if none is available for the given configuration.
+     *
+     * <p>The browser proxies through its own local proxy, which notifies the given handler of the
+     * messages while leased, and sends them with the given sender. The hooks are notified of a
+     * reused browser as if it was launched.
+     *
+     * <p>Browsers with a capabilities consumer are not reused.
+     *
+     * @param browserId the ID of the provided browser.
+     * @param driverConf the driver configuration, the proxy is ignored.
+     * @param httpSender the sender of the local proxy, or {@code null} to use one of the requester.
+     * @param handler the handler of the messages of the browser.
+     * @param proxyStartedListener the listener notified of the port of the local proxy before a
+     *     browser is launched, might be {@code null}.
+     * @param partition the partition of the browsers, only the browsers returned with the same
+     *     partition are reused, for example, the user authenticating. Might be {@code null}.
+     * @return the lease, to be closed once the browser is no longer needed.
+     * @throws IOException if an error occurred while starting the local proxy.
+     * @throws IllegalStateException if the pool was already closed.
+     */
+    public Lease lease(
+            String browserId,
+            DriverConfiguration driverConf,
+            HttpSender httpSender,
+            HttpMessageHandler handler,
+            IntConsumer proxyStartedListener,
+            String partition)
+            throws IOException {
+        Objects.requireNonNull(handler);
+        synchronized (idleBrowsers) {
+            if (closed) {
+                throw new IllegalStateException("The browser pool is closed.");
+            }
+        }
+        PoolKey key =
+                driverConf.getConsumer() == null
+                        ? PoolKey.create(browserId, driverConf, httpSender, partition)
+                        : null;
+
+        PooledBrowser browser = takeIdleBrowser(key);
+        if (browser != null) {
+            Stats.incCounter(STATS_PREFIX + "reused");
+            browser.handler.lease(handler);
+            launcher.reused(browser.webDriver, browserId, browser.driverConf);
+        } else {
+            Stats.incCounter(STATS_PREFIX + "launched");
+            browser =
+                    launchBrowser(
+                            key, browserId, driverConf, httpSender, handler, proxyStartedListener);
+        }
+        return new Lease(browser);
+    }
+
+    private PooledBrowser takeIdleBrowser(PoolKey key) {
+        if (key == null) {
+            return null;
+        }
+        while (true) {
+            PooledBrowser browser;
+            synchronized (idleBrowsers) {
+                Deque<PooledBrowser> browsers = idleBrowsers.get(key);
+                if (browsers == null) {
+                    return null;
+                }
+                browser = browsers.pollFirst();
+                if (browsers.isEmpty()) {
+                    idleBrowsers.remove(key);
+                }
+            }
+            if (browser == null) {
+                return null;
+            }
+            if (!isExpired(browser, System.currentTimeMillis()) && isResponsive(browser)) {
+                return browser;
+            }
+            close(browser);
+        }
+    }
+
+    private PooledBrowser launchBrowser(
+            PoolKey key,
+            String browserId,
+            DriverConfiguration driverConf,
+            HttpSender httpSender,
+            HttpMessageHandler handler,
+            IntConsumer proxyStartedListener)
+            throws IOException {
+        PoolHandler poolHandler = new PoolHandler();
+        poolHandler.lease(handler);
+        Server proxy =
+                launcher.createProxy(
+                        HttpServerConfig.builder()
+                                .setHttpMessageHandler(poolHandler)
+                                .setHttpSender(
+                                        httpSender != null
+                                                ? httpSender
+                                                : new HttpSender(driverConf.getRequester()))
+                                .setServeZapApi(true)
+                                .build());
+        try {
+            int proxyPort = proxy.start(Server.ANY_PORT);
+            if (proxyStartedListener != null) {
+                proxyStartedListener.accept(proxyPort);
+            }
+
+            DriverConfiguration.DriverConfigurationBuilder builder =
+                    driverConf.toBuilder().proxyAddress(LOCAL_PROXY_IP).proxyPort(proxyPort);
+            if (key != null && isFirefox(browserId)) {
+                Map<String, String> preferences = copyOf(driverConf.getPreferences());
+                FIREFOX_POOLED_PREFERENCES.forEach(preferences::putIfAbsent);
+                builder.preferences(preferences);
+            }
+            DriverConfiguration pooledDriverConf = builder.build();
+            WebDriver webDriver = launcher.launch(browserId, pooledDriverConf);
+            return new PooledBrowser(
+                    key,
+                    pooledDriverConf,
+                    proxy,
+                    proxyPort,
+                    poolHandler,
+                    webDriver,
+                    System.currentTimeMillis());
+        } catch (IOException | RuntimeException e) {
+            closeProxy(proxy);
+            throw e;
+        }
+    }
+
+    private static List<String> copyOf(List<String> list) {
+        return list != null ? new ArrayList<>(list) : new ArrayList<>();
+    }
+
+    private static Map<String, String> copyOf(Map<String, String> map) {
+        return map != null ? new HashMap<>(map) : new HashMap<>();
+    }
+
+    private static boolean isFirefox(String browserId) {
+        Browser browser = Browser.getBrowserWithIdNoFailSafe(browserId);
+        return browser == Browser.FIREFOX || browser == Browser.FIREFOX_HEADLESS;
+    }
+
+    private void release(PooledBrowser browser, boolean reuse) {
+        browser.handler.release();
+        if (!reuse || browser.key == null) {
+            close(browser);
+            return;
+        }
+        try {
+            executor.execute(() -> resetAndPool(browser));
+        } catch (RejectedExecutionException e) {
+            close(browser);
+        }
+    }
+
+    private void resetAndPool(PooledBrowser browser) {
+        long now = System.currentTimeMillis();
+        if (isExpired(browser, now) || !reset(browser)) {
+            close(browser);
+            return;
+        }
+
+        PooledBrowser excess = null;
+        synchronized (idleBrowsers) {
+            if (closed) {
+                excess = browser;
+            } else {
+                browser.idleSince = now;
+                Deque<PooledBrowser> browsers =
+                        idleBrowsers.computeIfAbsent(browser.key, k -> new ArrayDeque<>());
+                browsers.addFirst(browser);
+                if (browsers.size() > maxIdlePerKey) {
+                    excess = browsers.pollLast();
+                }
+            }
+        }
+        if (excess != null) {
+            close(excess);
+        }
+    }
+
+    private boolean reset(PooledBrowser browser) {
+        Set<String> origins = browser.handler.getOrigins();
+        if (origins.size() > MAX_ORIGINS_RESET) {
+            LOGGER.debug("Not reusing browser, accessed too many sites: {}", origins.size());
+            return false;
+        }
+
+        WebDriver wd = browser.webDriver;
+        try {
+            List<String> handles = new ArrayList<>(wd.getWindowHandles());
+            if (handles.isEmpty()) {
+                return false;
+            }
+            for (int i = 1; i < handles.size(); i++) {
+                wd.switchTo().window(handles.get(i));
+                wd.close();
+            }
+            wd.switchTo().window(handles.get(0));
+
+            // Restore the default timeouts, they might have been changed by the previous lease.
+            wd.manage().timeouts().implicitlyWait(Duration.ZERO);
+            wd.manage().timeouts().scriptTimeout(Duration.ofSeconds(30));
+            wd.manage().timeouts().pageLoadTimeout(Duration.ofMinutes(5));
+
+            if (wd instanceof HasCdp cdp) {
+                cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+                cdp.executeCdpCommand("Network.clearBrowserCache", Map.of());
+                for (String origin : origins) {
+                    cdp.executeCdpCommand(
+                            "Storage.clearDataForOrigin",
+                            Map.of("origin", origin, "storageTypes", "all"));
+                }
+            } else {
+                // The pages are served by the local proxy, the sites are not accessed.
+                for (String origin : origins) {
+                    wd.get(origin + "/");
+                    wd.manage().deleteAllCookies();
+                    if (wd instanceof JavascriptExecutor js) {
+                        js.executeAsyncScript(CLEAR_STORAGE_SCRIPT);
+                    }
+                }
+            }
+            wd.get(BLANK_PAGE);
+            return true;
+        } catch (Exception e) {
+            LOGGER.debug("Failed to reset the browser, not reusing it.", e);
+            return false;
+        } finally {
+            browser.handler.clearOrigins();
+        }
+    }
+
+    private boolean isExpired(PooledBrowser browser, long now) {
+        return now - browser.launchedAt >= maxLifetimeMs;
+    }
+
+    private static boolean isResponsive(PooledBrowser browser) {
+        try {
+            return !browser.webDriver.getWindowHandles().isEmpty();
+        } catch (Exception e) {
+            LOGGER.debug("Browser no longer responsive, not reusing it.", e);
+            return false;
+        }
+    }
+
+    /** Closes the browsers not leased for longer than the idle timeout or the maximum lifetime. */
+    void closeExpiredBrowsers() {
+        long now = System.currentTimeMillis();
+        List<PooledBrowser> expired = new ArrayList<>();
+        synchronized (idleBrowsers) {
+            Iterator<Deque<PooledBrowser>> it = idleBrowsers.values().iterator();
+            while (it.hasNext()) {
+                Deque<PooledBrowser> browsers = it.next();
+                browsers.removeIf(
+                        browser -> {
+                            if (now - browser.idleSince >= idleTimeoutMs
+                                    || isExpired(browser, now)) {
+                                expired.add(browser);
+                                return true;
+                            }
+                            return false;
+                        });
+                if (browsers.isEmpty()) {
+                    it.remove();
+                }
+            }
+        }
+        expired.forEach(BrowserPool::close);
+    }
+
+    int getIdleCount() {
+        synchronized (idleBrowsers) {
+            return idleBrowsers.values().stream().mapToInt(Deque::size).sum();
+        }
+    }
+
+    /**
+     * Closes the pool and the browsers not leased. The browsers leased are closed once returned.
+     */
+    public void close() {
+        List<PooledBrowser> browsers = new ArrayList<>();
+        synchronized (idleBrowsers) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            idleBrowsers.values().forEach(browsers::addAll);
+            idleBrowsers.clear();
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        browsers.forEach(BrowserPool::close);
+    }
+
+    private static void close(PooledBrowser browser) {
+        try {
+            browser.webDriver.quit();
+        } catch (Exception e) {
+            LOGGER.debug("An error occurred while quitting the browser.", e);
+        }
+        closeProxy(browser.proxy);
+    }
+
+    private static void closeProxy(Server proxy) {
+        try {
+            proxy.close();
+        } catch (IOException e) {
+            LOGGER.debug("An error occurred while stopping the proxy.", e);
+        }
+    }
+
+    /** A browser leased from the pool. */
+    public final class Lease implements AutoCloseable {
+
+        private final PooledBrowser browser;
+        private boolean returned;
+
+        private Lease(PooledBrowser browser) {
+            this.browser = browser;
+        }
+
+        /**
+         * Gets the browser.
+         *
+         * @return the browser, never {@code null}.
+         */
+        public WebDriver getWebDriver() {
+            return browser.webDriver;
+        }
+
+        /**
+         * Gets the port of the local proxy of the browser.
+         *
+         * @return the port.
+         */
+        public int getProxyPort() {
+            return browser.proxyPort;
+        }
+
+        /**
+         * Closes the browser instead of returning it to the pool, for example, if it is in an
+         * unexpected state.
+         */
+        public synchronized void discard() {
+            if (!returned) {
+                returned = true;
+                release(browser, false);
+            }
+        }
+
+        /** Returns the browser to the pool, it should no longer be used. */
+        @Override
+        public synchronized void close() {
+            if (!returned) {
+                returned = true;
+                release(browser, true);
+            }
+        }
+    }
+
+    /** The launcher of the browsers and their local proxies. */
+    interface BrowserLauncher {
+
+        Server createProxy(HttpServerConfig config);
+
+        WebDriver launch(String browserId, DriverConfiguration driverConf);
+
+        void reused(WebDriver webDriver, String browserId, DriverConfiguration driverConf);
+    }
+
+    /**
+     * The handler of the local proxy, notifies the handler of the lease or, if not leased, serves
+     * an empty page without forwarding the request.
+     */
+    static class PoolHandler implements HttpMessageHandler {
+
+        private final Set<String> origins = ConcurrentHashMap.newKeySet();
+        private volatile HttpMessageHandler delegate;
+
+        void lease(HttpMessageHandler handler) {
+            delegate = handler;
+        }
+
+        void release() {
+            delegate = null;
+        }
+
+        Set<String> getOrigins() {
+            return origins;
+        }
+
+        void clearOrigins() {
+            origins.clear();
+        }
+
+        @Override
+        public void handleMessage(HttpMessageHandlerContext ctx, HttpMessage msg) {
+            HttpMessageHandler handler = delegate;
+            if (handler != null) {
+                if (ctx.isFromClient()) {
+                    addOrigin(msg.getRequestHeader().getURI());
+                }
+                handler.handleMessage(ctx, msg);
+                return;
+            }
+
+            if (!ctx.isFromClient()) {
+                return;
+            }
+            try {
+                msg.setTimeSentMillis(System.currentTimeMillis());
+                msg.setTimeElapsedMillis(0);
+                msg.setResponseHeader(IDLE_RESPONSE_HEADER);
+            } catch (HttpMalformedHeaderException ignore) {
+                // Setting a valid response header.
+            }
+            ctx.overridden();
+        }
+
+        private void addOrigin(URI uri) {
+            if (origins.size() > MAX_ORIGINS_RESET) {
+                return;
+            }
+            String scheme = uri.getScheme();
+            if (!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) {
+                return;
+            }
+            try {
+                origins.add(scheme.toLowerCase() + "://" + uri.getAuthority());
+            } catch (Exception e) {
+                // Ignore, the origin is not reset.
+            }
+        }
+    }
+
+    private static class PooledBrowser {
+
+        private final PoolKey key;
+        private final DriverConfiguration driverConf;
+        private final Server proxy;
+        private final int proxyPort;
+        private final PoolHandler handler;
+        private final WebDriver webDriver;
+        private final long launchedAt;
+        private long idleSince;
+
+        private PooledBrowser(
+                PoolKey key,
+                DriverConfiguration driverConf,
+                Server proxy,
+                int proxyPort,
+                PoolHandler handler,
+                WebDriver webDriver,
+                long launchedAt) {
+            this.key = key;
+            this.driverConf = driverConf;
+            this.proxy = proxy;
+            this.proxyPort = proxyPort;
+            this.handler = handler;
+            this.webDriver = webDriver;
+            this.launchedAt = launchedAt;
+        }
+    }
+
+    /**
+     * The configuration and partition that browsers need to have in common to be reused, the
+     * sender is compared by identity.
+     */
+    private record PoolKey(
+            String browserId,
+            int requester,
+            boolean enableExtensions,
+            boolean headless,
+            DriverConfiguration.DriverType type,
+            String binaryPath,
+            String driverPath,
+            List<String> arguments,
+            Map<String, String> preferences,
+            List<String> includeExtensions,
+            List<String> excludeExtensions,
+            HttpSender httpSender,
+            String partition) {
+
+        static PoolKey create(
+                String browserId,
+                DriverConfiguration driverConf,
+                HttpSender httpSender,
+                String partition) {
+            return new PoolKey(
+                    browserId,
+                    driverConf.getRequester(),
+                    driverConf.isEnableExtensions(),
+                    driverConf.isHeadless(),
+                    driverConf.getType(),
+                    driverConf.getBinaryPath(),
+                    driverConf.getDriverPath(),
+                    copyOf(driverConf.getArguments()),
+                    copyOf(driverConf.getPreferences()),
+                    copyOf(driverConf.getIncludeExtensions()),
+                    copyOf(driverConf.getExcludeExtensions()),
+                    httpSender,
+                    partition);
+        }
+    }
+}
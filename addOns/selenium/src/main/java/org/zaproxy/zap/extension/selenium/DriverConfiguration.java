@@ -32,7 +32,7 @@ import org.openqa.selenium.MutableCapabilities;
  *
  * <p>Allows specifying requester, proxy, browser extensions, and optional capability customisation.
  */
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class DriverConfiguration {
 
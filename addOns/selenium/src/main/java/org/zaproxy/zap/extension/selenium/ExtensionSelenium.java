@@ -80,6 +80,8 @@ import org.parosproxy.paros.extension.ExtensionHook;
 import org.parosproxy.paros.model.Model;
 import org.parosproxy.paros.network.HttpSender;
 import org.zaproxy.addon.network.ExtensionNetwork;
+import org.zaproxy.addon.network.server.HttpServerConfig;
+import org.zaproxy.addon.network.server.Server;
 import org.zaproxy.addon.network.server.ServerInfo;
 import org.zaproxy.zap.extension.AddonFilesChangedListener;
 import org.zaproxy.zap.extension.script.ExtensionScript;
@@ -167,6 +169,8 @@ public class ExtensionSelenium extends ExtensionAdaptor {
 
     private ExtensionNetwork extensionNetwork;
 
+    private BrowserPool browserPool;
+
     public ExtensionSelenium() {
         super(NAME);
 
@@ -338,10 +342,12 @@ public class ExtensionSelenium extends ExtensionAdaptor {
         if (extScript != null) {
             extScript.removeScriptType(seleniumScriptType);
         }
+        closeBrowserPool();
     }
 
     @Override
     public void destroy() {
+        closeBrowserPool();
         webDrivers.forEach(
                 wd -> {
                     try {
@@ -353,6 +359,53 @@ public class ExtensionSelenium extends ExtensionAdaptor {
         webDrivers.clear();
     }
 
+    private synchronized void closeBrowserPool() {
+        if (browserPool != null) {
+            browserPool.close();
+            browserPool = null;
+        }
+    }
+
+    /**
+     * Gets the pool of browsers, to reuse the browsers instead of launching one each time.
+     *
+     * @return the pool of browsers, never {@code null}.
+     * @since 15.55.0
+     */
+    public synchronized BrowserPool getBrowserPool() {
+        if (browserPool == null) {
+            browserPool =
+                    new BrowserPool(
+                            new BrowserPool.BrowserLauncher() {
+
+                                @Override
+                                public Server createProxy(HttpServerConfig config) {
+                                    return getExtensionNetwork().createHttpServer(config);
+                                }
+
+                                @Override
+                                public WebDriver launch(
+                                        String browserId, DriverConfiguration driverConf) {
+                                    return getWebDriver(browserId, driverConf);
+                                }
+
+                                @Override
+                                public void reused(
+                                        WebDriver webDriver,
+                                        String browserId,
+                                        DriverConfiguration driverConf) {
+                                    browserLaunched(
+                                            webDriver,
+                                            browserId,
+                                            driverConf.getRequester(),
+                                            driverConf.getProxyAddress(),
+                                            driverConf.getProxyPort());
+                                }
+                            });
+        }
+        return browserPool;
+    }
+
     /**
      * Adds the given WebDriver provider.
      *
@@ -914,6 +967,12 @@ public class ExtensionSelenium extends ExtensionAdaptor {
             throw e;
         }
 
+        browserLaunched(wd, browserId, requester, proxyAddress, proxyPort);
+        return wd;
+    }
+
+    private void browserLaunched(
+            WebDriver wd, String browserId, int requester, String proxyAddress, int proxyPort) {
         SeleniumScriptUtils ssu =
                 new SeleniumScriptUtils(wd, requester, browserId, proxyAddress, proxyPort);
 
@@ -962,8 +1021,6 @@ public class ExtensionSelenium extends ExtensionAdaptor {
                 }
             }
         }
-
-        return wd;
     }
 
     /**
@@ -0,0 +1,413 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.selenium;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.httpclient.URI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Answers;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.parosproxy.paros.network.HttpMessage;
+import org.parosproxy.paros.network.HttpRequestHeader;
+import org.parosproxy.paros.network.HttpSender;
+import org.zaproxy.addon.network.server.HttpMessageHandler;
+import org.zaproxy.addon.network.server.HttpMessageHandlerContext;
+import org.zaproxy.addon.network.server.HttpServerConfig;
+import org.zaproxy.addon.network.server.Server;
+
+/** Unit test for {@link BrowserPool}. */
+class BrowserPoolUnitTest {
+
+    private static final String BROWSER_ID = "firefox-headless";
+
+    private BrowserPool.BrowserLauncher launcher;
+    private List<WebDriver> launched;
+    private List<HttpServerConfig> proxyConfigs;
+    private AtomicInteger ports;
+    private HttpSender httpSender;
+    private HttpMessageHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        launched = new ArrayList<>();
+        proxyConfigs = new ArrayList<>();
+        ports = new AtomicInteger(8000);
+        launcher = mock();
+        given(launcher.createProxy(any()))
+                .willAnswer(
+                        invocation -> {
+                            proxyConfigs.add(invocation.getArgument(0));
+                            Server proxy = mock();
+                            given(proxy.start(anyInt())).willReturn(ports.incrementAndGet());
+                            return proxy;
+                        });
+        given(launcher.launch(anyString(), any()))
+                .willAnswer(
+                        invocation -> {
+                            WebDriver wd =
+                                    mock(
+                                            WebDriver.class,
+                                            withSettings().defaultAnswer(Answers.RETURNS_MOCKS));
+                            given(wd.getWindowHandles()).willReturn(Set.of("window"));
+                            launched.add(wd);
+                            return wd;
+                        });
+        httpSender = mock();
+        handler = mock();
+    }
+
+    private BrowserPool createPool() {
+        return createPool(BrowserPool.DEFAULT_MAX_LIFETIME_MS, BrowserPool.DEFAULT_IDLE_TIMEOUT_MS);
+    }
+
+    private BrowserPool createPool(long maxLifetimeMs, long idleTimeoutMs) {
+        return new BrowserPool(launcher, 1, maxLifetimeMs, idleTimeoutMs, Runnable::run);
+    }
+
+    private static DriverConfiguration driverConf(int requester) {
+        return DriverConfiguration.builder().requester(requester).enableExtensions(true).build();
+    }
+
+    @Test
+    void shouldLaunchBrowserProxyingThroughOwnProxy() throws Exception {
+        // Given
+        BrowserPool pool = createPool();
+        List<Integer> startedPorts = new ArrayList<>();
+        // When
+        BrowserPool.Lease lease =
+                pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, startedPorts::add);
+        // Then
+        assertThat(lease.getWebDriver(), is(sameInstance(launched.get(0))));
+        assertThat(lease.getProxyPort(), is(equalTo(8001)));
+        assertThat(startedPorts, is(equalTo(List.of(8001))));
+        assertThat(proxyConfigs.get(0).getHttpSender(), is(sameInstance(httpSender)));
+        ArgumentCaptor<DriverConfiguration> confCaptor =
+                ArgumentCaptor.forClass(DriverConfiguration.class);
+        verify(launcher).launch(eq(BROWSER_ID), confCaptor.capture());
+        assertThat(confCaptor.getValue().getProxyAddress(), is(equalTo("127.0.0.1")));
+        assertThat(confCaptor.getValue().getProxyPort(), is(equalTo(8001)));
+    }
+
+    @Test
+    void shouldReuseReturnedBrowser() throws Exception {
+        // Given
+        BrowserPool pool = createPool();
+        BrowserPool.Lease lease = pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        WebDriver wd = lease.getWebDriver();
+        lease.close();
+        // When
+        BrowserPool.Lease otherLease =
+                pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        // Then
+        assertThat(otherLease.getWebDriver(), is(sameInstance(wd)));
+        assertThat(otherLease.getProxyPort(), is(equalTo(lease.getProxyPort())));
+        verify(launcher, times(1)).launch(anyString(), any());
+        verify(launcher).reused(eq(wd), eq(BROWSER_ID), any());
+        verify(wd, never()).quit();
+    }
+
+    @Test
+    void shouldNotReuseBrowserWithDifferentConfiguration() throws Exception {
+        // Given
+        BrowserPool pool = createPool();
+        BrowserPool.Lease lease = pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        lease.close();
+        // When
+        BrowserPool.Lease otherLease =
+                pool.lease(BROWSER_ID, driverConf(2), httpSender, handler, null);
+        // Then
+        assertThat(otherLease.getWebDriver(), is(not(sameInstance(lease.getWebDriver()))));
+        verify(launcher, times(2)).launch(anyString(), any());
+    }
+
+    @Test
+    void shouldNotReuseBrowserWithDifferentSender() throws Exception {
+        // Given
+        BrowserPool pool = createPool();
+        BrowserPool.Lease lease = pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        lease.close();
+        // When
+        BrowserPool.Lease otherLease =
+                pool.lease(BROWSER_ID, driverConf(1), mock(HttpSender.class), handler, null);
+        // Then
+        assertThat(otherLease.getWebDriver(), is(not(sameInstance(lease.getWebDriver()))));
+    }
+
+    @Test
+    void shouldReuseBrowserWithSamePartition() throws Exception {
+        // Given
+        BrowserPool pool = createPool();
+        BrowserPool.Lease lease =
+                pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null, "user1");
+        lease.close();
+        // When
+        BrowserPool.Lease otherLease =
+                pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null, "user1");
+        // Then
+        assertThat(otherLease.getWebDriver(), is(sameInstance(lease.getWebDriver())));
+    }
+
+    @Test
+    void shouldNotReuseBrowserWithDifferentPartition() throws Exception {
+        // Given
+        BrowserPool pool = createPool();
+        BrowserPool.Lease lease =
+                pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null, "user1");
+        lease.close();
+        // When
+        BrowserPool.Lease otherLease =
+                pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null, "user2");
+        BrowserPool.Lease noPartitionLease =
+                pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        // Then
+        assertThat(otherLease.getWebDriver(), is(not(sameInstance(lease.getWebDriver()))));
+        assertThat(noPartitionLease.getWebDriver(), is(not(sameInstance(lease.getWebDriver()))));
+        verify(launcher, times(3)).launch(anyString(), any());
+    }
+
+    @Test
+    void shouldCloseDiscardedBrowser() throws Exception {
+        // Given
+        BrowserPool pool = createPool();
+        BrowserPool.Lease lease = pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        // When
+        lease.discard();
+        // Then
+        verify(lease.getWebDriver()).quit();
+        assertThat(pool.getIdleCount(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldCloseBrowserNoLongerResponsive() throws Exception {
+        // Given
+        BrowserPool pool = createPool();
+        BrowserPool.Lease lease = pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        WebDriver wd = lease.getWebDriver();
+        lease.close();
+        given(wd.getWindowHandles()).willThrow(new RuntimeException());
+        // When
+        BrowserPool.Lease otherLease =
+                pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        // Then
+        verify(wd).quit();
+        assertThat(otherLease.getWebDriver(), is(not(sameInstance(wd))));
+    }
+
+    @Test
+    void shouldCloseBrowserExceedingMaxLifetime() throws Exception {
+        // Given
+        BrowserPool pool = createPool(0, BrowserPool.DEFAULT_IDLE_TIMEOUT_MS);
+        BrowserPool.Lease lease = pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        // When
+        lease.close();
+        // Then
+        verify(lease.getWebDriver()).quit();
+        assertThat(pool.getIdleCount(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldCloseBrowsersExceedingMaxIdle() throws Exception {
+        // Given
+        BrowserPool pool = createPool();
+        BrowserPool.Lease lease1 = pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        BrowserPool.Lease lease2 = pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        // When
+        lease1.close();
+        lease2.close();
+        // Then
+        assertThat(pool.getIdleCount(), is(equalTo(1)));
+        verify(lease1.getWebDriver()).quit();
+        verify(lease2.getWebDriver(), never()).quit();
+    }
+
+    @Test
+    void shouldCloseIdleBrowsersAfterTimeout() throws Exception {
+        // Given
+        BrowserPool pool = createPool(BrowserPool.DEFAULT_MAX_LIFETIME_MS, 0);
+        BrowserPool.Lease lease = pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        lease.close();
+        // When
+        pool.closeExpiredBrowsers();
+        // Then
+        assertThat(pool.getIdleCount(), is(equalTo(0)));
+        verify(lease.getWebDriver()).quit();
+    }
+
+    @Test
+    void shouldCloseIdleBrowsersWhenClosed() throws Exception {
+        // Given
+        BrowserPool pool = createPool();
+        BrowserPool.Lease lease = pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        lease.close();
+        // When
+        pool.close();
+        // Then
+        verify(lease.getWebDriver()).quit();
+        assertThrows(
+                IllegalStateException.class,
+                () -> pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null));
+    }
+
+    @Test
+    void shouldNotReuseBrowserWithCapabilitiesConsumer() throws Exception {
+        // Given
+        BrowserPool pool = createPool();
+        DriverConfiguration conf =
+                DriverConfiguration.builder().requester(1).consumer(c -> {}).build();
+        BrowserPool.Lease lease = pool.lease(BROWSER_ID, conf, httpSender, handler, null);
+        // When
+        lease.close();
+        // Then
+        verify(lease.getWebDriver()).quit();
+        assertThat(pool.getIdleCount(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldNotifyHandlerOfLeaseOnly() throws Exception {
+        // Given
+        BrowserPool pool = createPool();
+        BrowserPool.Lease lease = pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        HttpMessageHandler proxyHandler = proxyConfigs.get(0).getHttpMessageHandler();
+        HttpMessageHandlerContext ctx = mock();
+        given(ctx.isFromClient()).willReturn(true);
+        HttpMessage msg = createMessage("https://example.com/path");
+        proxyHandler.handleMessage(ctx, msg);
+        lease.close();
+        // When
+        proxyHandler.handleMessage(ctx, msg);
+        // Then
+        verify(handler, times(1)).handleMessage(ctx, msg);
+        verify(ctx, times(1)).overridden();
+    }
+
+    @Test
+    void shouldResetSitesAccessedWhenReturned() throws Exception {
+        // Given
+        BrowserPool pool = createPool();
+        BrowserPool.Lease lease = pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        HttpMessageHandler proxyHandler = proxyConfigs.get(0).getHttpMessageHandler();
+        HttpMessageHandlerContext ctx = mock();
+        given(ctx.isFromClient()).willReturn(true);
+        proxyHandler.handleMessage(ctx, createMessage("https://example.com/path"));
+        proxyHandler.handleMessage(ctx, createMessage("http://example.org:8080/"));
+        // When
+        lease.close();
+        // Then
+        WebDriver wd = lease.getWebDriver();
+        verify(wd).get("https://example.com/");
+        verify(wd).get("http://example.org:8080/");
+        verify(wd).get("about:blank");
+    }
+
+    @Test
+    void shouldClearAllDataOfSitesAccessedWithCdpWhenReturned() throws Exception {
+        // Given
+        given(launcher.launch(anyString(), any()))
+                .willAnswer(
+                        invocation -> {
+                            WebDriver wd =
+                                    mock(
+                                            WebDriver.class,
+                                            withSettings()
+                                                    .extraInterfaces(HasCdp.class)
+                                                    .defaultAnswer(Answers.RETURNS_MOCKS));
+                            given(wd.getWindowHandles()).willReturn(Set.of("window"));
+                            return wd;
+                        });
+        BrowserPool pool = createPool();
+        BrowserPool.Lease lease = pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        HttpMessageHandler proxyHandler = proxyConfigs.get(0).getHttpMessageHandler();
+        HttpMessageHandlerContext ctx = mock();
+        given(ctx.isFromClient()).willReturn(true);
+        proxyHandler.handleMessage(ctx, createMessage("https://example.com/path"));
+        // When
+        lease.close();
+        // Then
+        HasCdp cdp = (HasCdp) lease.getWebDriver();
+        verify(cdp)
+                .executeCdpCommand(
+                        "Storage.clearDataForOrigin",
+                        Map.of("origin", "https://example.com", "storageTypes", "all"));
+        verify(lease.getWebDriver(), never()).get("https://example.com/");
+        verify(lease.getWebDriver()).get("about:blank");
+    }
+
+    @Test
+    void shouldClearStorageOfSitesAccessedWithScriptWhenReturned() throws Exception {
+        // Given
+        given(launcher.launch(anyString(), any()))
+                .willAnswer(
+                        invocation -> {
+                            WebDriver wd =
+                                    mock(
+                                            WebDriver.class,
+                                            withSettings()
+                                                    .extraInterfaces(JavascriptExecutor.class)
+                                                    .defaultAnswer(Answers.RETURNS_MOCKS));
+                            given(wd.getWindowHandles()).willReturn(Set.of("window"));
+                            return wd;
+                        });
+        BrowserPool pool = createPool();
+        BrowserPool.Lease lease = pool.lease(BROWSER_ID, driverConf(1), httpSender, handler, null);
+        HttpMessageHandler proxyHandler = proxyConfigs.get(0).getHttpMessageHandler();
+        HttpMessageHandlerContext ctx = mock();
+        given(ctx.isFromClient()).willReturn(true);
+        proxyHandler.handleMessage(ctx, createMessage("https://example.com/path"));
+        // When
+        lease.close();
+        // Then
+        WebDriver wd = lease.getWebDriver();
+        verify(wd).get("https://example.com/");
+        verify((JavascriptExecutor) wd)
+                .executeAsyncScript(argThat(script -> script.contains("indexedDB")));
+    }
+
+    private static HttpMessage createMessage(String uri) throws Exception {
+        HttpMessage msg = new HttpMessage();
+        msg.setRequestHeader(new HttpRequestHeader("GET", new URI(uri, true), "HTTP/1.1"));
+        return msg;
+    }
+}
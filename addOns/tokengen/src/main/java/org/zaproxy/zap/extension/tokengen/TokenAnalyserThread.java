@@ -31,6 +31,10 @@ import com.fasteasytrade.JRandTest.Tests.Count8Bits;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.zaproxy.zap.extension.tokengen.TokenAnalysisTestResult.Result;
@@ -42,7 +46,8 @@ public class TokenAnalyserThread extends Thread {
     private CharacterFrequencyMap cfm = null;
     private List<TokenAnalyserListenner> listeners = new ArrayList<>();
     private OutputDestination outputDestination = null;
-    private boolean cancelled = false;
+    private volatile boolean cancelled = false;
+    private final Object outputLock = new Object();
 
     private static final Logger LOGGER = LogManager.getLogger(TokenAnalyserThread.class);
 
@@ -106,19 +111,65 @@ public class TokenAnalyserThread extends Thread {
             return;
         }
 
-        TokenRandomStream trs = new TokenRandomStream(cfm);
+        // The tests read the same bytes, each through its own stream, and run in parallel.
+        byte[] tokens = TokenRandomStream.readTokens(cfm);
+        List<RandomTest> tests =
+                List.of(
+                        new RandomTest(new Count1Bit(), TokenAnalysisTestResult.Type.COUNT_1_BIT),
+                        new RandomTest(new Count2Bits(), TokenAnalysisTestResult.Type.COUNT_2_BITS),
+                        new RandomTest(new Count3Bits(), TokenAnalysisTestResult.Type.COUNT_3_BITS),
+                        new RandomTest(new Count4Bits(), TokenAnalysisTestResult.Type.COUNT_4_BITS),
+                        new RandomTest(new Count8Bits(), TokenAnalysisTestResult.Type.COUNT_8_BITS),
+                        new RandomTest(
+                                new Count16Bits(), TokenAnalysisTestResult.Type.COUNT_16_BITS));
+
+        int threads = Math.min(tests.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        threads,
+                        r -> {
+                            Thread thread = new Thread(r, "ZAP-TokenAnalyser");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        try {
+            List<Future<TokenAnalysisTestResult>> results = new ArrayList<>(tests.size());
+            for (RandomTest test : tests) {
+                results.add(
+                        executor.submit(
+                                () ->
+                                        runTest(
+                                                test.test(),
+                                                new TokenRandomStream(tokens),
+                                                test.type())));
+            }
+            // Notified in order, as soon as each test finishes.
+            for (Future<TokenAnalysisTestResult> result : results) {
+                notifyResult(result);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-        runTest(new Count1Bit(), trs, TokenAnalysisTestResult.Type.COUNT_1_BIT);
-        runTest(new Count2Bits(), trs, TokenAnalysisTestResult.Type.COUNT_2_BITS);
-        runTest(new Count3Bits(), trs, TokenAnalysisTestResult.Type.COUNT_3_BITS);
-        runTest(new Count4Bits(), trs, TokenAnalysisTestResult.Type.COUNT_4_BITS);
-        runTest(new Count8Bits(), trs, TokenAnalysisTestResult.Type.COUNT_8_BITS);
-        runTest(new Count16Bits(), trs, TokenAnalysisTestResult.Type.COUNT_16_BITS);
+    private void notifyResult(Future<TokenAnalysisTestResult> future) {
+        try {
+            TokenAnalysisTestResult result = future.get();
+            if (result != null && !cancelled) {
+                this.notifyListenners(result);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelled = true;
+        } catch (ExecutionException e) {
+            LOGGER.error(e.getMessage(), e);
+        }
     }
 
-    private void runTest(Base test, RandomStream rs, TokenAnalysisTestResult.Type type) {
+    private TokenAnalysisTestResult runTest(
+            Base test, RandomStream rs, TokenAnalysisTestResult.Type type) {
         if (cancelled) {
-            return;
+            return null;
         }
         try {
             TokenAnalysisTestResult result = new TokenAnalysisTestResult(type);
@@ -128,10 +179,14 @@ public class TokenAnalyserThread extends Thread {
             result.setDetails(test.getDetails());
             result.setFailures(test.getErrors());
             result.setResult(Result.valueOf(test.getResult().name()));
-            test.help(); // This outputs a summary to the specified outputDestination
-            this.notifyListenners(result);
+            // This outputs a summary to the specified outputDestination, one test at a time.
+            synchronized (outputLock) {
+                test.help();
+            }
+            return result;
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
+            return null;
         }
     }
 
@@ -158,4 +213,6 @@ public class TokenAnalyserThread extends Thread {
     public void addOutputDestination(OutputDestination outputDestination) {
         this.outputDestination = outputDestination;
     }
+
+    private record RandomTest(Base test, TokenAnalysisTestResult.Type type) {}
 }
@@ -19,14 +19,19 @@
  */
 package org.zaproxy.zap.extension.tokengen;
 
-import java.math.BigInteger;
+import java.io.ByteArrayOutputStream;
 
+/**
+ * A {@code RandomStream} over the bytes of the tokens.
+ *
+ * <p>The bytes of all the tokens are read just once into a buffer, which is never changed, so it can
+ * be shared by the streams of several tests running concurrently.
+ */
 public class TokenRandomStream implements com.fasteasytrade.JRandTest.IO.RandomStream {
 
     private CharacterFrequencyMap cfm = null;
-    private int offset = 0;
-    private int byteOffset = 0;
-    private byte[] bytes = null;
+    private byte[] buffer;
+    private int position;
     private boolean open = false;
     private String fileName = "TokenRandomStream";
 
@@ -35,6 +40,32 @@ public class TokenRandomStream implements com.fasteasytrade.JRandTest.IO.RandomS
         open = true;
     }
 
+    /**
+     * Constructs a {@code TokenRandomStream} over the given bytes, which must not be changed.
+     *
+     * @param buffer the bytes of the tokens.
+     * @see #readTokens(CharacterFrequencyMap)
+     */
+    TokenRandomStream(byte[] buffer) {
+        this.buffer = buffer;
+        open = true;
+    }
+
+    /**
+     * Reads the bytes of all the tokens of the given map.
+     *
+     * @param cfm the map with the tokens.
+     * @return the bytes of the tokens.
+     */
+    static byte[] readTokens(CharacterFrequencyMap cfm) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] bytes;
+        for (int i = 0; (bytes = cfm.getByteArrayToken(i)) != null; i++) {
+            out.writeBytes(bytes);
+        }
+        return out.toByteArray();
+    }
+
     @Override
     public boolean closeInputStream() {
         open = false;
@@ -53,50 +84,42 @@ public class TokenRandomStream implements com.fasteasytrade.JRandTest.IO.RandomS
 
     @Override
     public boolean openInputStream() throws Exception {
-        offset = 0;
-        open = true;
-        readNextToken();
-        return true;
-    }
-
-    private void readNextToken() throws Exception {
-        bytes = cfm.getByteArrayToken(offset);
-        if (bytes == null) {
-            open = false;
+        if (buffer == null) {
+            buffer = readTokens(cfm);
         }
-        offset++;
-        byteOffset = 0;
+        position = 0;
+        open = buffer.length > 0;
+        return true;
     }
 
-    private BigInteger readNumber(int sizeInBytes) throws Exception {
-        byte[] ba = new byte[sizeInBytes];
-
+    private long readNumber(int sizeInBytes) {
+        long value = 0;
         for (int i = 0; i < sizeInBytes; i++) {
             if (!open) {
-                return BigInteger.valueOf(-1);
+                return -1;
             }
-            ba[i] = bytes[byteOffset];
-            byteOffset++;
-            if (byteOffset >= bytes.length) {
-                readNextToken();
+            value = (value << 8) | (buffer[position] & 0xff);
+            position++;
+            if (position >= buffer.length) {
+                open = false;
             }
         }
-        return new BigInteger(ba);
+        return value;
     }
 
     @Override
     public byte readByte() throws Exception {
-        return readNumber(1).byteValue();
+        return (byte) readNumber(1);
     }
 
     @Override
     public int readInt() throws Exception {
-        return readNumber(4).intValue();
+        return (int) readNumber(4);
     }
 
     @Override
     public long readLong() throws Exception {
-        return readNumber(8).longValue();
+        return readNumber(8);
     }
 
     @Override
@@ -21,6 +21,7 @@ package org.zaproxy.zap.extension.tokengen;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,6 +52,79 @@ class TokenRandomStreamUnitTest {
         assertThat(stream.readLong(), is(-1L));
     }
 
-    // TODO Add more tests
+    @Test
+    void shouldReadBytesOfAllTokensInOrder() throws Exception {
+        // Given
+        given(characterFrequencyMap.getByteArrayToken(0)).willReturn(new byte[] {1, 2});
+        given(characterFrequencyMap.getByteArrayToken(1)).willReturn(new byte[] {3});
+        given(characterFrequencyMap.getByteArrayToken(2)).willReturn(null);
+        stream.openInputStream();
+        // When
+        byte first = stream.readByte();
+        byte second = stream.readByte();
+        boolean openBeforeLast = stream.isOpen();
+        byte third = stream.readByte();
+        // Then
+        assertThat(first, is((byte) 1));
+        assertThat(second, is((byte) 2));
+        assertThat(third, is((byte) 3));
+        assertThat(openBeforeLast, is(true));
+        assertThat(stream.isOpen(), is(false));
+        assertThat(stream.readByte(), is((byte) -1));
+    }
+
+    @Test
+    void shouldReadNumbersAsBigEndian() throws Exception {
+        // Given
+        TokenRandomStream bufferStream =
+                new TokenRandomStream(
+                        new byte[] {
+                            (byte) 0xff, (byte) 0xfe, 0, 1, 0, 0, 0, 0, 0, 0, 1, 2, (byte) 0x80
+                        });
+        bufferStream.openInputStream();
+        // When
+        int intValue = bufferStream.readInt();
+        long longValue = bufferStream.readLong();
+        byte byteValue = bufferStream.readByte();
+        // Then
+        assertThat(intValue, is(0xfffe0001));
+        assertThat(longValue, is(0x102L));
+        assertThat(byteValue, is((byte) 0x80));
+    }
+
+    @Test
+    void shouldReturnMinusOneIfNotEnoughBytesForNumber() throws Exception {
+        // Given
+        TokenRandomStream bufferStream = new TokenRandomStream(new byte[] {1, 2});
+        bufferStream.openInputStream();
+        // When
+        int value = bufferStream.readInt();
+        // Then
+        assertThat(value, is(-1));
+    }
+
+    @Test
+    void shouldReadFromStartWhenReopened() throws Exception {
+        // Given
+        TokenRandomStream bufferStream = new TokenRandomStream(new byte[] {7, 8});
+        bufferStream.openInputStream();
+        bufferStream.readByte();
+        bufferStream.readByte();
+        // When
+        bufferStream.openInputStream();
+        // Then
+        assertThat(bufferStream.isOpen(), is(true));
+        assertThat(bufferStream.readByte(), is((byte) 7));
+    }
 
+    @Test
+    void shouldNotBeOpenWithoutTokens() throws Exception {
+        // Given
+        given(characterFrequencyMap.getByteArrayToken(0)).willReturn(null);
+        // When
+        stream.openInputStream();
+        // Then
+        assertThat(stream.isOpen(), is(false));
+        assertThat(stream.readByte(), is((byte) -1));
+    }
 }